@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.internal.GeometryInternalUtils;
 
 /** {@link Map} type that uses points as keys. This interface is intended for
  * use in cases where effectively equivalent (but not necessarily equal) points must
@@ -56,6 +57,34 @@ public interface PointMap<P extends Point<P>, V> extends Map<P, V> {
      */
     Entry<P, V> nearestEntry(P pt);
 
+    /** Get an entry from the map with a key approximately nearest to {@code pt} or
+     * {@code null} if the map is empty. This method allows implementations to trade
+     * accuracy for query speed in a controlled way:
+     * <ul>
+     *  <li>If the search completes within the given leaf visit budget, the distance from
+     *      {@code pt} to the key of the returned entry is at most {@code (1 + epsilon)} times
+     *      the distance to the nearest key in the map.</li>
+     *  <li>For tree-based implementations, at most {@code maxLeafVisits} leaf nodes containing
+     *      entries are examined. If the budget is exhausted, the nearest entry found so far is
+     *      returned and no distance bound is guaranteed.</li>
+     * </ul>
+     * Passing an {@code epsilon} of zero and a {@code maxLeafVisits} of {@link Integer#MAX_VALUE}
+     * produces a result equivalent to {@link #nearestEntry(Point)}. The default implementation
+     * validates the arguments and returns the result of {@link #nearestEntry(Point)}.
+     * @param pt reference point
+     * @param epsilon allowed relative distance error; must be finite and greater than or equal
+     *      to zero
+     * @param maxLeafVisits maximum number of leaf nodes to examine; must be greater than zero
+     * @return entry from the map with a key approximately nearest to {@code pt} or {@code null}
+     *      if the map is empty
+     * @throws IllegalArgumentException if {@code epsilon} is negative or not finite or
+     *      {@code maxLeafVisits} is less than one
+     */
+    default Entry<P, V> approximateNearestEntry(final P pt, final double epsilon, final int maxLeafVisits) {
+        GeometryInternalUtils.validateApproximateSearch(epsilon, maxLeafVisits);
+        return nearestEntry(pt);
+    }
+
     /** Get the entry from the map with the key farthest from {@code pt} or
      * {@code null} if the map is empty.
      * @param pt reference point
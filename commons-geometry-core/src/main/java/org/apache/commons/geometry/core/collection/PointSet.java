@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Set;
 
 import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.internal.GeometryInternalUtils;
 
 /** {@link Set} containing {@link Point} values. This interface is intended for
  * use in cases where effectively equivalent (but not necessarily equal) points must
@@ -53,6 +54,25 @@ public interface PointSet<P extends Point<P>> extends Set<P> {
      */
     P nearest(P pt);
 
+    /** Get an element from the set approximately nearest to {@code pt} or {@code null}
+     * if the set is empty. The approximation is controlled by the {@code epsilon} and
+     * {@code maxLeafVisits} arguments as described in
+     * {@link PointMap#approximateNearestEntry(Point, double, int)}. The default implementation
+     * validates the arguments and returns the result of {@link #nearest(Point)}.
+     * @param pt reference point
+     * @param epsilon allowed relative distance error; must be finite and greater than or equal
+     *      to zero
+     * @param maxLeafVisits maximum number of leaf nodes to examine; must be greater than zero
+     * @return an element from the set approximately nearest to {@code pt} or {@code null}
+     *      if the set is empty
+     * @throws IllegalArgumentException if {@code epsilon} is negative or not finite or
+     *      {@code maxLeafVisits} is less than one
+     */
+    default P approximateNearest(final P pt, final double epsilon, final int maxLeafVisits) {
+        GeometryInternalUtils.validateApproximateSearch(epsilon, maxLeafVisits);
+        return nearest(pt);
+    }
+
     /** Get the element from the set farthest to {@code pt} or {@code null}
      * if the set is empty.
      * @param pt reference point
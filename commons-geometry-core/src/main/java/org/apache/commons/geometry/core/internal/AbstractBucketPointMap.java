@@ -222,6 +222,56 @@ public abstract class AbstractBucketPointMap<P extends Point<P>, V>
                 null;
     }
 
+    /** {@inheritDoc}
+     *
+     * <p>This implementation performs a best-first search over the nodes of both tree roots,
+     * visiting nodes in order of increasing minimum distance from {@code pt}. The search stops
+     * when the current nearest entry is within {@code (1 + epsilon)} times the minimum distance
+     * of the next node or when {@code maxLeafVisits} leaf nodes have been examined and at least
+     * one entry has been found.</p>
+     */
+    @Override
+    public Entry<P, V> approximateNearestEntry(final P pt, final double epsilon, final int maxLeafVisits) {
+        GeometryInternalUtils.requireFinite(pt);
+        GeometryInternalUtils.validateApproximateSearch(epsilon, maxLeafVisits);
+
+        final double distScale = 1 + epsilon;
+
+        final Queue<DistancedValue<BucketNode<P, V>>> queue =
+                new PriorityQueue<>(DistancedValue.ascendingDistance());
+        queue.add(DistancedValue.of(root, 0));
+        if (secondaryRoot != null) {
+            queue.add(DistancedValue.of(secondaryRoot, 0));
+        }
+
+        DistancedValue<Entry<P, V>> closest = null;
+        int leafVisits = 0;
+        while (!queue.isEmpty()) {
+            final DistancedValue<BucketNode<P, V>> nodeValue = queue.remove();
+            if (closest != null &&
+                    (leafVisits >= maxLeafVisits ||
+                    distanceIsWithinMax(closest.getDistance(), nodeValue.getDistance() * distScale))) {
+                // no remaining node can contain an entry close enough to improve the result
+                // or we are out of budget
+                break;
+            }
+
+            final BucketNode<P, V> node = nodeValue.getValue();
+            if (node.isLeaf()) {
+                if (!node.isEmpty()) {
+                    ++leafVisits;
+                    closest = node.findNearestLeafEntry(pt, closest);
+                }
+            } else {
+                node.queueChildrenByMinDistance(pt, queue);
+            }
+        }
+
+        return closest != null ?
+                closest.getValue() :
+                null;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Entry<P, V> farthestEntry(final P pt) {
@@ -787,6 +837,40 @@ public abstract class AbstractBucketPointMap<P extends Point<P>, V>
             return closest;
         }
 
+        /** Find the nearest entry to {@code refPt} among the entries in this leaf node and
+         * {@code closest}. This method must only be called on leaf nodes.
+         * @param refPt reference point
+         * @param closest current nearest entry; may be {@code null}
+         * @return the nearest entry to {@code refPt} from the entries in this node and {@code closest}
+         */
+        public DistancedValue<Entry<P, V>> findNearestLeafEntry(
+                final P refPt,
+                final DistancedValue<Entry<P, V>> closest) {
+            DistancedValue<Entry<P, V>> result = closest;
+            for (final Entry<P, V> entry : entries) {
+                result = map.getNearest(DistancedValue.of(entry, entry.getKey().distance(refPt)), result);
+            }
+            return result;
+        }
+
+        /** Add the non-empty children of this node to {@code queue}, using the minimum distance
+         * from {@code refPt} to each child as the queue distance. This method must only be called
+         * on internal nodes.
+         * @param refPt reference point
+         * @param queue queue to add the child nodes to
+         */
+        public void queueChildrenByMinDistance(
+                final P refPt,
+                final Queue<DistancedValue<BucketNode<P, V>>> queue) {
+            final int loc = getInsertLocation(refPt);
+            for (int i = 0; i < children.size(); ++i) {
+                final BucketNode<P, V> child = children.get(i);
+                if (child != null && !child.isEmpty()) {
+                    queue.add(DistancedValue.of(child, getMinChildDistance(i, refPt, loc)));
+                }
+            }
+        }
+
         /** Find the farthest entry from {@code refPt} within the subtree rooted at this node.
          * @param refPt reference point
          * @return farthest entry from {@code refPt} in the subtree rooted at this node, or {@code null}
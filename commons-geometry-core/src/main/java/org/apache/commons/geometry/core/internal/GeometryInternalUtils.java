@@ -54,4 +54,20 @@ public final class GeometryInternalUtils {
 
         return pt;
     }
+
+    /** Throw an exception if the given approximate nearest neighbor search parameters are
+     * not valid.
+     * @param epsilon allowed relative distance error
+     * @param maxLeafVisits maximum number of leaf nodes to examine
+     * @throws IllegalArgumentException if {@code epsilon} is negative or not finite or
+     *      {@code maxLeafVisits} is less than one
+     */
+    public static void validateApproximateSearch(final double epsilon, final int maxLeafVisits) {
+        if (!Double.isFinite(epsilon) || epsilon < 0) {
+            throw new IllegalArgumentException("Invalid epsilon: " + epsilon);
+        }
+        if (maxLeafVisits < 1) {
+            throw new IllegalArgumentException("Invalid max leaf visits: " + maxLeafVisits);
+        }
+    }
 }
@@ -99,6 +99,12 @@ public class PointMapAsSetAdapter<P extends Point<P>, M extends PointMap<P, Obje
         return getKey(map.nearestEntry(pt));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public P approximateNearest(final P pt, final double epsilon, final int maxLeafVisits) {
+        return getKey(map.approximateNearestEntry(pt, epsilon, maxLeafVisits));
+    }
+
     /** {@inheritDoc} */
     @Override
     public P farthest(final P pt) {
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.collection;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Set;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.core.internal.TestBucketPointMap1D;
+import org.apache.commons.geometry.core.partitioning.test.TestPoint1D;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PointMapTest {
+
+    private static final Precision.DoubleEquivalence PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(1e-10);
+
+    @Test
+    void testApproximateNearestEntry_defaultImplementation() {
+        // arrange
+        final PointMap<TestPoint1D, Integer> map = new DelegatingPointMap<>(new TestBucketPointMap1D<>(PRECISION));
+        map.put(new TestPoint1D(1), 1);
+        map.put(new TestPoint1D(3), 3);
+
+        // act/assert
+        Assertions.assertEquals(1, map.approximateNearestEntry(new TestPoint1D(1.5), 0, 1).getValue());
+        Assertions.assertEquals(3, map.approximateNearestEntry(new TestPoint1D(2.5), 1, Integer.MAX_VALUE).getValue());
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> map.approximateNearestEntry(new TestPoint1D(0), -1, 1),
+                IllegalArgumentException.class, "Invalid epsilon: -1.0");
+        GeometryTestUtils.assertThrowsWithMessage(() -> map.approximateNearestEntry(new TestPoint1D(0), 0, 0),
+                IllegalArgumentException.class, "Invalid max leaf visits: 0");
+    }
+
+    /** {@link PointMap} implementation that delegates to another instance and does not
+     * override any default methods.
+     * @param <V> Value type
+     */
+    private static final class DelegatingPointMap<V> extends AbstractMap<TestPoint1D, V>
+        implements PointMap<TestPoint1D, V> {
+
+        private final PointMap<TestPoint1D, V> delegate;
+
+        DelegatingPointMap(final PointMap<TestPoint1D, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public V put(final TestPoint1D key, final V value) {
+            return delegate.put(key, value);
+        }
+
+        @Override
+        public Set<Entry<TestPoint1D, V>> entrySet() {
+            return delegate.entrySet();
+        }
+
+        @Override
+        public Entry<TestPoint1D, V> getEntry(final TestPoint1D pt) {
+            return delegate.getEntry(pt);
+        }
+
+        @Override
+        public Entry<TestPoint1D, V> nearestEntry(final TestPoint1D pt) {
+            return delegate.nearestEntry(pt);
+        }
+
+        @Override
+        public Entry<TestPoint1D, V> farthestEntry(final TestPoint1D pt) {
+            return delegate.farthestEntry(pt);
+        }
+
+        @Override
+        public Collection<Entry<TestPoint1D, V>> entriesNearToFar(final TestPoint1D pt) {
+            return delegate.entriesNearToFar(pt);
+        }
+
+        @Override
+        public Collection<Entry<TestPoint1D, V>> entriesFarToNear(final TestPoint1D pt) {
+            return delegate.entriesFarToNear(pt);
+        }
+    }
+}
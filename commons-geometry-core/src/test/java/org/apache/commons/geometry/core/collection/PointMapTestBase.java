@@ -692,6 +692,104 @@ public abstract class PointMapTestBase<P extends Point<P>>
         Assertions.assertThrows(IllegalArgumentException.class, () -> map.nearestEntry(infPt));
     }
 
+    @Test
+    void testApproximateNearestEntry_empty() {
+        // arrange
+        final PointMap<P, Integer> map = getMap(PRECISION);
+
+        final P pt = getTestPoints(1, EPS).get(0);
+
+        // act/assert
+        Assertions.assertNull(map.approximateNearestEntry(pt, 0, Integer.MAX_VALUE));
+        Assertions.assertNull(map.approximateNearestEntry(pt, 1, 1));
+    }
+
+    @Test
+    void testApproximateNearestEntry_exact() {
+        // arrange
+        final PointMap<P, Integer> map = getMap(PRECISION);
+
+        final double keySpacing = 7 * EPS;
+        final double testPointSpacing = 3 * EPS;
+
+        final int cnt = 1000;
+        final List<P> pts = getTestPoints(cnt, keySpacing, new Random(5L));
+        insertPoints(pts, map);
+
+        // act/ assert
+        for (int i = 0; i < cnt; ++i) {
+            final P pt = pts.get(i);
+
+            for (final P refPt : getTestPointsAtDistance(pt, testPointSpacing)) {
+                final Map.Entry<P, Integer> nearest = map.approximateNearestEntry(refPt, 0, Integer.MAX_VALUE);
+
+                Assertions.assertEquals(pt, nearest.getKey());
+                Assertions.assertEquals(i, nearest.getValue());
+            }
+        }
+    }
+
+    @Test
+    void testApproximateNearestEntry_distanceBound() {
+        // arrange
+        final PointMap<P, Integer> map = getMap(PRECISION);
+
+        final double epsilon = 0.5;
+
+        final List<P> pts = getTestPoints(1000, 7 * EPS, new Random(6L));
+        insertPoints(pts, map);
+
+        // act/assert
+        for (final P refPt : getTestPoints(200, 5 * EPS, new Random(7L))) {
+            final double nearestDist = map.nearestEntry(refPt).getKey().distance(refPt);
+
+            final Map.Entry<P, Integer> approx = map.approximateNearestEntry(refPt, epsilon, Integer.MAX_VALUE);
+
+            Assertions.assertSame(map.getEntry(approx.getKey()).getValue(), approx.getValue());
+            Assertions.assertTrue(approx.getKey().distance(refPt) <= ((1 + epsilon) * nearestDist) + EPS);
+        }
+    }
+
+    @Test
+    void testApproximateNearestEntry_leafBudget() {
+        // arrange
+        final PointMap<P, Integer> map = getMap(PRECISION);
+
+        final List<P> pts = getTestPoints(1000, 7 * EPS, new Random(8L));
+        insertPoints(pts, map);
+
+        // act/assert
+        for (final P refPt : getTestPoints(100, 5 * EPS, new Random(9L))) {
+            final Map.Entry<P, Integer> approx = map.approximateNearestEntry(refPt, 0, 1);
+
+            Assertions.assertEquals(approx.getValue(), map.get(approx.getKey()));
+            Assertions.assertTrue(approx.getKey().distance(refPt) >=
+                    map.nearestEntry(refPt).getKey().distance(refPt));
+        }
+    }
+
+    @Test
+    void testApproximateNearestEntry_invalidArgs() {
+        // arrange
+        final PointMap<P, Integer> map = getMap(PRECISION);
+
+        final P pt = getTestPoints(1, EPS).get(0);
+        final P infPt = getInfPoints().get(0);
+
+        // act/assert
+        Assertions.assertThrows(NullPointerException.class, () -> map.approximateNearestEntry(null, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.approximateNearestEntry(infPt, 0, 1));
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> map.approximateNearestEntry(pt, -1e-10, 1),
+                IllegalArgumentException.class, "Invalid epsilon: -1.0E-10");
+        GeometryTestUtils.assertThrowsWithMessage(() -> map.approximateNearestEntry(pt, Double.NaN, 1),
+                IllegalArgumentException.class, "Invalid epsilon: NaN");
+        GeometryTestUtils.assertThrowsWithMessage(() -> map.approximateNearestEntry(pt, Double.POSITIVE_INFINITY, 1),
+                IllegalArgumentException.class, "Invalid epsilon: Infinity");
+        GeometryTestUtils.assertThrowsWithMessage(() -> map.approximateNearestEntry(pt, 0, 0),
+                IllegalArgumentException.class, "Invalid max leaf visits: 0");
+    }
+
     @Test
     void testFarthestEntry_empty() {
         // arrange
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.collection;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.core.internal.PointMapAsSetAdapter;
+import org.apache.commons.geometry.core.internal.TestBucketPointMap1D;
+import org.apache.commons.geometry.core.partitioning.test.TestPoint1D;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PointSetTest {
+
+    private static final Precision.DoubleEquivalence PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(1e-10);
+
+    @Test
+    void testApproximateNearest_defaultImplementation() {
+        // arrange
+        final PointSet<TestPoint1D> set = new DelegatingPointSet(
+                new PointMapAsSetAdapter<>(new TestBucketPointMap1D<>(PRECISION)));
+        set.add(new TestPoint1D(1));
+        set.add(new TestPoint1D(3));
+
+        // act/assert
+        Assertions.assertEquals(1, set.approximateNearest(new TestPoint1D(1.5), 0, 1).getX());
+        Assertions.assertEquals(3, set.approximateNearest(new TestPoint1D(2.5), 1, Integer.MAX_VALUE).getX());
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> set.approximateNearest(new TestPoint1D(0), Double.NaN, 1),
+                IllegalArgumentException.class, "Invalid epsilon: NaN");
+        GeometryTestUtils.assertThrowsWithMessage(() -> set.approximateNearest(new TestPoint1D(0), 0, -1),
+                IllegalArgumentException.class, "Invalid max leaf visits: -1");
+    }
+
+    /** {@link PointSet} implementation that delegates to another instance and does not
+     * override any default methods.
+     */
+    private static final class DelegatingPointSet extends AbstractSet<TestPoint1D>
+        implements PointSet<TestPoint1D> {
+
+        private final PointSet<TestPoint1D> delegate;
+
+        DelegatingPointSet(final PointSet<TestPoint1D> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean add(final TestPoint1D pt) {
+            return delegate.add(pt);
+        }
+
+        @Override
+        public Iterator<TestPoint1D> iterator() {
+            return delegate.iterator();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public TestPoint1D get(final TestPoint1D pt) {
+            return delegate.get(pt);
+        }
+
+        @Override
+        public TestPoint1D nearest(final TestPoint1D pt) {
+            return delegate.nearest(pt);
+        }
+
+        @Override
+        public TestPoint1D farthest(final TestPoint1D pt) {
+            return delegate.farthest(pt);
+        }
+
+        @Override
+        public Collection<TestPoint1D> nearToFar(final TestPoint1D pt) {
+            return delegate.nearToFar(pt);
+        }
+
+        @Override
+        public Collection<TestPoint1D> farToNear(final TestPoint1D pt) {
+            return delegate.farToNear(pt);
+        }
+    }
+}
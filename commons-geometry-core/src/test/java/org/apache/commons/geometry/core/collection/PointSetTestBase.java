@@ -725,6 +725,55 @@ public abstract class PointSetTestBase<P extends Point<P>>
         Assertions.assertThrows(IllegalArgumentException.class, () -> set.nearest(infPt));
     }
 
+    @Test
+    void testApproximateNearest_empty() {
+        // arrange
+        final PointSet<P> set = getSet(PRECISION);
+
+        final P pt = getTestPoints(1, EPS).get(0);
+
+        // act/assert
+        Assertions.assertNull(set.approximateNearest(pt, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testApproximateNearest_large() {
+        // arrange
+        final PointSet<P> set = getSet(PRECISION);
+
+        final double keySpacing = 7 * EPS;
+        final double testPointSpacing = 3 * EPS;
+
+        final int cnt = 1000;
+        final List<P> pts = getTestPoints(cnt, keySpacing, new Random(5L));
+        set.addAll(pts);
+
+        // act/ assert
+        for (int i = 0; i < cnt; ++i) {
+            final P pt = pts.get(i);
+
+            for (final P refPt : getTestPointsAtDistance(pt, testPointSpacing)) {
+                Assertions.assertEquals(pt, set.approximateNearest(refPt, 0, Integer.MAX_VALUE));
+                Assertions.assertTrue(set.contains(set.approximateNearest(refPt, 1, 1)));
+            }
+        }
+    }
+
+    @Test
+    void testApproximateNearest_invalidArgs() {
+        // arrange
+        final PointSet<P> set = getSet(PRECISION);
+
+        final P pt = getTestPoints(1, EPS).get(0);
+        final P infPt = getInfPoints().get(0);
+
+        // act/assert
+        Assertions.assertThrows(NullPointerException.class, () -> set.approximateNearest(null, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.approximateNearest(infPt, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.approximateNearest(pt, -1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.approximateNearest(pt, 0, 0));
+    }
+
     @Test
     void testFarthest_empty() {
         // arrange
@@ -30,7 +30,7 @@ public class TestBucketPointMap1D<V> extends AbstractBucketPointMap<TestPoint1D,
 
     static final int NODE_CHILD_COUNT = 2;
 
-    TestBucketPointMap1D(final Precision.DoubleEquivalence precision) {
+    public TestBucketPointMap1D(final Precision.DoubleEquivalence precision) {
         super(TestNode1D::new,
                 MAX_ENTRY_COUNT,
                 NODE_CHILD_COUNT,
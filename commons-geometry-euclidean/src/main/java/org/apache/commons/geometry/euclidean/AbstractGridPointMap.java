@@ -0,0 +1,1033 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.core.internal.DistancedValue;
+import org.apache.commons.geometry.core.internal.GeometryInternalUtils;
+import org.apache.commons.numbers.core.Precision;
+
+/** Abstract {@link PointMap} implementation that stores entries in a uniform grid of
+ * cells. Cells are axis-aligned boxes with a fixed side length and are stored in a hash
+ * table keyed by their integer grid indices, so that locating the cell for a point does
+ * not depend on the number of entries in the map. Only non-empty cells are stored.
+ *
+ * <p>The cell size must be greater than the epsilon of the precision context so that
+ * points equivalent to a given point can only be located in the cell containing the point
+ * or in a directly neighboring cell. Neighboring cells are only searched along axes where the
+ * point is equivalent to a cell boundary.</p>
+ *
+ * <p>Distance-ordered searches from a reference point visit cells in rings of increasing
+ * <a href="https://en.wikipedia.org/wiki/Chebyshev_distance">Chebyshev distance</a> from
+ * the cell containing the reference point. If the rings to be visited contain more empty grid
+ * locations than there are non-empty cells in the map, as occurs with sparse data, the search
+ * switches to visiting the non-empty cells sorted by ring.</p>
+ *
+ * <p>This class is <em>not</em> thread-safe.</p>
+ * @param <P> Point type
+ * @param <V> Map value type
+ */
+abstract class AbstractGridPointMap<P extends Point<P>, V>
+    extends AbstractMap<P, V>
+    implements PointMap<P, V> {
+
+    /** Maximum absolute value of cell indices. Points lying farther from the origin are
+     * placed in the outermost cells. This keeps all cell index arithmetic exact.
+     */
+    private static final long MAX_CELL_INDEX = 1L << 52;
+
+    /** Space dimension. */
+    private final int dimension;
+
+    /** Side length of the grid cells. */
+    private final double cellSize;
+
+    /** Precision context. */
+    private final Precision.DoubleEquivalence precision;
+
+    /** Non-empty grid cells. */
+    private final Map<CellKey, Cell<P, V>> cells = new HashMap<>();
+
+    /** Minimum cell index along each dimension for all cells added to the map
+     * since it was last empty.
+     */
+    private final long[] minCellIndex;
+
+    /** Maximum cell index along each dimension for all cells added to the map
+     * since it was last empty.
+     */
+    private final long[] maxCellIndex;
+
+    /** Number of entries in the map. */
+    private int entryCount;
+
+    /** Version counter, used to track map modifications. */
+    private int version;
+
+    /** Cached entry set; instances are stateless so we need only one. */
+    private EntrySet entrySetInstance;
+
+    /** Construct a new instance.
+     * @param dimension space dimension
+     * @param cellSize side length of the grid cells; must have been validated with
+     *      {@link #validateCellSize(double, Precision.DoubleEquivalence)}
+     * @param precision precision object used for floating point comparisons
+     */
+    protected AbstractGridPointMap(
+            final int dimension,
+            final double cellSize,
+            final Precision.DoubleEquivalence precision) {
+        this.dimension = dimension;
+        this.cellSize = cellSize;
+        this.precision = precision;
+
+        this.minCellIndex = new long[dimension];
+        this.maxCellIndex = new long[dimension];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Entry<P, V> getEntry(final P pt) {
+        return findEntryByPoint(pt, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return entryCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V put(final P key, final V value) {
+        GeometryInternalUtils.requireFinite(key);
+
+        final Entry<P, V> entry = findEntryByPoint(key, false);
+        if (entry != null) {
+            return entry.setValue(value);
+        }
+
+        final long[] index = getCellIndex(key);
+        final CellKey cellKey = new CellKey(index);
+
+        Cell<P, V> cell = cells.get(cellKey);
+        if (cell == null) {
+            cell = new Cell<>(cellKey);
+            cells.put(cellKey, cell);
+
+            expandCellIndexBounds(index);
+        }
+
+        cell.entries.add(new SimpleEntry<>(key, value));
+
+        ++entryCount;
+        ++version;
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V get(final Object key) {
+        final Entry<P, V> entry = findEntry(key, false);
+        return entry != null ?
+                entry.getValue() :
+                null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V remove(final Object key) {
+        final Entry<P, V> entry = findEntry(key, true);
+        if (entry != null) {
+            --entryCount;
+            ++version;
+
+            return entry.getValue();
+        }
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(final Object key) {
+        return findEntry(key, false) != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Entry<P, V>> entrySet() {
+        if (entrySetInstance == null) {
+            entrySetInstance = new EntrySet();
+        }
+        return entrySetInstance;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        cells.clear();
+        entryCount = 0;
+        ++version;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Entry<P, V> nearestEntry(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+
+        final NearToFarIterator it = new NearToFarIterator(pt);
+        return it.hasNext() ?
+                it.next() :
+                null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Entry<P, V> farthestEntry(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+
+        final FarToNearIterator it = new FarToNearIterator(pt);
+        return it.hasNext() ?
+                it.next() :
+                null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Entry<P, V>> entriesNearToFar(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+        return new AbstractEntryCollection() {
+            @Override
+            public Iterator<Entry<P, V>> iterator() {
+                return new NearToFarIterator(pt);
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Entry<P, V>> entriesFarToNear(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+        return new AbstractEntryCollection() {
+            @Override
+            public Iterator<Entry<P, V>> iterator() {
+                return new FarToNearIterator(pt);
+            }
+        };
+    }
+
+    /** Get the configured precision for the instance.
+     * @return precision object
+     */
+    protected Precision.DoubleEquivalence getPrecision() {
+        return precision;
+    }
+
+    /** Get the coordinate of {@code pt} along the given dimension.
+     * @param pt point
+     * @param dim dimension index
+     * @return coordinate value along the dimension
+     */
+    protected abstract double getCoordinate(P pt, int dim);
+
+    /** Return true if the given points are equivalent using the precision
+     * configured for the map.
+     * @param a first point
+     * @param b second point
+     * @return true if the given points are equivalent
+     */
+    protected abstract boolean pointsEq(P a, P b);
+
+    /** Compare two points to determine a consistent ordering when other comparison
+     * criteria consider them equal.
+     * @param a first point
+     * @param b second point
+     * @return integer comparison result
+     */
+    protected abstract int disambiguatePointComparison(P a, P b);
+
+    /** Get the entry for the given key or {@code null} if not found, optionally removing it
+     * from the map.
+     * @param key key to search for
+     * @param remove if true, the entry is removed from the map
+     * @return entry for the given key or {@code null} if not found
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<P, V> findEntry(final Object key, final boolean remove) {
+        return findEntryByPoint((P) key, remove);
+    }
+
+    /** Find the entry for the given point or {@code null} if one does not exist, optionally
+     * removing it from the map. The map size and version are not updated by this method.
+     * @param pt point to find the entry for
+     * @param remove if true, the entry is removed from the map
+     * @return entry for the given point or {@code null} if one does not exist
+     */
+    private Entry<P, V> findEntryByPoint(final P pt, final boolean remove) {
+        if (!pt.isFinite()) {
+            return null;
+        }
+
+        // determine the block of cells that may contain equivalent points; this is only the
+        // cell containing the point unless the point is equivalent to a cell boundary
+        final long[] min = new long[dimension];
+        final long[] max = new long[dimension];
+        for (int i = 0; i < dimension; ++i) {
+            final double coord = getCoordinate(pt, i);
+            final long idx = getCellIndex(coord);
+
+            min[i] = idx > -MAX_CELL_INDEX && precision.eq(coord, idx * cellSize) ?
+                    idx - 1 :
+                    idx;
+            max[i] = idx < MAX_CELL_INDEX && precision.eq(coord, (idx + 1) * cellSize) ?
+                    idx + 1 :
+                    idx;
+        }
+
+        final long[] index = min.clone();
+        final CellKey searchKey = new CellKey(index);
+        do {
+            final Cell<P, V> cell = cells.get(searchKey);
+            if (cell != null) {
+                final Iterator<Entry<P, V>> it = cell.entries.iterator();
+                while (it.hasNext()) {
+                    final Entry<P, V> entry = it.next();
+                    if (pointsEq(pt, entry.getKey())) {
+                        if (remove) {
+                            it.remove();
+                            removeIfEmpty(cell);
+                        }
+                        return entry;
+                    }
+                }
+            }
+        } while (nextIndex(index, min, max, dimension));
+
+        return null;
+    }
+
+    /** Remove the given cell from the map if it does not contain any entries.
+     * @param cell cell to check
+     */
+    private void removeIfEmpty(final Cell<P, V> cell) {
+        if (cell.entries.isEmpty()) {
+            cells.remove(cell.key);
+        }
+    }
+
+    /** Validate the given grid cell size, returning it unchanged if valid.
+     * @param cellSize side length of the grid cells
+     * @param precision precision object used for floating point comparisons
+     * @return the validated cell size
+     * @throws IllegalArgumentException if {@code cellSize} is not finite or is not
+     *      greater than zero as evaluated by {@code precision}
+     */
+    static double validateCellSize(final double cellSize, final Precision.DoubleEquivalence precision) {
+        if (!Double.isFinite(cellSize) || precision.lte(cellSize, 0.0)) {
+            throw new IllegalArgumentException("Illegal cell size: " + cellSize);
+        }
+        return cellSize;
+    }
+
+    /** Get the cell index of the given point.
+     * @param pt point
+     * @return cell index of the point
+     */
+    private long[] getCellIndex(final P pt) {
+        final long[] index = new long[dimension];
+        for (int i = 0; i < dimension; ++i) {
+            index[i] = getCellIndex(getCoordinate(pt, i));
+        }
+        return index;
+    }
+
+    /** Get the cell index along a single dimension for the given coordinate value.
+     * @param coord coordinate value
+     * @return cell index for the coordinate
+     */
+    private long getCellIndex(final double coord) {
+        return (long) Math.max(-MAX_CELL_INDEX, Math.min(MAX_CELL_INDEX, Math.floor(coord / cellSize)));
+    }
+
+    /** Expand the cell index bounds of the map to include the given cell index.
+     * @param index cell index
+     */
+    private void expandCellIndexBounds(final long[] index) {
+        if (cells.size() == 1) {
+            // first cell; reset the bounds
+            System.arraycopy(index, 0, minCellIndex, 0, dimension);
+            System.arraycopy(index, 0, maxCellIndex, 0, dimension);
+        } else {
+            for (int i = 0; i < dimension; ++i) {
+                minCellIndex[i] = Math.min(minCellIndex[i], index[i]);
+                maxCellIndex[i] = Math.max(maxCellIndex[i], index[i]);
+            }
+        }
+    }
+
+    /** Compare two entries with distance values.
+     * @param a first entry
+     * @param b second entry
+     * @return integer comparison result
+     */
+    private int compareEntries(final DistancedValue<Entry<P, V>> a, final DistancedValue<Entry<P, V>> b) {
+        final int cmp = Double.compare(a.getDistance(), b.getDistance());
+        if (cmp == 0) {
+            return disambiguatePointComparison(a.getValue().getKey(), b.getValue().getKey());
+        }
+        return cmp;
+    }
+
+    /** Advance {@code index} to the next cell index in the block defined by {@code min}
+     * and {@code max}, considering only the first {@code count} dimensions. Dimensions are
+     * advanced in reverse order, with the last one changing the most frequently.
+     * @param index cell index to advance
+     * @param min minimum block index
+     * @param max maximum block index
+     * @param count number of dimensions to advance
+     * @return true if {@code index} was advanced; false if all indices in the block
+     *      have been visited
+     */
+    private static boolean nextIndex(final long[] index, final long[] min, final long[] max, final int count) {
+        for (int i = count - 1; i >= 0; --i) {
+            if (index[i] < max[i]) {
+                ++index[i];
+                return true;
+            }
+            index[i] = min[i];
+        }
+        return false;
+    }
+
+    /** Get the maximum distance value from {@code n} to either {@code a} or {@code b}.
+     * @param n test coordinate
+     * @param a first coordinate
+     * @param b second coordinate
+     * @return maximum distance from {@code n} to {@code a} or {@code b}
+     */
+    private static double getMaxDistance(final double n, final double a, final double b) {
+        return Math.max(
+                Math.abs(n - a),
+                Math.abs(n - b));
+    }
+
+    /** Class used as the hash key for grid cells.
+     */
+    private static final class CellKey {
+
+        /** Cell index. */
+        private final long[] index;
+
+        /** Construct a new instance.
+         * @param index cell index; the array is not copied
+         */
+        CellKey(final long[] index) {
+            this.index = index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(index);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof CellKey &&
+                    Arrays.equals(index, ((CellKey) obj).index);
+        }
+    }
+
+    /** Grid cell containing map entries.
+     * @param <P> Point type
+     * @param <V> Map value type
+     */
+    private static final class Cell<P extends Point<P>, V> {
+
+        /** Cell key. */
+        private final CellKey key;
+
+        /** Entries in the cell. */
+        private final List<Entry<P, V>> entries = new ArrayList<>();
+
+        /** Construct a new instance.
+         * @param key cell key
+         */
+        Cell(final CellKey key) {
+            this.key = key;
+        }
+    }
+
+    /** Set view of the map entries.
+     */
+    private final class EntrySet
+        extends AbstractSet<Entry<P, V>> {
+
+        /** {@inheritDoc} */
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean contains(final Object obj) {
+            if (obj instanceof Entry) {
+                final Entry<?, ?> search = (Entry<?, ?>) obj;
+                final Object key = search.getKey();
+
+                final Entry<P, V> actual = findEntry(key, false);
+                if (actual != null) {
+                    return pointsEq(actual.getKey(), (P) search.getKey()) &&
+                            Objects.equals(actual.getValue(), search.getValue());
+                }
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Iterator<Entry<P, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return AbstractGridPointMap.this.size();
+        }
+    }
+
+    /** Iterator for iterating through each entry in the map.
+     */
+    private final class EntryIterator
+        implements Iterator<Entry<P, V>> {
+
+        /** Map cells at the time of construction. A copy is used so that empty cells can be
+         * removed from the map while iterating.
+         */
+        private final List<Cell<P, V>> cellList = new ArrayList<>(cells.values());
+
+        /** Index of the next cell in {@link #cellList}. */
+        private int cellIdx;
+
+        /** Cell containing the entries for {@link #cellEntryIterator}. */
+        private Cell<P, V> cell;
+
+        /** Iterator over the entries in the current cell. */
+        private Iterator<Entry<P, V>> cellEntryIterator;
+
+        /** Cell containing the last returned entry. */
+        private Cell<P, V> lastCell;
+
+        /** Iterator that returned the last entry; used for entry removal. */
+        private Iterator<Entry<P, V>> lastEntryIterator;
+
+        /** Expected map modification version. */
+        private int expectedVersion = version;
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            while ((cellEntryIterator == null || !cellEntryIterator.hasNext()) &&
+                    cellIdx < cellList.size()) {
+                cell = cellList.get(cellIdx++);
+                cellEntryIterator = cell.entries.iterator();
+            }
+
+            return cellEntryIterator != null && cellEntryIterator.hasNext();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Entry<P, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            checkVersion();
+
+            lastCell = cell;
+            lastEntryIterator = cellEntryIterator;
+            return cellEntryIterator.next();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void remove() {
+            if (lastEntryIterator == null) {
+                throw new IllegalStateException("Cannot remove: no entry has yet been returned");
+            }
+
+            lastEntryIterator.remove();
+            removeIfEmpty(lastCell);
+
+            --entryCount;
+            ++version;
+            expectedVersion = version;
+        }
+
+        /** Throw a {@link ConcurrentModificationException} if the map version does
+         * not match the expected version.
+         */
+        private void checkVersion() {
+            if (expectedVersion != version) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /** Abstract type representing a collection over the entries in this map.
+     */
+    private abstract class AbstractEntryCollection extends AbstractCollection<Entry<P, V>> {
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return AbstractGridPointMap.this.size();
+        }
+    }
+
+    /** Abstract base class for iterators that return entries in order of distance relative
+     * to a reference point. Map cells are queued in groups in the order determined by the
+     * subclass. The entries from the queued cells are returned once it is certain that no
+     * cell remaining to be queued can contain an entry that is to be returned first.
+     */
+    private abstract class AbstractDistanceOrderIterator
+        implements Iterator<Entry<P, V>> {
+
+        /** The expected modification version of the map. */
+        private final int expectedVersion = version;
+
+        /** Distance order reference point. */
+        private final P refPt;
+
+        /** Queue of entries waiting to be returned. */
+        private final PriorityQueue<DistancedValue<Entry<P, V>>> entries;
+
+        /** The next entry to be returned from the iterator. */
+        private Entry<P, V> nextEntry;
+
+        /** Construct a new instance for ordering map entries by distance in reference
+         * to {@code refPt}.
+         * @param refPt reference point used to determine distance
+         * @param entryComparator entry comparator
+         */
+        AbstractDistanceOrderIterator(
+                final P refPt,
+                final Comparator<DistancedValue<Entry<P, V>>> entryComparator) {
+            this.refPt = refPt;
+            this.entries = new PriorityQueue<>(entryComparator);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return nextEntry != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Entry<P, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            checkVersion();
+
+            final Entry<P, V> result = nextEntry;
+            queueNextEntry();
+
+            return result;
+        }
+
+        /** Get the reference point for the iterator.
+         * @return reference point
+         */
+        P getReferencePoint() {
+            return refPt;
+        }
+
+        /** Queue the next entry to be returned from the iterator. This must be
+         * called after initialization to prepare the first return value.
+         */
+        void queueNextEntry() {
+            while (hasMoreCells() &&
+                    (entries.isEmpty() || !canReturnEntry(entries.peek().getDistance(), getNextCellDistance()))) {
+                queueNextCells();
+            }
+
+            nextEntry = entries.isEmpty() ?
+                    null :
+                    entries.remove().getValue();
+        }
+
+        /** Add all entries in the given cell to the entries queue.
+         * @param cell cell to queue entries for
+         */
+        void queueCell(final Cell<P, V> cell) {
+            for (final Entry<P, V> entry : cell.entries) {
+                entries.add(DistancedValue.of(entry, entry.getKey().distance(refPt)));
+            }
+        }
+
+        /** Return true if cells remain to be queued.
+         * @return true if cells remain to be queued
+         */
+        abstract boolean hasMoreCells();
+
+        /** Get the distance bound for the next group of cells to be queued.
+         * @return distance bound for the next group of cells to be queued
+         */
+        abstract double getNextCellDistance();
+
+        /** Queue the next group of cells.
+         */
+        abstract void queueNextCells();
+
+        /** Return true if an entry with the given distance is ready to be returned given the
+         * distance bound of the next group of cells to be queued.
+         * @param entryDistance distance of the entry
+         * @param cellDistance distance bound of the next group of cells
+         * @return true if an entry with the given distance can be returned from the iterator
+         */
+        abstract boolean canReturnEntry(double entryDistance, double cellDistance);
+
+        /** Throw a {@link ConcurrentModificationException} if the map version does
+         * not match the expected version.
+         */
+        private void checkVersion() {
+            if (expectedVersion != version) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /** Iterator that returns map entries in order of increasing distance from a specified point.
+     * Cells are queued in rings of increasing Chebyshev distance from the cell containing the
+     * reference point, limited to the cell index bounds of the map.
+     */
+    private final class NearToFarIterator extends AbstractDistanceOrderIterator {
+
+        /** Reference point coordinates. */
+        private final double[] refCoords;
+
+        /** Index of the cell containing the reference point. */
+        private final long[] refIndex;
+
+        /** Ring containing the next cells to be queued. */
+        private long ring;
+
+        /** Maximum ring containing cells. */
+        private long maxRing;
+
+        /** Number of grid locations examined while queueing rings. */
+        private double examinedCount;
+
+        /** Map cells remaining to be queued, sorted by ring; {@code null} until the
+         * iterator switches to visiting the non-empty cells directly.
+         */
+        private List<DistancedValue<Cell<P, V>>> remainingCells;
+
+        /** Index of the next cell to be queued in {@link #remainingCells}. */
+        private int remainingCellIdx;
+
+        /** Construct a new iterator instance for the given reference point.
+         * @param refPt reference point
+         */
+        NearToFarIterator(final P refPt) {
+            super(refPt, AbstractGridPointMap.this::compareEntries);
+
+            refCoords = new double[dimension];
+            refIndex = new long[dimension];
+            for (int i = 0; i < dimension; ++i) {
+                refCoords[i] = getCoordinate(refPt, i);
+                refIndex[i] = getCellIndex(refCoords[i]);
+            }
+
+            if (cells.isEmpty()) {
+                maxRing = -1;
+            } else {
+                for (int i = 0; i < dimension; ++i) {
+                    final long belowMin = minCellIndex[i] - refIndex[i];
+                    final long aboveMax = refIndex[i] - maxCellIndex[i];
+
+                    ring = Math.max(ring, Math.max(belowMin, aboveMax));
+                    maxRing = Math.max(maxRing, Math.max(-belowMin, -aboveMax));
+                }
+            }
+
+            queueNextEntry();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean hasMoreCells() {
+            return remainingCells == null ?
+                    ring <= maxRing :
+                    remainingCellIdx < remainingCells.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        double getNextCellDistance() {
+            if (ring < 1) {
+                return 0;
+            }
+
+            // compute the distance from the reference point to the boundary of the
+            // block of cells enclosed by the next ring
+            final long inner = ring - 1;
+            double dist = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < dimension; ++i) {
+                dist = Math.min(dist, refCoords[i] - ((refIndex[i] - inner) * cellSize));
+                dist = Math.min(dist, ((refIndex[i] + inner + 1) * cellSize) - refCoords[i]);
+            }
+            return dist;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        void queueNextCells() {
+            if (remainingCells == null) {
+                final double ringLocationCount = getRingLocationCount();
+                if (examinedCount + ringLocationCount <= cells.size()) {
+                    queueRing();
+
+                    examinedCount += ringLocationCount;
+                    ++ring;
+
+                    return;
+                }
+
+                // the grid is sparse in the remaining rings; switch to visiting the remaining cells directly
+                initRemainingCells();
+            }
+
+            final int size = remainingCells.size();
+            while (remainingCellIdx < size && remainingCells.get(remainingCellIdx).getDistance() <= ring) {
+                queueCell(remainingCells.get(remainingCellIdx).getValue());
+                ++remainingCellIdx;
+            }
+
+            if (remainingCellIdx < size) {
+                ring = (long) remainingCells.get(remainingCellIdx).getDistance();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean canReturnEntry(final double entryDistance, final double cellDistance) {
+            return precision.lt(entryDistance, cellDistance);
+        }
+
+        /** Get the number of grid locations in the current ring that lie within the cell
+         * index bounds of the map.
+         * @return number of grid locations in the current ring within the map bounds
+         */
+        private double getRingLocationCount() {
+            double outer = 1;
+            double inner = 1;
+            for (int i = 0; i < dimension; ++i) {
+                outer *= Math.min(refIndex[i] + ring, maxCellIndex[i]) -
+                        Math.max(refIndex[i] - ring, minCellIndex[i]) + 1;
+                inner *= Math.max(0, Math.min(refIndex[i] + ring - 1, maxCellIndex[i]) -
+                        Math.max(refIndex[i] - ring + 1, minCellIndex[i]) + 1);
+            }
+            return outer - inner;
+        }
+
+        /** Queue the map cells in the current ring.
+         */
+        private void queueRing() {
+            final long[] min = new long[dimension];
+            final long[] max = new long[dimension];
+            for (int i = 0; i < dimension; ++i) {
+                min[i] = Math.max(refIndex[i] - ring, minCellIndex[i]);
+                max[i] = Math.min(refIndex[i] + ring, maxCellIndex[i]);
+            }
+
+            // iterate over all dimensions except the last; along the last dimension, visit
+            // all locations if the other dimensions are on the ring and only the two ends
+            // of the range otherwise
+            final int last = dimension - 1;
+            final long[] index = min.clone();
+            final CellKey searchKey = new CellKey(index);
+            do {
+                if (isOnRing(index, last)) {
+                    for (long idx = min[last]; idx <= max[last]; ++idx) {
+                        queueCellAt(searchKey, idx);
+                    }
+                } else {
+                    final long below = refIndex[last] - ring;
+                    final long above = refIndex[last] + ring;
+
+                    if (below >= min[last]) {
+                        queueCellAt(searchKey, below);
+                    }
+                    if (above <= max[last] && above != below) {
+                        queueCellAt(searchKey, above);
+                    }
+                }
+            } while (nextIndex(index, min, max, last));
+        }
+
+        /** Return true if the given cell index lies on the current ring considering only
+         * the first {@code count} dimensions.
+         * @param index cell index
+         * @param count number of dimensions to consider
+         * @return true if the index lies on the current ring
+         */
+        private boolean isOnRing(final long[] index, final int count) {
+            for (int i = 0; i < count; ++i) {
+                if (Math.abs(index[i] - refIndex[i]) == ring) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Queue the cell for the given search key, using {@code lastIndex} as the index
+         * along the last dimension.
+         * @param searchKey search key
+         * @param lastIndex cell index along the last dimension
+         */
+        private void queueCellAt(final CellKey searchKey, final long lastIndex) {
+            searchKey.index[dimension - 1] = lastIndex;
+
+            final Cell<P, V> cell = cells.get(searchKey);
+            if (cell != null) {
+                queueCell(cell);
+            }
+        }
+
+        /** Initialize the list of map cells remaining to be queued.
+         */
+        private void initRemainingCells() {
+            remainingCells = new ArrayList<>();
+            for (final Cell<P, V> cell : cells.values()) {
+                final long cellRing = getRing(cell.key.index);
+                if (cellRing >= ring) {
+                    remainingCells.add(DistancedValue.of(cell, cellRing));
+                }
+            }
+
+            Collections.sort(remainingCells, DistancedValue.ascendingDistance());
+        }
+
+        /** Get the ring containing the given cell index.
+         * @param index cell index
+         * @return ring containing the cell index
+         */
+        private long getRing(final long[] index) {
+            long result = 0;
+            for (int i = 0; i < dimension; ++i) {
+                result = Math.max(result, Math.abs(index[i] - refIndex[i]));
+            }
+            return result;
+        }
+    }
+
+    /** Iterator that returns map entries in order of decreasing distance from a specified point.
+     * Cells are queued in order of decreasing maximum distance from the reference point.
+     */
+    private final class FarToNearIterator extends AbstractDistanceOrderIterator {
+
+        /** Map cells sorted by decreasing maximum distance from the reference point. */
+        private final List<DistancedValue<Cell<P, V>>> sortedCells;
+
+        /** Index of the next cell to be queued. */
+        private int cellIdx;
+
+        /** Construct a new iterator instance for the given reference point.
+         * @param refPt reference point
+         */
+        FarToNearIterator(final P refPt) {
+            super(refPt, (a, b) -> compareEntries(b, a));
+
+            sortedCells = new ArrayList<>(cells.size());
+            for (final Cell<P, V> cell : cells.values()) {
+                sortedCells.add(DistancedValue.of(cell, getMaxCellDistance(cell)));
+            }
+            Collections.sort(sortedCells, DistancedValue.descendingDistance());
+
+            queueNextEntry();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean hasMoreCells() {
+            return cellIdx < sortedCells.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        double getNextCellDistance() {
+            return sortedCells.get(cellIdx).getDistance();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        void queueNextCells() {
+            queueCell(sortedCells.get(cellIdx).getValue());
+            ++cellIdx;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean canReturnEntry(final double entryDistance, final double cellDistance) {
+            return precision.gt(entryDistance, cellDistance);
+        }
+
+        /** Get the maximum distance from the reference point to any point in the given cell.
+         * @param cell cell
+         * @return maximum distance from the reference point to any point in the cell
+         */
+        private double getMaxCellDistance(final Cell<P, V> cell) {
+            final P refPt = getReferencePoint();
+
+            double sum = 0;
+            for (int i = 0; i < dimension; ++i) {
+                final long idx = cell.key.index[i];
+                if (idx == -MAX_CELL_INDEX || idx == MAX_CELL_INDEX) {
+                    // outermost cells are unbounded
+                    return Double.POSITIVE_INFINITY;
+                }
+
+                final double dist = getMaxDistance(getCoordinate(refPt, i), idx * cellSize, (idx + 1) * cellSize);
+                sum += dist * dist;
+            }
+            return Math.sqrt(sum);
+        }
+    }
+}
@@ -0,0 +1,795 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.core.internal.DistancedValue;
+import org.apache.commons.geometry.core.internal.GeometryInternalUtils;
+import org.apache.commons.numbers.core.Precision;
+
+/** Abstract base class for immutable {@link PointMap} implementations intended for maps that
+ * are built once and then queried many times. Entries are stored in a balanced bucket kd-tree
+ * that is laid out in flat arrays: entries are ordered so that the entries of each leaf node
+ * are contiguous, entry coordinates are stored in a single packed array in the same order,
+ * and nodes are stored in depth-first order with the bounding box of each node stored in
+ * packed arrays. The tree is built once at construction and is never modified, so no
+ * modification checks are performed and instances may be safely read from multiple threads
+ * concurrently without synchronization.
+ *
+ * <p>All methods that would modify the map throw {@link UnsupportedOperationException}.</p>
+ * @param <P> Point type
+ * @param <V> Map value type
+ */
+abstract class AbstractImmutablePointMap<P extends Point<P>, V>
+    extends AbstractMap<P, V>
+    implements PointMap<P, V> {
+
+    /** Max entries per leaf node. */
+    private static final int MAX_LEAF_ENTRIES = 8;
+
+    /** Value used in {@link #nodeRight} to indicate a leaf node. */
+    private static final int LEAF = -1;
+
+    /** Space dimension. */
+    private final int dimension;
+
+    /** Precision context. */
+    private final Precision.DoubleEquivalence precision;
+
+    /** Map entries, ordered so that the entries of each leaf node are contiguous. */
+    private final Entry<P, V>[] entries;
+
+    /** Packed entry coordinates, in the same order as {@link #entries}. */
+    private final double[] coords;
+
+    /** Index of the first entry of each node. */
+    private final int[] nodeStart;
+
+    /** Index one past the last entry of each node. */
+    private final int[] nodeEnd;
+
+    /** Index of the right child of each node or {@link #LEAF} for leaf nodes. The
+     * left child of an internal node is always located directly after the node.
+     */
+    private final int[] nodeRight;
+
+    /** Split dimension of each internal node. */
+    private final int[] nodeSplitDimension;
+
+    /** Split coordinate of each internal node. Entries in the left child have coordinates
+     * less than or equal to this value and entries in the right child have coordinates
+     * greater than or equal to it.
+     */
+    private final double[] nodeSplit;
+
+    /** Packed minimum coordinates of the bounding box of each node. */
+    private final double[] nodeMin;
+
+    /** Packed maximum coordinates of the bounding box of each node. */
+    private final double[] nodeMax;
+
+    /** Entry set view; instances are stateless so we need only one. */
+    private final EntrySet entrySetInstance = new EntrySet();
+
+    /** Construct a new instance containing the given entries. The keys of the entries must be
+     * finite and no two keys may be equivalent according to {@code precision}.
+     * @param dimension space dimension
+     * @param source map entries
+     * @param precision precision object used for floating point comparisons
+     */
+    @SuppressWarnings("unchecked")
+    protected AbstractImmutablePointMap(
+            final int dimension,
+            final Collection<? extends Entry<P, ? extends V>> source,
+            final Precision.DoubleEquivalence precision) {
+        this.dimension = dimension;
+        this.precision = precision;
+
+        final int count = source.size();
+
+        entries = new Entry[count];
+        int i = 0;
+        for (final Entry<P, ? extends V> entry : source) {
+            entries[i++] = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+        }
+
+        // a tree with leaves containing at least one entry has fewer than twice as many nodes as entries
+        final int maxNodes = Math.max(1, 2 * count);
+        final TreeBuilder builder = new TreeBuilder(maxNodes);
+        if (count > 0) {
+            builder.build(0, count);
+        }
+
+        final int nodeCount = builder.nodeCount;
+        nodeStart = Arrays.copyOf(builder.start, nodeCount);
+        nodeEnd = Arrays.copyOf(builder.end, nodeCount);
+        nodeRight = Arrays.copyOf(builder.right, nodeCount);
+        nodeSplitDimension = Arrays.copyOf(builder.splitDimension, nodeCount);
+        nodeSplit = Arrays.copyOf(builder.split, nodeCount);
+        nodeMin = Arrays.copyOf(builder.min, nodeCount * dimension);
+        nodeMax = Arrays.copyOf(builder.max, nodeCount * dimension);
+
+        coords = new double[count * dimension];
+        for (int e = 0; e < count; ++e) {
+            final P key = entries[e].getKey();
+            for (int d = 0; d < dimension; ++d) {
+                coords[(e * dimension) + d] = getCoordinate(key, d);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Entry<P, V> getEntry(final P pt) {
+        final int idx = findEntryIndex(pt);
+        return idx > -1 ?
+                entries[idx] :
+                null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return entries.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V put(final P key, final V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void putAll(final Map<? extends P, ? extends V> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V get(final Object key) {
+        final int idx = findEntryIndex(key);
+        return idx > -1 ?
+                entries[idx].getValue() :
+                null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V remove(final Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(final Object key) {
+        return findEntryIndex(key) > -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Entry<P, V>> entrySet() {
+        return entrySetInstance;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Entry<P, V> nearestEntry(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+
+        if (entries.length < 1) {
+            return null;
+        }
+
+        final ExtremeEntrySearch search = new ExtremeEntrySearch(pt, true);
+        search.searchNode(0);
+
+        return entries[search.bestIdx];
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>This implementation performs a best-first search over the tree nodes, visiting nodes in
+     * order of increasing minimum distance from {@code pt}. The search stops when the current
+     * nearest entry is within {@code (1 + epsilon)} times the minimum distance of the next node or
+     * when {@code maxLeafVisits} leaf nodes have been examined.</p>
+     */
+    @Override
+    public Entry<P, V> approximateNearestEntry(final P pt, final double epsilon, final int maxLeafVisits) {
+        GeometryInternalUtils.requireFinite(pt);
+        GeometryInternalUtils.validateApproximateSearch(epsilon, maxLeafVisits);
+
+        if (entries.length < 1) {
+            return null;
+        }
+
+        final double distScale = 1 + epsilon;
+        final double[] refCoords = getCoordinates(pt);
+
+        final PriorityQueue<DistancedValue<Integer>> queue =
+                new PriorityQueue<>(DistancedValue.ascendingDistance());
+        queue.add(DistancedValue.of(0, 0));
+
+        int bestIdx = -1;
+        double bestDist = Double.POSITIVE_INFINITY;
+        int leafVisits = 0;
+        while (!queue.isEmpty()) {
+            final DistancedValue<Integer> nodeValue = queue.remove();
+            if (bestIdx > -1 &&
+                    (leafVisits >= maxLeafVisits ||
+                    precision.lte(bestDist, nodeValue.getDistance() * distScale))) {
+                break;
+            }
+
+            final int node = nodeValue.getValue();
+            final int right = nodeRight[node];
+            if (right == LEAF) {
+                ++leafVisits;
+                for (int i = nodeStart[node]; i < nodeEnd[node]; ++i) {
+                    final double dist = entries[i].getKey().distance(pt);
+                    if (bestIdx < 0 || compareEntries(i, dist, bestIdx, bestDist) < 0) {
+                        bestIdx = i;
+                        bestDist = dist;
+                    }
+                }
+            } else {
+                queue.add(DistancedValue.of(node + 1, getNodeDistance(node + 1, refCoords, true)));
+                queue.add(DistancedValue.of(right, getNodeDistance(right, refCoords, true)));
+            }
+        }
+
+        return entries[bestIdx];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Entry<P, V> farthestEntry(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+
+        if (entries.length < 1) {
+            return null;
+        }
+
+        final ExtremeEntrySearch search = new ExtremeEntrySearch(pt, false);
+        search.searchNode(0);
+
+        return entries[search.bestIdx];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Entry<P, V>> entriesNearToFar(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+        return new AbstractEntryCollection() {
+            @Override
+            public Iterator<Entry<P, V>> iterator() {
+                return new DistanceOrderIterator(pt, true);
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Entry<P, V>> entriesFarToNear(final P pt) {
+        GeometryInternalUtils.requireFinite(pt);
+        return new AbstractEntryCollection() {
+            @Override
+            public Iterator<Entry<P, V>> iterator() {
+                return new DistanceOrderIterator(pt, false);
+            }
+        };
+    }
+
+    /** Get the coordinate of {@code pt} along the given dimension.
+     * @param pt point
+     * @param dim dimension index
+     * @return coordinate value along the dimension
+     */
+    protected abstract double getCoordinate(P pt, int dim);
+
+    /** Compare two points to determine a consistent ordering when other comparison
+     * criteria consider them equal.
+     * @param a first point
+     * @param b second point
+     * @return integer comparison result
+     */
+    protected abstract int disambiguatePointComparison(P a, P b);
+
+    /** Find the index of the entry for the given key or {@code -1} if not found.
+     * @param key key to search for
+     * @return index of the entry for the given key or {@code -1} if not found
+     */
+    @SuppressWarnings("unchecked")
+    private int findEntryIndex(final Object key) {
+        final P pt = (P) key;
+        if (!pt.isFinite() || entries.length < 1) {
+            return -1;
+        }
+
+        final double[] ptCoords = new double[dimension];
+        for (int d = 0; d < dimension; ++d) {
+            ptCoords[d] = getCoordinate(pt, d);
+        }
+        return findEntryIndex(0, ptCoords);
+    }
+
+    /** Find the index of the entry equivalent to the given point in the subtree rooted at {@code node}
+     * or {@code -1} if not found.
+     * @param node subtree root node
+     * @param ptCoords point coordinates
+     * @return index of the entry equivalent to the point or {@code -1} if not found
+     */
+    private int findEntryIndex(final int node, final double[] ptCoords) {
+        final int right = nodeRight[node];
+        if (right == LEAF) {
+            for (int i = nodeStart[node]; i < nodeEnd[node]; ++i) {
+                if (coordinatesEq(i, ptCoords)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        final int cmp = precision.compare(ptCoords[nodeSplitDimension[node]], nodeSplit[node]);
+
+        int result = -1;
+        if (cmp <= 0) {
+            result = findEntryIndex(node + 1, ptCoords);
+        }
+        if (result < 0 && cmp >= 0) {
+            result = findEntryIndex(right, ptCoords);
+        }
+        return result;
+    }
+
+    /** Return true if the coordinates of the entry at {@code idx} are equivalent to the
+     * given point coordinates.
+     * @param idx entry index
+     * @param ptCoords point coordinates
+     * @return true if the entry coordinates are equivalent to the point coordinates
+     */
+    private boolean coordinatesEq(final int idx, final double[] ptCoords) {
+        final int offset = idx * dimension;
+        for (int d = 0; d < dimension; ++d) {
+            if (!precision.eq(coords[offset + d], ptCoords[d])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Get the minimum or maximum distance from the given point coordinates to the bounding
+     * box of a node.
+     * @param node node index
+     * @param ptCoords point coordinates
+     * @param min if true, the minimum distance is returned; otherwise, the maximum distance
+     * @return minimum or maximum distance from the point to the node bounding box
+     */
+    private double getNodeDistance(final int node, final double[] ptCoords, final boolean min) {
+        final int offset = node * dimension;
+
+        double sum = 0;
+        for (int d = 0; d < dimension; ++d) {
+            final double n = ptCoords[d];
+            final double a = nodeMin[offset + d];
+            final double b = nodeMax[offset + d];
+
+            final double dist;
+            if (min) {
+                dist = Math.max(0, Math.max(a - n, n - b));
+            } else {
+                dist = Math.max(Math.abs(n - a), Math.abs(n - b));
+            }
+            sum += dist * dist;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /** Compare two entries with distance values.
+     * @param aIdx index of the first entry
+     * @param aDist distance of the first entry
+     * @param bIdx index of the second entry
+     * @param bDist distance of the second entry
+     * @return integer comparison result
+     */
+    private int compareEntries(final int aIdx, final double aDist, final int bIdx, final double bDist) {
+        final int cmp = Double.compare(aDist, bDist);
+        if (cmp == 0) {
+            return disambiguatePointComparison(entries[aIdx].getKey(), entries[bIdx].getKey());
+        }
+        return cmp;
+    }
+
+    /** Get the coordinates of the given point.
+     * @param pt point
+     * @return point coordinates
+     */
+    private double[] getCoordinates(final P pt) {
+        final double[] result = new double[dimension];
+        for (int d = 0; d < dimension; ++d) {
+            result[d] = getCoordinate(pt, d);
+        }
+        return result;
+    }
+
+    /** Class used to build the tree arrays.
+     */
+    private final class TreeBuilder {
+
+        /** Node entry start indices. */
+        private final int[] start;
+
+        /** Node entry end indices. */
+        private final int[] end;
+
+        /** Node right child indices. */
+        private final int[] right;
+
+        /** Node split dimensions. */
+        private final int[] splitDimension;
+
+        /** Node split values. */
+        private final double[] split;
+
+        /** Node bounding box minimum coordinates. */
+        private final double[] min;
+
+        /** Node bounding box maximum coordinates. */
+        private final double[] max;
+
+        /** Number of nodes created. */
+        private int nodeCount;
+
+        /** Construct a new instance.
+         * @param maxNodes maximum number of nodes
+         */
+        TreeBuilder(final int maxNodes) {
+            start = new int[maxNodes];
+            end = new int[maxNodes];
+            right = new int[maxNodes];
+            splitDimension = new int[maxNodes];
+            split = new double[maxNodes];
+            min = new double[maxNodes * dimension];
+            max = new double[maxNodes * dimension];
+        }
+
+        /** Build the subtree containing the entries in the given index range.
+         * @param from index of the first entry (inclusive)
+         * @param to index of the last entry (exclusive)
+         */
+        void build(final int from, final int to) {
+            final int node = nodeCount++;
+            start[node] = from;
+            end[node] = to;
+
+            // compute the bounding box
+            final int offset = node * dimension;
+            Arrays.fill(min, offset, offset + dimension, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, offset, offset + dimension, Double.NEGATIVE_INFINITY);
+            for (int i = from; i < to; ++i) {
+                final P key = entries[i].getKey();
+                for (int d = 0; d < dimension; ++d) {
+                    final double c = getCoordinate(key, d);
+                    min[offset + d] = Math.min(min[offset + d], c);
+                    max[offset + d] = Math.max(max[offset + d], c);
+                }
+            }
+
+            if (to - from <= MAX_LEAF_ENTRIES) {
+                right[node] = LEAF;
+                return;
+            }
+
+            // split at the median along the dimension with the largest spread
+            int dim = 0;
+            for (int d = 1; d < dimension; ++d) {
+                if (max[offset + d] - min[offset + d] > max[offset + dim] - min[offset + dim]) {
+                    dim = d;
+                }
+            }
+
+            final int splitDim = dim;
+            Arrays.sort(entries, from, to,
+                    Comparator.comparingDouble(e -> getCoordinate(e.getKey(), splitDim)));
+
+            final int mid = (from + to) >>> 1;
+            splitDimension[node] = splitDim;
+            split[node] = getCoordinate(entries[mid].getKey(), splitDim);
+
+            build(from, mid);
+            right[node] = nodeCount;
+            build(mid, to);
+        }
+    }
+
+    /** Class used to find the nearest or farthest entry from a reference point.
+     */
+    private final class ExtremeEntrySearch {
+
+        /** Reference point. */
+        private final P refPt;
+
+        /** Reference point coordinates. */
+        private final double[] refCoords;
+
+        /** If true, the nearest entry is searched for; otherwise, the farthest. */
+        private final boolean nearest;
+
+        /** Index of the best entry found so far. */
+        private int bestIdx = -1;
+
+        /** Distance of the best entry found so far. */
+        private double bestDist;
+
+        /** Construct a new instance.
+         * @param refPt reference point
+         * @param nearest if true, the nearest entry is searched for; otherwise, the farthest
+         */
+        ExtremeEntrySearch(final P refPt, final boolean nearest) {
+            this.refPt = refPt;
+            this.refCoords = getCoordinates(refPt);
+            this.nearest = nearest;
+        }
+
+        /** Search the subtree rooted at the given node.
+         * @param node subtree root node
+         */
+        void searchNode(final int node) {
+            final int right = nodeRight[node];
+            if (right == LEAF) {
+                for (int i = nodeStart[node]; i < nodeEnd[node]; ++i) {
+                    final double dist = entries[i].getKey().distance(refPt);
+                    if (bestIdx < 0 || isBetter(compareEntries(i, dist, bestIdx, bestDist))) {
+                        bestIdx = i;
+                        bestDist = dist;
+                    }
+                }
+                return;
+            }
+
+            // visit the most promising child first
+            final int left = node + 1;
+            final double leftDist = getNodeDistance(left, refCoords, nearest);
+            final double rightDist = getNodeDistance(right, refCoords, nearest);
+
+            if (isBetter(Double.compare(leftDist, rightDist))) {
+                searchChild(left, leftDist);
+                searchChild(right, rightDist);
+            } else {
+                searchChild(right, rightDist);
+                searchChild(left, leftDist);
+            }
+        }
+
+        /** Search the given child node if it may contain an entry better than the current
+         * best entry.
+         * @param child child node
+         * @param childDist distance bound for the child node
+         */
+        private void searchChild(final int child, final double childDist) {
+            if (bestIdx < 0 ||
+                    (nearest ? !precision.gt(childDist, bestDist) : !precision.lt(childDist, bestDist))) {
+                searchNode(child);
+            }
+        }
+
+        /** Return true if the given comparison result indicates a better value.
+         * @param cmp comparison result
+         * @return true if the comparison result indicates a better value
+         */
+        private boolean isBetter(final int cmp) {
+            return nearest ?
+                    cmp < 0 :
+                    cmp > 0;
+        }
+    }
+
+    /** Set view of the map entries.
+     */
+    private final class EntrySet
+        extends AbstractSet<Entry<P, V>> {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean contains(final Object obj) {
+            if (obj instanceof Entry) {
+                final Entry<?, ?> search = (Entry<?, ?>) obj;
+
+                final int idx = findEntryIndex(search.getKey());
+                if (idx > -1) {
+                    return Objects.equals(entries[idx].getValue(), search.getValue());
+                }
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Iterator<Entry<P, V>> iterator() {
+            return new Iterator<Entry<P, V>>() {
+
+                /** Index of the next entry. */
+                private int idx;
+
+                @Override
+                public boolean hasNext() {
+                    return idx < entries.length;
+                }
+
+                @Override
+                public Entry<P, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return entries[idx++];
+                }
+            };
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return entries.length;
+        }
+    }
+
+    /** Abstract type representing a collection over the entries in this map.
+     */
+    private abstract class AbstractEntryCollection extends AbstractCollection<Entry<P, V>> {
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return entries.length;
+        }
+    }
+
+    /** Iterator that returns map entries in order of increasing or decreasing distance from a
+     * reference point.
+     */
+    private final class DistanceOrderIterator
+        implements Iterator<Entry<P, V>> {
+
+        /** Reference point. */
+        private final P refPt;
+
+        /** Reference point coordinates. */
+        private final double[] refCoords;
+
+        /** If true, entries are returned in order of increasing distance; otherwise, in order of
+         * decreasing distance.
+         */
+        private final boolean nearToFar;
+
+        /** Queue of nodes remaining to be visited. */
+        private final PriorityQueue<DistancedValue<Integer>> nodes;
+
+        /** Queue of entry indices waiting to be returned. */
+        private final PriorityQueue<DistancedValue<Integer>> queuedEntries;
+
+        /** The next entry to be returned from the iterator. */
+        private Entry<P, V> nextEntry;
+
+        /** Construct a new instance.
+         * @param refPt reference point
+         * @param nearToFar if true, entries are returned in order of increasing distance;
+         *      otherwise, in order of decreasing distance
+         */
+        DistanceOrderIterator(final P refPt, final boolean nearToFar) {
+            this.refPt = refPt;
+            this.refCoords = getCoordinates(refPt);
+            this.nearToFar = nearToFar;
+
+            final Comparator<DistancedValue<Integer>> entryCmp = (a, b) -> compareEntries(
+                    a.getValue(), a.getDistance(), b.getValue(), b.getDistance());
+
+            if (nearToFar) {
+                nodes = new PriorityQueue<>(DistancedValue.ascendingDistance());
+                queuedEntries = new PriorityQueue<>(entryCmp);
+            } else {
+                nodes = new PriorityQueue<>(DistancedValue.descendingDistance());
+                queuedEntries = new PriorityQueue<>(entryCmp.reversed());
+            }
+
+            if (entries.length > 0) {
+                nodes.add(DistancedValue.of(0, nearToFar ? 0 : Double.POSITIVE_INFINITY));
+            }
+
+            queueNextEntry();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return nextEntry != null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Entry<P, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Entry<P, V> result = nextEntry;
+            queueNextEntry();
+
+            return result;
+        }
+
+        /** Queue the next entry to be returned from the iterator.
+         */
+        private void queueNextEntry() {
+            while (!nodes.isEmpty() &&
+                    (queuedEntries.isEmpty() || !canReturnEntry(queuedEntries.peek(), nodes.peek()))) {
+                final int node = nodes.remove().getValue();
+                final int right = nodeRight[node];
+
+                if (right == LEAF) {
+                    for (int i = nodeStart[node]; i < nodeEnd[node]; ++i) {
+                        queuedEntries.add(DistancedValue.of(i, entries[i].getKey().distance(refPt)));
+                    }
+                } else {
+                    queueNode(node + 1);
+                    queueNode(right);
+                }
+            }
+
+            nextEntry = queuedEntries.isEmpty() ?
+                    null :
+                    entries[queuedEntries.remove().getValue()];
+        }
+
+        /** Add the given node to the node queue.
+         * @param node node index
+         */
+        private void queueNode(final int node) {
+            nodes.add(DistancedValue.of(node, getNodeDistance(node, refCoords, nearToFar)));
+        }
+
+        /** Return true if the given entry can be returned before any entry in the given node.
+         * @param entry queued entry
+         * @param node queued node
+         * @return true if the entry can be returned
+         */
+        private boolean canReturnEntry(final DistancedValue<Integer> entry, final DistancedValue<Integer> node) {
+            return nearToFar ?
+                    precision.lt(entry.getDistance(), node.getDistance()) :
+                    precision.gt(entry.getDistance(), node.getDistance());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import org.apache.commons.geometry.core.internal.GeometryInternalUtils;
+import org.apache.commons.geometry.euclidean.threed.Bounds3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.twod.Bounds2D;
+import org.apache.commons.geometry.euclidean.twod.Vector2D;
+
+/** Internal utility class for running batches of independent point collection queries
+ * in parallel. Query points are first sorted by their Morton (Z-order) code so that
+ * consecutive queries are spatially close to each other, which improves the cache locality
+ * of the searches. The sorted queries are then split into contiguous chunks that are
+ * executed in parallel with a parallel stream, which uses the common
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool} unless run from within a task
+ * in another pool.
+ */
+final class BatchPointQueries {
+
+    /** Number of consecutive sorted queries run sequentially as a single parallel work item. */
+    private static final int QUERY_CHUNK_SIZE = 256;
+
+    /** Number of bits used per coordinate in 2D Morton codes. */
+    private static final int MORTON_BITS_2D = 31;
+
+    /** Number of bits used per coordinate in 3D Morton codes. */
+    private static final int MORTON_BITS_3D = 21;
+
+    /** Utility class; no instantiation. */
+    private BatchPointQueries() {}
+
+    /** Run the given query function for each of the 2D points in {@code pts}, returning a list
+     * containing the query results in the same order as the input points.
+     * @param <R> Query result type
+     * @param pts query points
+     * @param queryFn query function
+     * @return list of query results
+     * @throws IllegalArgumentException if any query point is not finite
+     */
+    static <R> List<R> query2D(final List<Vector2D> pts, final Function<Vector2D, R> queryFn) {
+        if (pts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        pts.forEach(GeometryInternalUtils::requireFinite);
+
+        final Bounds2D bounds = Bounds2D.from(pts);
+        final Vector2D min = bounds.getMin();
+        final Vector2D max = bounds.getMax();
+
+        return query(pts, pt ->
+                    spread(quantize(pt.getX(), min.getX(), max.getX(), MORTON_BITS_2D), 2) |
+                    (spread(quantize(pt.getY(), min.getY(), max.getY(), MORTON_BITS_2D), 2) << 1),
+                queryFn);
+    }
+
+    /** Run the given query function for each of the 3D points in {@code pts}, returning a list
+     * containing the query results in the same order as the input points.
+     * @param <R> Query result type
+     * @param pts query points
+     * @param queryFn query function
+     * @return list of query results
+     * @throws IllegalArgumentException if any query point is not finite
+     */
+    static <R> List<R> query3D(final List<Vector3D> pts, final Function<Vector3D, R> queryFn) {
+        if (pts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        pts.forEach(GeometryInternalUtils::requireFinite);
+
+        final Bounds3D bounds = Bounds3D.from(pts);
+        final Vector3D min = bounds.getMin();
+        final Vector3D max = bounds.getMax();
+
+        return query(pts, pt ->
+                    spread(quantize(pt.getX(), min.getX(), max.getX(), MORTON_BITS_3D), 3) |
+                    (spread(quantize(pt.getY(), min.getY(), max.getY(), MORTON_BITS_3D), 3) << 1) |
+                    (spread(quantize(pt.getZ(), min.getZ(), max.getZ(), MORTON_BITS_3D), 3) << 2),
+                queryFn);
+    }
+
+    /** Return a list containing at most the first {@code k} elements of {@code collection}
+     * in iteration order.
+     * @param <T> Element type
+     * @param collection input collection
+     * @param k maximum number of elements to return
+     * @return list containing at most the first {@code k} elements of the collection
+     */
+    static <T> List<T> first(final Collection<T> collection, final int k) {
+        final List<T> result = new ArrayList<>(Math.min(k, collection.size()));
+
+        final Iterator<T> it = collection.iterator();
+        while (result.size() < k && it.hasNext()) {
+            result.add(it.next());
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Validate the given neighbor count, returning it unchanged if valid.
+     * @param k neighbor count
+     * @return the validated neighbor count
+     * @throws IllegalArgumentException if {@code k} is less than one
+     */
+    static int validateNeighborCount(final int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Neighbor count must be greater than zero; was " + k);
+        }
+        return k;
+    }
+
+    /** Run the given query function for each point in {@code pts}, executing the queries in
+     * the order given by {@code codeFn}.
+     * @param <P> Point type
+     * @param <R> Query result type
+     * @param pts query points
+     * @param codeFn function used to compute the sort code for each point
+     * @param queryFn query function
+     * @return list of query results in the same order as the input points
+     */
+    private static <P, R> List<R> query(final List<P> pts, final ToLongFunction<P> codeFn,
+            final Function<P, R> queryFn) {
+        final int count = pts.size();
+
+        final long[] codes = new long[count];
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; ++i) {
+            codes[i] = codeFn.applyAsLong(pts.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> codes[i]));
+
+        // run contiguous chunks of the sorted queries in parallel
+        final Object[] results = new Object[count];
+        final int chunkCount = ((count - 1) / QUERY_CHUNK_SIZE) + 1;
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            final int end = Math.min(count, (chunk + 1) * QUERY_CHUNK_SIZE);
+            for (int i = chunk * QUERY_CHUNK_SIZE; i < end; ++i) {
+                final int idx = order[i];
+                results[idx] = queryFn.apply(pts.get(idx));
+            }
+        });
+
+        @SuppressWarnings("unchecked")
+        final List<R> resultList = (List<R>) Arrays.asList(results);
+        return Collections.unmodifiableList(resultList);
+    }
+
+    /** Quantize the coordinate value {@code c} lying in the range {@code [min, max]} to an integer
+     * with the given number of bits.
+     * @param c coordinate value
+     * @param min minimum coordinate value
+     * @param max maximum coordinate value
+     * @param bits number of bits in the result
+     * @return quantized coordinate value
+     */
+    private static long quantize(final double c, final double min, final double max, final int bits) {
+        final double range = max - min;
+        if (range <= 0) {
+            return 0;
+        }
+
+        final long maxValue = (1L << bits) - 1;
+        return Math.min(maxValue, (long) (((c - min) / range) * maxValue));
+    }
+
+    /** Spread the bits of {@code value} so that each bit is followed by {@code stride - 1}
+     * zero bits.
+     * @param value value to spread
+     * @param stride bit stride; 2 or 3
+     * @return spread value
+     */
+    private static long spread(final long value, final int stride) {
+        long result = 0;
+        final int bits = stride == 2 ?
+                MORTON_BITS_2D :
+                MORTON_BITS_3D;
+        for (int i = 0; i < bits; ++i) {
+            result |= ((value >>> i) & 1L) << (i * stride);
+        }
+        return result;
+    }
+}
@@ -16,6 +16,10 @@
  */
 package org.apache.commons.geometry.euclidean;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.commons.geometry.core.collection.PointMap;
 import org.apache.commons.geometry.core.collection.PointSet;
 import org.apache.commons.geometry.core.internal.PointMapAsSetAdapter;
@@ -28,6 +32,38 @@ import org.apache.commons.numbers.core.Precision;
  */
 public final class EuclideanCollections {
 
+    /** Enum containing the data structures available for 2D and 3D {@link PointMap}
+     * and {@link PointSet} instances. All strategies provide the same functionality and
+     * differ only in performance characteristics. The relative timings given below were
+     * measured with the {@code PointMap3DPerformance} benchmark in the {@code examples-jmh}
+     * module using 8000 points arranged in a block and in a line and are only intended
+     * as a rough guide.
+     */
+    public enum PointMapStrategy {
+
+        /** Bucket tree that splits nodes into 4 (2D) or 8 (3D) children around the centroid
+         * of the node entries. This is the default strategy and the best choice for
+         * insert-heavy use and for lookups of individual points. Insertion and
+         * {@link PointMap#get(Object) get} operations on evenly distributed points are
+         * approximately 1.4 times faster than with {@link #KD_TREE}.
+         */
+        BUCKET_TREE,
+
+        /** Bucket kd-tree that splits nodes into 2 children at the median of the node entries
+         * along the dimension with the largest spread. Each node tracks the bounding box of its
+         * entries, allowing distance queries to discard subtrees that cannot contain a result.
+         * This strategy is intended for read-heavy use where a map is populated once and then
+         * queried by distance many times. In the benchmark,
+         * {@link PointMap#nearestEntry(org.apache.commons.geometry.core.Point) nearestEntry}
+         * was 1.5 to 1.7 times faster and
+         * {@link PointMap#farthestEntry(org.apache.commons.geometry.core.Point) farthestEntry}
+         * was 3 to 70 times faster than with {@link #BUCKET_TREE}. Insertion and
+         * {@link PointMap#get(Object) get} are slower for evenly distributed points but
+         * faster for points lying along a line.
+         */
+        KD_TREE
+    }
+
     /** No instantiation. */
     private EuclideanCollections() {}
 
@@ -77,6 +113,212 @@ public final class EuclideanCollections {
         return new PointMap2DImpl<>(precision);
     }
 
+    /** Construct a new 2D {@link PointSet} instance using the given precision context to determine
+     * equality between points and the given strategy to determine the underlying data structure.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param precision precision context used to determine point equality
+     * @param strategy data structure strategy
+     * @return new 2D point set instance
+     */
+    public static PointSet<Vector2D> pointSet2D(final Precision.DoubleEquivalence precision,
+            final PointMapStrategy strategy) {
+        return new PointMapAsSetAdapter<>(pointMap2D(precision, strategy));
+    }
+
+    /** Construct a new 2D {@link PointMap} instance using the given precision context to determine
+     * equality between points and the given strategy to determine the underlying data structure.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param <V> Map value type
+     * @param precision precision context used to determine point equality
+     * @param strategy data structure strategy
+     * @return new 2D point map instance
+     */
+    public static <V> PointMap<Vector2D, V> pointMap2D(final Precision.DoubleEquivalence precision,
+            final PointMapStrategy strategy) {
+        switch (strategy) {
+        case KD_TREE:
+            return new KDTreePointMap2DImpl<>(precision);
+        default:
+            return new PointMap2DImpl<>(precision);
+        }
+    }
+
+    /** Construct a new 2D {@link PointSet} instance that stores points in a uniform grid of
+     * squares with side length {@code cellSize}, using the given precision context to determine
+     * equality between points. Locating the grid cell for a point is a constant-time hash
+     * lookup, making this data structure a good fit for large numbers of roughly evenly
+     * distributed points when the typical point spacing is known. The cell size should be
+     * on the order of that spacing; very small cells relative to the point spacing lead to
+     * many empty cells being examined during distance-ordered searches.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param precision precision context used to determine point equality
+     * @param cellSize side length of the grid cells; must be greater than the precision
+     *      epsilon so that equivalent points are always located in the same or adjacent cells
+     * @return new 2D point set instance
+     * @throws IllegalArgumentException if {@code cellSize} is not finite or is not
+     *      greater than zero as evaluated by {@code precision}
+     */
+    public static PointSet<Vector2D> gridPointSet2D(final Precision.DoubleEquivalence precision,
+            final double cellSize) {
+        return new PointMapAsSetAdapter<>(gridPointMap2D(precision, cellSize));
+    }
+
+    /** Construct a new 2D {@link PointMap} instance that stores keys in a uniform grid of
+     * squares with side length {@code cellSize}, using the given precision context to determine
+     * equality between points. Locating the grid cell for a point is a constant-time hash
+     * lookup, making this data structure a good fit for large numbers of roughly evenly
+     * distributed points when the typical point spacing is known. The cell size should be
+     * on the order of that spacing; very small cells relative to the point spacing lead to
+     * many empty cells being examined during distance-ordered searches.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param <V> Map value type
+     * @param precision precision context used to determine point equality
+     * @param cellSize side length of the grid cells; must be greater than the precision
+     *      epsilon so that equivalent points are always located in the same or adjacent cells
+     * @return new 2D point map instance
+     * @throws IllegalArgumentException if {@code cellSize} is not finite or is not
+     *      greater than zero as evaluated by {@code precision}
+     */
+    public static <V> PointMap<Vector2D, V> gridPointMap2D(final Precision.DoubleEquivalence precision,
+            final double cellSize) {
+        return new GridPointMap2DImpl<>(
+                AbstractGridPointMap.validateCellSize(cellSize, precision), precision);
+    }
+
+    /** Construct a new immutable 2D {@link PointSet} instance containing the points in the given
+     * collection, using the given precision context to determine equality between points. Points
+     * equivalent to a point earlier in the collection are ignored. The returned set is
+     * intended for sets that are built once and then queried many times: points are stored in
+     * a balanced tree laid out in flat arrays, giving good memory locality for queries.
+     * All methods that would modify the set throw {@link UnsupportedOperationException}.
+     *
+     * <p>The returned instance is immutable and may be safely read from multiple threads
+     * concurrently without synchronization.</p>
+     * @param precision precision context used to determine point equality
+     * @param pts points to add to the set
+     * @return new immutable 2D point set instance
+     * @throws IllegalArgumentException if any point is not finite
+     */
+    public static PointSet<Vector2D> immutablePointSet2D(final Precision.DoubleEquivalence precision,
+            final Collection<Vector2D> pts) {
+        final PointMap<Vector2D, Object> unique = pointMap2D(precision);
+        for (final Vector2D pt : pts) {
+            unique.putIfAbsent(pt, Boolean.TRUE);
+        }
+
+        return new PointMapAsSetAdapter<>(new ImmutablePointMap2DImpl<>(unique.entrySet(), precision));
+    }
+
+    /** Construct a new immutable 2D {@link PointMap} instance containing the entries in the given
+     * map, using the given precision context to determine equality between points. If the keys
+     * of multiple entries are equivalent, the entry encountered last in the map iteration order
+     * determines the value for the key encountered first. The returned map is intended for maps
+     * that are built once and then queried many times: entries are stored in a balanced tree
+     * laid out in flat arrays, giving good memory locality for queries and no modification
+     * checks. All methods that would modify the map throw {@link UnsupportedOperationException}.
+     *
+     * <p>The returned instance is immutable and may be safely read from multiple threads
+     * concurrently without synchronization.</p>
+     * @param <V> Map value type
+     * @param precision precision context used to determine point equality
+     * @param map map containing the entries to copy
+     * @return new immutable 2D point map instance
+     * @throws IllegalArgumentException if any key is not finite
+     */
+    public static <V> PointMap<Vector2D, V> immutablePointMap2D(final Precision.DoubleEquivalence precision,
+            final Map<Vector2D, ? extends V> map) {
+        final PointMap<Vector2D, V> unique = pointMap2D(precision);
+        unique.putAll(map);
+
+        return new ImmutablePointMap2DImpl<>(unique.entrySet(), precision);
+    }
+
+    /** Find the entry with the key nearest to each of the given query points in a single batch
+     * operation. The returned list contains the result of {@link PointMap#nearestEntry(
+     * org.apache.commons.geometry.core.Point) map.nearestEntry(pt)} for each query point,
+     * in the same order as the query points. The queries are sorted by the Morton (Z-order)
+     * code of the query points so that consecutive queries access nearby regions of the map
+     * and are then executed in parallel using {@link java.util.concurrent.ForkJoinPool
+     * ForkJoinPool} tasks. The tasks are run in the common pool unless this method is called
+     * from within a task running in another pool.
+     *
+     * <p>The map must not be modified while this method is running.</p>
+     * @param <V> Map value type
+     * @param map map to query
+     * @param pts query points
+     * @return unmodifiable list containing the nearest entry for each query point; elements
+     *      are {@code null} if the map is empty
+     * @throws IllegalArgumentException if any query point is not finite
+     */
+    public static <V> List<Map.Entry<Vector2D, V>> nearestEntries2D(final PointMap<Vector2D, V> map,
+            final List<Vector2D> pts) {
+        return BatchPointQueries.query2D(pts, map::nearestEntry);
+    }
+
+    /** Find the {@code k} entries with the keys nearest to each of the given query points in a
+     * single batch operation. Each element of the returned list contains the first {@code k}
+     * entries of {@link PointMap#entriesNearToFar(org.apache.commons.geometry.core.Point)
+     * map.entriesNearToFar(pt)} for the corresponding query point. Queries are ordered and
+     * executed in parallel as described in {@link #nearestEntries2D(PointMap, List)}.
+     *
+     * <p>The map must not be modified while this method is running.</p>
+     * @param <V> Map value type
+     * @param map map to query
+     * @param pts query points
+     * @param k maximum number of entries to return for each query point
+     * @return unmodifiable list containing an unmodifiable list of at most {@code k}
+     *      entries in order of increasing distance for each query point
+     * @throws IllegalArgumentException if any query point is not finite or {@code k} is
+     *      less than one
+     */
+    public static <V> List<List<Map.Entry<Vector2D, V>>> nearestEntries2D(final PointMap<Vector2D, V> map,
+            final List<Vector2D> pts, final int k) {
+        BatchPointQueries.validateNeighborCount(k);
+        return BatchPointQueries.query2D(pts, pt -> BatchPointQueries.first(map.entriesNearToFar(pt), k));
+    }
+
+    /** Find the point nearest to each of the given query points in a single batch operation.
+     * The returned list contains the result of {@link PointSet#nearest(
+     * org.apache.commons.geometry.core.Point) set.nearest(pt)} for each query point, in the
+     * same order as the query points. Queries are ordered and executed in parallel as described
+     * in {@link #nearestEntries2D(PointMap, List)}.
+     *
+     * <p>The set must not be modified while this method is running.</p>
+     * @param set set to query
+     * @param pts query points
+     * @return unmodifiable list containing the nearest point for each query point; elements
+     *      are {@code null} if the set is empty
+     * @throws IllegalArgumentException if any query point is not finite
+     */
+    public static List<Vector2D> nearestPoints2D(final PointSet<Vector2D> set, final List<Vector2D> pts) {
+        return BatchPointQueries.query2D(pts, set::nearest);
+    }
+
+    /** Find the {@code k} points nearest to each of the given query points in a single batch
+     * operation. Each element of the returned list contains the first {@code k} points of
+     * {@link PointSet#nearToFar(org.apache.commons.geometry.core.Point) set.nearToFar(pt)}
+     * for the corresponding query point. Queries are ordered and executed in parallel as
+     * described in {@link #nearestEntries2D(PointMap, List)}.
+     *
+     * <p>The set must not be modified while this method is running.</p>
+     * @param set set to query
+     * @param pts query points
+     * @param k maximum number of points to return for each query point
+     * @return unmodifiable list containing an unmodifiable list of at most {@code k}
+     *      points in order of increasing distance for each query point
+     * @throws IllegalArgumentException if any query point is not finite or {@code k} is
+     *      less than one
+     */
+    public static List<List<Vector2D>> nearestPoints2D(final PointSet<Vector2D> set,
+            final List<Vector2D> pts, final int k) {
+        BatchPointQueries.validateNeighborCount(k);
+        return BatchPointQueries.query2D(pts, pt -> BatchPointQueries.first(set.nearToFar(pt), k));
+    }
+
     /** Construct a new 3D {@link PointSet} instance using the given precision context to determine
      * equality between points.
      *
@@ -99,4 +341,210 @@ public final class EuclideanCollections {
     public static <V> PointMap<Vector3D, V> pointMap3D(final Precision.DoubleEquivalence precision) {
         return new PointMap3DImpl<>(precision);
     }
+
+    /** Construct a new 3D {@link PointSet} instance using the given precision context to determine
+     * equality between points and the given strategy to determine the underlying data structure.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param precision precision context used to determine point equality
+     * @param strategy data structure strategy
+     * @return new 3D point set instance
+     */
+    public static PointSet<Vector3D> pointSet3D(final Precision.DoubleEquivalence precision,
+            final PointMapStrategy strategy) {
+        return new PointMapAsSetAdapter<>(pointMap3D(precision, strategy));
+    }
+
+    /** Construct a new 3D {@link PointMap} instance using the given precision context to determine
+     * equality between points and the given strategy to determine the underlying data structure.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param <V> Map value type
+     * @param precision precision context used to determine point equality
+     * @param strategy data structure strategy
+     * @return new 3D point map instance
+     */
+    public static <V> PointMap<Vector3D, V> pointMap3D(final Precision.DoubleEquivalence precision,
+            final PointMapStrategy strategy) {
+        switch (strategy) {
+        case KD_TREE:
+            return new KDTreePointMap3DImpl<>(precision);
+        default:
+            return new PointMap3DImpl<>(precision);
+        }
+    }
+
+    /** Construct a new 3D {@link PointSet} instance that stores points in a uniform grid of
+     * cubes with side length {@code cellSize}, using the given precision context to determine
+     * equality between points. Locating the grid cell for a point is a constant-time hash
+     * lookup, making this data structure a good fit for large numbers of roughly evenly
+     * distributed points when the typical point spacing is known. The cell size should be
+     * on the order of that spacing; very small cells relative to the point spacing lead to
+     * many empty cells being examined during distance-ordered searches.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param precision precision context used to determine point equality
+     * @param cellSize side length of the grid cells; must be greater than the precision
+     *      epsilon so that equivalent points are always located in the same or adjacent cells
+     * @return new 3D point set instance
+     * @throws IllegalArgumentException if {@code cellSize} is not finite or is not
+     *      greater than zero as evaluated by {@code precision}
+     */
+    public static PointSet<Vector3D> gridPointSet3D(final Precision.DoubleEquivalence precision,
+            final double cellSize) {
+        return new PointMapAsSetAdapter<>(gridPointMap3D(precision, cellSize));
+    }
+
+    /** Construct a new 3D {@link PointMap} instance that stores keys in a uniform grid of
+     * cubes with side length {@code cellSize}, using the given precision context to determine
+     * equality between points. Locating the grid cell for a point is a constant-time hash
+     * lookup, making this data structure a good fit for large numbers of roughly evenly
+     * distributed points when the typical point spacing is known. The cell size should be
+     * on the order of that spacing; very small cells relative to the point spacing lead to
+     * many empty cells being examined during distance-ordered searches.
+     *
+     * <p>NOTE: The returned instance is <em>not</em> thread-safe.</p>
+     * @param <V> Map value type
+     * @param precision precision context used to determine point equality
+     * @param cellSize side length of the grid cells; must be greater than the precision
+     *      epsilon so that equivalent points are always located in the same or adjacent cells
+     * @return new 3D point map instance
+     * @throws IllegalArgumentException if {@code cellSize} is not finite or is not
+     *      greater than zero as evaluated by {@code precision}
+     */
+    public static <V> PointMap<Vector3D, V> gridPointMap3D(final Precision.DoubleEquivalence precision,
+            final double cellSize) {
+        return new GridPointMap3DImpl<>(
+                AbstractGridPointMap.validateCellSize(cellSize, precision), precision);
+    }
+
+    /** Construct a new immutable 3D {@link PointSet} instance containing the points in the given
+     * collection, using the given precision context to determine equality between points. Points
+     * equivalent to a point earlier in the collection are ignored. The returned set is
+     * intended for sets that are built once and then queried many times: points are stored in
+     * a balanced tree laid out in flat arrays, giving good memory locality for queries.
+     * All methods that would modify the set throw {@link UnsupportedOperationException}.
+     *
+     * <p>The returned instance is immutable and may be safely read from multiple threads
+     * concurrently without synchronization.</p>
+     * @param precision precision context used to determine point equality
+     * @param pts points to add to the set
+     * @return new immutable 3D point set instance
+     * @throws IllegalArgumentException if any point is not finite
+     */
+    public static PointSet<Vector3D> immutablePointSet3D(final Precision.DoubleEquivalence precision,
+            final Collection<Vector3D> pts) {
+        final PointMap<Vector3D, Object> unique = pointMap3D(precision);
+        for (final Vector3D pt : pts) {
+            unique.putIfAbsent(pt, Boolean.TRUE);
+        }
+
+        return new PointMapAsSetAdapter<>(new ImmutablePointMap3DImpl<>(unique.entrySet(), precision));
+    }
+
+    /** Construct a new immutable 3D {@link PointMap} instance containing the entries in the given
+     * map, using the given precision context to determine equality between points. If the keys
+     * of multiple entries are equivalent, the entry encountered last in the map iteration order
+     * determines the value for the key encountered first. The returned map is intended for maps
+     * that are built once and then queried many times: entries are stored in a balanced tree
+     * laid out in flat arrays, giving good memory locality for queries and no modification
+     * checks. All methods that would modify the map throw {@link UnsupportedOperationException}.
+     *
+     * <p>The returned instance is immutable and may be safely read from multiple threads
+     * concurrently without synchronization.</p>
+     * @param <V> Map value type
+     * @param precision precision context used to determine point equality
+     * @param map map containing the entries to copy
+     * @return new immutable 3D point map instance
+     * @throws IllegalArgumentException if any key is not finite
+     */
+    public static <V> PointMap<Vector3D, V> immutablePointMap3D(final Precision.DoubleEquivalence precision,
+            final Map<Vector3D, ? extends V> map) {
+        final PointMap<Vector3D, V> unique = pointMap3D(precision);
+        unique.putAll(map);
+
+        return new ImmutablePointMap3DImpl<>(unique.entrySet(), precision);
+    }
+
+    /** Find the entry with the key nearest to each of the given query points in a single batch
+     * operation. The returned list contains the result of {@link PointMap#nearestEntry(
+     * org.apache.commons.geometry.core.Point) map.nearestEntry(pt)} for each query point,
+     * in the same order as the query points. The queries are sorted by the Morton (Z-order)
+     * code of the query points so that consecutive queries access nearby regions of the map
+     * and are then executed in parallel using {@link java.util.concurrent.ForkJoinPool
+     * ForkJoinPool} tasks. The tasks are run in the common pool unless this method is called
+     * from within a task running in another pool.
+     *
+     * <p>The map must not be modified while this method is running.</p>
+     * @param <V> Map value type
+     * @param map map to query
+     * @param pts query points
+     * @return unmodifiable list containing the nearest entry for each query point; elements
+     *      are {@code null} if the map is empty
+     * @throws IllegalArgumentException if any query point is not finite
+     */
+    public static <V> List<Map.Entry<Vector3D, V>> nearestEntries3D(final PointMap<Vector3D, V> map,
+            final List<Vector3D> pts) {
+        return BatchPointQueries.query3D(pts, map::nearestEntry);
+    }
+
+    /** Find the {@code k} entries with the keys nearest to each of the given query points in a
+     * single batch operation. Each element of the returned list contains the first {@code k}
+     * entries of {@link PointMap#entriesNearToFar(org.apache.commons.geometry.core.Point)
+     * map.entriesNearToFar(pt)} for the corresponding query point. Queries are ordered and
+     * executed in parallel as described in {@link #nearestEntries3D(PointMap, List)}.
+     *
+     * <p>The map must not be modified while this method is running.</p>
+     * @param <V> Map value type
+     * @param map map to query
+     * @param pts query points
+     * @param k maximum number of entries to return for each query point
+     * @return unmodifiable list containing an unmodifiable list of at most {@code k}
+     *      entries in order of increasing distance for each query point
+     * @throws IllegalArgumentException if any query point is not finite or {@code k} is
+     *      less than one
+     */
+    public static <V> List<List<Map.Entry<Vector3D, V>>> nearestEntries3D(final PointMap<Vector3D, V> map,
+            final List<Vector3D> pts, final int k) {
+        BatchPointQueries.validateNeighborCount(k);
+        return BatchPointQueries.query3D(pts, pt -> BatchPointQueries.first(map.entriesNearToFar(pt), k));
+    }
+
+    /** Find the point nearest to each of the given query points in a single batch operation.
+     * The returned list contains the result of {@link PointSet#nearest(
+     * org.apache.commons.geometry.core.Point) set.nearest(pt)} for each query point, in the
+     * same order as the query points. Queries are ordered and executed in parallel as described
+     * in {@link #nearestEntries3D(PointMap, List)}.
+     *
+     * <p>The set must not be modified while this method is running.</p>
+     * @param set set to query
+     * @param pts query points
+     * @return unmodifiable list containing the nearest point for each query point; elements
+     *      are {@code null} if the set is empty
+     * @throws IllegalArgumentException if any query point is not finite
+     */
+    public static List<Vector3D> nearestPoints3D(final PointSet<Vector3D> set, final List<Vector3D> pts) {
+        return BatchPointQueries.query3D(pts, set::nearest);
+    }
+
+    /** Find the {@code k} points nearest to each of the given query points in a single batch
+     * operation. Each element of the returned list contains the first {@code k} points of
+     * {@link PointSet#nearToFar(org.apache.commons.geometry.core.Point) set.nearToFar(pt)}
+     * for the corresponding query point. Queries are ordered and executed in parallel as
+     * described in {@link #nearestEntries3D(PointMap, List)}.
+     *
+     * <p>The set must not be modified while this method is running.</p>
+     * @param set set to query
+     * @param pts query points
+     * @param k maximum number of points to return for each query point
+     * @return unmodifiable list containing an unmodifiable list of at most {@code k}
+     *      points in order of increasing distance for each query point
+     * @throws IllegalArgumentException if any query point is not finite or {@code k} is
+     *      less than one
+     */
+    public static List<List<Vector3D>> nearestPoints3D(final PointSet<Vector3D> set,
+            final List<Vector3D> pts, final int k) {
+        BatchPointQueries.validateNeighborCount(k);
+        return BatchPointQueries.query3D(pts, pt -> BatchPointQueries.first(set.nearToFar(pt), k));
+    }
 }
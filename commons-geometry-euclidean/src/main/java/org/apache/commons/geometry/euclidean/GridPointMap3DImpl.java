@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean;
+
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.core.Precision;
+
+/** Internal {@link PointMap} implementation for Euclidean 3D space using a uniform
+ * grid of cubic cells.
+ * @param <V> Map value type
+ */
+final class GridPointMap3DImpl<V>
+    extends AbstractGridPointMap<Vector3D, V>
+    implements PointMap<Vector3D, V> {
+
+    /** Space dimension. */
+    private static final int DIMENSION = 3;
+
+    /** Construct a new instance using the given cell size and precision context
+     * to determine floating point equality.
+     * @param cellSize side length of the grid cells; must have been validated with
+     *      {@link AbstractGridPointMap#validateCellSize(double, Precision.DoubleEquivalence)}
+     * @param precision precision context
+     */
+    GridPointMap3DImpl(final double cellSize, final Precision.DoubleEquivalence precision) {
+        super(DIMENSION, cellSize, precision);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected double getCoordinate(final Vector3D pt, final int dim) {
+        switch (dim) {
+        case 0:
+            return pt.getX();
+        case 1:
+            return pt.getY();
+        default:
+            return pt.getZ();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean pointsEq(final Vector3D a, final Vector3D b) {
+        return a.eq(b, getPrecision());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int disambiguatePointComparison(final Vector3D a, final Vector3D b) {
+        return Vector3D.COORDINATE_ASCENDING_ORDER.compare(a, b);
+    }
+}
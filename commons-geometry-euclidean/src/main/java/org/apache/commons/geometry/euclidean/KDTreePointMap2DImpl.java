@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.core.internal.AbstractBucketPointMap;
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+import org.apache.commons.geometry.euclidean.twod.Vector2D;
+import org.apache.commons.numbers.core.Precision;
+
+/** Internal {@link PointMap} implementation for Euclidean 2D space using a bucket
+ * kd-tree. Each internal node splits its region into two halves at the median of the
+ * node entries along the dimension with the largest entry spread. Nodes also track the
+ * bounding box of the entries inserted into them, which is used to compute distance bounds
+ * for nearest and farthest entry queries.
+ * @param <V> Map value type
+ */
+final class KDTreePointMap2DImpl<V>
+    extends AbstractBucketPointMap<Vector2D, V>
+    implements PointMap<Vector2D, V> {
+
+    /** Number of children per node. */
+    private static final int NODE_CHILD_COUNT = 2;
+
+    /** Max entries per node. */
+    private static final int MAX_ENTRIES_PER_NODE = 16;
+
+    /** Negative side flag. */
+    private static final int NEG = 1 << 1;
+
+    /** Positive side flag. */
+    private static final int POS = 1;
+
+    /** Location flags for child nodes. */
+    private static final int[] CHILD_LOCATIONS = {
+        NEG,
+        POS
+    };
+
+    /** Construct a new instance using the given precision context to determine
+     * floating point equality.
+     * @param precision precision context
+     */
+    KDTreePointMap2DImpl(final Precision.DoubleEquivalence precision) {
+        super(KDNode2D::new,
+                MAX_ENTRIES_PER_NODE,
+                NODE_CHILD_COUNT,
+                precision);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean pointsEq(final Vector2D a, final Vector2D b) {
+        return a.eq(b, getPrecision());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int disambiguatePointComparison(final Vector2D a, final Vector2D b) {
+        return Vector2D.COORDINATE_ASCENDING_ORDER.compare(a, b);
+    }
+
+    /** Get the coordinate of {@code pt} along the given dimension.
+     * @param pt point
+     * @param dim dimension index; 0 for x and 1 for y
+     * @return coordinate value along the dimension
+     */
+    private static double getCoordinate(final Vector2D pt, final int dim) {
+        return dim == 0 ?
+                pt.getX() :
+                pt.getY();
+    }
+
+    /** Tree node class for {@link KDTreePointMap2DImpl}.
+     * @param <V> Map value type
+     */
+    private static final class KDNode2D<V> extends BucketNode<Vector2D, V> {
+
+        /** Child nodes, indexed by child index; only valid for internal nodes. Elements
+         * may be {@code null}.
+         */
+        private KDNode2D<V>[] kdChildren;
+
+        /** Split dimension; only valid for internal nodes. */
+        private int splitDimension;
+
+        /** Split coordinate value; only valid for internal nodes. */
+        private double split;
+
+        /** Minimum x coordinate of the entries inserted into this node. */
+        private double minX = Double.POSITIVE_INFINITY;
+
+        /** Minimum y coordinate of the entries inserted into this node. */
+        private double minY = Double.POSITIVE_INFINITY;
+
+        /** Maximum x coordinate of the entries inserted into this node. */
+        private double maxX = Double.NEGATIVE_INFINITY;
+
+        /** Maximum y coordinate of the entries inserted into this node. */
+        private double maxY = Double.NEGATIVE_INFINITY;
+
+        /** Construct a new instance.
+         * @param map owning map
+         * @param parent parent node; set to null for the root node
+         * @param childIndex index of this node in its parent's child list;
+         *      set to {@code -1} for the root node
+         */
+        KDNode2D(final AbstractBucketPointMap<Vector2D, V> map,
+                final BucketNode<Vector2D, V> parent,
+                final int childIndex) {
+            super(map, parent, childIndex);
+
+            if (parent != null) {
+                ((KDNode2D<V>) parent).kdChildren[childIndex] = this;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void insertEntry(final Entry<Vector2D, V> entry) {
+            super.insertEntry(entry);
+
+            // expand the bounds after insertion since the node may have been split during
+            // the call, which resets the bounds to those of the previously existing entries
+            expandBounds(entry.getKey());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void append(final Entry<Vector2D, V> entry) {
+            expandBounds(entry.getKey());
+            super.append(entry);
+        }
+
+        /** {@inheritDoc} */
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void computeSplit() {
+            final int count = getEntryCount();
+            final double[][] coords = new double[2][count];
+
+            // recompute the entry bounds from the current node entries since the existing
+            // bounds may be larger than needed if entries have been removed
+            resetBounds();
+
+            int i = 0;
+            for (final Entry<Vector2D, V> entry : this) {
+                final Vector2D pt = entry.getKey();
+                expandBounds(pt);
+
+                coords[0][i] = pt.getX();
+                coords[1][i] = pt.getY();
+                ++i;
+            }
+
+            // split along the dimension with the largest spread
+            splitDimension = 0;
+            if (maxY - minY > maxX - minX) {
+                splitDimension = 1;
+            }
+
+            split = computeMedianSplit(coords[splitDimension]);
+            kdChildren = new KDNode2D[NODE_CHILD_COUNT];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int getSearchLocation(final Vector2D pt) {
+            return getSearchLocationValue(
+                    getPrecision().compare(getCoordinate(pt, splitDimension), split),
+                    NEG,
+                    POS);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int getInsertLocation(final Vector2D pt) {
+            return getInsertLocationValue(
+                    Double.compare(getCoordinate(pt, splitDimension), split),
+                    NEG,
+                    POS);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean testChildLocation(final int childIdx, final int loc) {
+            final int childLoc = CHILD_LOCATIONS[childIdx];
+            return (childLoc & loc) == childLoc;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void makeLeaf(final List<Entry<Vector2D, V>> leafEntries) {
+            super.makeLeaf(leafEntries);
+
+            kdChildren = null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected double getMinChildDistance(final int childIdx, final Vector2D pt, final int ptLoc) {
+            final KDNode2D<V> child = kdChildren[childIdx];
+            return Vectors.norm(
+                    getMinDistance(pt.getX(), child.minX, child.maxX),
+                    getMinDistance(pt.getY(), child.minY, child.maxY));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected double getMaxChildDistance(final int childIdx, final Vector2D pt, final int ptLoc) {
+            final KDNode2D<V> child = kdChildren[childIdx];
+            return Vectors.norm(
+                    getMaxDistance(pt.getX(), child.minX, child.maxX),
+                    getMaxDistance(pt.getY(), child.minY, child.maxY));
+        }
+
+        /** Reset the entry bounding box of this node to an empty state.
+         */
+        private void resetBounds() {
+            minX = Double.POSITIVE_INFINITY;
+            minY = Double.POSITIVE_INFINITY;
+
+            maxX = Double.NEGATIVE_INFINITY;
+            maxY = Double.NEGATIVE_INFINITY;
+        }
+
+        /** Expand the entry bounding box of this node to include the given point.
+         * @param pt point to include
+         */
+        private void expandBounds(final Vector2D pt) {
+            final double x = pt.getX();
+            final double y = pt.getY();
+
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+
+        /** Get the distance along a single axis from {@code n} to the interval
+         * {@code [a, b]}. Zero is returned if the value lies in the interval.
+         * @param n test coordinate
+         * @param a interval minimum
+         * @param b interval maximum
+         * @return distance from {@code n} to the interval
+         */
+        private static double getMinDistance(final double n, final double a, final double b) {
+            if (n < a) {
+                return a - n;
+            } else if (n > b) {
+                return n - b;
+            }
+            return 0d;
+        }
+
+        /** Compute a split value for the given array of coordinates. The returned value
+         * is the coordinate closest to the median that is strictly less than some other
+         * coordinate in the array, ensuring that entries are present on both sides of the
+         * split.
+         * @param values coordinate values; must contain at least two distinct values
+         * @return split value
+         */
+        private static double computeMedianSplit(final double[] values) {
+            Arrays.sort(values);
+
+            final int mid = (values.length - 1) / 2;
+            int offset = 0;
+            while (true) {
+                final int above = mid + offset;
+                if (above + 1 < values.length && values[above] < values[above + 1]) {
+                    return values[above];
+                }
+
+                final int below = mid - offset - 1;
+                if (below >= 0 && values[below] < values[below + 1]) {
+                    return values[below];
+                }
+
+                ++offset;
+            }
+        }
+    }
+}
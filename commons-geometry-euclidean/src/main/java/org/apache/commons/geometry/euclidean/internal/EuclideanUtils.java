@@ -22,8 +22,11 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.angle.Angle;
+import org.apache.commons.numbers.core.Sum;
 
 /** Class containing utilities and algorithms intended to be internal to the library.
  * Absolutely no guarantees are made regarding the stability of this API.
@@ -33,6 +36,33 @@ public final class EuclideanUtils {
     /** Number of vertices in a triangle, i.e. {@code 3}. */
     public static final int TRIANGLE_VERTEX_COUNT = 3;
 
+    /** Maximum absolute error, in radians, of the angle approximation methods in this class. */
+    public static final double APPROXIMATE_ANGLE_ERROR = 1e-7;
+
+    /** Number of consecutive points summed sequentially as a single parallel work item
+     * in {@link #sumPackedCoordinates(double[], int)}.
+     */
+    private static final int SUM_BLOCK_SIZE = 4096;
+
+    /** Number of consecutive points processed sequentially as a single parallel work item
+     * in {@link #forEachPointBlock(int, PointRangeConsumer)}.
+     */
+    private static final int POINT_BLOCK_SIZE = 4096;
+
+    /** Coefficients of the even powers 2 through 16 of the polynomial approximation of {@code atan(a)}
+     * for {@code a} in the range {@code [0, 1]}, from Abramowitz and Stegun, formula 4.4.49.
+     */
+    private static final double[] ATAN_COEFFS = {
+        -0.3333314528,
+        0.1999355085,
+        -0.1420889944,
+        0.1065626393,
+        -0.0752896400,
+        0.0429096138,
+        -0.0161657367,
+        0.0028662257
+    };
+
     /** Utility class; no instantiation. */
     private EuclideanUtils() { }
 
@@ -81,6 +111,173 @@ public final class EuclideanUtils {
         return triangles;
     }
 
+    /** Get the number of points stored in the given packed coordinate array, i.e. an array
+     * containing the coordinates of each point in sequence with no gaps between them.
+     * @param coords packed coordinate array
+     * @param dimension number of coordinates per point
+     * @return number of points in the array
+     * @throws IllegalArgumentException if the array length is not a multiple of {@code dimension}
+     */
+    public static int getPackedPointCount(final double[] coords, final int dimension) {
+        if (coords.length % dimension != 0) {
+            throw new IllegalArgumentException("Packed coordinate array length must be a multiple of " +
+                    dimension + "; was " + coords.length);
+        }
+        return coords.length / dimension;
+    }
+
+    /** Check that the given array contains {@code count} points starting at index {@code offset}, with
+     * the coordinates of consecutive points beginning {@code stride} indices apart.
+     * @param coords coordinate array
+     * @param offset index of the first coordinate of the first point
+     * @param stride number of array indices between the first coordinates of consecutive points
+     * @param count number of points
+     * @param dimension number of coordinates per point
+     * @throws IllegalArgumentException if {@code count} is negative or {@code stride} is
+     *      less than {@code dimension}
+     * @throws IndexOutOfBoundsException if the points do not lie entirely within the array
+     */
+    public static void checkCoordinateArrayRange(final double[] coords, final int offset, final int stride,
+            final int count, final int dimension) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid point count: " + count);
+        }
+        if (stride < dimension) {
+            throw new IllegalArgumentException("Invalid stride: " + stride);
+        }
+        if (count > 0) {
+            final long end = offset + ((count - 1L) * stride) + dimension;
+            if (offset < 0 || end > coords.length) {
+                throw new IndexOutOfBoundsException("Coordinate array range [" + offset + ", " + end +
+                        ") is out of bounds for array length " + coords.length);
+            }
+        }
+    }
+
+    /** Divide the point index range {@code [0, count)} into blocks of a fixed size and pass each block
+     * to the given function. If there is more than one block, the blocks are processed in parallel.
+     * @param count number of points
+     * @param fn function accepting the index of the first point in each block and the number of points
+     *      in the block
+     */
+    public static void forEachPointBlock(final int count, final PointRangeConsumer fn) {
+        final int blockCount = (count + POINT_BLOCK_SIZE - 1) / POINT_BLOCK_SIZE;
+
+        IntStream blocks = IntStream.range(0, blockCount);
+        if (blockCount > 1) {
+            blocks = blocks.parallel();
+        }
+        blocks.forEach(block -> {
+            final int start = block * POINT_BLOCK_SIZE;
+            fn.accept(start, Math.min(count - start, POINT_BLOCK_SIZE));
+        });
+    }
+
+    /** Compute an approximation of {@code Math.atan2(y, x)}. The result differs from the value returned
+     * by {@link Math#atan2(double, double)} by at most {@value #APPROXIMATE_ANGLE_ERROR} radians for all
+     * finite arguments. Infinite and NaN arguments and the case where both arguments are zero are delegated
+     * to {@link Math#atan2(double, double)}, so the special case behavior of the two methods is identical.
+     * @param y ordinate
+     * @param x abscissa
+     * @return approximation of the angle in polar coordinates of the point {@code (x, y)}
+     */
+    public static double approximateAtan2(final double y, final double x) {
+        final double ax = Math.abs(x);
+        final double ay = Math.abs(y);
+        final double max = Math.max(ax, ay);
+        if (!(max > 0.0 && max < Double.POSITIVE_INFINITY)) {
+            return Math.atan2(y, x);
+        }
+
+        // reduce to an argument in [0, 1] and evaluate the polynomial approximation
+        // from Abramowitz and Stegun, formula 4.4.49
+        final double a = Math.min(ax, ay) / max;
+        final double s = a * a;
+        double r = a * (1.0 + s * (ATAN_COEFFS[0] + s * (ATAN_COEFFS[1] + s * (ATAN_COEFFS[2] +
+                s * (ATAN_COEFFS[3] + s * (ATAN_COEFFS[4] + s * (ATAN_COEFFS[5] +
+                s * (ATAN_COEFFS[6] + s * ATAN_COEFFS[7]))))))));
+
+        if (ay > ax) {
+            r = Angle.PI_OVER_TWO - r;
+        }
+        if (x < 0.0) {
+            r = Math.PI - r;
+        }
+        return Math.copySign(r, y);
+    }
+
+    /** Compute an approximation of {@code Math.acos(x)}. The result differs from the value returned
+     * by {@link Math#acos(double)} by at most {@value #APPROXIMATE_ANGLE_ERROR} radians for all arguments
+     * in the range {@code [-1, 1]}. NaN is returned for NaN arguments and arguments outside of this range.
+     * @param x cosine of the angle
+     * @return approximation of the angle in the range {@code [0, pi]} whose cosine is {@code x}
+     */
+    public static double approximateAcos(final double x) {
+        if (!(x >= -1.0 && x <= 1.0)) {
+            return Double.NaN;
+        }
+        // (1 - x) * (1 + x) is computed more accurately near the poles than 1 - x^2
+        return approximateAtan2(Math.sqrt((1.0 - x) * (1.0 + x)), x);
+    }
+
+    /** Compute the sum of the coordinates of the points in the given packed coordinate array
+     * for each dimension using extended precision accumulation. The points are divided into
+     * blocks of a fixed size, which are summed in parallel; the block sums are then combined
+     * in block order. Since the block boundaries and the combination order do not depend on the
+     * number of threads used, the result is deterministic.
+     * @param coords packed coordinate array
+     * @param dimension number of coordinates per point
+     * @return array of length {@code dimension} containing the coordinate sums for each dimension
+     * @throws IllegalArgumentException if the array length is not a multiple of {@code dimension}
+     */
+    public static double[] sumPackedCoordinates(final double[] coords, final int dimension) {
+        final int count = getPackedPointCount(coords, dimension);
+        final int blockCount = (count + SUM_BLOCK_SIZE - 1) / SUM_BLOCK_SIZE;
+
+        final Sum[][] blockSums = new Sum[blockCount][];
+        IntStream blocks = IntStream.range(0, blockCount);
+        if (blockCount > 1) {
+            blocks = blocks.parallel();
+        }
+        blocks.forEach(block -> {
+            final Sum[] sums = createSums(dimension);
+
+            final int end = Math.min(count, (block + 1) * SUM_BLOCK_SIZE) * dimension;
+            for (int i = block * SUM_BLOCK_SIZE * dimension; i < end; i += dimension) {
+                for (int d = 0; d < dimension; ++d) {
+                    sums[d].add(coords[i + d]);
+                }
+            }
+
+            blockSums[block] = sums;
+        });
+
+        final Sum[] total = createSums(dimension);
+        for (final Sum[] sums : blockSums) {
+            for (int d = 0; d < dimension; ++d) {
+                total[d].add(sums[d]);
+            }
+        }
+
+        final double[] result = new double[dimension];
+        for (int d = 0; d < dimension; ++d) {
+            result[d] = total[d].getAsDouble();
+        }
+        return result;
+    }
+
+    /** Create an array of {@code count} new, zero-valued sum instances.
+     * @param count number of sums
+     * @return array of new sums
+     */
+    private static Sum[] createSums(final int count) {
+        final Sum[] sums = new Sum[count];
+        for (int i = 0; i < count; ++i) {
+            sums[i] = Sum.create();
+        }
+        return sums;
+    }
+
     /** Find the index of the best vertex to use as the base for a triangle fan split of the convex polygon
      * defined by the given vertices. The best vertex is the one that forms the largest interior angle in the
      * polygon since a split at that point will help prevent the creation of very thin triangles.
@@ -127,4 +324,17 @@ public final class EuclideanUtils {
 
         return bestIdx;
     }
+
+    /** Function accepting a range of point indices.
+     * @see EuclideanUtils#forEachPointBlock(int, PointRangeConsumer)
+     */
+    @FunctionalInterface
+    public interface PointRangeConsumer {
+
+        /** Accept the given range of point indices.
+         * @param start index of the first point in the range
+         * @param count number of points in the range
+         */
+        void accept(int start, int count);
+    }
 }
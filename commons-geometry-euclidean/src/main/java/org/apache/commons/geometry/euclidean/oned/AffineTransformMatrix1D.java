@@ -19,6 +19,7 @@ package org.apache.commons.geometry.euclidean.oned;
 import java.util.function.UnaryOperator;
 
 import org.apache.commons.geometry.euclidean.AbstractAffineTransformMatrix;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.geometry.euclidean.internal.Matrices;
 import org.apache.commons.geometry.euclidean.internal.Vectors;
 
@@ -95,6 +96,54 @@ public final class AffineTransformMatrix1D extends AbstractAffineTransformMatrix
         return applyVectorX(x) + m01;
     }
 
+    /** Apply this transform in place to each of the point coordinates in the given array.
+     * The computed values are identical to those produced by {@link #apply(Vector1D)} but no
+     * intermediate objects are created.
+     * @param coords coordinate array to transform in place
+     * @see #apply(double[], int, int, double[], int, int, int)
+     */
+    public void apply(final double[] coords) {
+        apply(coords, 0, 1, coords, 0, 1, coords.length);
+    }
+
+    /** Apply this transform to {@code count} point coordinates read from the array {@code src} and
+     * write the results to the array {@code dst}. The coordinate of point {@code i} is read from index
+     * {@code srcOffset + (i * srcStride)} of {@code src} and the transformed coordinate is written to
+     * index {@code dstOffset + (i * dstStride)} of {@code dst}. The computed values are identical to
+     * those produced by {@link #apply(Vector1D)} but no intermediate objects are created.
+     *
+     * <p>The source and destination arrays may be the same array, in which case the points are
+     * transformed in place if the offsets and strides are equal. Results are undefined if the
+     * source and destination ranges otherwise overlap.</p>
+     * @param src source coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param srcStride number of indices between consecutive coordinates in {@code src}
+     * @param dst destination coordinate array
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param dstStride number of indices between consecutive coordinates in {@code dst}
+     * @param count number of points to transform
+     * @throws IllegalArgumentException if {@code count} is negative or either stride is less than 1
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public void apply(final double[] src, final int srcOffset, final int srcStride,
+            final double[] dst, final int dstOffset, final int dstStride, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, srcStride, count, 1);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, dstStride, count, 1);
+
+        final double a00 = m00;
+        final double a01 = m01;
+
+        int s = srcOffset;
+        int d = dstOffset;
+        for (int i = 0; i < count; ++i) {
+            dst[d] = (src[s] * a00) + a01;
+
+            s += srcStride;
+            d += dstStride;
+        }
+    }
+
     /** {@inheritDoc}
      * @see #applyDirection(Vector1D)
      */
@@ -20,6 +20,7 @@ import java.util.function.UnaryOperator;
 
 import org.apache.commons.geometry.core.internal.DoubleFunction3N;
 import org.apache.commons.geometry.euclidean.AbstractAffineTransformMatrix;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.geometry.euclidean.internal.Matrices;
 import org.apache.commons.geometry.euclidean.internal.Vectors;
 import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
@@ -36,6 +37,9 @@ public final class AffineTransformMatrix3D extends AbstractAffineTransformMatrix
     /** The number of internal matrix elements. */
     private static final int NUM_ELEMENTS = 12;
 
+    /** The number of coordinates per point in packed coordinate arrays. */
+    private static final int DIMENSION = 3;
+
     /** String used to start the transform matrix string representation. */
     private static final String MATRIX_START = "[ ";
 
@@ -204,6 +208,118 @@ public final class AffineTransformMatrix3D extends AbstractAffineTransformMatrix
         return applyVectorZ(x, y, z) + m23;
     }
 
+    /** Apply this transform in place to the points stored in the given packed coordinate array.
+     * The array must contain the coordinates of each point in sequence, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]</code>.
+     * The computed values are identical to those produced by {@link #apply(Vector3D)} but no
+     * intermediate objects are created.
+     * @param coords packed coordinate array to transform in place
+     * @throws IllegalArgumentException if the array length is not a multiple of 3
+     * @see #apply(double[], int, int, double[], int, int, int)
+     */
+    public void apply(final double[] coords) {
+        final int count = EuclideanUtils.getPackedPointCount(coords, DIMENSION);
+        apply(coords, 0, DIMENSION, coords, 0, DIMENSION, count);
+    }
+
+    /** Apply this transform to {@code count} points read from the coordinate array {@code src} and
+     * write the results to the coordinate array {@code dst}. The x, y, and z coordinates of point
+     * {@code i} are read from indices {@code srcOffset + (i * srcStride)} through
+     * {@code srcOffset + (i * srcStride) + 2} of {@code src} and the transformed coordinates are
+     * written to the corresponding indices of {@code dst}. Strides greater than 3 may be used to skip
+     * over interleaved, non-coordinate values. The computed values are identical to those produced
+     * by {@link #apply(Vector3D)} but no intermediate objects are created.
+     *
+     * <p>The source and destination arrays may be the same array, in which case the points are
+     * transformed in place if the offsets and strides are equal. Results are undefined if the
+     * source and destination ranges otherwise overlap.</p>
+     * @param src source coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param srcStride number of indices between the first coordinates of consecutive points in {@code src}
+     * @param dst destination coordinate array
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param dstStride number of indices between the first coordinates of consecutive points in {@code dst}
+     * @param count number of points to transform
+     * @throws IllegalArgumentException if {@code count} is negative or either stride is less than 3
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public void apply(final double[] src, final int srcOffset, final int srcStride,
+            final double[] dst, final int dstOffset, final int dstStride, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, srcStride, count, DIMENSION);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, dstStride, count, DIMENSION);
+
+        // copy the matrix elements to local variables so that they are not reloaded for each point
+        final double a00 = m00;
+        final double a01 = m01;
+        final double a02 = m02;
+        final double a03 = m03;
+        final double a10 = m10;
+        final double a11 = m11;
+        final double a12 = m12;
+        final double a13 = m13;
+        final double a20 = m20;
+        final double a21 = m21;
+        final double a22 = m22;
+        final double a23 = m23;
+
+        int s = srcOffset;
+        int d = dstOffset;
+        for (int i = 0; i < count; ++i) {
+            final double x = src[s];
+            final double y = src[s + 1];
+            final double z = src[s + 2];
+
+            dst[d] = Vectors.linearCombination(a00, x, a01, y, a02, z) + a03;
+            dst[d + 1] = Vectors.linearCombination(a10, x, a11, y, a12, z) + a13;
+            dst[d + 2] = Vectors.linearCombination(a20, x, a21, y, a22, z) + a23;
+
+            s += srcStride;
+            d += dstStride;
+        }
+    }
+
+    /** Apply this transform in place to {@code count} points stored in separate coordinate arrays,
+     * starting at index {@code offset} in each array. The computed values are identical to those
+     * produced by {@link #apply(Vector3D)} but no intermediate objects are created.
+     * @param xs x coordinate values
+     * @param ys y coordinate values
+     * @param zs z coordinate values
+     * @param offset index of the first point in each array
+     * @param count number of points to transform
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the range does not lie entirely within each array
+     */
+    public void apply(final double[] xs, final double[] ys, final double[] zs, final int offset, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(xs, offset, 1, count, 1);
+        EuclideanUtils.checkCoordinateArrayRange(ys, offset, 1, count, 1);
+        EuclideanUtils.checkCoordinateArrayRange(zs, offset, 1, count, 1);
+
+        final double a00 = m00;
+        final double a01 = m01;
+        final double a02 = m02;
+        final double a03 = m03;
+        final double a10 = m10;
+        final double a11 = m11;
+        final double a12 = m12;
+        final double a13 = m13;
+        final double a20 = m20;
+        final double a21 = m21;
+        final double a22 = m22;
+        final double a23 = m23;
+
+        final int end = offset + count;
+        for (int i = offset; i < end; ++i) {
+            final double x = xs[i];
+            final double y = ys[i];
+            final double z = zs[i];
+
+            xs[i] = Vectors.linearCombination(a00, x, a01, y, a02, z) + a03;
+            ys[i] = Vectors.linearCombination(a10, x, a11, y, a12, z) + a13;
+            zs[i] = Vectors.linearCombination(a20, x, a21, y, a22, z) + a23;
+        }
+    }
+
     /** {@inheritDoc}
      *
      *  <p>The transformed vector is computed by creating a 4-element column vector from the
@@ -26,7 +26,7 @@ import org.apache.commons.geometry.core.partitioning.BoundarySource;
 import org.apache.commons.geometry.euclidean.threed.line.LineConvexSubset3D;
 import org.apache.commons.geometry.euclidean.threed.line.LinecastPoint3D;
 import org.apache.commons.geometry.euclidean.threed.line.Linecastable3D;
-import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.numbers.core.Precision;
 
@@ -60,13 +60,14 @@ public interface BoundarySource3D extends BoundarySource<PlaneConvexSubset>, Lin
         return tree;
     }
 
-    /** Construct a triangle mesh from the boundaries in this instance.
+    /** Construct a triangle mesh from the boundaries in this instance. Equivalent vertices are reused
+     * wherever possible. The default implementation returns a {@link CompactTriangleMesh}.
      * @param precision precision context used in boundaries generated by the resulting mesh
      * @return a triangle mesh representing the boundaries in this instance
      * @throws IllegalStateException if any boundary in this boundary source is infinite
      */
     default TriangleMesh toTriangleMesh(final Precision.DoubleEquivalence precision) {
-        return SimpleTriangleMesh.from(this, precision);
+        return CompactTriangleMesh.from(this, precision);
     }
 
     /** Return the boundaries of this instance as a stream of {@link Triangle3D}
@@ -20,9 +20,11 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import org.apache.commons.geometry.core.RegionLocation;
 import org.apache.commons.geometry.euclidean.AbstractBounds;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.geometry.euclidean.threed.line.Line3D;
 import org.apache.commons.geometry.euclidean.threed.line.LineConvexSubset3D;
 import org.apache.commons.geometry.euclidean.threed.line.LinecastPoint3D;
@@ -40,6 +42,17 @@ import org.apache.commons.numbers.core.Precision;
 public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
     implements Linecastable3D {
 
+    /** Number of values used to store a single box or ray in a packed array. */
+    private static final int PACKED_LENGTH = 6;
+
+    /** Number of dimensions. */
+    private static final int DIMENSION = 3;
+
+    /** Number of consecutive points processed sequentially as a single parallel work item when
+     * adding points from packed coordinate arrays.
+     */
+    private static final int PACKED_BLOCK_SIZE = 4096;
+
     /** Simple constructor. Callers are responsible for ensuring the min is not greater than max.
      * @param min minimum point
      * @param max maximum point
@@ -189,6 +202,47 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
         return new BoundsLinecaster3D(subset).getFirstBoundaryIntersection();
     }
 
+    /** Determine which of the rays stored in the given packed array intersect this instance, storing
+     * the results in {@code result}. Ray {@code i} is defined by the six values beginning at index
+     * {@code 6i} of {@code rays}, in the order {@code x, y, z, dx, dy, dz}, where {@code (x, y, z)} is the
+     * ray start point and {@code (dx, dy, dz)} is the ray direction. Directions do not need to be normalized.
+     * A ray with a zero direction consists only of its start point.
+     *
+     * <p>This method uses the standard "slab" test directly on the array values without creating any
+     * intermediate objects, making it suitable for testing a large number of rays against a single box.
+     * In contrast to {@link #intersects(LineConvexSubset3D)}, all floating point comparisons are strict.</p>
+     * @param rays packed ray array
+     * @param result array to store the results in; must have one element per ray
+     * @return the number of rays intersecting this instance
+     * @throws IllegalArgumentException if the length of {@code rays} is not a multiple of 6 or
+     *      the length of {@code result} does not match the number of rays
+     */
+    public int intersectsRays(final double[] rays, final boolean[] result) {
+        final int count = EuclideanUtils.getPackedPointCount(rays, PACKED_LENGTH);
+        checkResultLength(count, result);
+
+        final Vector3D min = getMin();
+        final Vector3D max = getMax();
+        final double[] box = {min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ()};
+
+        final PackedSlabTester tester = new PackedSlabTester(0, Double.POSITIVE_INFINITY);
+
+        int hits = 0;
+        for (int i = 0; i < count; ++i) {
+            final int offset = i * PACKED_LENGTH;
+            tester.setLine(rays[offset], rays[offset + 1], rays[offset + 2],
+                    rays[offset + 3], rays[offset + 4], rays[offset + 5]);
+
+            final boolean hit = tester.intersects(box, 0);
+            result[i] = hit;
+            if (hit) {
+                ++hits;
+            }
+        }
+
+        return hits;
+    }
+
     /** {@inheritDoc}
      *
      * @throws IllegalArgumentException if any dimension of the bounding box is zero
@@ -246,6 +300,75 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
         return builder.build();
     }
 
+    /** Construct a new instance from the points stored in the given packed coordinate array, i.e. an
+     * array containing the x, y, and z coordinates of each point in sequence with no gaps between them.
+     * The min and max values are computed directly from the array values; large arrays are processed
+     * in parallel.
+     * @param xyz packed coordinate array
+     * @return a new instance containing the min and max coordinates values from the input points
+     * @throws IllegalArgumentException if the array length is not a multiple of 3
+     * @throws IllegalStateException if the array contains no points or any of the computed min and max
+     *      coordinate values are NaN or infinite
+     */
+    public static Bounds3D from(final double[] xyz) {
+        return builder()
+                .addAll(xyz)
+                .build();
+    }
+
+    /** Determine which of the boxes stored in the given packed array intersect the given line, storing
+     * the results in {@code result}. The boxes are stored as described in
+     * {@link #intersectsBoxes(LineConvexSubset3D, double[], boolean[])}.
+     * @param line line to test
+     * @param boxes packed box array
+     * @param result array to store the results in; must have one element per box
+     * @return the number of boxes intersecting the line
+     * @throws IllegalArgumentException if the length of {@code boxes} is not a multiple of 6 or
+     *      the length of {@code result} does not match the number of boxes
+     */
+    public static int intersectsBoxes(final Line3D line, final double[] boxes, final boolean[] result) {
+        return intersectsBoxes(line.span(), boxes, result);
+    }
+
+    /** Determine which of the boxes stored in the given packed array intersect the given line convex subset,
+     * storing the results in {@code result}. Box {@code i} is defined by the six values beginning at index
+     * {@code 6i} of {@code boxes}, in the order {@code minX, minY, minZ, maxX, maxY, maxZ}.
+     *
+     * <p>This method uses the standard "slab" test directly on the array values without creating any
+     * intermediate objects, making it suitable for testing a single line, ray, or segment against a
+     * large number of boxes. In contrast to {@link #intersects(LineConvexSubset3D)}, all floating point
+     * comparisons are strict and the precision of the subset's line is not used.</p>
+     * @param subset line convex subset to test
+     * @param boxes packed box array
+     * @param result array to store the results in; must have one element per box
+     * @return the number of boxes intersecting the subset
+     * @throws IllegalArgumentException if the length of {@code boxes} is not a multiple of 6 or
+     *      the length of {@code result} does not match the number of boxes
+     */
+    public static int intersectsBoxes(final LineConvexSubset3D subset, final double[] boxes,
+            final boolean[] result) {
+        final int count = EuclideanUtils.getPackedPointCount(boxes, PACKED_LENGTH);
+        checkResultLength(count, result);
+
+        final Line3D line = subset.getLine();
+        final Vector3D origin = line.getOrigin();
+        final Vector3D dir = line.getDirection();
+
+        final PackedSlabTester tester = new PackedSlabTester(subset.getSubspaceStart(), subset.getSubspaceEnd());
+        tester.setLine(origin.getX(), origin.getY(), origin.getZ(), dir.getX(), dir.getY(), dir.getZ());
+
+        int hits = 0;
+        for (int i = 0; i < count; ++i) {
+            final boolean hit = tester.intersects(boxes, i * PACKED_LENGTH);
+            result[i] = hit;
+            if (hit) {
+                ++hits;
+            }
+        }
+
+        return hits;
+    }
+
     /** Construct a new {@link Builder} instance for creating bounds.
      * @return a new builder instance for creating bounds
      */
@@ -285,17 +408,7 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
          * @return this instance
          */
         public Builder add(final Vector3D pt) {
-            final double x = pt.getX();
-            final double y = pt.getY();
-            final double z = pt.getZ();
-
-            minX = Math.min(x, minX);
-            minY = Math.min(y, minY);
-            minZ = Math.min(z, minZ);
-
-            maxX = Math.max(x, maxX);
-            maxY = Math.max(y, maxY);
-            maxZ = Math.max(z, maxZ);
+            add(pt.getX(), pt.getY(), pt.getZ());
 
             return this;
         }
@@ -312,6 +425,38 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
             return this;
         }
 
+        /** Add the points stored in the given packed coordinate array to this instance. The array
+         * contains the x, y, and z coordinates of each point in sequence with no gaps between them.
+         * Large arrays are processed in parallel.
+         * @param xyz packed coordinate array
+         * @return this instance
+         * @throws IllegalArgumentException if the array length is not a multiple of 3
+         */
+        public Builder addAll(final double[] xyz) {
+            final int count = EuclideanUtils.getPackedPointCount(xyz, DIMENSION);
+            final int blockCount = (count + PACKED_BLOCK_SIZE - 1) / PACKED_BLOCK_SIZE;
+
+            final Builder[] blockBuilders = new Builder[blockCount];
+            IntStream blocks = IntStream.range(0, blockCount);
+            if (blockCount > 1) {
+                blocks = blocks.parallel();
+            }
+            blocks.forEach(block -> {
+                final Builder blockBuilder = new Builder();
+                blockBuilder.addPackedRange(xyz, block * PACKED_BLOCK_SIZE * DIMENSION,
+                        Math.min(count, (block + 1) * PACKED_BLOCK_SIZE) * DIMENSION);
+
+                blockBuilders[block] = blockBuilder;
+            });
+
+            for (final Builder blockBuilder : blockBuilders) {
+                add(blockBuilder.minX, blockBuilder.minY, blockBuilder.minZ);
+                add(blockBuilder.maxX, blockBuilder.maxY, blockBuilder.maxZ);
+            }
+
+            return this;
+        }
+
         /** Add the min and max points from the given bounds to this instance.
          * @param bounds bounds containing the min and max points to add
          * @return this instance
@@ -323,6 +468,79 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
             return this;
         }
 
+        /** Add a point with the given coordinates to this instance.
+         * @param x x coordinate
+         * @param y y coordinate
+         * @param z z coordinate
+         */
+        private void add(final double x, final double y, final double z) {
+            minX = Math.min(x, minX);
+            minY = Math.min(y, minY);
+            minZ = Math.min(z, minZ);
+
+            maxX = Math.max(x, maxX);
+            maxY = Math.max(y, maxY);
+            maxZ = Math.max(z, maxZ);
+        }
+
+        /** Add the points whose coordinates lie in the index range {@code [start, end)} of the given
+         * packed coordinate array to this instance.
+         * @param xyz packed coordinate array
+         * @param start index of the first coordinate of the first point
+         * @param end index following the last coordinate of the last point
+         */
+        private void addPackedRange(final double[] xyz, final int start, final int end) {
+            // Use local accumulators and plain comparisons in the main loop; the min and max values rarely
+            // change, so the branches are almost always predicted correctly. NaN values are ignored by
+            // the comparisons, so non-finite values are detected separately by multiplying each coordinate
+            // by zero, which only produces a nonzero (NaN) result for NaN and infinite values.
+            double lowX = Double.POSITIVE_INFINITY;
+            double lowY = Double.POSITIVE_INFINITY;
+            double lowZ = Double.POSITIVE_INFINITY;
+            double highX = Double.NEGATIVE_INFINITY;
+            double highY = Double.NEGATIVE_INFINITY;
+            double highZ = Double.NEGATIVE_INFINITY;
+            double nonFinite = 0;
+
+            for (int i = start; i < end; i += DIMENSION) {
+                final double x = xyz[i];
+                final double y = xyz[i + 1];
+                final double z = xyz[i + 2];
+
+                if (x < lowX) {
+                    lowX = x;
+                }
+                if (x > highX) {
+                    highX = x;
+                }
+                if (y < lowY) {
+                    lowY = y;
+                }
+                if (y > highY) {
+                    highY = y;
+                }
+                if (z < lowZ) {
+                    lowZ = z;
+                }
+                if (z > highZ) {
+                    highZ = z;
+                }
+
+                nonFinite += (x * 0) + (y * 0) + (z * 0);
+            }
+
+            if (nonFinite == 0) {
+                add(lowX, lowY, lowZ);
+                add(highX, highY, highZ);
+            } else {
+                // fall back to adding the points individually so that the result is identical to
+                // that of adding the points one at a time
+                for (int i = start; i < end; i += DIMENSION) {
+                    add(xyz[i], xyz[i + 1], xyz[i + 2]);
+                }
+            }
+        }
+
         /** Return true if this builder contains valid min and max coordinate values.
          * @return true if this builder contains valid min and max coordinate values
          */
@@ -359,6 +577,17 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
         }
     }
 
+    /** Check that a result array has the expected length.
+     * @param expected expected length
+     * @param result result array
+     * @throws IllegalArgumentException if the result array length is not equal to {@code expected}
+     */
+    private static void checkResultLength(final int expected, final boolean[] result) {
+        if (result.length != expected) {
+            throw new IllegalArgumentException("Array length mismatch: " + result.length + " != " + expected);
+        }
+    }
+
     /** Subclass of {@link BoundsLinecaster} for 3D space.
      */
     private final class BoundsLinecaster3D extends BoundsLinecaster<Segment3D, LinecastPoint3D> {
@@ -459,4 +688,120 @@ public final class Bounds3D extends AbstractBounds<Vector3D, Bounds3D>
             return subset.getSubspaceEnd();
         }
     }
+
+    /** Class implementing the standard "slab" test for intersections between portions of lines and
+     * boxes stored in packed arrays. Points on the line are given by {@code origin + t * dir} for
+     * parameter values {@code t} in the range {@code [start, end]}. The test is written without
+     * data-dependent branches so that the JIT compiler can use conditional move instructions.
+     */
+    private static final class PackedSlabTester {
+
+        /** Start parameter. */
+        private final double start;
+
+        /** End parameter. */
+        private final double end;
+
+        /** Line origin x coordinate. */
+        private double ox;
+
+        /** Line origin y coordinate. */
+        private double oy;
+
+        /** Line origin z coordinate. */
+        private double oz;
+
+        /** Reciprocal of the line direction x coordinate. */
+        private double invX;
+
+        /** Reciprocal of the line direction y coordinate. */
+        private double invY;
+
+        /** Reciprocal of the line direction z coordinate. */
+        private double invZ;
+
+        /** Offset of the x coordinate of the box face first reached by the line. */
+        private int nearX;
+
+        /** Offset of the y coordinate of the box face first reached by the line. */
+        private int nearY;
+
+        /** Offset of the z coordinate of the box face first reached by the line. */
+        private int nearZ;
+
+        /** Offset of the x coordinate of the box face last reached by the line. */
+        private int farX;
+
+        /** Offset of the y coordinate of the box face last reached by the line. */
+        private int farY;
+
+        /** Offset of the z coordinate of the box face last reached by the line. */
+        private int farZ;
+
+        /** Construct a new instance with the given line parameter range.
+         * @param start start parameter
+         * @param end end parameter
+         */
+        PackedSlabTester(final double start, final double end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /** Set the line to test.
+         * @param x origin x coordinate
+         * @param y origin y coordinate
+         * @param z origin z coordinate
+         * @param dx direction x coordinate
+         * @param dy direction y coordinate
+         * @param dz direction z coordinate
+         */
+        void setLine(final double x, final double y, final double z,
+                final double dx, final double dy, final double dz) {
+            ox = x;
+            oy = y;
+            oz = z;
+
+            invX = 1.0 / dx;
+            invY = 1.0 / dy;
+            invZ = 1.0 / dz;
+
+            nearX = invX >= 0 ? 0 : DIMENSION;
+            nearY = invY >= 0 ? 1 : 1 + DIMENSION;
+            nearZ = invZ >= 0 ? 2 : 2 + DIMENSION;
+
+            farX = (nearX + DIMENSION) % PACKED_LENGTH;
+            farY = (nearY + DIMENSION) % PACKED_LENGTH;
+            farZ = (nearZ + DIMENSION) % PACKED_LENGTH;
+        }
+
+        /** Return true if the line intersects the box beginning at index {@code offset} of
+         * the given packed array.
+         * @param boxes packed box array
+         * @param offset index of the first value of the box
+         * @return true if the line intersects the box
+         */
+        boolean intersects(final double[] boxes, final int offset) {
+            // Slab parameters are NaN when the line is parallel to and lies in the plane of a box face;
+            // the comparisons below ignore these values, which correctly treats the line as lying
+            // within that slab.
+            final double nx = (boxes[offset + nearX] - ox) * invX;
+            final double fx = (boxes[offset + farX] - ox) * invX;
+            final double ny = (boxes[offset + nearY] - oy) * invY;
+            final double fy = (boxes[offset + farY] - oy) * invY;
+            final double nz = (boxes[offset + nearZ] - oz) * invZ;
+            final double fz = (boxes[offset + farZ] - oz) * invZ;
+
+            double near = start;
+            near = nx > near ? nx : near;
+            near = ny > near ? ny : near;
+            near = nz > near ? nz : near;
+
+            double far = end;
+            far = fx < far ? fx : far;
+            far = fy < far ? fy : far;
+            far = fz < far ? fz : far;
+
+            return near <= far;
+        }
+    }
 }
@@ -166,6 +166,10 @@ public final class EmbeddingPlane extends Plane implements EmbeddingHyperplane<V
     /** {@inheritDoc} */
     @Override
     public EmbeddingPlane transform(final Transform<Vector3D> transform) {
+        if (transform instanceof RigidTransform3D) {
+            return transformRigid((RigidTransform3D) transform);
+        }
+
         final Vector3D origin = getOrigin();
         final Vector3D plusU = origin.add(u);
         final Vector3D plusV = origin.add(v);
@@ -274,6 +278,18 @@ public final class EmbeddingPlane extends Plane implements EmbeddingHyperplane<V
      * @see #transform(Transform)
      */
     public SubspaceTransform subspaceTransform(final Transform<Vector3D> transform) {
+        if (transform instanceof RigidTransform3D) {
+            // the plane frame is rotated along with the plane, so subspace points are
+            // only translated by the components of the translation lying in the plane
+            final RigidTransform3D rigid = (RigidTransform3D) transform;
+            final EmbeddingPlane tPlane = transformRigid(rigid);
+            final Vector3D translation = rigid.getTranslation();
+
+            return new SubspaceTransform(tPlane, AffineTransformMatrix2D.createTranslation(
+                    translation.dot(tPlane.u),
+                    translation.dot(tPlane.v)));
+        }
+
         final Vector3D origin = getOrigin();
 
         final Vector3D tOrigin = transform.apply(origin);
@@ -296,6 +312,22 @@ public final class EmbeddingPlane extends Plane implements EmbeddingHyperplane<V
         return new SubspaceTransform(tPlane, subspaceTransform);
     }
 
+    /** Transform this plane with the given rigid transform. The plane frame vectors are rotated
+     * directly and are not recomputed or renormalized.
+     * @param transform rigid transform to apply
+     * @return the transformed plane
+     */
+    private EmbeddingPlane transformRigid(final RigidTransform3D transform) {
+        final Vector3D.Unit tW = transform.applyUnit(getNormal());
+
+        return new EmbeddingPlane(
+                transform.applyUnit(u),
+                transform.applyUnit(v),
+                tW,
+                getOriginOffset() - tW.dot(transform.getTranslation()),
+                getPrecision());
+    }
+
     /** Class containing a transformed plane instance along with a subspace (2D) transform. The subspace
      * transform produces the equivalent of the 3D transform in 2D.
      */
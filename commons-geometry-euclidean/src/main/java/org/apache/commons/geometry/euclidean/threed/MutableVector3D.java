@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import org.apache.commons.geometry.core.internal.SimpleTupleFormat;
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+
+/** Mutable 3D vector intended for use as a scratch value in performance-sensitive inner loops.
+ * All arithmetic methods modify the instance in place and return it, allowing calls to be
+ * chained without allocating intermediate {@link Vector3D} objects. The computations performed
+ * by each method are the same as those performed by the corresponding {@link Vector3D} method, so
+ * results are identical to those obtained using immutable vectors.
+ *
+ * <p>Instances are converted to immutable vectors with {@link #toVector()} and may be
+ * initialized from them with {@link #from(Vector3D)} or {@link #set(Vector3D)}.</p>
+ *
+ * <p>This class is mutable and not thread-safe. It does not override {@code equals} or
+ * {@code hashCode}.</p>
+ * @see Vector3D
+ */
+public final class MutableVector3D {
+
+    /** X coordinate value. */
+    private double x;
+
+    /** Y coordinate value. */
+    private double y;
+
+    /** Z coordinate value. */
+    private double z;
+
+    /** Construct a new instance with all coordinates set to zero. Use the static factory
+     * methods to create instances with other initial values.
+     */
+    public MutableVector3D() {
+        // initialize to zero
+    }
+
+    /** Get the x coordinate value.
+     * @return x coordinate value
+     */
+    public double getX() {
+        return x;
+    }
+
+    /** Get the y coordinate value.
+     * @return y coordinate value
+     */
+    public double getY() {
+        return y;
+    }
+
+    /** Get the z coordinate value.
+     * @return z coordinate value
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /** Set the coordinates of this instance.
+     * @param xval x coordinate value
+     * @param yval y coordinate value
+     * @param zval z coordinate value
+     * @return this instance
+     */
+    public MutableVector3D set(final double xval, final double yval, final double zval) {
+        this.x = xval;
+        this.y = yval;
+        this.z = zval;
+        return this;
+    }
+
+    /** Set the coordinates of this instance to those of the given vector.
+     * @param v vector to copy
+     * @return this instance
+     */
+    public MutableVector3D set(final Vector3D v) {
+        return set(v.getX(), v.getY(), v.getZ());
+    }
+
+    /** Set the coordinates of this instance to those of the given vector.
+     * @param v vector to copy
+     * @return this instance
+     */
+    public MutableVector3D set(final MutableVector3D v) {
+        return set(v.x, v.y, v.z);
+    }
+
+    /** Add the given vector to this instance.
+     * @param v vector to add
+     * @return this instance
+     * @see Vector3D#add(Vector3D)
+     */
+    public MutableVector3D add(final Vector3D v) {
+        return set(x + v.getX(), y + v.getY(), z + v.getZ());
+    }
+
+    /** Add the given vector to this instance.
+     * @param v vector to add
+     * @return this instance
+     * @see Vector3D#add(Vector3D)
+     */
+    public MutableVector3D add(final MutableVector3D v) {
+        return set(x + v.x, y + v.y, z + v.z);
+    }
+
+    /** Add a scaled vector to this instance.
+     * @param factor scale factor to apply to {@code v}
+     * @param v vector to scale and add
+     * @return this instance
+     * @see Vector3D#add(double, Vector3D)
+     */
+    public MutableVector3D add(final double factor, final Vector3D v) {
+        return set(
+                x + (factor * v.getX()),
+                y + (factor * v.getY()),
+                z + (factor * v.getZ()));
+    }
+
+    /** Add a scaled vector to this instance.
+     * @param factor scale factor to apply to {@code v}
+     * @param v vector to scale and add
+     * @return this instance
+     * @see Vector3D#add(double, Vector3D)
+     */
+    public MutableVector3D add(final double factor, final MutableVector3D v) {
+        return set(
+                x + (factor * v.x),
+                y + (factor * v.y),
+                z + (factor * v.z));
+    }
+
+    /** Subtract the given vector from this instance.
+     * @param v vector to subtract
+     * @return this instance
+     * @see Vector3D#subtract(Vector3D)
+     */
+    public MutableVector3D subtract(final Vector3D v) {
+        return set(x - v.getX(), y - v.getY(), z - v.getZ());
+    }
+
+    /** Subtract the given vector from this instance.
+     * @param v vector to subtract
+     * @return this instance
+     * @see Vector3D#subtract(Vector3D)
+     */
+    public MutableVector3D subtract(final MutableVector3D v) {
+        return set(x - v.x, y - v.y, z - v.z);
+    }
+
+    /** Multiply this instance by a scalar.
+     * @param a scalar
+     * @return this instance
+     * @see Vector3D#multiply(double)
+     */
+    public MutableVector3D multiply(final double a) {
+        return set(a * x, a * y, a * z);
+    }
+
+    /** Negate this instance.
+     * @return this instance
+     * @see Vector3D#negate()
+     */
+    public MutableVector3D negate() {
+        return set(-x, -y, -z);
+    }
+
+    /** Set this instance to the cross product of itself and the given vector.
+     * @param v second operand of the cross product
+     * @return this instance
+     * @see Vector3D#cross(Vector3D)
+     */
+    public MutableVector3D cross(final Vector3D v) {
+        return cross(v.getX(), v.getY(), v.getZ());
+    }
+
+    /** Set this instance to the cross product of itself and the given vector.
+     * @param v second operand of the cross product
+     * @return this instance
+     * @see Vector3D#cross(Vector3D)
+     */
+    public MutableVector3D cross(final MutableVector3D v) {
+        return cross(v.x, v.y, v.z);
+    }
+
+    /** Set this instance to a linear interpolation between itself and the given point.
+     * @param p other point
+     * @param t interpolation parameter
+     * @return this instance
+     * @see Vector3D#lerp(Vector3D, double)
+     */
+    public MutableVector3D lerp(final Vector3D p, final double t) {
+        final double s = 1.0 - t;
+        return set(
+                Vectors.linearCombination(s, x, t, p.getX()),
+                Vectors.linearCombination(s, y, t, p.getY()),
+                Vectors.linearCombination(s, z, t, p.getZ()));
+    }
+
+    /** Normalize this instance so that it has a length of one and points in the same
+     * direction as before.
+     * @return this instance
+     * @throws IllegalArgumentException if the norm of this instance is zero, NaN, or infinite;
+     *      the instance is not modified in this case
+     * @see Vector3D#normalize()
+     */
+    public MutableVector3D normalize() {
+        final double normInv = 1.0 / Math.sqrt(normSq());
+        if (Vectors.isRealNonZero(normInv)) {
+            return multiply(normInv);
+        }
+
+        // fall back to the vector method to handle overflow, underflow, and invalid norms
+        return set(Vector3D.Unit.from(x, y, z));
+    }
+
+    /** Compute the dot product of this instance and the given vector.
+     * @param v second operand of the dot product
+     * @return dot product
+     * @see Vector3D#dot(Vector3D)
+     */
+    public double dot(final Vector3D v) {
+        return Vectors.linearCombination(x, v.getX(), y, v.getY(), z, v.getZ());
+    }
+
+    /** Compute the dot product of this instance and the given vector.
+     * @param v second operand of the dot product
+     * @return dot product
+     * @see Vector3D#dot(Vector3D)
+     */
+    public double dot(final MutableVector3D v) {
+        return Vectors.linearCombination(x, v.x, y, v.y, z, v.z);
+    }
+
+    /** Get the L<sub>2</sub> norm (commonly known as the Euclidean norm) of this instance.
+     * @return L<sub>2</sub> norm
+     * @see Vector3D#norm()
+     */
+    public double norm() {
+        return Vectors.norm(x, y, z);
+    }
+
+    /** Get the square of the L<sub>2</sub> norm of this instance.
+     * @return square of the L<sub>2</sub> norm
+     * @see Vector3D#normSq()
+     */
+    public double normSq() {
+        return Vectors.normSq(x, y, z);
+    }
+
+    /** Return an immutable vector with the current coordinates of this instance.
+     * @return immutable vector with the current coordinates of this instance
+     */
+    public Vector3D toVector() {
+        return Vector3D.of(x, y, z);
+    }
+
+    /** Return a string representation of this instance in the same format as
+     * {@link Vector3D#toString()}.
+     * @return string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return SimpleTupleFormat.getDefault().format(x, y, z);
+    }
+
+    /** Create a new instance with the given coordinates.
+     * @param x x coordinate value
+     * @param y y coordinate value
+     * @param z z coordinate value
+     * @return new instance
+     */
+    public static MutableVector3D of(final double x, final double y, final double z) {
+        return new MutableVector3D().set(x, y, z);
+    }
+
+    /** Create a new instance with the coordinates of the given vector.
+     * @param v vector to copy
+     * @return new instance
+     */
+    public static MutableVector3D from(final Vector3D v) {
+        return new MutableVector3D().set(v);
+    }
+
+    /** Set this instance to the cross product of itself and the vector with the given coordinates.
+     * @param vx x coordinate of the second operand
+     * @param vy y coordinate of the second operand
+     * @param vz z coordinate of the second operand
+     * @return this instance
+     */
+    private MutableVector3D cross(final double vx, final double vy, final double vz) {
+        return set(
+                Vectors.linearCombination(y, vz, -z, vy),
+                Vectors.linearCombination(z, vx, -x, vz),
+                Vectors.linearCombination(x, vy, -y, vx));
+    }
+}
@@ -303,9 +303,22 @@ public class Plane extends AbstractHyperplane<Vector3D> {
      * AffineTransformMatrix3D normalTransform = transform.normalTransform();
      * Vector3D directlyTransformedNormal = normalTransform.apply(plane.getNormal()); // (0, 0, +1)
      * </pre>
+     * <p>
+     * {@link RigidTransform3D} instances are handled as a special case: since they preserve
+     * orientation and distances, the normal is rotated directly and is not recomputed or renormalized.
+     * </p>
      */
     @Override
     public Plane transform(final Transform<Vector3D> transform) {
+        if (transform instanceof RigidTransform3D) {
+            // rigid transforms preserve the plane normal orientation and norm, so we can
+            // transform the normal directly
+            final RigidTransform3D rigid = (RigidTransform3D) transform;
+            final Vector3D.Unit tNormal = rigid.applyUnit(normal);
+
+            return new Plane(tNormal, originOffset - tNormal.dot(rigid.getTranslation()), getPrecision());
+        }
+
         // create 3 representation points lying on the plane, transform them,
         // and use the transformed points to create a new plane
 
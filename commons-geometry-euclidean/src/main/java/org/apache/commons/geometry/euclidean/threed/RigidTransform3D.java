@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import java.util.Objects;
+
+import org.apache.commons.geometry.euclidean.EuclideanTransform;
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+
+/** Class representing a rigid transform (also known as a proper rigid transform or a
+ * <a href="https://en.wikipedia.org/wiki/Rigid_transformation">rigid motion</a>) in 3-dimensional
+ * Euclidean space. A rigid transform consists of a rotation followed by a translation and preserves
+ * distances, angles, and orientation.
+ *
+ * <p>Since the linear part of a rigid transform is an orthonormal rotation matrix, many operations are
+ * considerably cheaper than with a general {@link AffineTransformMatrix3D}: inverses are computed by
+ * transposing the rotation instead of performing a general matrix inversion, transforms are composed
+ * by multiplying their rotation quaternions, and hyperplanes such as {@link Plane} and
+ * {@link EmbeddingPlane} are transformed by rotating their unit vectors directly without
+ * recomputing or renormalizing them.</p>
+ *
+ * <p>Instances of this class are immutable.</p>
+ * @see AffineTransformMatrix3D
+ * @see QuaternionRotation
+ */
+public final class RigidTransform3D implements EuclideanTransform<Vector3D> {
+
+    /** Shared instance representing the identity transform. */
+    private static final RigidTransform3D IDENTITY_INSTANCE =
+            new RigidTransform3D(QuaternionRotation.identity(), Vector3D.ZERO);
+
+    /** Rotation component of the transform. */
+    private final QuaternionRotation rotation;
+
+    /** Translation component of the transform. */
+    private final Vector3D translation;
+
+    /** Rotation matrix entry <code>m<sub>0,0</sub></code>. */
+    private final double m00;
+    /** Rotation matrix entry <code>m<sub>0,1</sub></code>. */
+    private final double m01;
+    /** Rotation matrix entry <code>m<sub>0,2</sub></code>. */
+    private final double m02;
+
+    /** Rotation matrix entry <code>m<sub>1,0</sub></code>. */
+    private final double m10;
+    /** Rotation matrix entry <code>m<sub>1,1</sub></code>. */
+    private final double m11;
+    /** Rotation matrix entry <code>m<sub>1,2</sub></code>. */
+    private final double m12;
+
+    /** Rotation matrix entry <code>m<sub>2,0</sub></code>. */
+    private final double m20;
+    /** Rotation matrix entry <code>m<sub>2,1</sub></code>. */
+    private final double m21;
+    /** Rotation matrix entry <code>m<sub>2,2</sub></code>. */
+    private final double m22;
+
+    /** Construct a new instance from its rotation and translation components.
+     * @param rotation rotation component
+     * @param translation translation component
+     */
+    private RigidTransform3D(final QuaternionRotation rotation, final Vector3D translation) {
+        this.rotation = rotation;
+        this.translation = translation;
+
+        final double[] m = rotation.toMatrix().toArray();
+
+        this.m00 = m[0];
+        this.m01 = m[1];
+        this.m02 = m[2];
+
+        this.m10 = m[4];
+        this.m11 = m[5];
+        this.m12 = m[6];
+
+        this.m20 = m[8];
+        this.m21 = m[9];
+        this.m22 = m[10];
+    }
+
+    /** Get the rotation component of this transform. The rotation is applied before
+     * the translation.
+     * @return the rotation component of this transform
+     */
+    public QuaternionRotation getRotation() {
+        return rotation;
+    }
+
+    /** Get the translation component of this transform. The translation is applied after
+     * the rotation.
+     * @return the translation component of this transform
+     */
+    public Vector3D getTranslation() {
+        return translation;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D apply(final Vector3D pt) {
+        final double x = pt.getX();
+        final double y = pt.getY();
+        final double z = pt.getZ();
+
+        return Vector3D.of(
+                Vectors.linearCombination(m00, x, m01, y, m02, z) + translation.getX(),
+                Vectors.linearCombination(m10, x, m11, y, m12, z) + translation.getY(),
+                Vectors.linearCombination(m20, x, m21, y, m22, z) + translation.getZ());
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>This method applies only the rotation component of the transform.</p>
+     */
+    @Override
+    public Vector3D applyVector(final Vector3D vec) {
+        final double x = vec.getX();
+        final double y = vec.getY();
+        final double z = vec.getZ();
+
+        return Vector3D.of(
+                Vectors.linearCombination(m00, x, m01, y, m02, z),
+                Vectors.linearCombination(m10, x, m11, y, m12, z),
+                Vectors.linearCombination(m20, x, m21, y, m22, z));
+    }
+
+    /** Apply the rotation component of this transform to the given unit vector. Since rotations
+     * preserve vector norms, the result is returned directly as a unit vector without being
+     * renormalized.
+     * @param vec unit vector to rotate
+     * @return the rotated unit vector
+     */
+    public Vector3D.Unit applyUnit(final Vector3D.Unit vec) {
+        final double x = vec.getX();
+        final double y = vec.getY();
+        final double z = vec.getZ();
+
+        return new Vector3D.Unit(
+                Vectors.linearCombination(m00, x, m01, y, m02, z),
+                Vectors.linearCombination(m10, x, m11, y, m12, z),
+                Vectors.linearCombination(m20, x, m21, y, m22, z));
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The inverse is computed by inverting (i.e. transposing) the rotation and applying it to the
+     * negated translation. No general matrix inversion is required.</p>
+     */
+    @Override
+    public RigidTransform3D inverse() {
+        final double tx = translation.getX();
+        final double ty = translation.getY();
+        final double tz = translation.getZ();
+
+        // apply the transpose of the rotation matrix to the negated translation
+        final Vector3D invTranslation = Vector3D.of(
+                -Vectors.linearCombination(m00, tx, m10, ty, m20, tz),
+                -Vectors.linearCombination(m01, tx, m11, ty, m21, tz),
+                -Vectors.linearCombination(m02, tx, m12, ty, m22, tz));
+
+        return new RigidTransform3D(rotation.inverse(), invTranslation);
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>This method simply returns true since rigid transforms always preserve the orientation
+     * of the space.</p>
+     */
+    @Override
+    public boolean preservesOrientation() {
+        return true;
+    }
+
+    /** Get a new transform created by multiplying this instance by the argument. Applying the
+     * returned transform is equivalent to applying {@code t} and <em>then</em> applying this instance.
+     * In other words, the rightmost transform is applied first, as in
+     * {@link AffineTransformMatrix3D#multiply(AffineTransformMatrix3D)}.
+     * @param t the transform to multiply with
+     * @return the result of multiplying this instance by the given transform
+     */
+    public RigidTransform3D multiply(final RigidTransform3D t) {
+        return new RigidTransform3D(rotation.multiply(t.rotation), apply(t.translation));
+    }
+
+    /** Get a new transform created by multiplying the argument by this instance. Applying the
+     * returned transform is equivalent to applying this instance and <em>then</em> applying {@code t}.
+     * @param t the transform to multiply with
+     * @return the result of multiplying the given transform by this instance
+     */
+    public RigidTransform3D premultiply(final RigidTransform3D t) {
+        return t.multiply(this);
+    }
+
+    /** Return an {@link AffineTransformMatrix3D} representing the same transform as this instance.
+     * @return a matrix representing the same transform as this instance
+     */
+    public AffineTransformMatrix3D toMatrix() {
+        return rotation.toMatrix().translate(translation);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Objects.hash(rotation, translation);
+    }
+
+    /** Return true if the given object is a {@link RigidTransform3D} instance with exactly equal
+     * rotation and translation components.
+     * @param obj object to test for equality with the current instance
+     * @return true if the rotation and translation components are exactly equal; otherwise false
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RigidTransform3D)) {
+            return false;
+        }
+
+        final RigidTransform3D other = (RigidTransform3D) obj;
+        return rotation.equals(other.rotation) &&
+                translation.equals(other.translation);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "[rotation= " + rotation +
+                ", translation= " + translation +
+                ']';
+    }
+
+    /** Get a transform that applies the given rotation followed by the given translation.
+     * @param rotation rotation component
+     * @param translation translation component
+     * @return a new transform
+     */
+    public static RigidTransform3D of(final QuaternionRotation rotation, final Vector3D translation) {
+        return new RigidTransform3D(rotation, translation);
+    }
+
+    /** Get a transform representing the identity transform.
+     * @return the identity transform
+     */
+    public static RigidTransform3D identity() {
+        return IDENTITY_INSTANCE;
+    }
+
+    /** Get a transform representing the given translation.
+     * @param translation translation to apply
+     * @return a new transform representing the given translation
+     */
+    public static RigidTransform3D createTranslation(final Vector3D translation) {
+        return new RigidTransform3D(QuaternionRotation.identity(), translation);
+    }
+
+    /** Get a transform representing a rotation about the given center point. The transform
+     * is equivalent to translating the center to the origin, applying the rotation, and then
+     * translating back.
+     * @param center the center of rotation
+     * @param rotation the rotation to apply
+     * @return a new transform representing a rotation about the given center point
+     */
+    public static RigidTransform3D createRotation(final Vector3D center, final QuaternionRotation rotation) {
+        return new RigidTransform3D(rotation, center.subtract(rotation.apply(center)));
+    }
+}
@@ -20,11 +20,13 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 
 import org.apache.commons.geometry.core.internal.DoubleFunction3N;
 import org.apache.commons.geometry.core.internal.SimpleTupleFormat;
 import org.apache.commons.geometry.euclidean.EuclideanVectorSum;
 import org.apache.commons.geometry.euclidean.MultiDimensionalEuclideanVector;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.geometry.euclidean.internal.Vectors;
 import org.apache.commons.numbers.core.Precision;
 
@@ -71,6 +73,9 @@ public class Vector3D extends MultiDimensionalEuclideanVector<Vector3D> {
         return cmp;
     };
 
+    /** Error message used when a centroid is requested for an empty set of points. */
+    private static final String NO_CENTROID_POINTS_MSG = "Cannot compute centroid: no points given";
+
     /** X coordinate value (abscissa). */
     private final double x;
 
@@ -638,12 +643,44 @@ public class Vector3D extends MultiDimensionalEuclideanVector<Vector3D> {
     public static Vector3D centroid(final Iterable<Vector3D> pts) {
         final Iterator<Vector3D> it = pts.iterator();
         if (!it.hasNext()) {
-            throw new IllegalArgumentException("Cannot compute centroid: no points given");
+            throw new IllegalArgumentException(NO_CENTROID_POINTS_MSG);
         }
 
         return computeCentroid(it.next(), it);
     }
 
+    /** Compute the sum of the points stored in the given packed coordinate array, i.e. an array
+     * containing the coordinates of each point in sequence with no gaps between them.
+     * Each coordinate is summed with extended precision. Large arrays are split into fixed-size
+     * blocks that are summed in parallel; the result is deterministic and does not depend on the
+     * number of threads used.
+     * @param xyz packed coordinate array
+     * @return the sum of the points in the array; the zero vector if the array is empty
+     * @throws IllegalArgumentException if the array length is not a multiple of 3
+     */
+    public static Vector3D sumOf(final double[] xyz) {
+        final double[] sums = EuclideanUtils.sumPackedCoordinates(xyz, 3);
+        return new Vector3D(sums[0], sums[1], sums[2]);
+    }
+
+    /** Compute the centroid of the points stored in the given packed coordinate array, i.e. an array
+     * containing the coordinates of each point in sequence with no gaps between them.
+     * The coordinate sums are computed as in {@link #sumOf(double[])}, so the result is deterministic
+     * and does not depend on the number of threads used.
+     * @param xyz packed coordinate array
+     * @return the centroid of the points in the array
+     * @throws IllegalArgumentException if the array contains no points or its length is not a
+     *      multiple of 3
+     */
+    public static Vector3D centroidOf(final double[] xyz) {
+        final int count = EuclideanUtils.getPackedPointCount(xyz, 3);
+        if (count < 1) {
+            throw new IllegalArgumentException(NO_CENTROID_POINTS_MSG);
+        }
+
+        return sumOf(xyz).multiply(1.0 / count);
+    }
+
     /** Internal method for computing the centroid of a set of points.
      * @param first first point
      * @param more iterator with additional points
@@ -874,6 +911,44 @@ public class Vector3D extends MultiDimensionalEuclideanVector<Vector3D> {
                     zsum.getAsDouble());
         }
 
+        /** Add a mutable vector to this instance.
+         * @param vec vector to add
+         * @return this instance
+         */
+        public Sum add(final MutableVector3D vec) {
+            xsum.add(vec.getX());
+            ysum.add(vec.getY());
+            zsum.add(vec.getZ());
+            return this;
+        }
+
+        /** Add a scaled mutable vector to this instance.
+         * @param scale scale factor
+         * @param vec vector to scale and add
+         * @return this instance
+         * @see #addScaled(double, Vector3D)
+         */
+        public Sum addScaled(final double scale, final MutableVector3D vec) {
+            xsum.addProduct(scale, vec.getX());
+            ysum.addProduct(scale, vec.getY());
+            zsum.addProduct(scale, vec.getZ());
+            return this;
+        }
+
+        /** Add the current value of {@code other} to this instance. This method allows partial sums
+         * computed separately, for example in different threads, to be merged. The result is
+         * accumulated with the same extended precision as the individual vector additions. The
+         * argument is not modified.
+         * @param other sum to add to this instance
+         * @return this instance
+         */
+        public Sum combine(final Sum other) {
+            xsum.add(other.xsum);
+            ysum.add(other.ysum);
+            zsum.add(other.zsum);
+            return this;
+        }
+
         /** Create a new instance with an initial value set to the {@link Vector3D#ZERO zero vector}.
          * @return new instance set to zero
          */
@@ -901,5 +976,17 @@ public class Vector3D extends MultiDimensionalEuclideanVector<Vector3D> {
             }
             return s;
         }
+
+        /** Get a {@link Collector} that computes a high-accuracy sum of the input vectors. The
+         * collector supports parallel streams by {@link #combine(Sum) combining} the partial sums
+         * computed for each part of the stream. Note that the grouping of the partial sums depends on
+         * how the stream is split, so the results of parallel reductions may differ in the last bits
+         * between runs. Use {@link Vector3D#sumOf(double[])} for sums of packed coordinate arrays that
+         * are independent of the number of threads used.
+         * @return collector computing the sum of the input vectors
+         */
+        public static Collector<Vector3D, Sum, Vector3D> collector() {
+            return Collector.of(Sum::create, Sum::add, Sum::combine, Sum::get);
+        }
     }
 }
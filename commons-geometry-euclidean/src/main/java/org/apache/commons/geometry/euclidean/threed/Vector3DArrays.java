@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+
+/** Class containing bulk vector operations on 3D vectors stored in separate x, y, and z
+ * coordinate arrays (a "structure of arrays" layout). Vector {@code i} consists of the
+ * values at index {@code i} of each coordinate array.
+ *
+ * <p>The methods in this class are intended for large inputs where the cost of creating
+ * {@link Vector3D} instances dominates the computation. They do not create any intermediate
+ * objects and use straight-line, branch-free loops over contiguous arrays, which allows the
+ * JIT compiler to use SIMD instructions where the platform supports them. In exchange, they
+ * use standard floating point arithmetic instead of the extended precision or overflow-safe
+ * algorithms used by the corresponding {@link Vector3D} methods. The error bounds of each
+ * method are given in its documentation, expressed in terms of the unit roundoff
+ * {@code u = 2}<sup>{@code -53}</sup>.</p>
+ *
+ * <p>Unless otherwise noted, all arrays passed to a method must have the same length.</p>
+ */
+public final class Vector3DArrays {
+
+    /** Utility class; no instantiation. */
+    private Vector3DArrays() {}
+
+    /** Compute the dot product of each pair of vectors {@code a} and {@code b}, storing the results
+     * in {@code result}. The absolute error of each result is bounded by approximately
+     * <code>3u(|a<sub>x</sub>b<sub>x</sub>| + |a<sub>y</sub>b<sub>y</sub>| + |a<sub>z</sub>b<sub>z</sub>|)</code>.
+     * @param ax x coordinates of the first vectors
+     * @param ay y coordinates of the first vectors
+     * @param az z coordinates of the first vectors
+     * @param bx x coordinates of the second vectors
+     * @param by y coordinates of the second vectors
+     * @param bz z coordinates of the second vectors
+     * @param result array to store the dot products in
+     * @throws IllegalArgumentException if the array lengths are not all equal
+     * @see Vector3D#dot(Vector3D)
+     */
+    public static void dot(final double[] ax, final double[] ay, final double[] az,
+            final double[] bx, final double[] by, final double[] bz, final double[] result) {
+        final int count = result.length;
+        checkLength(count, ax, ay, az);
+        checkLength(count, bx, by, bz);
+
+        for (int i = 0; i < count; ++i) {
+            result[i] = (ax[i] * bx[i]) + (ay[i] * by[i]) + (az[i] * bz[i]);
+        }
+    }
+
+    /** Compute the norm of each vector, storing the results in {@code result}. The relative
+     * error of each result is at most {@code 3u} provided that the sum of the squared
+     * coordinates neither overflows nor underflows, i.e. when the nonzero coordinate magnitudes
+     * lie approximately between {@code 1e-150} and {@code 1e150}. Outside of this range, the
+     * result may be infinite or zero where {@link Vector3D#norm()} is finite and nonzero.
+     * @param xs x coordinates
+     * @param ys y coordinates
+     * @param zs z coordinates
+     * @param result array to store the norms in
+     * @throws IllegalArgumentException if the array lengths are not all equal
+     * @see Vector3D#norm()
+     */
+    public static void norm(final double[] xs, final double[] ys, final double[] zs, final double[] result) {
+        final int count = result.length;
+        checkLength(count, xs, ys, zs);
+
+        for (int i = 0; i < count; ++i) {
+            final double x = xs[i];
+            final double y = ys[i];
+            final double z = zs[i];
+
+            result[i] = Math.sqrt((x * x) + (y * y) + (z * z));
+        }
+    }
+
+    /** Normalize each vector in place. The results are identical to those of
+     * {@link Vector3D#normalize()}.
+     * @param xs x coordinates
+     * @param ys y coordinates
+     * @param zs z coordinates
+     * @throws IllegalArgumentException if the array lengths are not all equal or if any vector has
+     *      a norm that is zero, NaN, or infinite; vectors preceding the invalid vector will have
+     *      already been normalized when the exception is thrown
+     * @see Vector3D#normalize()
+     */
+    public static void normalize(final double[] xs, final double[] ys, final double[] zs) {
+        final int count = xs.length;
+        checkLength(count, xs, ys, zs);
+
+        for (int i = 0; i < count; ++i) {
+            final double x = xs[i];
+            final double y = ys[i];
+            final double z = zs[i];
+
+            final double normInv = 1.0 / Math.sqrt((x * x) + (y * y) + (z * z));
+            if (Vectors.isRealNonZero(normInv)) {
+                xs[i] = x * normInv;
+                ys[i] = y * normInv;
+                zs[i] = z * normInv;
+            } else {
+                // fall back to the vector method to handle overflow, underflow, and invalid norms
+                final Vector3D.Unit unit = Vector3D.Unit.from(x, y, z);
+                xs[i] = unit.getX();
+                ys[i] = unit.getY();
+                zs[i] = unit.getZ();
+            }
+        }
+    }
+
+    /** Apply the given transform in place to each point. The absolute error of each resulting
+     * coordinate is bounded by approximately {@code 4u} times the sum of the absolute values of
+     * the terms used to compute it, e.g.
+     * <code>4u(|m<sub>00</sub>x| + |m<sub>01</sub>y| + |m<sub>02</sub>z| + |m<sub>03</sub>|)</code>
+     * for the x coordinate. Use {@link AffineTransformMatrix3D#apply(double[], double[], double[], int, int)}
+     * for results identical to {@link AffineTransformMatrix3D#apply(Vector3D)}.
+     * @param transform transform to apply
+     * @param xs x coordinates
+     * @param ys y coordinates
+     * @param zs z coordinates
+     * @throws IllegalArgumentException if the array lengths are not all equal
+     */
+    public static void transform(final AffineTransformMatrix3D transform,
+            final double[] xs, final double[] ys, final double[] zs) {
+        final int count = xs.length;
+        checkLength(count, xs, ys, zs);
+
+        final double[] m = transform.toArray();
+        final double m00 = m[0];
+        final double m01 = m[1];
+        final double m02 = m[2];
+        final double m03 = m[3];
+        final double m10 = m[4];
+        final double m11 = m[5];
+        final double m12 = m[6];
+        final double m13 = m[7];
+        final double m20 = m[8];
+        final double m21 = m[9];
+        final double m22 = m[10];
+        final double m23 = m[11];
+
+        for (int i = 0; i < count; ++i) {
+            final double x = xs[i];
+            final double y = ys[i];
+            final double z = zs[i];
+
+            xs[i] = (m00 * x) + (m01 * y) + (m02 * z) + m03;
+            ys[i] = (m10 * x) + (m11 * y) + (m12 * z) + m13;
+            zs[i] = (m20 * x) + (m21 * y) + (m22 * z) + m23;
+        }
+    }
+
+    /** Check that each of the given arrays has the expected length.
+     * @param expected expected array length
+     * @param xs x coordinate array
+     * @param ys y coordinate array
+     * @param zs z coordinate array
+     * @throws IllegalArgumentException if any array length is not equal to {@code expected}
+     */
+    private static void checkLength(final int expected, final double[] xs, final double[] ys, final double[] zs) {
+        checkLength(expected, xs.length);
+        checkLength(expected, ys.length);
+        checkLength(expected, zs.length);
+    }
+
+    /** Check that an array length is equal to the expected value.
+     * @param expected expected array length
+     * @param actual actual array length
+     * @throws IllegalArgumentException if {@code actual} is not equal to {@code expected}
+     */
+    private static void checkLength(final int expected, final int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Array length mismatch: " + actual + " != " + expected);
+        }
+    }
+}
@@ -0,0 +1,1008 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.geometry.core.Transform;
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.euclidean.EuclideanCollections;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.geometry.euclidean.threed.Bounds3D;
+import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
+import org.apache.commons.geometry.euclidean.threed.Planes;
+import org.apache.commons.geometry.euclidean.threed.Triangle3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.core.Precision;
+
+/** A {@link TriangleMesh} implementation that stores all vertex coordinates in a single primitive
+ * array and all face vertex indices in a single {@code int} array. No per-vertex or per-face objects
+ * are retained by the mesh; the {@link Vector3D} and {@link TriangleMesh.Face} instances returned by
+ * its methods are created on demand from the underlying arrays. This makes the class well suited for
+ * very large meshes, such as those produced by 3D scanners, where {@link SimpleTriangleMesh} would
+ * require an object for each vertex and face.
+ *
+ * <p>Vertex coordinates are stored as {@code double} values by default. Meshes may optionally be
+ * created with {@code float} coordinate storage, which halves the memory required for the vertices
+ * at the cost of rounding each coordinate to the nearest {@code float} value. All coordinate values
+ * returned from such a mesh are the rounded values.</p>
+ *
+ * <p>As with {@link SimpleTriangleMesh}, this class ensures that faces always contain 3 valid
+ * references into the vertex list but does not enforce that the referenced vertices are unique or that
+ * they define a triangle with non-zero size. The {@link TriangleMesh.Face#definesPolygon()} method can
+ * be used to determine if a face defines a valid triangle.</p>
+ *
+ * <p>Instances of this class are guaranteed to be immutable.</p>
+ */
+public final class CompactTriangleMesh implements TriangleMesh {
+
+    /** Number of coordinates stored per vertex. */
+    private static final int DIMENSION = 3;
+
+    /** Number of vertex indices stored per face. */
+    private static final int FACE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+
+    /** Initial capacity, in number of elements, of the builder arrays. */
+    private static final int INITIAL_BUILDER_CAPACITY = 96;
+
+    /** Packed vertex coordinates when using {@code double} storage; null otherwise. */
+    private final double[] coords;
+
+    /** Packed vertex coordinates when using {@code float} storage; null otherwise. */
+    private final float[] floatCoords;
+
+    /** Number of vertices in the mesh. */
+    private final int vertexCount;
+
+    /** Packed face vertex indices. */
+    private final int[] faces;
+
+    /** The bounds of the mesh. */
+    private final Bounds3D bounds;
+
+    /** Object used for floating point comparisons. */
+    private final Precision.DoubleEquivalence precision;
+
+    /** Lazily computed adjacency information for the mesh. */
+    private volatile TriangleMeshAdjacency adjacency;
+
+    /** Construct a new instance from the given packed arrays. Exactly one of {@code coords} and
+     * {@code floatCoords} must be non-null. No validation or copying is performed.
+     * @param coords packed {@code double} vertex coordinates; may be null
+     * @param floatCoords packed {@code float} vertex coordinates; may be null
+     * @param faces packed face vertex indices
+     * @param bounds mesh bounds; may be null
+     * @param precision precision context used when creating face polygons
+     */
+    private CompactTriangleMesh(final double[] coords, final float[] floatCoords, final int[] faces,
+            final Bounds3D bounds, final Precision.DoubleEquivalence precision) {
+        this.coords = coords;
+        this.floatCoords = floatCoords;
+        this.vertexCount = (coords != null ? coords.length : floatCoords.length) / DIMENSION;
+        this.faces = faces;
+        this.bounds = bounds;
+        this.precision = precision;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterable<Vector3D> vertices() {
+        return getVertices();
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The returned list is an unmodifiable view of the mesh vertices; its elements are
+     * created on demand.</p>
+     */
+    @Override
+    public List<Vector3D> getVertices() {
+        return new VertexList();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /** Get the vertex at the given index.
+     * @param index index of the vertex to retrieve
+     * @return vertex at the given index
+     * @throws IndexOutOfBoundsException if the index is out of bounds of the mesh vertex list
+     */
+    public Vector3D getVertex(final int index) {
+        checkIndex(index, vertexCount);
+
+        final int i = index * DIMENSION;
+        return Vector3D.of(coordinate(i), coordinate(i + 1), coordinate(i + 2));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getVertexCoordinates() {
+        if (coords != null) {
+            return coords.clone();
+        }
+
+        final double[] result = new double[floatCoords.length];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = floatCoords[i];
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterable<TriangleMesh.Face> faces() {
+        return () -> new FaceIterator<>(Function.identity());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<TriangleMesh.Face> getFaces() {
+        final int count = getFaceCount();
+
+        final List<TriangleMesh.Face> faceList = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            faceList.add(new CompactTriangleFace(i));
+        }
+
+        return faceList;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFaceCount() {
+        return faces.length / FACE_SIZE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TriangleMesh.Face getFace(final int index) {
+        checkIndex(index, getFaceCount());
+
+        return new CompactTriangleFace(index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int[] getFaceIndices() {
+        return faces.clone();
+    }
+
+    /** Get the packed face index array for the mesh. The array is not copied and must not be modified.
+     * @return the packed face index array for the mesh
+     */
+    int[] getFaceIndexArray() {
+        return faces;
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The adjacency information is computed on first access and cached.</p>
+     */
+    @Override
+    public TriangleMeshAdjacency getAdjacency() {
+        TriangleMeshAdjacency result = adjacency;
+        if (result == null) {
+            result = TriangleMeshAdjacency.from(this);
+            adjacency = result;
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Bounds3D getBounds() {
+        return bounds;
+    }
+
+    /** Get the precision context for the mesh. This context is used during construction of
+     * face {@link Triangle3D} instances.
+     * @return the precision context for the mesh
+     */
+    public Precision.DoubleEquivalence getPrecision() {
+        return precision;
+    }
+
+    /** Return true if this mesh stores its vertex coordinates as {@code float} values.
+     * @return true if this mesh stores its vertex coordinates as {@code float} values
+     */
+    public boolean isFloatStorage() {
+        return floatCoords != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Stream<PlaneConvexSubset> boundaryStream() {
+        return createFaceStream(TriangleMesh.Face::getPolygon);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Stream<Triangle3D> triangleStream() {
+        return createFaceStream(TriangleMesh.Face::getPolygon);
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The returned mesh uses the same coordinate storage type as this instance and shares its
+     * face index array.</p>
+     */
+    @Override
+    public CompactTriangleMesh transform(final Transform<Vector3D> transform) {
+        // only the vertices and bounds are modified; the faces are the same
+        if (coords != null) {
+            final double[] tCoords = coords.clone();
+            if (transform instanceof AffineTransformMatrix3D) {
+                ((AffineTransformMatrix3D) transform).apply(tCoords);
+            } else {
+                for (int i = 0; i < tCoords.length; i += DIMENSION) {
+                    final Vector3D t = transform.apply(Vector3D.of(tCoords[i], tCoords[i + 1], tCoords[i + 2]));
+                    tCoords[i] = t.getX();
+                    tCoords[i + 1] = t.getY();
+                    tCoords[i + 2] = t.getZ();
+                }
+            }
+
+            return new CompactTriangleMesh(tCoords, null, faces, computeBounds(tCoords, null), precision);
+        }
+
+        final float[] tCoords = new float[floatCoords.length];
+        for (int i = 0; i < tCoords.length; i += DIMENSION) {
+            final Vector3D t = transform.apply(Vector3D.of(floatCoords[i], floatCoords[i + 1], floatCoords[i + 2]));
+            tCoords[i] = (float) t.getX();
+            tCoords[i + 1] = (float) t.getY();
+            tCoords[i + 2] = (float) t.getZ();
+        }
+
+        return new CompactTriangleMesh(null, tCoords, faces, computeBounds(null, tCoords), precision);
+    }
+
+    /** Return this instance if the given precision context is equal to the current precision context.
+     * Otherwise, create a new mesh with the given precision context but the same vertices, faces, and
+     * bounds.
+     * @param meshPrecision precision context to use when generating face polygons
+     * @return a mesh instance with the given precision context and the same mesh structure as the current
+     *      instance
+     */
+    @Override
+    public CompactTriangleMesh toTriangleMesh(final Precision.DoubleEquivalence meshPrecision) {
+        if (this.precision.equals(meshPrecision)) {
+            return this;
+        }
+
+        return new CompactTriangleMesh(coords, floatCoords, faces, bounds, meshPrecision);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append(getClass().getSimpleName())
+            .append("[vertexCount= ")
+            .append(getVertexCount())
+            .append(", faceCount= ")
+            .append(getFaceCount())
+            .append(", bounds= ")
+            .append(getBounds())
+            .append(']');
+
+        return sb.toString();
+    }
+
+    /** Get the vertex coordinate value at the given index in the packed coordinate array.
+     * @param idx packed coordinate array index
+     * @return vertex coordinate value
+     */
+    private double coordinate(final int idx) {
+        return coords != null ?
+                coords[idx] :
+                floatCoords[idx];
+    }
+
+    /** Create a stream containing the results of applying {@code fn} to each face in
+     * the mesh.
+     * @param <T> Stream element type
+     * @param fn function used to extract the stream values from each face
+     * @return a stream containing the results of applying {@code fn} to each face in
+     *      the mesh
+     */
+    private <T> Stream<T> createFaceStream(final Function<TriangleMesh.Face, T> fn) {
+        final Iterable<T> iterable = () -> new FaceIterator<>(fn);
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+
+    /** Return a builder for creating new triangle meshes that store vertex coordinates as {@code double}
+     * values.
+     * @param precision precision object used for floating point comparisons
+     * @return a builder for creating new triangle mesh objects
+     */
+    public static Builder builder(final Precision.DoubleEquivalence precision) {
+        return new Builder(precision, false);
+    }
+
+    /** Return a builder for creating new triangle meshes that store vertex coordinates as {@code float}
+     * values. All vertex coordinates given to the builder are rounded to the nearest {@code float} value.
+     * @param precision precision object used for floating point comparisons
+     * @return a builder for creating new triangle mesh objects with {@code float} coordinate storage
+     */
+    public static Builder floatBuilder(final Precision.DoubleEquivalence precision) {
+        return new Builder(precision, true);
+    }
+
+    /** Construct a new triangle mesh from the given packed vertex coordinate and face index arrays. The
+     * vertex array must contain the coordinates of each vertex in sequence, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, ...]</code>, and the face array
+     * must contain the three vertex indices of each face in sequence. The arrays are copied.
+     * @param vertexCoords packed vertex coordinates
+     * @param faceIndices packed face vertex indices
+     * @param precision precision context used for floating point comparisons
+     * @return a new triangle mesh instance
+     * @throws IllegalArgumentException if either array length is not a multiple of 3 or if any face
+     *      index is not a valid index into the vertex list
+     */
+    public static CompactTriangleMesh from(final double[] vertexCoords, final int[] faceIndices,
+            final Precision.DoubleEquivalence precision) {
+        final int count = EuclideanUtils.getPackedPointCount(vertexCoords, DIMENSION);
+        final double[] meshCoords = vertexCoords.clone();
+
+        return new CompactTriangleMesh(meshCoords, null, validateFaces(faceIndices, count),
+                computeBounds(meshCoords, null), precision);
+    }
+
+    /** Construct a new triangle mesh with {@code float} coordinate storage from the given packed vertex
+     * coordinate and face index arrays. The arrays are laid out as described in
+     * {@link #from(double[], int[], Precision.DoubleEquivalence)} and are copied.
+     * @param vertexCoords packed vertex coordinates
+     * @param faceIndices packed face vertex indices
+     * @param precision precision context used for floating point comparisons
+     * @return a new triangle mesh instance
+     * @throws IllegalArgumentException if either array length is not a multiple of 3 or if any face
+     *      index is not a valid index into the vertex list
+     */
+    public static CompactTriangleMesh from(final float[] vertexCoords, final int[] faceIndices,
+            final Precision.DoubleEquivalence precision) {
+        final int count = getPackedCount(vertexCoords.length, "Packed coordinate array");
+        final float[] meshCoords = vertexCoords.clone();
+
+        return new CompactTriangleMesh(null, meshCoords, validateFaces(faceIndices, count),
+                computeBounds(null, meshCoords), precision);
+    }
+
+    /** Construct a new mesh instance containing all triangles from the given boundary
+     * source. Equivalent vertices are reused wherever possible.
+     * @param boundarySrc boundary source to construct a mesh from
+     * @param precision precision context used for floating point comparisons
+     * @return new mesh instance containing all triangles from the given boundary
+     *      source
+     * @throws IllegalStateException if any boundary in the boundary source has infinite size and cannot
+     *      be converted to triangles
+     */
+    public static CompactTriangleMesh from(final BoundarySource3D boundarySrc,
+            final Precision.DoubleEquivalence precision) {
+        final Builder builder = builder(precision);
+        try (Stream<Triangle3D> stream = boundarySrc.triangleStream()) {
+            stream.forEach(tri -> builder.addFaceUsingVertices(
+                tri.getPoint1(),
+                tri.getPoint2(),
+                tri.getPoint3()));
+        }
+
+        return builder.build();
+    }
+
+    /** Return a copy of the given packed face index array, validating that it contains whole faces that only
+     * reference valid vertex indices.
+     * @param faceIndices packed face vertex indices
+     * @param vertexCount number of vertices in the mesh
+     * @return a copy of the face index array
+     * @throws IllegalArgumentException if the array length is not a multiple of 3 or any index is not a valid
+     *      index into the vertex list
+     */
+    private static int[] validateFaces(final int[] faceIndices, final int vertexCount) {
+        getPackedFaceCount(faceIndices);
+
+        final int[] result = faceIndices.clone();
+        for (final int idx : result) {
+            validateVertexIndex(idx, vertexCount);
+        }
+        return result;
+    }
+
+    /** Get the number of faces in the given packed face index array.
+     * @param faceIndices packed face vertex indices
+     * @return the number of faces in the array
+     * @throws IllegalArgumentException if the array length is not a multiple of 3
+     */
+    private static int getPackedFaceCount(final int[] faceIndices) {
+        return getPackedCount(faceIndices.length, "Packed face index array");
+    }
+
+    /** Get the number of 3-element groups in a packed array of the given length.
+     * @param length array length
+     * @param description array description to use in error messages
+     * @return the number of 3-element groups in the array
+     * @throws IllegalArgumentException if {@code length} is not a multiple of 3
+     */
+    private static int getPackedCount(final int length, final String description) {
+        if (length % DIMENSION != 0) {
+            throw new IllegalArgumentException(description + " length must be a multiple of " + DIMENSION +
+                    "; was " + length);
+        }
+        return length / DIMENSION;
+    }
+
+    /** Throw an exception if the given vertex index is not valid.
+     * @param idx vertex index to validate
+     * @param vertexCount number of vertices
+     * @return the validated index
+     * @throws IllegalArgumentException if the given index is not a valid index into
+     *      the vertices list
+     */
+    private static int validateVertexIndex(final int idx, final int vertexCount) {
+        if (idx < 0 || idx >= vertexCount) {
+            throw new IllegalArgumentException("Invalid vertex index: " + idx);
+        }
+
+        return idx;
+    }
+
+    /** Throw an {@link IndexOutOfBoundsException} if {@code index} is not in the range {@code [0, size)}.
+     * @param index index to check
+     * @param size list size
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    private static void checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    /** Compute the bounds of the vertices in the given packed coordinate arrays. Exactly one of the
+     * arrays must be non-null.
+     * @param doubleCoords packed {@code double} vertex coordinates; may be null
+     * @param floatCoords packed {@code float} vertex coordinates; may be null
+     * @return the vertex bounds or null if no finite bounds exist
+     */
+    private static Bounds3D computeBounds(final double[] doubleCoords, final float[] floatCoords) {
+        final Bounds3D.Builder builder = Bounds3D.builder();
+        if (doubleCoords != null) {
+            builder.addAll(doubleCoords);
+        } else {
+            for (int i = 0; i < floatCoords.length; i += DIMENSION) {
+                builder.add(Vector3D.of(floatCoords[i], floatCoords[i + 1], floatCoords[i + 2]));
+            }
+        }
+
+        return builder.hasBounds() ?
+                builder.build() :
+                null;
+    }
+
+    /** Unmodifiable list view of the mesh vertices.
+     */
+    private final class VertexList extends AbstractList<Vector3D> implements RandomAccess {
+
+        /** {@inheritDoc} */
+        @Override
+        public Vector3D get(final int index) {
+            return getVertex(index);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return vertexCount;
+        }
+    }
+
+    /** Internal implementation of {@link TriangleMesh.Face} that reads its vertices from the
+     * packed mesh arrays.
+     */
+    private final class CompactTriangleFace implements TriangleMesh.Face {
+
+        /** The index of the face in the mesh. */
+        private final int index;
+
+        CompactTriangleFace(final int index) {
+            this.index = index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int[] getVertexIndices() {
+            final int start = index * FACE_SIZE;
+            return Arrays.copyOfRange(faces, start, start + FACE_SIZE);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<Vector3D> getVertices() {
+            return Arrays.asList(
+                    getPoint1(),
+                    getPoint2(),
+                    getPoint3());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Vector3D getPoint1() {
+            return getVertex(faces[index * FACE_SIZE]);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Vector3D getPoint2() {
+            return getVertex(faces[(index * FACE_SIZE) + 1]);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Vector3D getPoint3() {
+            return getVertex(faces[(index * FACE_SIZE) + 2]);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean definesPolygon() {
+            final Vector3D p1 = getPoint1();
+            final Vector3D v1 = p1.vectorTo(getPoint2());
+            final Vector3D v2 = p1.vectorTo(getPoint3());
+
+            return !precision.eqZero(v1.cross(v2).norm());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Triangle3D getPolygon() {
+            return Planes.triangleFromVertices(
+                    getPoint1(),
+                    getPoint2(),
+                    getPoint3(),
+                    precision);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder(256);
+            sb.append(getClass().getSimpleName())
+                .append("[index= ")
+                .append(getIndex())
+                .append(", vertexIndices= ")
+                .append(Arrays.toString(getVertexIndices()))
+                .append(", vertices= ")
+                .append(getVertices())
+                .append(']');
+
+            return sb.toString();
+        }
+    }
+
+    /** Internal class for iterating through the mesh faces and extracting a value from each.
+     * @param <T> Type returned by the iterator
+     */
+    private final class FaceIterator<T> implements Iterator<T> {
+
+        /** The current index of the iterator. */
+        private int index;
+
+        /** Function to apply to each face in the mesh. */
+        private final Function<? super TriangleMesh.Face, T> fn;
+
+        /** Construct a new instance for iterating through the mesh faces and extracting
+         * a value from each.
+         * @param fn function to apply to each face in order to obtain the iterated value
+         */
+        FaceIterator(final Function<? super TriangleMesh.Face, T> fn) {
+            this.fn = fn;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return index < getFaceCount();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public T next() {
+            if (hasNext()) {
+                return fn.apply(new CompactTriangleFace(index++));
+            }
+            throw new NoSuchElementException();
+        }
+    }
+
+    /** Builder class for creating compact mesh instances. Vertex coordinates and face indices are
+     * accumulated directly in growable primitive arrays.
+     */
+    public static final class Builder {
+
+        /** Packed vertex coordinates when using {@code double} storage; null otherwise. */
+        private double[] coords;
+
+        /** Packed vertex coordinates when using {@code float} storage; null otherwise. */
+        private float[] floatCoords;
+
+        /** Number of vertices added to the builder. */
+        private int vertexCount;
+
+        /** Packed face vertex indices. */
+        private int[] faces = new int[INITIAL_BUILDER_CAPACITY];
+
+        /** Number of faces added to the builder. */
+        private int faceCount;
+
+        /** Map of vertices to their first occurrence in the vertex list. */
+        private PointMap<Vector3D, Integer> vertexIndexMap;
+
+        /** Precision context used for floating point comparisons. */
+        private final Precision.DoubleEquivalence precision;
+
+        /** Flag set to true once a mesh is constructed from this builder. */
+        private boolean built;
+
+        /** Construct a new builder.
+         * @param precision precision context used for floating point comparisons
+         * @param floatStorage if true, vertex coordinates are stored as {@code float} values
+         */
+        Builder(final Precision.DoubleEquivalence precision, final boolean floatStorage) {
+            Objects.requireNonNull(precision, "Precision context must not be null");
+
+            this.precision = precision;
+            if (floatStorage) {
+                floatCoords = new float[INITIAL_BUILDER_CAPACITY];
+            } else {
+                coords = new double[INITIAL_BUILDER_CAPACITY];
+            }
+        }
+
+        /** Use a vertex in the constructed mesh. If an equivalent vertex already exist, as determined
+         * by the configured {@link Precision.DoubleEquivalence}, then the index of the previously added
+         * vertex is returned. Otherwise, the given vertex is added to the vertex list and the index
+         * of the new entry is returned. This is in contrast with the {@link #addVertex(Vector3D)},
+         * which always adds a new entry to the vertex list.
+         * @param vertex vertex to use
+         * @return the index of the added vertex or an equivalent vertex that was added previously
+         * @see #addVertex(Vector3D)
+         */
+        public int useVertex(final Vector3D vertex) {
+            validateCanModify();
+
+            final Vector3D stored = toStoredValue(vertex);
+            final int nextIdx = vertexCount;
+            final Integer actualIdx = getVertexIndexMap().putIfAbsent(stored, nextIdx);
+
+            // add to the vertex list if not already present
+            if (actualIdx == null) {
+                appendVertex(stored.getX(), stored.getY(), stored.getZ());
+                return nextIdx;
+            }
+
+            return actualIdx;
+        }
+
+        /** Add a vertex directly to the vertex list, returning the index of the added vertex.
+         * The vertex is added regardless of whether or not an equivalent vertex already
+         * exists in the list. This is in contrast with the {@link #useVertex(Vector3D)} method,
+         * which only adds a new entry to the vertex list if an equivalent one does not
+         * already exist.
+         * @param vertex the vertex to append
+         * @return the index of the appended vertex in the vertex list
+         */
+        public int addVertex(final Vector3D vertex) {
+            return addVertex(vertex.getX(), vertex.getY(), vertex.getZ());
+        }
+
+        /** Add a vertex with the given coordinates directly to the vertex list, returning the index of
+         * the added vertex. The vertex is added regardless of whether or not an equivalent vertex already
+         * exists in the list.
+         * @param x vertex x coordinate
+         * @param y vertex y coordinate
+         * @param z vertex z coordinate
+         * @return the index of the appended vertex in the vertex list
+         * @see #addVertex(Vector3D)
+         */
+        public int addVertex(final double x, final double y, final double z) {
+            validateCanModify();
+
+            final int idx = appendVertex(x, y, z);
+            if (vertexIndexMap != null) {
+                // add to the map in order to keep it in sync
+                vertexIndexMap.putIfAbsent(getVertex(idx), idx);
+            }
+
+            return idx;
+        }
+
+        /** Add the vertices stored in the given packed coordinate array directly to the vertex list. No
+         * equivalent vertices are reused.
+         * @param vertexCoords packed vertex coordinates, i.e.
+         *      <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, ...]</code>
+         * @return this instance
+         * @throws IllegalArgumentException if the array length is not a multiple of 3
+         * @see #addVertex(double, double, double)
+         */
+        public Builder addVertices(final double[] vertexCoords) {
+            final int count = EuclideanUtils.getPackedPointCount(vertexCoords, DIMENSION);
+            ensureVertexCapacity(vertexCount + count);
+
+            for (int i = 0; i < vertexCoords.length; i += DIMENSION) {
+                addVertex(vertexCoords[i], vertexCoords[i + 1], vertexCoords[i + 2]);
+            }
+
+            return this;
+        }
+
+        /** Ensure that this instance has enough capacity to store at least {@code numVertices}
+         * number of vertices without reallocating space. This can be used to help improve performance
+         * and memory usage when creating meshes with large numbers of vertices.
+         * @param numVertices the number of vertices to ensure that this instance can contain
+         * @return this instance
+         */
+        public Builder ensureVertexCapacity(final int numVertices) {
+            final int length = numVertices * DIMENSION;
+            if (coords != null) {
+                if (coords.length < length) {
+                    coords = Arrays.copyOf(coords, length);
+                }
+            } else if (floatCoords.length < length) {
+                floatCoords = Arrays.copyOf(floatCoords, length);
+            }
+            return this;
+        }
+
+        /** Get the current number of vertices in this mesh.
+         * @return the current number of vertices in this mesh
+         */
+        public int getVertexCount() {
+            return vertexCount;
+        }
+
+        /** Get the vertex at the given index. If the builder uses {@code float} coordinate storage, the
+         * returned vertex contains the rounded coordinate values.
+         * @param index index of the vertex to retrieve
+         * @return vertex at the given index
+         * @throws IndexOutOfBoundsException if the index is out of bounds of the mesh vertex list
+         */
+        public Vector3D getVertex(final int index) {
+            checkIndex(index, vertexCount);
+
+            final int i = index * DIMENSION;
+            return coords != null ?
+                    Vector3D.of(coords[i], coords[i + 1], coords[i + 2]) :
+                    Vector3D.of(floatCoords[i], floatCoords[i + 1], floatCoords[i + 2]);
+        }
+
+        /** Append a face to this mesh.
+         * @param index1 index of the first vertex in the face
+         * @param index2 index of the second vertex in the face
+         * @param index3 index of the third vertex in the face
+         * @return this instance
+         * @throws IllegalArgumentException if any of the arguments is not a valid index into
+         *      the current vertex list
+         */
+        public Builder addFace(final int index1, final int index2, final int index3) {
+            validateCanModify();
+
+            validateVertexIndex(index1, vertexCount);
+            validateVertexIndex(index2, vertexCount);
+            validateVertexIndex(index3, vertexCount);
+
+            final int i = faceCount * FACE_SIZE;
+            if (i == faces.length) {
+                faces = Arrays.copyOf(faces, grow(faces.length));
+            }
+            faces[i] = index1;
+            faces[i + 1] = index2;
+            faces[i + 2] = index3;
+            ++faceCount;
+
+            return this;
+        }
+
+        /** Append the faces stored in the given packed face index array to this mesh.
+         * @param faceIndices packed face vertex indices, i.e.
+         *      <code>[a<sub>0</sub>, b<sub>0</sub>, c<sub>0</sub>, a<sub>1</sub>, ...]</code>
+         * @return this instance
+         * @throws IllegalArgumentException if the array length is not a multiple of 3 or if any index
+         *      is not a valid index into the current vertex list
+         */
+        public Builder addFaces(final int[] faceIndices) {
+            final int count = getPackedFaceCount(faceIndices);
+            ensureFaceCapacity(faceCount + count);
+
+            for (int i = 0; i < faceIndices.length; i += FACE_SIZE) {
+                addFace(faceIndices[i], faceIndices[i + 1], faceIndices[i + 2]);
+            }
+
+            return this;
+        }
+
+        /** Add a face to this mesh, only adding vertices to the vertex list if equivalent vertices are
+         * not found.
+         * @param p1 first face vertex
+         * @param p2 second face vertex
+         * @param p3 third face vertex
+         * @return this instance
+         * @see #useVertex(Vector3D)
+         */
+        public Builder addFaceUsingVertices(final Vector3D p1, final Vector3D p2, final Vector3D p3) {
+            return addFace(
+                        useVertex(p1),
+                        useVertex(p2),
+                        useVertex(p3)
+                    );
+        }
+
+        /** Add a face and its vertices to this mesh. The vertices are always added to the vertex list,
+         * regardless of whether or not equivalent vertices exist in the vertex list.
+         * @param p1 first face vertex
+         * @param p2 second face vertex
+         * @param p3 third face vertex
+         * @return this instance
+         * @see #addVertex(Vector3D)
+         */
+        public Builder addFaceAndVertices(final Vector3D p1, final Vector3D p2, final Vector3D p3) {
+            return addFace(
+                        addVertex(p1),
+                        addVertex(p2),
+                        addVertex(p3)
+                    );
+        }
+
+        /** Ensure that this instance has enough capacity to store at least {@code numFaces}
+         * number of faces without reallocating space. This can be used to help improve performance
+         * and memory usage when creating meshes with large numbers of faces.
+         * @param numFaces the number of faces to ensure that this instance can contain
+         * @return this instance
+         */
+        public Builder ensureFaceCapacity(final int numFaces) {
+            final int length = numFaces * FACE_SIZE;
+            if (faces.length < length) {
+                faces = Arrays.copyOf(faces, length);
+            }
+            return this;
+        }
+
+        /** Get the current number of faces in this mesh.
+         * @return the current number of faces in this mesh
+         */
+        public int getFaceCount() {
+            return faceCount;
+        }
+
+        /** Build a triangle mesh containing the vertices and faces in this builder.
+         * @return a triangle mesh containing the vertices and faces in this builder
+         */
+        public CompactTriangleMesh build() {
+            built = true;
+            vertexIndexMap = null;
+
+            // trim the arrays to size; the builder can no longer be modified so the trimmed
+            // arrays can be shared with the mesh
+            final int coordLength = vertexCount * DIMENSION;
+            if (coords != null && coords.length != coordLength) {
+                coords = Arrays.copyOf(coords, coordLength);
+            } else if (floatCoords != null && floatCoords.length != coordLength) {
+                floatCoords = Arrays.copyOf(floatCoords, coordLength);
+            }
+
+            final int faceLength = faceCount * FACE_SIZE;
+            if (faces.length != faceLength) {
+                faces = Arrays.copyOf(faces, faceLength);
+            }
+
+            return new CompactTriangleMesh(coords, floatCoords, faces,
+                    computeBounds(coords, floatCoords), precision);
+        }
+
+        /** Get the vertex index map, creating and initializing it if needed.
+         * @return the vertex index map
+         */
+        private PointMap<Vector3D, Integer> getVertexIndexMap() {
+            if (vertexIndexMap == null) {
+                vertexIndexMap = EuclideanCollections.pointMap3D(precision);
+
+                // populate the index map
+                for (int i = 0; i < vertexCount; ++i) {
+                    vertexIndexMap.putIfAbsent(getVertex(i), i);
+                }
+            }
+            return vertexIndexMap;
+        }
+
+        /** Get the value that is stored in this builder for the given vertex, i.e. the vertex itself
+         * or the vertex with its coordinates rounded to {@code float} values.
+         * @param vertex input vertex
+         * @return the stored value of the vertex
+         */
+        private Vector3D toStoredValue(final Vector3D vertex) {
+            return coords != null ?
+                    vertex :
+                    Vector3D.of((float) vertex.getX(), (float) vertex.getY(), (float) vertex.getZ());
+        }
+
+        /** Append the given vertex coordinates to the end of the vertex list. The index of the vertex is
+         * returned.
+         * @param x vertex x coordinate
+         * @param y vertex y coordinate
+         * @param z vertex z coordinate
+         * @return the index of the appended vertex
+         */
+        private int appendVertex(final double x, final double y, final double z) {
+            final int i = vertexCount * DIMENSION;
+            if (coords != null) {
+                if (i == coords.length) {
+                    coords = Arrays.copyOf(coords, grow(coords.length));
+                }
+                coords[i] = x;
+                coords[i + 1] = y;
+                coords[i + 2] = z;
+            } else {
+                if (i == floatCoords.length) {
+                    floatCoords = Arrays.copyOf(floatCoords, grow(floatCoords.length));
+                }
+                floatCoords[i] = (float) x;
+                floatCoords[i + 1] = (float) y;
+                floatCoords[i + 2] = (float) z;
+            }
+
+            return vertexCount++;
+        }
+
+        /** Throw an exception if the builder has been used to construct a mesh instance
+         * and can no longer be modified.
+         */
+        private void validateCanModify() {
+            if (built) {
+                throw new IllegalStateException("Builder instance cannot be modified: mesh construction is complete");
+            }
+        }
+
+        /** Compute the new length of a full builder array with the given current length. The array
+         * is grown by 50% and the result is always a multiple of 3.
+         * @param length current array length; must be a multiple of 3
+         * @return new array length
+         */
+        private static int grow(final int length) {
+            final int newLength = length + (length >> 1);
+            return newLength - (newLength % DIMENSION) + DIMENSION;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.core.Precision;
+
+/** Internal class used to determine, in parallel, the result of adding a sequence of vertices stored in a
+ * packed coordinate array to a vertex list one at a time, reusing existing equivalent vertices. The vertex
+ * list is assumed to have been constructed in the same manner, so that the vertices which are reused are
+ * exactly those that are not equivalent to any previously reused vertex.
+ *
+ * <p>Vertices with identical coordinates are first grouped by sorting them by the hash codes of their
+ * coordinates. The distinct values of each coordinate of the remaining vertices and of the existing vertex
+ * list are then sorted and split into clusters wherever two consecutive values are not equivalent.
+ * Since the precision context considers two values equivalent only if all values between them are
+ * equivalent to both, equivalent vertices must lie in the same cluster along each axis. Vertices are
+ * therefore only compared with the few vertices sharing their clusters.</p>
+ *
+ * <p>The result of a sequential lookup of a vertex equivalent to more than one reused vertex depends on
+ * the internal structure of the lookup map. Instances of this class do not attempt to reproduce these
+ * results and report such input as ambiguous instead.</p>
+ */
+final class FacetVertexWelder {
+
+    /** Number of coordinates per vertex. */
+    private static final int DIMENSION = 3;
+
+    /** Number of array elements processed sequentially as a single parallel work item. */
+    private static final int BLOCK_SIZE = 1 << 14;
+
+    /** Maximum number of vertices with equal cluster hash codes compared with each other; larger
+     * groups are reported as ambiguous in order to avoid quadratic run times.
+     */
+    private static final int MAX_CLUSTER_SIZE = 64;
+
+    /** Multiplier used to combine hash codes. */
+    private static final long HASH_MULTIPLIER = 0x9e3779b97f4a7c15L;
+
+    /** Number of bits to shift hash codes by when combining them with array indices. */
+    private static final int HASH_SHIFT = 32;
+
+    /** Packed coordinates of the vertices to add. */
+    private final double[] coords;
+
+    /** Number of vertices to add. */
+    private final int count;
+
+    /** Existing vertex list. */
+    private final List<Vector3D> existing;
+
+    /** Precision context used to determine vertex equivalence. */
+    private final Precision.DoubleEquivalence precision;
+
+    /** Construct a new instance.
+     * @param coords packed coordinates of the vertices to add
+     * @param existing existing vertex list
+     * @param precision precision context used to determine vertex equivalence
+     */
+    private FacetVertexWelder(final double[] coords, final List<Vector3D> existing,
+            final Precision.DoubleEquivalence precision) {
+        this.coords = coords;
+        this.count = coords.length / DIMENSION;
+        this.existing = existing;
+        this.precision = precision;
+    }
+
+    /** Determine the result of adding each vertex in the given packed coordinate array to the existing
+     * vertex list in turn, reusing equivalent vertices when present. The returned array contains, for
+     * each vertex, either its own index if the vertex is appended to the vertex list, the index of an
+     * earlier vertex in the coordinate array whose vertex list index is used, or {@code -(i + 1)} if the
+     * existing vertex at index {@code i} is used. Null is returned if the result is ambiguous.
+     * @param coords packed coordinates of the vertices to add; all coordinates must be finite
+     * @param existing existing vertex list
+     * @param precision precision context used to determine vertex equivalence
+     * @return array containing the vertex used for each input vertex or null if the result is ambiguous
+     */
+    static int[] weld(final double[] coords, final List<Vector3D> existing,
+            final Precision.DoubleEquivalence precision) {
+        return new FacetVertexWelder(coords, existing, precision).weld();
+    }
+
+    /** Determine the vertex used for each input vertex.
+     * @return array containing the vertex used for each input vertex or null if the result is ambiguous
+     * @see #weld(double[], List, Precision.DoubleEquivalence)
+     */
+    private int[] weld() {
+        final int[] groups = groupIdenticalVertices();
+
+        // gather the existing vertices and the first vertex of each group of identical input vertices
+        // into a single list of distinct points, in the order that they are added
+        final int existingCount = existing.size();
+        final int[] distinct = new int[count];
+        int distinctCount = 0;
+        for (int i = 0; i < count; ++i) {
+            if (groups[i] == i) {
+                distinct[distinctCount++] = i;
+            }
+        }
+
+        final int pointCount = existingCount + distinctCount;
+        final double[] xs = new double[pointCount];
+        final double[] ys = new double[pointCount];
+        final double[] zs = new double[pointCount];
+        for (int i = 0; i < existingCount; ++i) {
+            final Vector3D pt = existing.get(i);
+            xs[i] = pt.getX();
+            ys[i] = pt.getY();
+            zs[i] = pt.getZ();
+        }
+        for (int i = 0; i < distinctCount; ++i) {
+            final int offset = distinct[i] * DIMENSION;
+            xs[existingCount + i] = coords[offset];
+            ys[existingCount + i] = coords[offset + 1];
+            zs[existingCount + i] = coords[offset + 2];
+        }
+
+        final int[] targets = resolvePoints(xs, ys, zs, existingCount);
+        if (targets == null) {
+            return null;
+        }
+
+        // map each input vertex to the vertex used by the first vertex of its group
+        final int[] pointIndices = new int[count];
+        for (int i = 0; i < distinctCount; ++i) {
+            pointIndices[distinct[i]] = existingCount + i;
+        }
+
+        final int[] result = new int[count];
+        for (int i = 0; i < count; ++i) {
+            final int first = groups[i];
+            final int target = targets[pointIndices[first]];
+            if (target < existingCount) {
+                result[i] = -(target + 1);
+            } else if (target == pointIndices[first]) {
+                result[i] = first;
+            } else {
+                result[i] = distinct[target - existingCount];
+            }
+        }
+
+        return result;
+    }
+
+    /** Group the input vertices with identical coordinates. The returned array contains the index of the
+     * first vertex with identical coordinates for each input vertex.
+     * @return array containing the index of the first vertex with identical coordinates for each vertex
+     */
+    private int[] groupIdenticalVertices() {
+        final long[] keys = createSortedKeys(count, i -> {
+            final int offset = i * DIMENSION;
+            return hash(Double.doubleToLongBits(coords[offset]),
+                    Double.doubleToLongBits(coords[offset + 1]),
+                    Double.doubleToLongBits(coords[offset + 2]));
+        });
+
+        final int[] groups = new int[count];
+        testRuns(keys, (start, end) -> {
+            for (int i = start; i < end; ++i) {
+                final int idx = (int) keys[i];
+                groups[idx] = idx;
+
+                // vertices in the run are in index order, so the first identical vertex found is the
+                // first vertex of the group
+                for (int j = start; j < i; ++j) {
+                    final int other = (int) keys[j];
+                    if (identicalVertices(idx, other)) {
+                        groups[idx] = groups[other];
+                        break;
+                    }
+                }
+            }
+            return true;
+        });
+
+        return groups;
+    }
+
+    /** Determine the point used for each of the given distinct points when added to a point list in turn.
+     * The first {@code existingCount} points form the existing list. The returned array contains the index
+     * of the point used for each point, which is the point itself if it is not equivalent to any previous
+     * point used.
+     * @param xs point x coordinates
+     * @param ys point y coordinates
+     * @param zs point z coordinates
+     * @param existingCount number of points in the existing list
+     * @return array containing the index of the point used for each point or null if the result
+     *      is ambiguous
+     */
+    private int[] resolvePoints(final double[] xs, final double[] ys, final double[] zs,
+            final int existingCount) {
+        final int[] xClusters = clusterValues(xs);
+        final int[] yClusters = clusterValues(ys);
+        final int[] zClusters = clusterValues(zs);
+
+        final long[] keys = createSortedKeys(xs.length, i -> hash(xClusters[i], yClusters[i], zClusters[i]));
+
+        final int[] targets = new int[xs.length];
+        final boolean unambiguous = testRuns(keys, (start, end) -> {
+            if (end - start > MAX_CLUSTER_SIZE) {
+                return false;
+            }
+
+            // points in the run are in order; each point is used if it is not equivalent to a previous
+            // used point; used points are therefore not equivalent to each other
+            for (int i = start; i < end; ++i) {
+                final int idx = (int) keys[i];
+                targets[idx] = idx;
+
+                for (int j = start; j < i; ++j) {
+                    final int other = (int) keys[j];
+                    if (targets[other] == other &&
+                            xClusters[idx] == xClusters[other] &&
+                            yClusters[idx] == yClusters[other] &&
+                            zClusters[idx] == zClusters[other] &&
+                            precision.eq(xs[idx], xs[other]) &&
+                            precision.eq(ys[idx], ys[other]) &&
+                            precision.eq(zs[idx], zs[other])) {
+                        if (targets[idx] != idx) {
+                            return false;
+                        }
+                        targets[idx] = other;
+                    }
+                }
+            }
+
+            // the result is ambiguous if an added point is equivalent to more than one used point, since
+            // lookups of the point or of identical input vertices may then return either of them
+            for (int i = start; i < end; ++i) {
+                final int idx = (int) keys[i];
+                if (idx >= existingCount && targets[idx] != idx) {
+                    for (int j = start; j < end; ++j) {
+                        final int other = (int) keys[j];
+                        if (other > idx &&
+                                targets[other] == other &&
+                                precision.eq(xs[idx], xs[other]) &&
+                                precision.eq(ys[idx], ys[other]) &&
+                                precision.eq(zs[idx], zs[other])) {
+                            return false;
+                        }
+                    }
+                }
+            }
+
+            return true;
+        });
+
+        return unambiguous ?
+                targets :
+                null;
+    }
+
+    /** Assign each of the given values to a cluster of consecutive sorted values in which each pair of
+     * adjacent values is equivalent. Equivalent values are always assigned to the same cluster.
+     * @param values values to cluster
+     * @return array containing the cluster number of each value
+     */
+    private int[] clusterValues(final double[] values) {
+        final int length = values.length;
+        final double[] sorted = values.clone();
+        Arrays.parallelSort(sorted);
+
+        // compute the cluster number of each sorted value by counting the cluster boundaries
+        // before it
+        final int[] sortedClusters = new int[length];
+        forEachIndex(length, i -> {
+            if (i > 0 && !precision.eq(sorted[i - 1], sorted[i])) {
+                sortedClusters[i] = 1;
+            }
+        });
+        Arrays.parallelPrefix(sortedClusters, Integer::sum);
+
+        // equal values are always in the same cluster, so the position of any equal sorted value can be used
+        final int[] clusters = new int[length];
+        forEachIndex(length, i -> clusters[i] = sortedClusters[Arrays.binarySearch(sorted, values[i])]);
+
+        return clusters;
+    }
+
+    /** Return true if the input vertices at the given indices have identical coordinates.
+     * @param a index of the first vertex
+     * @param b index of the second vertex
+     * @return true if the vertices have identical coordinates
+     */
+    private boolean identicalVertices(final int a, final int b) {
+        final int aOffset = a * DIMENSION;
+        final int bOffset = b * DIMENSION;
+        return Double.doubleToLongBits(coords[aOffset]) == Double.doubleToLongBits(coords[bOffset]) &&
+                Double.doubleToLongBits(coords[aOffset + 1]) == Double.doubleToLongBits(coords[bOffset + 1]) &&
+                Double.doubleToLongBits(coords[aOffset + 2]) == Double.doubleToLongBits(coords[bOffset + 2]);
+    }
+
+    /** Create an array containing a sort key for each index in the range {@code [0, length)} and sort it.
+     * Each key combines the hash code of the element at the index with the index itself, so that the
+     * sorted keys place elements with equal hash codes next to each other in index order.
+     * @param length number of elements
+     * @param hashFn function computing the hash code of the element at an index
+     * @return sorted key array
+     */
+    private static long[] createSortedKeys(final int length, final IntUnaryOperator hashFn) {
+        final long[] keys = new long[length];
+        forEachIndex(length, i -> keys[i] = ((long) hashFn.applyAsInt(i) << HASH_SHIFT) | i);
+        Arrays.parallelSort(keys);
+
+        return keys;
+    }
+
+    /** Test each run of keys with equal hash codes in the given sorted key array with the given predicate,
+     * in parallel. The method returns false as soon as the predicate fails for a run.
+     * @param keys sorted key array
+     * @param predicate predicate to test each run with
+     * @return true if the predicate passes for all runs
+     */
+    private static boolean testRuns(final long[] keys, final RunPredicate predicate) {
+        final int length = keys.length;
+
+        // each run is tested by the block containing its start
+        return blocks(length).allMatch(block -> {
+            final int end = Math.min(length, (block + 1) * BLOCK_SIZE);
+            for (int start = block * BLOCK_SIZE; start < end; ++start) {
+                final int hash = getKeyHash(keys[start]);
+                if (start == 0 || getKeyHash(keys[start - 1]) != hash) {
+                    int runEnd = start + 1;
+                    while (runEnd < length && getKeyHash(keys[runEnd]) == hash) {
+                        ++runEnd;
+                    }
+
+                    if (!predicate.test(start, runEnd)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        });
+    }
+
+    /** Run the given action for each index in the range {@code [0, length)}, in parallel.
+     * @param length number of indices
+     * @param action action to run for each index
+     */
+    private static void forEachIndex(final int length, final IntConsumer action) {
+        blocks(length).forEach(block -> {
+            final int end = Math.min(length, (block + 1) * BLOCK_SIZE);
+            for (int i = block * BLOCK_SIZE; i < end; ++i) {
+                action.accept(i);
+            }
+        });
+    }
+
+    /** Get a stream over the work item blocks for the given number of elements, which is parallel if
+     * there is more than one block.
+     * @param length number of elements
+     * @return stream of block indices
+     */
+    private static IntStream blocks(final int length) {
+        final int blockCount = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final IntStream blocks = IntStream.range(0, blockCount);
+        return blockCount > 1 ?
+                blocks.parallel() :
+                blocks;
+    }
+
+    /** Compute a hash code from the given three values.
+     * @param a first value
+     * @param b second value
+     * @param c third value
+     * @return hash code
+     */
+    private static int hash(final long a, final long b, final long c) {
+        long hash = a;
+        hash = (hash * HASH_MULTIPLIER) + b;
+        hash = (hash * HASH_MULTIPLIER) + c;
+        hash *= HASH_MULTIPLIER;
+
+        return (int) (hash >>> HASH_SHIFT);
+    }
+
+    /** Get the hash code stored in the given sort key.
+     * @param key sort key
+     * @return hash code
+     */
+    private static int getKeyHash(final long key) {
+        return (int) (key >> HASH_SHIFT);
+    }
+
+    /** Predicate tested on a run of sort keys with equal hash codes. */
+    @FunctionalInterface
+    private interface RunPredicate {
+
+        /** Test the run of sort keys in the range {@code [start, end)}.
+         * @param start index of the first key in the run
+         * @param end index one past the last key in the run
+         * @return true if the test passes
+         */
+        boolean test(int start, int end);
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.geometry.euclidean.threed.Triangle3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.core.Sum;
+
+/** Class containing the mass properties of the solid bounded by a closed triangle mesh, namely
+ * its volume, surface area, centroid, and inertia tensor. The properties are computed directly
+ * from the mesh faces using the divergence theorem: each face forms a tetrahedron with a common
+ * reference point and the signed volume integrals of these tetrahedra are summed. No
+ * {@link org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D RegionBSPTree3D} is
+ * constructed, making this considerably cheaper than computing the size and centroid of
+ * the region tree of the mesh.
+ *
+ * <p>The faces are processed in fixed-size blocks, which are evaluated in parallel for large meshes.
+ * All integrals are accumulated using extended precision summation and the block results are
+ * combined in block order, so the computed values do not depend on the number of threads used.</p>
+ *
+ * <p>The mesh is expected to be closed and to have consistently oriented faces, with the face
+ * normals (as defined by the right-hand rule) pointing outward. The volume of a mesh with
+ * inward-pointing normals is negative, as is its inertia tensor. The results for meshes that
+ * are not closed are not meaningful, with the exception of the surface area, which is always the
+ * sum of the face areas.</p>
+ *
+ * <p>Instances of this class are immutable.</p>
+ */
+public final class MeshMassProperties {
+
+    /** Number of vertices per face. */
+    private static final int FACE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+
+    /** Number of consecutive faces processed sequentially as a single parallel work item. */
+    private static final int FACE_BLOCK_SIZE = 4096;
+
+    /** Number of accumulated integrals. */
+    private static final int INTEGRAL_COUNT = 11;
+
+    /** Index of the volume integral. */
+    private static final int VOLUME = 0;
+
+    /** Index of the surface area integral. */
+    private static final int AREA = 1;
+
+    /** Index of the x first moment integral. */
+    private static final int X = 2;
+
+    /** Index of the y first moment integral. */
+    private static final int Y = 3;
+
+    /** Index of the z first moment integral. */
+    private static final int Z = 4;
+
+    /** Index of the xx second moment integral. */
+    private static final int XX = 5;
+
+    /** Index of the yy second moment integral. */
+    private static final int YY = 6;
+
+    /** Index of the zz second moment integral. */
+    private static final int ZZ = 7;
+
+    /** Index of the xy second moment integral. */
+    private static final int XY = 8;
+
+    /** Index of the xz second moment integral. */
+    private static final int XZ = 9;
+
+    /** Index of the yz second moment integral. */
+    private static final int YZ = 10;
+
+    /** Scale factor converting triple products to tetrahedron volumes. */
+    private static final double VOLUME_SCALE = 1.0 / 6.0;
+
+    /** Scale factor for the accumulated first moment values. */
+    private static final double FIRST_MOMENT_SCALE = 1.0 / 24.0;
+
+    /** Scale factor for the accumulated second moment values. */
+    private static final double SECOND_MOMENT_SCALE = 1.0 / 120.0;
+
+    /** Initial capacity of the coordinate array used to collect boundary source triangles. */
+    private static final int INITIAL_CAPACITY = 16 * FACE_SIZE * 3;
+
+    /** Signed volume. */
+    private final double volume;
+
+    /** Surface area. */
+    private final double surfaceArea;
+
+    /** Centroid; may be null. */
+    private final Vector3D centroid;
+
+    /** Row-major inertia tensor relative to the centroid; may be null. */
+    private final double[] inertiaTensor;
+
+    /** Construct a new instance.
+     * @param volume signed volume
+     * @param surfaceArea surface area
+     * @param centroid centroid; may be null
+     * @param inertiaTensor row-major inertia tensor; may be null
+     */
+    private MeshMassProperties(final double volume, final double surfaceArea, final Vector3D centroid,
+            final double[] inertiaTensor) {
+        this.volume = volume;
+        this.surfaceArea = surfaceArea;
+        this.centroid = centroid;
+        this.inertiaTensor = inertiaTensor;
+    }
+
+    /** Get the signed volume of the solid bounded by the mesh. The value is negative if the
+     * faces of the mesh are oriented inward.
+     * @return the signed volume of the solid bounded by the mesh
+     */
+    public double getVolume() {
+        return volume;
+    }
+
+    /** Get the surface area of the mesh, which is the sum of the areas of all faces.
+     * @return the surface area of the mesh
+     */
+    public double getSurfaceArea() {
+        return surfaceArea;
+    }
+
+    /** Get the centroid of the solid bounded by the mesh, which is also its center of mass
+     * for a uniform density. Null is returned if the volume is zero or not finite.
+     * @return the centroid of the solid bounded by the mesh or null if the volume is zero
+     *      or not finite
+     */
+    public Vector3D getCentroid() {
+        return centroid;
+    }
+
+    /** Get the inertia tensor of the solid bounded by the mesh relative to its centroid,
+     * assuming a uniform density of 1. The tensor is returned as a new 9-element array in
+     * row-major order, i.e. {@code [Ixx, Ixy, Ixz, Iyx, Iyy, Iyz, Izx, Izy, Izz]}, where the
+     * diagonal elements are the moments of inertia about the coordinate axes through the centroid
+     * and the off-diagonal elements are the negated products of inertia. The tensor for a different
+     * uniform density is obtained by multiplying all elements by that density. Null is returned if
+     * the volume is zero or not finite.
+     * @return new array containing the row-major inertia tensor relative to the centroid or null
+     *      if the volume is zero or not finite
+     */
+    public double[] getInertiaTensor() {
+        return inertiaTensor != null ?
+                inertiaTensor.clone() :
+                null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return new StringBuilder()
+            .append(getClass().getSimpleName())
+            .append("[volume= ")
+            .append(volume)
+            .append(", surfaceArea= ")
+            .append(surfaceArea)
+            .append(", centroid= ")
+            .append(centroid)
+            .append(", inertiaTensor= ")
+            .append(Arrays.toString(inertiaTensor))
+            .append(']')
+            .toString();
+    }
+
+    /** Compute the mass properties of the solid bounded by the given mesh.
+     * @param mesh mesh to compute the mass properties of
+     * @return the mass properties of the solid bounded by the mesh
+     */
+    public static MeshMassProperties from(final TriangleMesh mesh) {
+        return compute(mesh.getVertexCoordinates(), mesh.getFaceIndices());
+    }
+
+    /** Compute the mass properties of the solid bounded by the given boundaries. If the argument
+     * is a {@link TriangleMesh}, this method is equivalent to {@link #from(TriangleMesh)}. Otherwise,
+     * the boundaries are converted to triangles and the mass properties of the resulting triangle
+     * soup are computed. Shared vertices do not need to be merged since each triangle contributes
+     * independently.
+     * @param src boundary source to compute the mass properties of
+     * @return the mass properties of the solid bounded by the boundaries
+     * @throws IllegalStateException if any boundary in the boundary source has infinite size and cannot
+     *      be converted to triangles
+     */
+    public static MeshMassProperties from(final BoundarySource3D src) {
+        if (src instanceof TriangleMesh) {
+            return from((TriangleMesh) src);
+        }
+
+        double[] coords = new double[INITIAL_CAPACITY];
+        int size = 0;
+        try (Stream<Triangle3D> stream = src.triangleStream()) {
+            final Iterator<Triangle3D> it = stream.iterator();
+            while (it.hasNext()) {
+                if (size + (FACE_SIZE * 3) > coords.length) {
+                    coords = Arrays.copyOf(coords, coords.length * 2);
+                }
+
+                final Triangle3D tri = it.next();
+                size = putVertex(coords, size, tri.getPoint1());
+                size = putVertex(coords, size, tri.getPoint2());
+                size = putVertex(coords, size, tri.getPoint3());
+            }
+        }
+
+        final int vertexCount = size / 3;
+        final int[] faces = new int[vertexCount];
+        for (int i = 0; i < vertexCount; ++i) {
+            faces[i] = i;
+        }
+
+        return compute(Arrays.copyOf(coords, size), faces);
+    }
+
+    /** Compute the mass properties of the mesh with the given packed vertex coordinates and
+     * face indices.
+     * @param coords packed vertex coordinates
+     * @param faces packed face vertex indices
+     * @return the mass properties of the mesh
+     */
+    private static MeshMassProperties compute(final double[] coords, final int[] faces) {
+        // compute the integrals relative to a point on the mesh in order to reduce cancellation
+        // errors for meshes located far from the origin
+        final double[] ref = coords.length > 0 ?
+                Arrays.copyOf(coords, 3) :
+                new double[3];
+
+        final int faceCount = faces.length / FACE_SIZE;
+        final int blockCount = (faceCount + FACE_BLOCK_SIZE - 1) / FACE_BLOCK_SIZE;
+
+        final Sum[][] blockSums = new Sum[blockCount][];
+        IntStream blocks = IntStream.range(0, blockCount);
+        if (blockCount > 1) {
+            blocks = blocks.parallel();
+        }
+        blocks.forEach(block -> {
+            final Sum[] sums = createSums();
+
+            final int end = Math.min(faceCount, (block + 1) * FACE_BLOCK_SIZE) * FACE_SIZE;
+            for (int f = block * FACE_BLOCK_SIZE * FACE_SIZE; f < end; f += FACE_SIZE) {
+                addFace(sums, coords, faces[f] * 3, faces[f + 1] * 3, faces[f + 2] * 3, ref);
+            }
+
+            blockSums[block] = sums;
+        });
+
+        final Sum[] total = createSums();
+        for (final Sum[] sums : blockSums) {
+            for (int i = 0; i < INTEGRAL_COUNT; ++i) {
+                total[i].add(sums[i]);
+            }
+        }
+
+        final double vol = total[VOLUME].getAsDouble() * VOLUME_SCALE;
+        final double area = 0.5 * total[AREA].getAsDouble();
+
+        if (!Vectors.isRealNonZero(vol)) {
+            return new MeshMassProperties(vol, area, null, null);
+        }
+
+        // centroid relative to the reference point
+        final double momentScale = FIRST_MOMENT_SCALE / vol;
+        final double cx = total[X].getAsDouble() * momentScale;
+        final double cy = total[Y].getAsDouble() * momentScale;
+        final double cz = total[Z].getAsDouble() * momentScale;
+
+        // second moments relative to the centroid, using the parallel axis theorem
+        final double sxx = (total[XX].getAsDouble() * SECOND_MOMENT_SCALE) - (vol * cx * cx);
+        final double syy = (total[YY].getAsDouble() * SECOND_MOMENT_SCALE) - (vol * cy * cy);
+        final double szz = (total[ZZ].getAsDouble() * SECOND_MOMENT_SCALE) - (vol * cz * cz);
+        final double sxy = (total[XY].getAsDouble() * SECOND_MOMENT_SCALE) - (vol * cx * cy);
+        final double sxz = (total[XZ].getAsDouble() * SECOND_MOMENT_SCALE) - (vol * cx * cz);
+        final double syz = (total[YZ].getAsDouble() * SECOND_MOMENT_SCALE) - (vol * cy * cz);
+
+        final double[] tensor = {
+            syy + szz, -sxy, -sxz,
+            -sxy, sxx + szz, -syz,
+            -sxz, -syz, sxx + syy
+        };
+
+        return new MeshMassProperties(vol, area, Vector3D.of(ref[0] + cx, ref[1] + cy, ref[2] + cz), tensor);
+    }
+
+    /** Add the contributions of a single face to the given integral sums. The face forms a tetrahedron
+     * with the reference point; the volume integrals of the tetrahedron are added, scaled by
+     * factors that are applied once to the final sums.
+     * @param sums integral sums
+     * @param coords packed vertex coordinates
+     * @param a offset of the first face vertex in {@code coords}
+     * @param b offset of the second face vertex in {@code coords}
+     * @param c offset of the third face vertex in {@code coords}
+     * @param ref reference point coordinates
+     */
+    private static void addFace(final Sum[] sums, final double[] coords, final int a, final int b, final int c,
+            final double[] ref) {
+        final double rx = ref[0];
+        final double ry = ref[1];
+        final double rz = ref[2];
+
+        final double ax = coords[a] - rx;
+        final double ay = coords[a + 1] - ry;
+        final double az = coords[a + 2] - rz;
+
+        final double bx = coords[b] - rx;
+        final double by = coords[b + 1] - ry;
+        final double bz = coords[b + 2] - rz;
+
+        final double cx = coords[c] - rx;
+        final double cy = coords[c + 1] - ry;
+        final double cz = coords[c + 2] - rz;
+
+        // face area; twice the area is the norm of the edge cross product
+        final double ux = bx - ax;
+        final double uy = by - ay;
+        final double uz = bz - az;
+        final double vx = cx - ax;
+        final double vy = cy - ay;
+        final double vz = cz - az;
+        sums[AREA].add(Vectors.norm(
+                (uy * vz) - (uz * vy),
+                (uz * vx) - (ux * vz),
+                (ux * vy) - (uy * vx)));
+
+        // six times the signed volume of the tetrahedron formed with the reference point
+        final double d = (ax * ((by * cz) - (bz * cy))) +
+                (ay * ((bz * cx) - (bx * cz))) +
+                (az * ((bx * cy) - (by * cx)));
+        sums[VOLUME].add(d);
+
+        final double sx = ax + bx + cx;
+        final double sy = ay + by + cy;
+        final double sz = az + bz + cz;
+
+        sums[X].addProduct(d, sx);
+        sums[Y].addProduct(d, sy);
+        sums[Z].addProduct(d, sz);
+
+        sums[XX].addProduct(d, (ax * ax) + (bx * bx) + (cx * cx) + (sx * sx));
+        sums[YY].addProduct(d, (ay * ay) + (by * by) + (cy * cy) + (sy * sy));
+        sums[ZZ].addProduct(d, (az * az) + (bz * bz) + (cz * cz) + (sz * sz));
+        sums[XY].addProduct(d, (ax * ay) + (bx * by) + (cx * cy) + (sx * sy));
+        sums[XZ].addProduct(d, (ax * az) + (bx * bz) + (cx * cz) + (sx * sz));
+        sums[YZ].addProduct(d, (ay * az) + (by * bz) + (cy * cz) + (sy * sz));
+    }
+
+    /** Store the coordinates of the given vertex in the array at the given index.
+     * @param coords coordinate array
+     * @param index index to store the x coordinate at
+     * @param vertex vertex
+     * @return the index following the stored coordinates
+     */
+    private static int putVertex(final double[] coords, final int index, final Vector3D vertex) {
+        coords[index] = vertex.getX();
+        coords[index + 1] = vertex.getY();
+        coords[index + 2] = vertex.getZ();
+        return index + 3;
+    }
+
+    /** Create a new array of zero-valued sums, one for each accumulated integral.
+     * @return new array of sums
+     */
+    private static Sum[] createSums() {
+        final Sum[] sums = new Sum[INTEGRAL_COUNT];
+        for (int i = 0; i < INTEGRAL_COUNT; ++i) {
+            sums[i] = Sum.create();
+        }
+        return sums;
+    }
+}
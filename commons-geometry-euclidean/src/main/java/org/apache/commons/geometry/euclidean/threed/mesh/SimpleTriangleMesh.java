@@ -65,6 +65,9 @@ public final class SimpleTriangleMesh implements TriangleMesh {
     /** Object used for floating point comparisons. */
     private final Precision.DoubleEquivalence precision;
 
+    /** Lazily computed adjacency information for the mesh. */
+    private volatile TriangleMeshAdjacency adjacency;
+
     /** Construct a new instance from a vertex list and set of faces. No validation is
      * performed on the input.
      * @param vertices vertex list
@@ -129,6 +132,35 @@ public final class SimpleTriangleMesh implements TriangleMesh {
         return new SimpleTriangleFace(index, faces.get(index));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int[] getFaceIndices() {
+        final int[] indices = new int[faces.size() * EuclideanUtils.TRIANGLE_VERTEX_COUNT];
+
+        int i = 0;
+        for (final int[] face : faces) {
+            indices[i++] = face[0];
+            indices[i++] = face[1];
+            indices[i++] = face[2];
+        }
+
+        return indices;
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The adjacency information is computed on first access and cached.</p>
+     */
+    @Override
+    public TriangleMeshAdjacency getAdjacency() {
+        TriangleMeshAdjacency result = adjacency;
+        if (result == null) {
+            result = new TriangleMeshAdjacency(vertices.size(), getFaceIndices());
+            adjacency = result;
+        }
+        return result;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Bounds3D getBounds() {
@@ -412,6 +444,9 @@ public final class SimpleTriangleMesh implements TriangleMesh {
      */
     public static final class Builder {
 
+        /** Number of coordinates stored for each face in packed facet coordinate arrays. */
+        private static final int FACET_COORDINATE_COUNT = 3 * EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+
         /** List of vertices. */
         private final ArrayList<Vector3D> vertices = new ArrayList<>();
 
@@ -632,6 +667,74 @@ public final class SimpleTriangleMesh implements TriangleMesh {
                     );
         }
 
+        /** Add faces to this mesh from the given packed facet coordinate array, only adding vertices to the
+         * vertex list if equivalent vertices are not found. The array must contain the coordinates of the three
+         * vertices of each face in sequence, i.e.
+         * <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, ..., z<sub>2</sub>, ...]</code>
+         * for the vertices <code>p<sub>0</sub>, p<sub>1</sub>, p<sub>2</sub></code> of the first face,
+         * as found for example in STL files. The resulting vertex list and faces are identical to those
+         * produced by calling {@link #addFaceUsingVertices(Vector3D, Vector3D, Vector3D)} for each face
+         * in order.
+         *
+         * <p>The vertices are deduplicated in parallel by grouping identical vertices and then clustering
+         * the distinct vertices along each axis using the precision context of this builder, so that
+         * vertices are only compared with the few vertices sharing their clusters. If a vertex is found
+         * to be equivalent to more than one non-equivalent vertex that would be reused, the vertices are
+         * added sequentially instead, since the vertex reused in this case depends on the order of the
+         * vertex lookups.</p>
+         * @param facetCoords packed facet coordinates
+         * @return this instance
+         * @throws IllegalArgumentException if the array length is not a multiple of 9 or if any
+         *      coordinate is not finite; no faces or vertices are added in this case
+         * @see #addFaceUsingVertices(Vector3D, Vector3D, Vector3D)
+         */
+        public Builder addFacesUsingVertices(final double[] facetCoords) {
+            validateCanModify();
+
+            final int faceCount = EuclideanUtils.getPackedPointCount(facetCoords, FACET_COORDINATE_COUNT);
+            final int count = faceCount * EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+            for (int i = 0; i < count; ++i) {
+                final int offset = i * 3;
+                if (!Double.isFinite(facetCoords[offset]) ||
+                        !Double.isFinite(facetCoords[offset + 1]) ||
+                        !Double.isFinite(facetCoords[offset + 2])) {
+                    throw new IllegalArgumentException("Non-finite point: " + getPackedVertex(facetCoords, i));
+                }
+            }
+
+            final int[] indices = new int[count];
+            final int[] targets = FacetVertexWelder.weld(facetCoords, vertices, precision);
+            if (targets != null) {
+                final int initialVertexCount = vertices.size();
+                for (int i = 0; i < count; ++i) {
+                    final int target = targets[i];
+                    if (target == i) {
+                        indices[i] = addToVertexList(getPackedVertex(facetCoords, i));
+                    } else if (target >= 0) {
+                        indices[i] = indices[target];
+                    } else {
+                        indices[i] = -(target + 1);
+                    }
+                }
+
+                if (vertices.size() > initialVertexCount) {
+                    // the vertex index map is out of date; it is recreated as needed
+                    vertexIndexMap = null;
+                }
+            } else {
+                for (int i = 0; i < count; ++i) {
+                    indices[i] = useVertex(getPackedVertex(facetCoords, i));
+                }
+            }
+
+            ensureFaceCapacity(faces.size() + faceCount);
+            for (int i = 0; i < count; i += EuclideanUtils.TRIANGLE_VERTEX_COUNT) {
+                faces.add(new int[] {indices[i], indices[i + 1], indices[i + 2]});
+            }
+
+            return this;
+        }
+
         /** Ensure that this instance has enough capacity to store at least {@code numFaces}
          * number of faces without reallocating space. This can be used to help improve performance
          * and memory usage when creating meshes with large numbers of faces.
@@ -706,6 +809,16 @@ public final class SimpleTriangleMesh implements TriangleMesh {
                     targetIdx;
         }
 
+        /** Get the vertex at the given index in a packed coordinate array.
+         * @param coords packed vertex coordinates
+         * @param idx vertex index
+         * @return vertex at the given index
+         */
+        private static Vector3D getPackedVertex(final double[] coords, final int idx) {
+            final int offset = idx * 3;
+            return Vector3D.of(coords[offset], coords[offset + 1], coords[offset + 2]);
+        }
+
         /** Append the given vertex to the end of the vertex list. The index of the vertex is returned.
          * @param vertex the vertex to append
          * @return the index of the appended vertex
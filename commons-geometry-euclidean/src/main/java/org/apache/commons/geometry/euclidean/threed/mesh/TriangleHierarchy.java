@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+
+/** Bounding volume hierarchy (BVH) of axis-aligned boxes over the faces of a triangle mesh. The
+ * hierarchy is built in {@code O(n log n)} time for {@code n} faces and is stored in flat arrays, with
+ * the nodes in depth-first order and the triangle vertex coordinates copied into hierarchy order so that
+ * the triangles of each leaf node are contiguous. Instances are immutable; the arrays returned by the
+ * accessor methods are the internal arrays of the instance and must not be modified.
+ */
+final class TriangleHierarchy {
+
+    /** Number of vertices per face. */
+    private static final int FACE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+
+    /** Number of coordinates per point. */
+    private static final int DIMENSION = 3;
+
+    /** Number of coordinates per triangle. */
+    private static final int TRIANGLE_SIZE = FACE_SIZE * DIMENSION;
+
+    /** Number of values per node bounding box. */
+    private static final int BOUNDS_SIZE = 2 * DIMENSION;
+
+    /** Maximum number of faces in a leaf node. */
+    private static final int MAX_LEAF_SIZE = 4;
+
+    /** Packed triangle vertex coordinates, in hierarchy order. */
+    private final double[] triangles;
+
+    /** Mesh face index of each triangle. */
+    private final int[] triangleFaces;
+
+    /** Bounding box of each node, stored as {@code minX, minY, minZ, maxX, maxY, maxZ}. */
+    private final double[] nodeBounds;
+
+    /** For leaf nodes, the index of the first triangle in the node; for internal nodes, the index
+     * of the second child node. The first child of an internal node always directly follows the node.
+     */
+    private final int[] nodeStarts;
+
+    /** Number of triangles in each leaf node, or zero for internal nodes. */
+    private final int[] nodeCounts;
+
+    /** Size of the stack required for depth-first traversals of the hierarchy. */
+    private final int stackSize;
+
+    /** Construct a new hierarchy over the faces of the mesh with the given packed vertex coordinates and
+     * face indices. A hierarchy over zero faces consists of a single empty leaf node whose bounding box
+     * does not contain or intersect anything.
+     * @param coords packed vertex coordinates
+     * @param faces packed face vertex indices
+     */
+    TriangleHierarchy(final double[] coords, final int[] faces) {
+        final int faceCount = faces.length / FACE_SIZE;
+
+        // build the hierarchy over the face centroids
+        final double[] centroids = new double[faceCount * DIMENSION];
+        for (int f = 0; f < faceCount; ++f) {
+            for (int k = 0; k < FACE_SIZE; ++k) {
+                final int v = faces[(f * FACE_SIZE) + k] * DIMENSION;
+                for (int d = 0; d < DIMENSION; ++d) {
+                    centroids[(f * DIMENSION) + d] += coords[v + d] / FACE_SIZE;
+                }
+            }
+        }
+
+        final HierarchyBuilder builder = new HierarchyBuilder(coords, faces, centroids);
+        builder.build(0, faceCount, 1);
+
+        final int nodeCount = builder.nodeCount;
+        nodeBounds = Arrays.copyOf(builder.bounds, nodeCount * BOUNDS_SIZE);
+        nodeStarts = Arrays.copyOf(builder.starts, nodeCount);
+        nodeCounts = Arrays.copyOf(builder.counts, nodeCount);
+        stackSize = builder.maxDepth + 1;
+
+        // store the triangle vertices in hierarchy order
+        triangleFaces = builder.order;
+        triangles = new double[faceCount * TRIANGLE_SIZE];
+        for (int t = 0; t < faceCount; ++t) {
+            final int f = triangleFaces[t] * FACE_SIZE;
+            for (int k = 0; k < FACE_SIZE; ++k) {
+                System.arraycopy(coords, faces[f + k] * DIMENSION, triangles, (t * TRIANGLE_SIZE) + (k * DIMENSION),
+                        DIMENSION);
+            }
+        }
+    }
+
+    /** Get the number of triangles in the hierarchy.
+     * @return the number of triangles in the hierarchy
+     */
+    int getTriangleCount() {
+        return triangleFaces.length;
+    }
+
+    /** Get the packed vertex coordinates of the triangles, in hierarchy order. Each triangle
+     * occupies 9 consecutive values.
+     * @return the packed triangle vertex coordinates
+     */
+    double[] getTriangles() {
+        return triangles;
+    }
+
+    /** Get the mesh face index of each triangle in hierarchy order.
+     * @return the mesh face index of each triangle
+     */
+    int[] getTriangleFaces() {
+        return triangleFaces;
+    }
+
+    /** Get the node bounding boxes, each stored as {@code minX, minY, minZ, maxX, maxY, maxZ}.
+     * @return the node bounding boxes
+     */
+    double[] getNodeBounds() {
+        return nodeBounds;
+    }
+
+    /** Get the start value of each node. For leaf nodes, this is the index of the first triangle in
+     * the node; for internal nodes, it is the index of the second child node. The first child of an
+     * internal node always directly follows the node, and the root node has index {@code 0}.
+     * @return the node start values
+     */
+    int[] getNodeStarts() {
+        return nodeStarts;
+    }
+
+    /** Get the number of triangles in each node, which is zero for internal nodes.
+     * @return the number of triangles in each node
+     */
+    int[] getNodeCounts() {
+        return nodeCounts;
+    }
+
+    /** Get the size of the stack required for depth-first traversals of the hierarchy, which is one
+     * greater than the maximum node depth.
+     * @return the size of the stack required for depth-first traversals
+     */
+    int getStackSize() {
+        return stackSize;
+    }
+
+    /** Class used to build the bounding volume hierarchy. Nodes are created in depth-first order
+     * by recursively splitting the faces at the median centroid along the axis of largest centroid
+     * extent, which keeps the hierarchy balanced.
+     */
+    private static final class HierarchyBuilder {
+
+        /** Packed vertex coordinates. */
+        private final double[] coords;
+
+        /** Packed face vertex indices. */
+        private final int[] faces;
+
+        /** Packed face centroids. */
+        private final double[] centroids;
+
+        /** Face indices in hierarchy order. */
+        private final int[] order;
+
+        /** Node bounding boxes. */
+        private final double[] bounds;
+
+        /** Node start values. */
+        private final int[] starts;
+
+        /** Node triangle counts. */
+        private final int[] counts;
+
+        /** Number of nodes created. */
+        private int nodeCount;
+
+        /** Maximum depth of any node. */
+        private int maxDepth;
+
+        /** Construct a new instance.
+         * @param coords packed vertex coordinates
+         * @param faces packed face vertex indices
+         * @param centroids packed face centroids
+         */
+        HierarchyBuilder(final double[] coords, final int[] faces, final double[] centroids) {
+            this.coords = coords;
+            this.faces = faces;
+            this.centroids = centroids;
+
+            final int count = centroids.length / DIMENSION;
+            order = new int[count];
+            for (int i = 0; i < count; ++i) {
+                order[i] = i;
+            }
+
+            final int maxNodes = Math.max(1, 2 * count);
+            bounds = new double[maxNodes * BOUNDS_SIZE];
+            starts = new int[maxNodes];
+            counts = new int[maxNodes];
+        }
+
+        /** Build the subtree containing the faces in the given range of {@link #order}.
+         * @param start start of the range, inclusive
+         * @param end end of the range, exclusive
+         * @param depth depth of the subtree root
+         */
+        void build(final int start, final int end, final int depth) {
+            final int node = nodeCount++;
+            maxDepth = Math.max(maxDepth, depth);
+
+            final int count = end - start;
+            if (count <= MAX_LEAF_SIZE) {
+                starts[node] = start;
+                counts[node] = count;
+                computeBounds(node, start, end);
+                return;
+            }
+
+            final int mid = (start + end) >>> 1;
+            select(start, end, mid, findSplitAxis(start, end));
+
+            build(start, mid, depth + 1);
+            starts[node] = nodeCount;
+            build(mid, end, depth + 1);
+
+            // the bounds of an internal node are the union of the bounds of its children
+            final int b = node * BOUNDS_SIZE;
+            final int left = b + BOUNDS_SIZE;
+            final int right = starts[node] * BOUNDS_SIZE;
+            for (int d = 0; d < DIMENSION; ++d) {
+                bounds[b + d] = Math.min(bounds[left + d], bounds[right + d]);
+                bounds[b + DIMENSION + d] = Math.max(bounds[left + DIMENSION + d], bounds[right + DIMENSION + d]);
+            }
+        }
+
+        /** Compute the bounding box of the given leaf node from the vertices of the faces in the given range.
+         * @param node node index
+         * @param start start of the face range, inclusive
+         * @param end end of the face range, exclusive
+         */
+        private void computeBounds(final int node, final int start, final int end) {
+            final int b = node * BOUNDS_SIZE;
+            for (int d = 0; d < DIMENSION; ++d) {
+                bounds[b + d] = Double.POSITIVE_INFINITY;
+                bounds[b + DIMENSION + d] = Double.NEGATIVE_INFINITY;
+            }
+
+            for (int i = start; i < end; ++i) {
+                final int f = order[i] * FACE_SIZE;
+                for (int k = 0; k < FACE_SIZE; ++k) {
+                    final int v = faces[f + k] * DIMENSION;
+                    for (int d = 0; d < DIMENSION; ++d) {
+                        bounds[b + d] = Math.min(bounds[b + d], coords[v + d]);
+                        bounds[b + DIMENSION + d] = Math.max(bounds[b + DIMENSION + d], coords[v + d]);
+                    }
+                }
+            }
+        }
+
+        /** Find the axis along which the centroids of the faces in the given range have the largest extent.
+         * @param start start of the face range, inclusive
+         * @param end end of the face range, exclusive
+         * @return index of the split axis
+         */
+        private int findSplitAxis(final int start, final int end) {
+            final double[] min = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+            final double[] max = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            for (int i = start; i < end; ++i) {
+                final int c = order[i] * DIMENSION;
+                for (int d = 0; d < DIMENSION; ++d) {
+                    // plain comparisons are used since the split axis only affects the hierarchy quality
+                    final double value = centroids[c + d];
+                    if (value < min[d]) {
+                        min[d] = value;
+                    }
+                    if (value > max[d]) {
+                        max[d] = value;
+                    }
+                }
+            }
+
+            int axis = 0;
+            for (int d = 1; d < DIMENSION; ++d) {
+                if (max[d] - min[d] > max[axis] - min[axis]) {
+                    axis = d;
+                }
+            }
+            return axis;
+        }
+
+        /** Partially sort the given range of {@link #order} so that the face at index {@code k} is the
+         * face that would be there if the range were sorted by centroid coordinate along {@code axis},
+         * with no face before it having a greater coordinate and no face after it having a smaller one.
+         * @param start start of the range, inclusive
+         * @param end end of the range, exclusive
+         * @param k index of the element to select
+         * @param axis centroid coordinate axis
+         */
+        private void select(final int start, final int end, final int k, final int axis) {
+            int left = start;
+            int right = end - 1;
+            while (left < right) {
+                final double pivot = centroid(order[(left + right) >>> 1], axis);
+
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (centroid(order[i], axis) < pivot) {
+                        ++i;
+                    }
+                    while (centroid(order[j], axis) > pivot) {
+                        --j;
+                    }
+                    if (i <= j) {
+                        final int tmp = order[i];
+                        order[i] = order[j];
+                        order[j] = tmp;
+                        ++i;
+                        --j;
+                    }
+                }
+
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        /** Get a centroid coordinate of the given face.
+         * @param face face index
+         * @param axis coordinate axis
+         * @return centroid coordinate
+         */
+        private double centroid(final int face, final int axis) {
+            return centroids[(face * DIMENSION) + axis];
+        }
+    }
+}
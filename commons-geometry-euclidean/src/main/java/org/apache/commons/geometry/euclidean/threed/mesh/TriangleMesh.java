@@ -28,6 +28,54 @@ public interface TriangleMesh extends Mesh<TriangleMesh.Face> {
     @Override
     TriangleMesh transform(Transform<Vector3D> transform);
 
+    /** Get a new array containing the packed coordinates of all vertices in the mesh, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]</code>.
+     * Together with {@link #getFaceIndices()}, this provides access to the mesh structure without
+     * creating {@link Face} or {@link Triangle3D} instances, for example when writing the mesh to
+     * a file.
+     * @return array containing the packed coordinates of all vertices in the mesh
+     */
+    default double[] getVertexCoordinates() {
+        final double[] coords = new double[getVertexCount() * 3];
+
+        int i = 0;
+        for (final Vector3D vertex : vertices()) {
+            coords[i++] = vertex.getX();
+            coords[i++] = vertex.getY();
+            coords[i++] = vertex.getZ();
+        }
+
+        return coords;
+    }
+
+    /** Get a new array containing the packed vertex indices of all faces in the mesh, i.e.
+     * <code>[a<sub>0</sub>, b<sub>0</sub>, c<sub>0</sub>, a<sub>1</sub>, b<sub>1</sub>, c<sub>1</sub>, ...]</code>.
+     * @return array containing the packed vertex indices of all faces in the mesh
+     * @see #getVertexCoordinates()
+     */
+    default int[] getFaceIndices() {
+        final int[] indices = new int[getFaceCount() * 3];
+
+        int i = 0;
+        for (final Face face : faces()) {
+            final int[] faceIndices = face.getVertexIndices();
+            indices[i++] = faceIndices[0];
+            indices[i++] = faceIndices[1];
+            indices[i++] = faceIndices[2];
+        }
+
+        return indices;
+    }
+
+    /** Get the adjacency information for the faces, edges, and vertices in this mesh. The default
+     * implementation computes a new instance on each call; immutable implementations may compute the
+     * instance lazily and cache it.
+     * @return adjacency information for this mesh
+     */
+    default TriangleMeshAdjacency getAdjacency() {
+        return TriangleMeshAdjacency.from(this);
+    }
+
     /** Interface representing a single triangular face in a mesh.
      */
     interface Face extends Mesh.Face {
@@ -0,0 +1,619 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+
+/** Class providing constant-time adjacency queries for the faces, edges, and vertices of a
+ * {@link TriangleMesh}. The adjacency information is stored in a half-edge representation
+ * using only primitive arrays. Each face {@code f} in the mesh has three half-edges with
+ * indices {@code 3f}, {@code 3f + 1}, and {@code 3f + 2}; half-edge {@code 3f + k} starts at
+ * face vertex {@code k} and ends at face vertex {@code (k + 1) % 3}. The twin of a half-edge
+ * is the half-edge of the neighboring face that runs along the same edge in the opposite
+ * direction.
+ *
+ * <p>Edges are classified as follows:</p>
+ * <ul>
+ *  <li><em>interior</em> - the half-edge has exactly one twin and no other half-edge
+ *      runs along the edge in the same direction,</li>
+ *  <li><em>boundary</em> - the half-edge is the only half-edge on its edge, and</li>
+ *  <li><em>non-manifold</em> - all other cases, such as edges shared by more than two faces,
+ *      edges shared by two faces with inconsistent orientations, and degenerate edges that
+ *      start and end at the same vertex.</li>
+ * </ul>
+ *
+ * <p>Instances are constructed in time proportional to the sum over all vertices of the
+ * squared vertex degree, which is linear in the size of the mesh for meshes with bounded
+ * vertex degree. Instances of this class are immutable.</p>
+ * @see TriangleMesh#getAdjacency()
+ */
+public final class TriangleMeshAdjacency {
+
+    /** Number of half-edges per face. */
+    private static final int FACE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+
+    /** Twin value used to indicate a boundary half-edge. */
+    private static final int BOUNDARY = -1;
+
+    /** Twin value used to indicate a non-manifold half-edge. */
+    private static final int NON_MANIFOLD = -2;
+
+    /** Twin value used during construction to indicate a half-edge that has not been matched yet. */
+    private static final int UNSET = -3;
+
+    /** Number of vertices in the mesh. */
+    private final int vertexCount;
+
+    /** Packed face vertex indices. */
+    private final int[] faces;
+
+    /** Twin half-edge for each half-edge, or {@link #BOUNDARY} or {@link #NON_MANIFOLD}. */
+    private final int[] twins;
+
+    /** Start index of the outgoing half-edges of each vertex in {@link #outgoing}; contains
+     * {@code vertexCount + 1} elements.
+     */
+    private final int[] outgoingStart;
+
+    /** Outgoing half-edges of all vertices, grouped by vertex. */
+    private final int[] outgoing;
+
+    /** Number of boundary half-edges. */
+    private final int boundaryEdgeCount;
+
+    /** Number of non-manifold half-edges. */
+    private final int nonManifoldEdgeCount;
+
+    /** Construct a new instance from the given packed face vertex indices. The array is not
+     * copied and must not be modified.
+     * @param vertexCount number of vertices in the mesh
+     * @param faces packed face vertex indices
+     */
+    TriangleMeshAdjacency(final int vertexCount, final int[] faces) {
+        this.vertexCount = vertexCount;
+        this.faces = faces;
+
+        final int halfEdgeCount = faces.length;
+
+        // group the half-edges by origin vertex with a counting sort
+        outgoingStart = new int[vertexCount + 1];
+        for (final int v : faces) {
+            ++outgoingStart[v + 1];
+        }
+        for (int v = 0; v < vertexCount; ++v) {
+            outgoingStart[v + 1] += outgoingStart[v];
+        }
+
+        // store the end vertex of each outgoing half-edge contiguously for the twin search
+        outgoing = new int[halfEdgeCount];
+        final int[] outgoingTarget = new int[halfEdgeCount];
+        final int[] fill = Arrays.copyOf(outgoingStart, vertexCount);
+        for (int h = 0; h < halfEdgeCount; h += FACE_SIZE) {
+            final int a = faces[h];
+            final int b = faces[h + 1];
+            final int c = faces[h + 2];
+
+            addOutgoing(fill, outgoingTarget, h, a, b);
+            addOutgoing(fill, outgoingTarget, h + 1, b, c);
+            addOutgoing(fill, outgoingTarget, h + 2, c, a);
+        }
+
+        // match each half-edge with its twin by searching the outgoing half-edges of its end vertex;
+        // the twin relation is symmetric so each pair only needs to be matched once
+        twins = new int[halfEdgeCount];
+        Arrays.fill(twins, UNSET);
+        for (int h = 0; h < halfEdgeCount; ++h) {
+            if (twins[h] == UNSET) {
+                matchTwin(h, outgoingTarget);
+            }
+        }
+
+        int boundaryCount = 0;
+        int nonManifoldCount = 0;
+        for (final int twin : twins) {
+            if (twin == BOUNDARY) {
+                ++boundaryCount;
+            } else if (twin == NON_MANIFOLD) {
+                ++nonManifoldCount;
+            }
+        }
+
+        this.boundaryEdgeCount = boundaryCount;
+        this.nonManifoldEdgeCount = nonManifoldCount;
+    }
+
+    /** Get the number of vertices in the mesh.
+     * @return the number of vertices in the mesh
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /** Get the number of faces in the mesh.
+     * @return the number of faces in the mesh
+     */
+    public int getFaceCount() {
+        return faces.length / FACE_SIZE;
+    }
+
+    /** Get the number of half-edges in the mesh. This is equal to three times the number of faces.
+     * @return the number of half-edges in the mesh
+     */
+    public int getHalfEdgeCount() {
+        return faces.length;
+    }
+
+    /** Get the face containing the given half-edge.
+     * @param halfEdge half-edge index
+     * @return the index of the face containing the half-edge
+     */
+    public int getFace(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return halfEdge / FACE_SIZE;
+    }
+
+    /** Get the vertex that the given half-edge starts at.
+     * @param halfEdge half-edge index
+     * @return the index of the start vertex of the half-edge
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public int getOrigin(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return faces[halfEdge];
+    }
+
+    /** Get the vertex that the given half-edge ends at.
+     * @param halfEdge half-edge index
+     * @return the index of the end vertex of the half-edge
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public int getTarget(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return faces[next(halfEdge)];
+    }
+
+    /** Get the half-edge following the given half-edge in the same face.
+     * @param halfEdge half-edge index
+     * @return the next half-edge in the face
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public int getNext(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return next(halfEdge);
+    }
+
+    /** Get the half-edge preceding the given half-edge in the same face.
+     * @param halfEdge half-edge index
+     * @return the previous half-edge in the face
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public int getPrevious(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return previous(halfEdge);
+    }
+
+    /** Get the twin of the given half-edge, i.e. the half-edge of the neighboring face running
+     * along the same edge in the opposite direction. Returns -1 if the half-edge is a boundary
+     * or non-manifold half-edge.
+     * @param halfEdge half-edge index
+     * @return the twin half-edge or -1 if no unique twin exists
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public int getTwin(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return Math.max(twins[halfEdge], BOUNDARY);
+    }
+
+    /** Return true if the given half-edge lies on the boundary of the mesh, meaning that no other
+     * half-edge runs along the same edge.
+     * @param halfEdge half-edge index
+     * @return true if the half-edge lies on the mesh boundary
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public boolean isBoundary(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return twins[halfEdge] == BOUNDARY;
+    }
+
+    /** Return true if the given half-edge is non-manifold, meaning that its edge is degenerate or
+     * is shared by more than two faces or by two faces with inconsistent orientations.
+     * @param halfEdge half-edge index
+     * @return true if the half-edge is non-manifold
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    public boolean isNonManifold(final int halfEdge) {
+        checkHalfEdge(halfEdge);
+        return twins[halfEdge] == NON_MANIFOLD;
+    }
+
+    /** Get the face adjacent to {@code face} across its {@code edge}-th edge, i.e. the edge from
+     * face vertex {@code edge} to face vertex {@code (edge + 1) % 3}.
+     * @param face face index
+     * @param edge edge index in the face; must be 0, 1, or 2
+     * @return the index of the neighboring face or -1 if the edge is a boundary or non-manifold edge
+     * @throws IndexOutOfBoundsException if the face or edge index is out of bounds
+     */
+    public int getNeighbor(final int face, final int edge) {
+        checkIndex(edge, FACE_SIZE);
+        final int twin = getTwin(halfEdge(face, edge));
+        return twin > BOUNDARY ?
+                twin / FACE_SIZE :
+                BOUNDARY;
+    }
+
+    /** Get the faces adjacent to the given face across each of its three edges.
+     * @param face face index
+     * @return array containing the neighboring face across each edge of the face, with -1
+     *      for boundary and non-manifold edges
+     * @throws IndexOutOfBoundsException if the face index is out of bounds
+     * @see #getNeighbor(int, int)
+     */
+    public int[] getNeighbors(final int face) {
+        return new int[] {
+            getNeighbor(face, 0),
+            getNeighbor(face, 1),
+            getNeighbor(face, 2)
+        };
+    }
+
+    /** Get the number of half-edges starting at the given vertex. This is equal to the number of faces
+     * that reference the vertex, counting multiplicity.
+     * @param vertex vertex index
+     * @return the number of half-edges starting at the vertex
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    public int getOutgoingCount(final int vertex) {
+        checkIndex(vertex, vertexCount);
+        return outgoingStart[vertex + 1] - outgoingStart[vertex];
+    }
+
+    /** Get the {@code i}-th half-edge starting at the given vertex.
+     * @param vertex vertex index
+     * @param i index of the half-edge in the range {@code [0, getOutgoingCount(vertex))}
+     * @return the {@code i}-th half-edge starting at the vertex
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    public int getOutgoing(final int vertex, final int i) {
+        checkIndex(i, getOutgoingCount(vertex));
+        return outgoing[outgoingStart[vertex] + i];
+    }
+
+    /** Get the faces that reference the given vertex.
+     * @param vertex vertex index
+     * @return array containing the faces that reference the vertex
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    public int[] getVertexFaces(final int vertex) {
+        final int[] result = new int[getOutgoingCount(vertex)];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = outgoing[outgoingStart[vertex] + i] / FACE_SIZE;
+        }
+        return result;
+    }
+
+    /** Get the distinct vertices connected to the given vertex by an edge, i.e. the vertex one-ring.
+     * The vertices are returned in no particular order.
+     * @param vertex vertex index
+     * @return array containing the vertices connected to the given vertex by an edge
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    public int[] getVertexNeighbors(final int vertex) {
+        final int count = getOutgoingCount(vertex);
+        final int start = outgoingStart[vertex];
+
+        // each outgoing half-edge contributes its end vertex; the start vertex of the preceding
+        // half-edge is only reached through an outgoing half-edge if that half-edge has a twin
+        final int[] result = new int[2 * count];
+        int size = 0;
+        for (int i = start; i < start + count; ++i) {
+            final int h = outgoing[i];
+            size = addUnique(result, size, faces[next(h)], vertex);
+
+            final int prev = previous(h);
+            if (twins[prev] < 0) {
+                size = addUnique(result, size, faces[prev], vertex);
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    /** Return true if the given vertex lies on the mesh boundary or on a non-manifold edge.
+     * @param vertex vertex index
+     * @return true if the vertex lies on the mesh boundary or on a non-manifold edge
+     * @throws IndexOutOfBoundsException if the vertex index is out of bounds
+     */
+    public boolean isBoundaryVertex(final int vertex) {
+        final int count = getOutgoingCount(vertex);
+        final int start = outgoingStart[vertex];
+        for (int i = start; i < start + count; ++i) {
+            final int h = outgoing[i];
+            if (twins[h] < 0 || twins[previous(h)] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Get the number of boundary half-edges in the mesh.
+     * @return the number of boundary half-edges in the mesh
+     * @see #isBoundary(int)
+     */
+    public int getBoundaryEdgeCount() {
+        return boundaryEdgeCount;
+    }
+
+    /** Get the number of non-manifold half-edges in the mesh.
+     * @return the number of non-manifold half-edges in the mesh
+     * @see #isNonManifold(int)
+     */
+    public int getNonManifoldEdgeCount() {
+        return nonManifoldEdgeCount;
+    }
+
+    /** Return true if the mesh does not contain any non-manifold edges. Each edge in such a mesh
+     * is shared by at most two faces and all faces sharing an edge are consistently oriented.
+     * Note that vertices may still be non-manifold, for example when two otherwise separate
+     * surfaces touch at a single vertex.
+     * @return true if the mesh does not contain any non-manifold edges
+     */
+    public boolean isManifold() {
+        return nonManifoldEdgeCount == 0;
+    }
+
+    /** Return true if the mesh is {@link #isManifold() manifold} and has no boundary edges,
+     * meaning that it forms one or more closed, consistently oriented surfaces.
+     * @return true if the mesh forms one or more closed, consistently oriented surfaces
+     */
+    public boolean isClosed() {
+        return nonManifoldEdgeCount == 0 && boundaryEdgeCount == 0;
+    }
+
+    /** Get the boundary loops of the mesh. Each loop is returned as an array of vertex indices
+     * in the order given by the boundary half-edges, i.e. with the same orientation as the faces
+     * adjacent to the boundary. Every boundary half-edge is contained in exactly one loop.
+     * If the boundary passes through a non-manifold vertex or edge, the affected loops may be
+     * open chains rather than closed loops.
+     * @return list of boundary loops
+     */
+    public List<int[]> getBoundaryLoops() {
+        if (boundaryEdgeCount == 0) {
+            return Collections.emptyList();
+        }
+
+        final List<int[]> loops = new ArrayList<>();
+        final boolean[] visited = new boolean[faces.length];
+
+        int[] loop = new int[FACE_SIZE];
+        for (int h = 0; h < faces.length; ++h) {
+            if (twins[h] == BOUNDARY && !visited[h]) {
+                final int loopStart = faces[h];
+                int size = 0;
+                int current = h;
+                int end;
+                do {
+                    visited[current] = true;
+                    loop = append(loop, size++, faces[current]);
+
+                    end = faces[next(current)];
+                    current = findUnvisitedBoundary(end, visited);
+                } while (end != loopStart && current > BOUNDARY);
+
+                if (end != loopStart) {
+                    // open chain; include the final vertex
+                    loop = append(loop, size++, end);
+                }
+
+                loops.add(Arrays.copyOf(loop, size));
+            }
+        }
+
+        return loops;
+    }
+
+    /** Construct a new adjacency instance for the given mesh.
+     * @param mesh mesh to compute adjacency information for
+     * @return a new adjacency instance for the mesh
+     */
+    public static TriangleMeshAdjacency from(final TriangleMesh mesh) {
+        if (mesh instanceof CompactTriangleMesh) {
+            final CompactTriangleMesh compact = (CompactTriangleMesh) mesh;
+            return new TriangleMeshAdjacency(compact.getVertexCount(), compact.getFaceIndexArray());
+        }
+
+        return new TriangleMeshAdjacency(mesh.getVertexCount(), mesh.getFaceIndices());
+    }
+
+    /** Add a half-edge to the outgoing half-edges of its start vertex.
+     * @param fill array containing the next free position in {@link #outgoing} for each vertex
+     * @param outgoingTarget array containing the end vertex of each half-edge in {@link #outgoing}
+     * @param h half-edge index
+     * @param start start vertex of the half-edge
+     * @param end end vertex of the half-edge
+     */
+    private void addOutgoing(final int[] fill, final int[] outgoingTarget, final int h,
+            final int start, final int end) {
+        final int pos = fill[start]++;
+        outgoing[pos] = h;
+        outgoingTarget[pos] = end;
+    }
+
+    /** Find the twin of the given unmatched half-edge and update the {@link #twins} array.
+     * Half-edges that share an edge with other half-edges matched previously are marked
+     * as non-manifold, along with those half-edges.
+     * @param h half-edge index
+     * @param outgoingTarget array containing the end vertex of each half-edge in {@link #outgoing}
+     */
+    private void matchTwin(final int h, final int[] outgoingTarget) {
+        final int u = faces[h];
+        final int v = faces[next(h)];
+        if (u == v) {
+            twins[h] = NON_MANIFOLD;
+            return;
+        }
+
+        int twin = BOUNDARY;
+        int oppositeCount = 0;
+        for (int i = outgoingStart[v]; i < outgoingStart[v + 1]; ++i) {
+            if (outgoingTarget[i] == u) {
+                twin = outgoing[i];
+                ++oppositeCount;
+            }
+        }
+
+        if (oppositeCount == 0) {
+            // this is a boundary edge unless another half-edge runs in the same direction
+            twins[h] = countOutgoing(u, v, outgoingTarget) == 1 ?
+                    BOUNDARY :
+                    NON_MANIFOLD;
+        } else if (oppositeCount > 1) {
+            twins[h] = NON_MANIFOLD;
+        } else if (twins[twin] == UNSET) {
+            twins[h] = twin;
+            twins[twin] = h;
+        } else {
+            // the twin is already matched with a half-edge running in the same direction as
+            // this one or has been marked as non-manifold
+            final int other = twins[twin];
+            if (other > BOUNDARY) {
+                twins[other] = NON_MANIFOLD;
+            }
+            twins[twin] = NON_MANIFOLD;
+            twins[h] = NON_MANIFOLD;
+        }
+    }
+
+    /** Count the half-edges running from {@code start} to {@code end}.
+     * @param start start vertex
+     * @param end end vertex
+     * @param outgoingTarget array containing the end vertex of each half-edge in {@link #outgoing}
+     * @return the number of half-edges running from {@code start} to {@code end}
+     */
+    private int countOutgoing(final int start, final int end, final int[] outgoingTarget) {
+        int count = 0;
+        for (int i = outgoingStart[start]; i < outgoingStart[start + 1]; ++i) {
+            if (outgoingTarget[i] == end) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /** Find a boundary half-edge starting at the given vertex that has not yet been visited.
+     * @param vertex vertex index
+     * @param visited array of visited flags for each half-edge
+     * @return an unvisited boundary half-edge starting at the vertex or {@link #BOUNDARY} if none exists
+     */
+    private int findUnvisitedBoundary(final int vertex, final boolean[] visited) {
+        for (int i = outgoingStart[vertex]; i < outgoingStart[vertex + 1]; ++i) {
+            final int h = outgoing[i];
+            if (twins[h] == BOUNDARY && !visited[h]) {
+                return h;
+            }
+        }
+        return BOUNDARY;
+    }
+
+    /** Get the half-edge index for the given face and edge.
+     * @param face face index
+     * @param edge edge index in the face
+     * @return half-edge index
+     */
+    private int halfEdge(final int face, final int edge) {
+        checkIndex(face, getFaceCount());
+        return (face * FACE_SIZE) + edge;
+    }
+
+    /** Throw an exception if the given half-edge index is out of bounds.
+     * @param halfEdge half-edge index
+     * @throws IndexOutOfBoundsException if the half-edge index is out of bounds
+     */
+    private void checkHalfEdge(final int halfEdge) {
+        checkIndex(halfEdge, faces.length);
+    }
+
+    /** Get the half-edge following the given half-edge in the same face.
+     * @param h half-edge index
+     * @return next half-edge
+     */
+    private static int next(final int h) {
+        return (h % FACE_SIZE) == FACE_SIZE - 1 ?
+                h - (FACE_SIZE - 1) :
+                h + 1;
+    }
+
+    /** Get the half-edge preceding the given half-edge in the same face.
+     * @param h half-edge index
+     * @return previous half-edge
+     */
+    private static int previous(final int h) {
+        return (h % FACE_SIZE) == 0 ?
+                h + (FACE_SIZE - 1) :
+                h - 1;
+    }
+
+    /** Set the element at {@code index} in {@code arr} to {@code value}, growing the array if needed.
+     * @param arr array
+     * @param index index of the element to set
+     * @param value value to set
+     * @return the array containing the new element; this is either {@code arr} or a larger copy of it
+     */
+    private static int[] append(final int[] arr, final int index, final int value) {
+        final int[] result = index < arr.length ?
+                arr :
+                Arrays.copyOf(arr, arr.length * 2);
+        result[index] = value;
+        return result;
+    }
+
+    /** Add {@code value} to the first {@code size} elements of {@code arr} if it is not already present
+     * and is not equal to {@code exclude}.
+     * @param arr array
+     * @param size number of elements in use
+     * @param value value to add
+     * @param exclude value to exclude
+     * @return the new number of elements in use
+     */
+    private static int addUnique(final int[] arr, final int size, final int value, final int exclude) {
+        if (value == exclude) {
+            return size;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (arr[i] == value) {
+                return size;
+            }
+        }
+        arr[size] = value;
+        return size + 1;
+    }
+
+    /** Throw an {@link IndexOutOfBoundsException} if {@code index} is not in the range {@code [0, size)}.
+     * @param index index to check
+     * @param size range size
+     * @throws IndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    private static void checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
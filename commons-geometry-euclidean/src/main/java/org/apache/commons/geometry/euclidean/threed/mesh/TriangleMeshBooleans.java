@@ -0,0 +1,665 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.core.Precision;
+
+/** Class containing methods for computing boolean operations (union, intersection, and difference)
+ * directly on closed triangle meshes. The result of each operation is a new welded, indexed triangle mesh.
+ *
+ * <p>The operations avoid converting the meshes to
+ * {@link org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D RegionBSPTree3D} instances. Instead,
+ * the pairs of intersecting faces of the two meshes are found with a {@link TriangleMeshCollisionIndex}
+ * and only the faces involved in an intersection are split. Each such face is split by the planes of the
+ * faces of the other mesh that it intersects, forming a local binary space partition of the face alone,
+ * which yields convex fragments that each lie entirely inside or outside of the other mesh. All other faces
+ * are kept intact. Faces and fragments are then classified as inside or outside of the other mesh using
+ * the sign of the distance from their centroids to the other mesh, as computed by a
+ * {@link TriangleMeshDistanceIndex}, and are kept or discarded depending on the operation. Fragments lying
+ * on the boundary of the other mesh are kept or discarded based on whether their orientation matches that
+ * of the other mesh.</p>
+ *
+ * <p>The input meshes must be closed, manifold, and consistently oriented with outward-pointing face
+ * normals; the results for other meshes are undefined. The output mesh satisfies the same conditions
+ * up to the precision of the computation, with the exception that the vertices of the split faces are not
+ * inserted into the edges of neighboring faces. The output may therefore contain T-junctions along the
+ * intersection curves of the input meshes. This is also the case for meshes extracted from region trees.</p>
+ */
+public final class TriangleMeshBooleans {
+
+    /** Number of coordinates per point. */
+    private static final int DIMENSION = 3;
+
+    /** Number of coordinates per triangle. */
+    private static final int TRIANGLE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT * DIMENSION;
+
+    /** Utility class; no instantiation. */
+    private TriangleMeshBooleans() {}
+
+    /** Compute the union of the solids bounded by the two given meshes.
+     * @param a first mesh
+     * @param b second mesh
+     * @param precision precision context used to split and classify faces and to weld the output vertices
+     * @return a new mesh bounding the union of the solids
+     */
+    public static TriangleMesh union(final TriangleMesh a, final TriangleMesh b,
+            final Precision.DoubleEquivalence precision) {
+        return compute(a, b, Operation.UNION, precision);
+    }
+
+    /** Compute the intersection of the solids bounded by the two given meshes.
+     * @param a first mesh
+     * @param b second mesh
+     * @param precision precision context used to split and classify faces and to weld the output vertices
+     * @return a new mesh bounding the intersection of the solids
+     */
+    public static TriangleMesh intersection(final TriangleMesh a, final TriangleMesh b,
+            final Precision.DoubleEquivalence precision) {
+        return compute(a, b, Operation.INTERSECTION, precision);
+    }
+
+    /** Compute the difference of the solids bounded by the two given meshes, i.e. the solid bounded by
+     * {@code a} with the solid bounded by {@code b} removed.
+     * @param a first mesh
+     * @param b mesh to subtract from the first mesh
+     * @param precision precision context used to split and classify faces and to weld the output vertices
+     * @return a new mesh bounding the difference of the solids
+     */
+    public static TriangleMesh difference(final TriangleMesh a, final TriangleMesh b,
+            final Precision.DoubleEquivalence precision) {
+        return compute(a, b, Operation.DIFFERENCE, precision);
+    }
+
+    /** Compute the result of the given boolean operation.
+     * @param a first mesh
+     * @param b second mesh
+     * @param op operation to compute
+     * @param precision precision context
+     * @return a new mesh bounding the result of the operation
+     */
+    private static TriangleMesh compute(final TriangleMesh a, final TriangleMesh b, final Operation op,
+            final Precision.DoubleEquivalence precision) {
+        final Operand opA = new Operand(a);
+        final Operand opB = new Operand(b);
+
+        final int[] pairs = opA.collisionIndex.findIntersectingFaces(opB.collisionIndex);
+        Operand.markNearFaces(opA, 0, opB, 0, precision);
+
+        final FacetBuffer output = new FacetBuffer(precision);
+        opA.addFragments(opB, pairs, 0, op, false, precision, output);
+        opB.addFragments(opA, pairs, 1, op, true, precision, output);
+
+        return SimpleTriangleMesh.builder(precision)
+                .addFacesUsingVertices(output.toArray())
+                .build();
+    }
+
+    /** Compute the unit normal of the given triangle, or null if the triangle has zero area.
+     * @param p1 first vertex
+     * @param p2 second vertex
+     * @param p3 third vertex
+     * @return the unit normal of the triangle or null if the triangle has zero area
+     */
+    private static Vector3D triangleNormal(final Vector3D p1, final Vector3D p2, final Vector3D p3) {
+        return p1.vectorTo(p2).cross(p1.vectorTo(p3)).normalizeOrNull();
+    }
+
+    /** Compute the centroid of the vertices of the given convex polygon.
+     * @param polygon polygon vertices
+     * @return the centroid of the polygon vertices
+     */
+    private static Vector3D vertexCentroid(final List<Vector3D> polygon) {
+        final Vector3D.Sum sum = Vector3D.Sum.create();
+        for (final Vector3D pt : polygon) {
+            sum.add(pt);
+        }
+        return sum.get().multiply(1.0 / polygon.size());
+    }
+
+    /** Split the given convex polygon with the plane through {@code origin} with unit normal
+     * {@code normal}. Vertices within the given precision of the plane are assigned to both resulting
+     * polygons.
+     * @param polygon polygon to split
+     * @param origin point on the splitting plane
+     * @param normal unit normal of the splitting plane
+     * @param precision precision context
+     * @param result list to add the resulting polygons to; if the polygon does not cross the plane,
+     *      only the polygon itself is added
+     */
+    private static void split(final List<Vector3D> polygon, final Vector3D origin, final Vector3D normal,
+            final Precision.DoubleEquivalence precision, final List<List<Vector3D>> result) {
+        final int size = polygon.size();
+        final double[] offsets = new double[size];
+        final int[] sides = new int[size];
+        boolean plus = false;
+        boolean minus = false;
+        for (int i = 0; i < size; ++i) {
+            offsets[i] = normal.dot(origin.vectorTo(polygon.get(i)));
+            sides[i] = precision.compare(offsets[i], 0);
+            plus |= sides[i] > 0;
+            minus |= sides[i] < 0;
+        }
+
+        if (!plus || !minus) {
+            result.add(polygon);
+            return;
+        }
+
+        final List<Vector3D> plusPolygon = new ArrayList<>(size + 1);
+        final List<Vector3D> minusPolygon = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; ++i) {
+            final Vector3D pt = polygon.get(i);
+            if (sides[i] >= 0) {
+                plusPolygon.add(pt);
+            }
+            if (sides[i] <= 0) {
+                minusPolygon.add(pt);
+            }
+
+            final int next = (i + 1) % size;
+            if (sides[i] * sides[next] < 0) {
+                final Vector3D intersection = pt.lerp(polygon.get(next),
+                        offsets[i] / (offsets[i] - offsets[next]));
+                plusPolygon.add(intersection);
+                minusPolygon.add(intersection);
+            }
+        }
+
+        result.add(plusPolygon);
+        result.add(minusPolygon);
+    }
+
+    /** Enum containing the supported boolean operations and their rules for keeping fragments.
+     */
+    private enum Operation {
+
+        /** Union operation. */
+        UNION {
+            @Override
+            boolean keep(final Location location, final boolean second) {
+                return location == Location.OUTSIDE || (location == Location.SAME && !second);
+            }
+        },
+
+        /** Intersection operation. */
+        INTERSECTION {
+            @Override
+            boolean keep(final Location location, final boolean second) {
+                return location == Location.INSIDE || (location == Location.SAME && !second);
+            }
+        },
+
+        /** Difference operation. */
+        DIFFERENCE {
+            @Override
+            boolean keep(final Location location, final boolean second) {
+                return second ?
+                        location == Location.INSIDE :
+                        location == Location.OUTSIDE || location == Location.OPPOSITE;
+            }
+
+            @Override
+            boolean reverse(final boolean second) {
+                return second;
+            }
+        };
+
+        /** Return true if a fragment with the given location relative to the other mesh is part of the result.
+         * @param location location of the fragment relative to the other mesh
+         * @param second true if the fragment belongs to the second mesh
+         * @return true if the fragment is part of the result
+         */
+        abstract boolean keep(Location location, boolean second);
+
+        /** Return true if the orientation of the kept fragments of the given mesh must be reversed.
+         * @param second true for the second mesh
+         * @return true if the orientation of the kept fragments must be reversed
+         */
+        boolean reverse(final boolean second) {
+            return false;
+        }
+    }
+
+    /** Enum representing the location of a fragment relative to the other mesh.
+     */
+    private enum Location {
+
+        /** The fragment lies inside of the other mesh. */
+        INSIDE,
+
+        /** The fragment lies outside of the other mesh. */
+        OUTSIDE,
+
+        /** The fragment lies on the boundary of the other mesh, with the same orientation. */
+        SAME,
+
+        /** The fragment lies on the boundary of the other mesh, with the opposite orientation. */
+        OPPOSITE
+    }
+
+    /** Class containing a mesh taking part in a boolean operation along with the indices used to process it.
+     */
+    private static final class Operand {
+
+        /** Mesh. */
+        private final TriangleMesh mesh;
+
+        /** Collision index for the mesh. */
+        private final TriangleMeshCollisionIndex collisionIndex;
+
+        /** Distance index for the mesh, or null if the mesh does not contain any faces. */
+        private final TriangleMeshDistanceIndex distanceIndex;
+
+        /** Bounding volume hierarchy over the faces of the mesh. */
+        private final TriangleHierarchy hierarchy;
+
+        /** Bounding box of the mesh, stored as {@code minX, minY, minZ, maxX, maxY, maxZ}. */
+        private final double[] bounds;
+
+        /** Flags indicating the faces whose bounding boxes overlap the bounding box of a face of the
+         * other mesh within the precision of the computation.
+         */
+        private final boolean[] near;
+
+        /** Construct a new instance.
+         * @param mesh mesh
+         */
+        Operand(final TriangleMesh mesh) {
+            this.mesh = mesh;
+
+            // share a single hierarchy between the indices
+            this.hierarchy = new TriangleHierarchy(mesh.getVertexCoordinates(), mesh.getFaceIndices());
+            this.collisionIndex = new TriangleMeshCollisionIndex(hierarchy);
+            this.distanceIndex = mesh.getFaceCount() > 0 ?
+                    new TriangleMeshDistanceIndex(hierarchy) :
+                    null;
+            this.bounds = Arrays.copyOf(hierarchy.getNodeBounds(), 2 * DIMENSION);
+            this.near = new boolean[mesh.getFaceCount()];
+        }
+
+        /** Flag the faces of the given operands whose bounding boxes overlap within the given precision,
+         * starting at the given hierarchy nodes. Faces that are not flagged lie farther than the precision
+         * from all faces of the other mesh.
+         * @param a first operand
+         * @param nodeA node of the hierarchy of the first operand
+         * @param b second operand
+         * @param nodeB node of the hierarchy of the second operand
+         * @param precision precision context
+         */
+        static void markNearFaces(final Operand a, final int nodeA, final Operand b, final int nodeB,
+                final Precision.DoubleEquivalence precision) {
+            final double[] boundsA = a.hierarchy.getNodeBounds();
+            final double[] boundsB = b.hierarchy.getNodeBounds();
+            if (!overlaps(boundsA, nodeA * 2 * DIMENSION, boundsB, nodeB * 2 * DIMENSION, precision)) {
+                return;
+            }
+
+            final int countA = a.hierarchy.getNodeCounts()[nodeA];
+            final int countB = b.hierarchy.getNodeCounts()[nodeB];
+            if (countA == 0) {
+                markNearFaces(a, nodeA + 1, b, nodeB, precision);
+                markNearFaces(a, a.hierarchy.getNodeStarts()[nodeA], b, nodeB, precision);
+            } else if (countB == 0) {
+                markNearFaces(a, nodeA, b, nodeB + 1, precision);
+                markNearFaces(a, nodeA, b, b.hierarchy.getNodeStarts()[nodeB], precision);
+            } else {
+                final int startA = a.hierarchy.getNodeStarts()[nodeA];
+                final int startB = b.hierarchy.getNodeStarts()[nodeB];
+                for (int t = startA; t < startA + countA; ++t) {
+                    final double[] triangleA = triangleBounds(a.hierarchy.getTriangles(), t);
+                    for (int u = startB; u < startB + countB; ++u) {
+                        if (overlaps(triangleA, 0, triangleBounds(b.hierarchy.getTriangles(), u), 0, precision)) {
+                            a.near[a.hierarchy.getTriangleFaces()[t]] = true;
+                            b.near[b.hierarchy.getTriangleFaces()[u]] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Get the bounding box of the given triangle, stored as {@code minX, minY, minZ, maxX, maxY, maxZ}.
+         * @param triangles packed triangle coordinates
+         * @param t triangle index
+         * @return the bounding box of the triangle
+         */
+        private static double[] triangleBounds(final double[] triangles, final int t) {
+            final double[] result = new double[2 * DIMENSION];
+            final int offset = t * TRIANGLE_SIZE;
+            for (int d = 0; d < DIMENSION; ++d) {
+                final double v1 = triangles[offset + d];
+                final double v2 = triangles[offset + DIMENSION + d];
+                final double v3 = triangles[offset + (2 * DIMENSION) + d];
+                result[d] = Math.min(v1, Math.min(v2, v3));
+                result[DIMENSION + d] = Math.max(v1, Math.max(v2, v3));
+            }
+            return result;
+        }
+
+        /** Return true if the given bounding boxes overlap within the given precision.
+         * @param a array containing the first bounding box
+         * @param offsetA offset of the first bounding box in its array
+         * @param b array containing the second bounding box
+         * @param offsetB offset of the second bounding box in its array
+         * @param precision precision context
+         * @return true if the bounding boxes overlap
+         */
+        private static boolean overlaps(final double[] a, final int offsetA, final double[] b, final int offsetB,
+                final Precision.DoubleEquivalence precision) {
+            for (int d = 0; d < DIMENSION; ++d) {
+                if (!precision.lte(a[offsetA + d], b[offsetB + DIMENSION + d]) ||
+                        !precision.lte(b[offsetB + d], a[offsetA + DIMENSION + d])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Add the fragments of the faces of this mesh that are part of the result of the operation to
+         * the given output buffer.
+         * @param other other mesh taking part in the operation
+         * @param pairs packed intersecting face pairs
+         * @param pairOffset offset of the face indices of this mesh in each pair
+         * @param op boolean operation
+         * @param second true if this is the second mesh of the operation
+         * @param precision precision context
+         * @param output output buffer
+         */
+        void addFragments(final Operand other, final int[] pairs, final int pairOffset, final Operation op,
+                final boolean second, final Precision.DoubleEquivalence precision, final FacetBuffer output) {
+            final int faceCount = mesh.getFaceCount();
+
+            // group the intersecting faces of the other mesh by the faces of this mesh
+            final int[] starts = new int[faceCount + 1];
+            for (int i = pairOffset; i < pairs.length; i += 2) {
+                ++starts[pairs[i] + 1];
+            }
+            for (int f = 0; f < faceCount; ++f) {
+                starts[f + 1] += starts[f];
+            }
+            final int[] otherFaces = new int[pairs.length / 2];
+            final int[] positions = Arrays.copyOf(starts, faceCount);
+            for (int i = 0; i < pairs.length; i += 2) {
+                otherFaces[positions[pairs[i + pairOffset]]++] = pairs[i + 1 - pairOffset];
+            }
+
+            final boolean reverse = op.reverse(second);
+            final Location[] locations = new Location[faceCount];
+            final List<List<Vector3D>> fragments = new ArrayList<>();
+            for (final TriangleMesh.Face face : mesh.faces()) {
+                final List<Vector3D> vertices = face.getVertices();
+                final Vector3D normal = triangleNormal(vertices.get(0), vertices.get(1), vertices.get(2));
+                if (normal == null) {
+                    continue;
+                }
+
+                final int f = face.getIndex();
+                if (!near[f]) {
+                    // the face lies away from the other mesh and so is not split
+                    if (locations[f] == null) {
+                        classifyConnected(f, other.classify(vertices, normal, precision), locations);
+                    }
+                    if (op.keep(locations[f], second)) {
+                        output.addPolygon(vertices, reverse);
+                    }
+                    continue;
+                }
+
+                fragments.clear();
+                fragments.add(vertices);
+                for (int i = starts[f]; i < starts[f + 1]; ++i) {
+                    other.splitFragments(otherFaces[i], fragments, precision);
+                }
+
+                for (final List<Vector3D> fragment : fragments) {
+                    if (op.keep(other.classify(fragment, normal, precision), second)) {
+                        output.addPolygon(fragment, reverse);
+                    }
+                }
+            }
+        }
+
+        /** Assign the given location to the given face and to all faces connected to it through faces
+         * that are not near the other mesh. Such connected faces form a surface that lies farther than the
+         * precision from the other mesh and therefore lies entirely on one side of it. Faces that do not
+         * define a polygon are not crossed since they are skipped when computing the fragments.
+         * @param face face index
+         * @param location location of the face
+         * @param locations array containing the location of each face classified so far
+         */
+        private void classifyConnected(final int face, final Location location, final Location[] locations) {
+            locations[face] = location;
+
+            final TriangleMeshAdjacency adjacency = mesh.getAdjacency();
+            final int[] stack = new int[locations.length];
+            int top = 0;
+            stack[top++] = face;
+            while (top > 0) {
+                final int current = stack[--top];
+                for (int k = 0; k < EuclideanUtils.TRIANGLE_VERTEX_COUNT; ++k) {
+                    final int twin = adjacency.getTwin((current * EuclideanUtils.TRIANGLE_VERTEX_COUNT) + k);
+                    if (twin > -1) {
+                        final int neighbor = adjacency.getFace(twin);
+                        if (locations[neighbor] == null && !near[neighbor] &&
+                                mesh.getFace(neighbor).definesPolygon()) {
+                            locations[neighbor] = location;
+                            stack[top++] = neighbor;
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Split the given fragments by the given face of this mesh so that no resulting fragment crosses
+         * the face. Fragments that do not intersect the face are not split. Fragments lying in the plane
+         * of the face are split by the planes through the face edges perpendicular to the face.
+         * @param faceIndex index of the face to split by
+         * @param fragments list of fragments; the list is modified in place
+         * @param precision precision context
+         */
+        void splitFragments(final int faceIndex, final List<List<Vector3D>> fragments,
+                final Precision.DoubleEquivalence precision) {
+            final TriangleMesh.Face face = mesh.getFace(faceIndex);
+            final Vector3D p1 = face.getPoint1();
+            final Vector3D p2 = face.getPoint2();
+            final Vector3D p3 = face.getPoint3();
+            // faces with zero area never intersect anything, so the normal is always defined here
+            final Vector3D normal = triangleNormal(p1, p2, p3);
+
+            final double[] triangle = toArray(Arrays.asList(p1, p2, p3), 0, 1, 2);
+            final List<List<Vector3D>> input = new ArrayList<>(fragments);
+            fragments.clear();
+            for (final List<Vector3D> fragment : input) {
+                if (!intersects(fragment, triangle)) {
+                    fragments.add(fragment);
+                } else if (!liesInPlane(fragment, p1, normal, precision)) {
+                    split(fragment, p1, normal, precision, fragments);
+                } else {
+                    // split by the planes through the edges so that the part lying on the face is isolated
+                    List<List<Vector3D>> pieces = Arrays.asList(fragment);
+                    for (final Vector3D[] edge : new Vector3D[][] {{p1, p2}, {p2, p3}, {p3, p1}}) {
+                        final Vector3D edgeNormal = edge[0].vectorTo(edge[1]).cross(normal).normalize();
+                        final List<List<Vector3D>> next = new ArrayList<>();
+                        for (final List<Vector3D> piece : pieces) {
+                            split(piece, edge[0], edgeNormal, precision, next);
+                        }
+                        pieces = next;
+                    }
+                    fragments.addAll(pieces);
+                }
+            }
+        }
+
+        /** Classify the location of the given fragment relative to this mesh.
+         * @param fragment fragment vertices
+         * @param normal unit normal of the fragment
+         * @param precision precision context
+         * @return the location of the fragment relative to this mesh
+         */
+        Location classify(final List<Vector3D> fragment, final Vector3D normal,
+                final Precision.DoubleEquivalence precision) {
+            final Vector3D centroid = vertexCentroid(fragment);
+            if (!inBounds(centroid, precision)) {
+                // this also handles empty meshes, which have inverted bounds
+                return Location.OUTSIDE;
+            }
+
+            final double dist = distanceIndex.signedDistance(centroid);
+            if (!precision.eqZero(dist)) {
+                return dist < 0 ?
+                        Location.INSIDE :
+                        Location.OUTSIDE;
+            }
+
+            final TriangleMesh.Face face = mesh.getFace(distanceIndex.closestFace(centroid));
+            final Vector3D faceNormal = face.getPoint1().vectorTo(face.getPoint2())
+                    .cross(face.getPoint1().vectorTo(face.getPoint3()));
+            return faceNormal.dot(normal) > 0 ?
+                    Location.SAME :
+                    Location.OPPOSITE;
+        }
+
+        /** Return true if the given point lies within the given precision of the bounding box of this
+         * mesh. Points outside of the bounding box are outside of the mesh.
+         * @param pt point
+         * @param precision precision context
+         * @return true if the point lies within the bounding box of this mesh
+         */
+        private boolean inBounds(final Vector3D pt, final Precision.DoubleEquivalence precision) {
+            return precision.gte(pt.getX(), bounds[0]) && precision.lte(pt.getX(), bounds[DIMENSION]) &&
+                    precision.gte(pt.getY(), bounds[1]) && precision.lte(pt.getY(), bounds[DIMENSION + 1]) &&
+                    precision.gte(pt.getZ(), bounds[2]) && precision.lte(pt.getZ(), bounds[DIMENSION + 2]);
+        }
+
+        /** Return true if all vertices of the given fragment lie within the given precision of the plane
+         * through {@code origin} with unit normal {@code normal}.
+         * @param fragment fragment vertices
+         * @param origin point on the plane
+         * @param normal unit normal of the plane
+         * @param precision precision context
+         * @return true if all vertices of the fragment lie in the plane
+         */
+        private static boolean liesInPlane(final List<Vector3D> fragment, final Vector3D origin,
+                final Vector3D normal, final Precision.DoubleEquivalence precision) {
+            for (final Vector3D pt : fragment) {
+                if (!precision.eqZero(normal.dot(origin.vectorTo(pt)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Return true if the given convex fragment intersects the given triangle.
+         * @param fragment fragment vertices
+         * @param triangle packed triangle coordinates
+         * @return true if the fragment intersects the triangle
+         */
+        private static boolean intersects(final List<Vector3D> fragment, final double[] triangle) {
+            for (int i = 2; i < fragment.size(); ++i) {
+                if (TriangleMeshCollisionIndex.trianglesIntersect(toArray(fragment, 0, i - 1, i), triangle)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Get the packed coordinates of the triangle formed by the given vertices of a polygon.
+         * @param polygon polygon vertices
+         * @param i1 index of the first vertex
+         * @param i2 index of the second vertex
+         * @param i3 index of the third vertex
+         * @return packed triangle coordinates
+         */
+        private static double[] toArray(final List<Vector3D> polygon, final int i1, final int i2, final int i3) {
+            final double[] result = new double[TRIANGLE_SIZE];
+            int i = 0;
+            for (final int idx : new int[] {i1, i2, i3}) {
+                final Vector3D pt = polygon.get(idx);
+                result[i++] = pt.getX();
+                result[i++] = pt.getY();
+                result[i++] = pt.getZ();
+            }
+            return result;
+        }
+    }
+
+    /** Growable buffer of packed facet coordinates.
+     */
+    private static final class FacetBuffer {
+
+        /** Initial capacity of the buffer. */
+        private static final int INITIAL_CAPACITY = 64 * TRIANGLE_SIZE;
+
+        /** Precision context used to detect degenerate triangles. */
+        private final Precision.DoubleEquivalence precision;
+
+        /** Packed facet coordinates. */
+        private double[] coords = new double[INITIAL_CAPACITY];
+
+        /** Number of values in the buffer. */
+        private int size;
+
+        /** Construct a new instance.
+         * @param precision precision context used to detect degenerate triangles
+         */
+        FacetBuffer(final Precision.DoubleEquivalence precision) {
+            this.precision = precision;
+        }
+
+        /** Add the given convex polygon to the buffer as a triangle fan. Triangles with equivalent
+         * vertices are skipped.
+         * @param polygon polygon vertices
+         * @param reverse if true, the orientation of the polygon is reversed
+         */
+        void addPolygon(final List<Vector3D> polygon, final boolean reverse) {
+            final Vector3D p1 = polygon.get(0);
+            for (int i = 2; i < polygon.size(); ++i) {
+                final Vector3D p2 = polygon.get(reverse ? i : i - 1);
+                final Vector3D p3 = polygon.get(reverse ? i - 1 : i);
+                if (!p1.eq(p2, precision) && !p2.eq(p3, precision) && !p3.eq(p1, precision)) {
+                    addVertex(p1);
+                    addVertex(p2);
+                    addVertex(p3);
+                }
+            }
+        }
+
+        /** Add a vertex to the buffer.
+         * @param pt vertex to add
+         */
+        private void addVertex(final Vector3D pt) {
+            if (size + DIMENSION > coords.length) {
+                coords = Arrays.copyOf(coords, coords.length * 2);
+            }
+            coords[size++] = pt.getX();
+            coords[size++] = pt.getY();
+            coords[size++] = pt.getZ();
+        }
+
+        /** Get the packed facet coordinates in the buffer.
+         * @return packed facet coordinates
+         */
+        double[] toArray() {
+            return Arrays.copyOf(coords, size);
+        }
+    }
+}
@@ -0,0 +1,742 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.numbers.core.Precision;
+
+/** Class providing fast intersection and overlap tests between static triangle meshes. The faces of
+ * each mesh are stored in a bounding volume hierarchy (BVH) of axis-aligned boxes. Two indices are tested
+ * against each other by traversing both hierarchies simultaneously, so that only pairs of faces with
+ * overlapping bounding boxes are tested for intersection. This is considerably cheaper than computing
+ * the intersection of the corresponding
+ * {@link org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D RegionBSPTree3D} instances
+ * when only a yes/no answer or the set of intersecting faces is needed.
+ *
+ * <p>All test methods accept optional affine transforms mapping each indexed mesh into a common
+ * coordinate system. This allows the same index to be tested at arbitrary positions and orientations
+ * without rebuilding the hierarchy.</p>
+ *
+ * <p>Faces are considered to intersect if they share at least one point, which includes faces that
+ * only touch along an edge or at a vertex. Face intersections are computed directly with floating point
+ * arithmetic and no tolerance, so the results for faces that touch exactly may be affected by round-off
+ * errors. Faces with zero area are never reported as intersecting.</p>
+ *
+ * <p>Instances of this class are immutable and may be safely queried from multiple threads.</p>
+ */
+public final class TriangleMeshCollisionIndex {
+
+    /** Number of coordinates per point. */
+    private static final int DIMENSION = 3;
+
+    /** Number of coordinates per triangle. */
+    private static final int TRIANGLE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT * DIMENSION;
+
+    /** Number of values per node bounding box. */
+    private static final int BOUNDS_SIZE = 2 * DIMENSION;
+
+    /** Number of values in each row of a packed affine transform matrix. */
+    private static final int MATRIX_ROW_SIZE = 4;
+
+    /** Number of bits used to shift the first face index of a face pair when packing it into a long value. */
+    private static final int PAIR_SHIFT = 32;
+
+    /** Mask used to extract the second face index of a face pair packed into a long value. */
+    private static final long PAIR_MASK = 0xffffffffL;
+
+    /** Absolute winding number above which a point is considered to lie inside of a mesh. */
+    private static final double INSIDE_WINDING_NUMBER = 0.5;
+
+    /** Total solid angle of the unit sphere. */
+    private static final double SPHERE_SOLID_ANGLE = 4 * Math.PI;
+
+    /** Bounding volume hierarchy over the mesh faces. */
+    private final TriangleHierarchy hierarchy;
+
+    /** Construct a new instance using the given hierarchy.
+     * @param hierarchy bounding volume hierarchy over the mesh faces
+     */
+    TriangleMeshCollisionIndex(final TriangleHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+    }
+
+    /** Get the number of faces in the indexed mesh.
+     * @return the number of faces in the indexed mesh
+     */
+    public int getFaceCount() {
+        return hierarchy.getTriangleCount();
+    }
+
+    /** Return true if any face of this mesh intersects any face of the given mesh. The traversal stops
+     * as soon as the first intersecting pair of faces is found.
+     * @param other mesh index to test against
+     * @return true if any face of this mesh intersects any face of the other mesh
+     */
+    public boolean intersects(final TriangleMeshCollisionIndex other) {
+        return intersects(AffineTransformMatrix3D.identity(), other, AffineTransformMatrix3D.identity());
+    }
+
+    /** Return true if any face of this mesh intersects any face of the given mesh, after applying the
+     * given transforms to the respective meshes. The traversal stops as soon as the first intersecting
+     * pair of faces is found.
+     * @param transform transform to apply to this mesh
+     * @param other mesh index to test against
+     * @param otherTransform transform to apply to the other mesh
+     * @return true if any face of the transformed mesh intersects any face of the transformed other mesh
+     */
+    public boolean intersects(final AffineTransformMatrix3D transform, final TriangleMeshCollisionIndex other,
+            final AffineTransformMatrix3D otherTransform) {
+        return new Traversal(this, transform, other, otherTransform, true).run() > 0;
+    }
+
+    /** Find all pairs of intersecting faces between this mesh and the given mesh. The pairs are
+     * returned in a packed array in which each pair occupies two consecutive elements: the index of
+     * the face in this mesh followed by the index of the face in the other mesh. The pairs are sorted
+     * by the face index in this mesh and then by the face index in the other mesh.
+     * @param other mesh index to test against
+     * @return packed array containing the pairs of intersecting faces
+     */
+    public int[] findIntersectingFaces(final TriangleMeshCollisionIndex other) {
+        return findIntersectingFaces(AffineTransformMatrix3D.identity(), other,
+                AffineTransformMatrix3D.identity());
+    }
+
+    /** Find all pairs of intersecting faces between this mesh and the given mesh, after applying the
+     * given transforms to the respective meshes. The pairs are returned in a packed array in which each
+     * pair occupies two consecutive elements: the index of the face in this mesh followed by the index
+     * of the face in the other mesh. The pairs are sorted by the face index in this mesh and then by the
+     * face index in the other mesh.
+     * @param transform transform to apply to this mesh
+     * @param other mesh index to test against
+     * @param otherTransform transform to apply to the other mesh
+     * @return packed array containing the pairs of intersecting faces
+     */
+    public int[] findIntersectingFaces(final AffineTransformMatrix3D transform, final TriangleMeshCollisionIndex other,
+            final AffineTransformMatrix3D otherTransform) {
+        final Traversal traversal = new Traversal(this, transform, other, otherTransform, false);
+        final int count = traversal.run();
+
+        final long[] keys = Arrays.copyOf(traversal.pairs, count);
+        Arrays.sort(keys);
+
+        final int[] result = new int[count * 2];
+        for (int i = 0; i < count; ++i) {
+            result[i * 2] = (int) (keys[i] >>> PAIR_SHIFT);
+            result[(i * 2) + 1] = (int) (keys[i] & PAIR_MASK);
+        }
+        return result;
+    }
+
+    /** Return true if the solids bounded by this mesh and the given mesh overlap. This is the case if
+     * any of their faces intersect or if one solid is entirely contained in the other. Both meshes are
+     * expected to be closed; containment is determined from the generalized winding number of a single
+     * vertex of each mesh with respect to the other mesh, which is independent of the face orientation.
+     * Meshes without any faces bound empty solids that do not overlap anything.
+     * @param other mesh index to test against
+     * @return true if the solids bounded by this mesh and the other mesh overlap
+     */
+    public boolean overlaps(final TriangleMeshCollisionIndex other) {
+        return overlaps(AffineTransformMatrix3D.identity(), other, AffineTransformMatrix3D.identity());
+    }
+
+    /** Return true if the solids bounded by this mesh and the given mesh overlap, after applying the given
+     * transforms to the respective meshes. This is the case if any of their faces intersect or if one solid
+     * is entirely contained in the other. Both meshes are expected to be closed; containment is determined
+     * from the generalized winding number of a single vertex of each mesh with respect to the other mesh,
+     * which is independent of the face orientation. Meshes without any faces bound empty solids that do not
+     * overlap anything.
+     * @param transform transform to apply to this mesh
+     * @param other mesh index to test against
+     * @param otherTransform transform to apply to the other mesh
+     * @return true if the solids bounded by the transformed mesh and the transformed other mesh overlap
+     */
+    public boolean overlaps(final AffineTransformMatrix3D transform, final TriangleMeshCollisionIndex other,
+            final AffineTransformMatrix3D otherTransform) {
+        if (getFaceCount() < 1 || other.getFaceCount() < 1) {
+            return false;
+        }
+
+        final double[] matrix = transform.toArray();
+        final double[] otherMatrix = otherTransform.toArray();
+
+        return new Traversal(this, matrix, other, otherMatrix, true).run() > 0 ||
+                containsVertex(other.hierarchy, otherMatrix, hierarchy, matrix) ||
+                containsVertex(hierarchy, matrix, other.hierarchy, otherMatrix);
+    }
+
+    /** Construct a new collision index for the given mesh. Face indices reported by the index refer to
+     * the faces of this mesh.
+     * @param mesh mesh to index
+     * @return a new collision index for the mesh
+     */
+    public static TriangleMeshCollisionIndex from(final TriangleMesh mesh) {
+        return new TriangleMeshCollisionIndex(
+                new TriangleHierarchy(mesh.getVertexCoordinates(), mesh.getFaceIndices()));
+    }
+
+    /** Construct a new collision index for the boundaries of the given boundary source. If the argument
+     * is a {@link TriangleMesh}, this method is equivalent to {@link #from(TriangleMesh)}. Otherwise, the
+     * boundaries are first converted to a triangle mesh with
+     * {@link BoundarySource3D#toTriangleMesh(Precision.DoubleEquivalence)} and face indices reported by
+     * the index refer to the faces of that mesh.
+     * @param src boundary source to index
+     * @param precision precision context used to construct the triangle mesh
+     * @return a new collision index for the boundaries of the boundary source
+     * @throws IllegalStateException if any boundary in the boundary source has infinite size and cannot
+     *      be converted to triangles
+     */
+    public static TriangleMeshCollisionIndex from(final BoundarySource3D src,
+            final Precision.DoubleEquivalence precision) {
+        return from(src instanceof TriangleMesh ?
+                (TriangleMesh) src :
+                src.toTriangleMesh(precision));
+    }
+
+    /** Return true if the first vertex of the {@code inner} hierarchy lies inside of the mesh of the
+     * {@code outer} hierarchy, after applying the respective transforms.
+     * @param inner hierarchy containing the vertex to test
+     * @param innerMatrix packed transform matrix for the inner hierarchy
+     * @param outer hierarchy containing the mesh to test against
+     * @param outerMatrix packed transform matrix for the outer hierarchy
+     * @return true if the transformed vertex lies inside of the transformed outer mesh
+     */
+    private static boolean containsVertex(final TriangleHierarchy inner, final double[] innerMatrix,
+            final TriangleHierarchy outer, final double[] outerMatrix) {
+        final double[] pt = new double[DIMENSION];
+        transformPoints(innerMatrix, inner.getTriangles(), 0, pt, 0, 1);
+
+        final double[] outerTriangles = outer.getTriangles();
+        final double[] tri = new double[TRIANGLE_SIZE];
+
+        double solidAngle = 0;
+        for (int t = 0; t < outerTriangles.length; t += TRIANGLE_SIZE) {
+            transformPoints(outerMatrix, outerTriangles, t, tri, 0, EuclideanUtils.TRIANGLE_VERTEX_COUNT);
+            solidAngle += solidAngle(tri, pt);
+        }
+
+        return Math.abs(solidAngle / SPHERE_SOLID_ANGLE) > INSIDE_WINDING_NUMBER;
+    }
+
+    /** Compute the signed solid angle subtended by the given triangle at the given point, using the
+     * formula of Van Oosterom and Strackee.
+     * @param tri packed triangle vertex coordinates
+     * @param pt point coordinates
+     * @return the signed solid angle subtended by the triangle
+     */
+    private static double solidAngle(final double[] tri, final double[] pt) {
+        final double ax = tri[0] - pt[0];
+        final double ay = tri[1] - pt[1];
+        final double az = tri[2] - pt[2];
+        final double bx = tri[3] - pt[0];
+        final double by = tri[4] - pt[1];
+        final double bz = tri[5] - pt[2];
+        final double cx = tri[6] - pt[0];
+        final double cy = tri[7] - pt[1];
+        final double cz = tri[8] - pt[2];
+
+        final double la = Math.sqrt((ax * ax) + (ay * ay) + (az * az));
+        final double lb = Math.sqrt((bx * bx) + (by * by) + (bz * bz));
+        final double lc = Math.sqrt((cx * cx) + (cy * cy) + (cz * cz));
+
+        final double det = (ax * ((by * cz) - (bz * cy))) -
+                (ay * ((bx * cz) - (bz * cx))) +
+                (az * ((bx * cy) - (by * cx)));
+        final double denom = (la * lb * lc) +
+                (((ax * bx) + (ay * by) + (az * bz)) * lc) +
+                (((ax * cx) + (ay * cy) + (az * cz)) * lb) +
+                (((bx * cx) + (by * cy) + (bz * cz)) * la);
+
+        return 2 * Math.atan2(det, denom);
+    }
+
+    /** Apply the given packed affine transform matrix to a sequence of packed points.
+     * @param matrix packed row-major transform matrix
+     * @param src source coordinate array
+     * @param srcOffset offset of the first point in the source array
+     * @param dst destination coordinate array
+     * @param dstOffset offset of the first point in the destination array
+     * @param count number of points to transform
+     */
+    private static void transformPoints(final double[] matrix, final double[] src, final int srcOffset,
+            final double[] dst, final int dstOffset, final int count) {
+        for (int i = 0; i < count; ++i) {
+            final int s = srcOffset + (i * DIMENSION);
+            final double x = src[s];
+            final double y = src[s + 1];
+            final double z = src[s + 2];
+
+            final int d = dstOffset + (i * DIMENSION);
+            for (int r = 0; r < DIMENSION; ++r) {
+                final int m = r * MATRIX_ROW_SIZE;
+                dst[d + r] = (matrix[m] * x) + (matrix[m + 1] * y) + (matrix[m + 2] * z) + matrix[m + 3];
+            }
+        }
+    }
+
+    /** Return true if the two given triangles share at least one point. This is an implementation of
+     * the interval overlap method of Möller (<em>A Fast Triangle-Triangle Intersection Test</em>, 1997),
+     * with coplanar triangles handled by 2D edge and containment tests.
+     * @param v packed coordinates of the first triangle
+     * @param u packed coordinates of the second triangle
+     * @return true if the triangles share at least one point
+     */
+    static boolean trianglesIntersect(final double[] v, final double[] u) {
+        final double[] n1 = normal(v);
+        final double[] n2 = normal(u);
+        if (isZero(n1) || isZero(n2)) {
+            return false;
+        }
+
+        // signed distances of the vertices of each triangle to the plane of the other
+        final double d1 = -dot(n1, v, 0);
+        final double du0 = dot(n1, u, 0) + d1;
+        final double du1 = dot(n1, u, DIMENSION) + d1;
+        final double du2 = dot(n1, u, 2 * DIMENSION) + d1;
+
+        final double d2 = -dot(n2, u, 0);
+        final double dv0 = dot(n2, v, 0) + d2;
+        final double dv1 = dot(n2, v, DIMENSION) + d2;
+        final double dv2 = dot(n2, v, 2 * DIMENSION) + d2;
+
+        if (onSameSide(du0, du1, du2) || onSameSide(dv0, dv1, dv2)) {
+            return false;
+        }
+        if ((du0 == 0 && du1 == 0 && du2 == 0) || (dv0 == 0 && dv1 == 0 && dv2 == 0)) {
+            return coplanarTrianglesIntersect(v, u, n1);
+        }
+
+        // project onto the coordinate axis most closely aligned with the intersection line of the planes
+        final int axis = largestComponent(
+                (n1[1] * n2[2]) - (n1[2] * n2[1]),
+                (n1[2] * n2[0]) - (n1[0] * n2[2]),
+                (n1[0] * n2[1]) - (n1[1] * n2[0]));
+
+        final double[] vi = interval(v[axis], v[DIMENSION + axis], v[(2 * DIMENSION) + axis], dv0, dv1, dv2);
+        final double[] ui = interval(u[axis], u[DIMENSION + axis], u[(2 * DIMENSION) + axis], du0, du1, du2);
+
+        return Math.max(vi[0], vi[1]) >= Math.min(ui[0], ui[1]) &&
+                Math.max(ui[0], ui[1]) >= Math.min(vi[0], vi[1]);
+    }
+
+    /** Compute the interval along the intersection line of the planes covered by a triangle whose
+     * vertices do not all lie on the same side of the other plane and not all in the other plane.
+     * @param p0 projection of the first vertex onto the intersection line
+     * @param p1 projection of the second vertex onto the intersection line
+     * @param p2 projection of the third vertex onto the intersection line
+     * @param d0 signed distance of the first vertex to the other plane
+     * @param d1 signed distance of the second vertex to the other plane
+     * @param d2 signed distance of the third vertex to the other plane
+     * @return two element array containing the interval end points, in no particular order
+     */
+    private static double[] interval(final double p0, final double p1, final double p2,
+            final double d0, final double d1, final double d2) {
+        // find the vertex that lies alone on its side of the plane
+        if (d0 * d1 > 0) {
+            return interval(p2, p0, p1, d2, d0, d1);
+        } else if (d0 * d2 > 0) {
+            return interval(p1, p0, p2, d1, d0, d2);
+        } else if (d1 * d2 > 0 || d0 != 0) {
+            return new double[] {
+                p0 + ((p1 - p0) * (d0 / (d0 - d1))),
+                p0 + ((p2 - p0) * (d0 / (d0 - d2)))
+            };
+        } else if (d1 != 0) {
+            return interval(p1, p0, p2, d1, d0, d2);
+        }
+        return interval(p2, p0, p1, d2, d0, d1);
+    }
+
+    /** Return true if the two given coplanar triangles share at least one point.
+     * @param v packed coordinates of the first triangle
+     * @param u packed coordinates of the second triangle
+     * @param normal normal of the common plane
+     * @return true if the triangles share at least one point
+     */
+    private static boolean coplanarTrianglesIntersect(final double[] v, final double[] u, final double[] normal) {
+        // project onto the coordinate plane most closely aligned with the triangle plane
+        final int axis = largestComponent(normal[0], normal[1], normal[2]);
+        final int i0 = axis == 0 ? 1 : 0;
+        final int i1 = axis == 2 ? 1 : 2;
+
+        final double[] v2 = project(v, i0, i1);
+        final double[] u2 = project(u, i0, i1);
+
+        for (int i = 0; i < EuclideanUtils.TRIANGLE_VERTEX_COUNT; ++i) {
+            final int ie = ((i + 1) % EuclideanUtils.TRIANGLE_VERTEX_COUNT) * 2;
+            for (int j = 0; j < EuclideanUtils.TRIANGLE_VERTEX_COUNT; ++j) {
+                final int je = ((j + 1) % EuclideanUtils.TRIANGLE_VERTEX_COUNT) * 2;
+                if (segmentsIntersect(v2, i * 2, ie, u2, j * 2, je)) {
+                    return true;
+                }
+            }
+        }
+
+        return triangleContains(u2, v2[0], v2[1]) || triangleContains(v2, u2[0], u2[1]);
+    }
+
+    /** Return true if the two given 2D segments share at least one point.
+     * @param a packed 2D coordinates containing the first segment
+     * @param a0 offset of the start point of the first segment
+     * @param a1 offset of the end point of the first segment
+     * @param b packed 2D coordinates containing the second segment
+     * @param b0 offset of the start point of the second segment
+     * @param b1 offset of the end point of the second segment
+     * @return true if the segments share at least one point
+     */
+    private static boolean segmentsIntersect(final double[] a, final int a0, final int a1,
+            final double[] b, final int b0, final int b1) {
+        final double o1 = orientation(a[a0], a[a0 + 1], a[a1], a[a1 + 1], b[b0], b[b0 + 1]);
+        final double o2 = orientation(a[a0], a[a0 + 1], a[a1], a[a1 + 1], b[b1], b[b1 + 1]);
+        final double o3 = orientation(b[b0], b[b0 + 1], b[b1], b[b1 + 1], a[a0], a[a0 + 1]);
+        final double o4 = orientation(b[b0], b[b0 + 1], b[b1], b[b1 + 1], a[a1], a[a1 + 1]);
+
+        if (o1 * o2 < 0 && o3 * o4 < 0) {
+            return true;
+        }
+
+        return (o1 == 0 && inBox(a, a0, a1, b[b0], b[b0 + 1])) ||
+                (o2 == 0 && inBox(a, a0, a1, b[b1], b[b1 + 1])) ||
+                (o3 == 0 && inBox(b, b0, b1, a[a0], a[a0 + 1])) ||
+                (o4 == 0 && inBox(b, b0, b1, a[a1], a[a1 + 1]));
+    }
+
+    /** Return true if the given 2D point lies within the axis-aligned bounding box of the given 2D segment.
+     * @param s packed 2D coordinates containing the segment
+     * @param s0 offset of the segment start point
+     * @param s1 offset of the segment end point
+     * @param x point x coordinate
+     * @param y point y coordinate
+     * @return true if the point lies within the bounding box of the segment
+     */
+    private static boolean inBox(final double[] s, final int s0, final int s1, final double x, final double y) {
+        return x >= Math.min(s[s0], s[s1]) && x <= Math.max(s[s0], s[s1]) &&
+                y >= Math.min(s[s0 + 1], s[s1 + 1]) && y <= Math.max(s[s0 + 1], s[s1 + 1]);
+    }
+
+    /** Return true if the given 2D triangle contains the given point, including its boundary.
+     * @param t packed 2D triangle coordinates
+     * @param x point x coordinate
+     * @param y point y coordinate
+     * @return true if the triangle contains the point
+     */
+    private static boolean triangleContains(final double[] t, final double x, final double y) {
+        final double o0 = orientation(t[0], t[1], t[2], t[3], x, y);
+        final double o1 = orientation(t[2], t[3], t[4], t[5], x, y);
+        final double o2 = orientation(t[4], t[5], t[0], t[1], x, y);
+
+        return (o0 >= 0 && o1 >= 0 && o2 >= 0) || (o0 <= 0 && o1 <= 0 && o2 <= 0);
+    }
+
+    /** Compute the orientation of the 2D point {@code c} relative to the line through {@code a} and
+     * {@code b}. The value is positive if the points are in counterclockwise order, negative if they are
+     * in clockwise order, and zero if they are collinear.
+     * @param ax first point x coordinate
+     * @param ay first point y coordinate
+     * @param bx second point x coordinate
+     * @param by second point y coordinate
+     * @param cx third point x coordinate
+     * @param cy third point y coordinate
+     * @return value indicating the orientation of the points
+     */
+    private static double orientation(final double ax, final double ay, final double bx, final double by,
+            final double cx, final double cy) {
+        return ((bx - ax) * (cy - ay)) - ((by - ay) * (cx - ax));
+    }
+
+    /** Project the given packed 3D triangle onto the plane of the given coordinate axes.
+     * @param t packed 3D triangle coordinates
+     * @param i0 index of the first retained coordinate
+     * @param i1 index of the second retained coordinate
+     * @return packed 2D triangle coordinates
+     */
+    private static double[] project(final double[] t, final int i0, final int i1) {
+        return new double[] {
+            t[i0], t[i1],
+            t[DIMENSION + i0], t[DIMENSION + i1],
+            t[(2 * DIMENSION) + i0], t[(2 * DIMENSION) + i1]
+        };
+    }
+
+    /** Compute the (non-normalized) normal of the given packed triangle.
+     * @param t packed triangle coordinates
+     * @return the normal of the triangle
+     */
+    private static double[] normal(final double[] t) {
+        final double abx = t[3] - t[0];
+        final double aby = t[4] - t[1];
+        final double abz = t[5] - t[2];
+        final double acx = t[6] - t[0];
+        final double acy = t[7] - t[1];
+        final double acz = t[8] - t[2];
+
+        return new double[] {
+            (aby * acz) - (abz * acy),
+            (abz * acx) - (abx * acz),
+            (abx * acy) - (aby * acx)
+        };
+    }
+
+    /** Compute the dot product of the given vector with a point in a packed coordinate array.
+     * @param n vector
+     * @param coords packed coordinate array
+     * @param offset offset of the point
+     * @return the dot product
+     */
+    private static double dot(final double[] n, final double[] coords, final int offset) {
+        return (n[0] * coords[offset]) + (n[1] * coords[offset + 1]) + (n[2] * coords[offset + 2]);
+    }
+
+    /** Return true if all components of the given vector are zero.
+     * @param n vector
+     * @return true if all components of the vector are zero
+     */
+    private static boolean isZero(final double[] n) {
+        return n[0] == 0 && n[1] == 0 && n[2] == 0;
+    }
+
+    /** Return true if the given values are all strictly positive or all strictly negative.
+     * @param a first value
+     * @param b second value
+     * @param c third value
+     * @return true if the values are all strictly positive or all strictly negative
+     */
+    private static boolean onSameSide(final double a, final double b, final double c) {
+        return (a > 0 && b > 0 && c > 0) || (a < 0 && b < 0 && c < 0);
+    }
+
+    /** Get the index of the component with the largest absolute value.
+     * @param x first component
+     * @param y second component
+     * @param z third component
+     * @return the index of the component with the largest absolute value
+     */
+    private static int largestComponent(final double x, final double y, final double z) {
+        final double ax = Math.abs(x);
+        final double ay = Math.abs(y);
+        final double az = Math.abs(z);
+        if (ax >= ay && ax >= az) {
+            return 0;
+        }
+        return ay >= az ? 1 : 2;
+    }
+
+    /** Class containing the state of a simultaneous depth-first traversal of two hierarchies.
+     */
+    private static final class Traversal {
+
+        /** Initial capacity of the array of intersecting face pairs. */
+        private static final int INITIAL_PAIR_CAPACITY = 16;
+
+        /** First hierarchy. */
+        private final TriangleHierarchy a;
+
+        /** Second hierarchy. */
+        private final TriangleHierarchy b;
+
+        /** Packed transform matrix for the first hierarchy. */
+        private final double[] matrixA;
+
+        /** Packed transform matrix for the second hierarchy. */
+        private final double[] matrixB;
+
+        /** Flag indicating that the traversal should stop at the first intersecting pair of faces. */
+        private final boolean stopAtFirst;
+
+        /** Stack of node pairs left to visit, stored as consecutive node indices. */
+        private final int[] stack;
+
+        /** Transformed bounding box of a node in the first hierarchy, stored as center and half extents. */
+        private final double[] boxA = new double[BOUNDS_SIZE];
+
+        /** Transformed bounding box of a node in the second hierarchy, stored as center and half extents. */
+        private final double[] boxB = new double[BOUNDS_SIZE];
+
+        /** Transformed coordinates of a single triangle from the first hierarchy. */
+        private final double[] triangleA = new double[TRIANGLE_SIZE];
+
+        /** Transformed coordinates of a single triangle from the second hierarchy. */
+        private final double[] triangleB = new double[TRIANGLE_SIZE];
+
+        /** Intersecting face pairs found so far, packed into long values. */
+        private long[] pairs = new long[INITIAL_PAIR_CAPACITY];
+
+        /** Construct a new instance.
+         * @param a first index
+         * @param transformA transform for the first index
+         * @param b second index
+         * @param transformB transform for the second index
+         * @param stopAtFirst if true, the traversal stops at the first intersecting pair of faces
+         */
+        Traversal(final TriangleMeshCollisionIndex a, final AffineTransformMatrix3D transformA,
+                final TriangleMeshCollisionIndex b, final AffineTransformMatrix3D transformB,
+                final boolean stopAtFirst) {
+            this(a, transformA.toArray(), b, transformB.toArray(), stopAtFirst);
+        }
+
+        /** Construct a new instance.
+         * @param a first index
+         * @param matrixA packed transform matrix for the first index
+         * @param b second index
+         * @param matrixB packed transform matrix for the second index
+         * @param stopAtFirst if true, the traversal stops at the first intersecting pair of faces
+         */
+        Traversal(final TriangleMeshCollisionIndex a, final double[] matrixA,
+                final TriangleMeshCollisionIndex b, final double[] matrixB, final boolean stopAtFirst) {
+            this.a = a.hierarchy;
+            this.b = b.hierarchy;
+            this.matrixA = matrixA;
+            this.matrixB = matrixB;
+            this.stopAtFirst = stopAtFirst;
+            this.stack = new int[2 * (this.a.getStackSize() + this.b.getStackSize())];
+        }
+
+        /** Run the traversal.
+         * @return the number of intersecting face pairs found
+         */
+        int run() {
+            final int[] startsA = a.getNodeStarts();
+            final int[] countsA = a.getNodeCounts();
+            final int[] startsB = b.getNodeStarts();
+            final int[] countsB = b.getNodeCounts();
+
+            int pairCount = 0;
+            int top = 0;
+            stack[top++] = 0;
+            stack[top++] = 0;
+
+            while (top > 0) {
+                final int nodeB = stack[--top];
+                final int nodeA = stack[--top];
+
+                transformBounds(a.getNodeBounds(), nodeA, matrixA, boxA);
+                transformBounds(b.getNodeBounds(), nodeB, matrixB, boxB);
+                if (!boxesOverlap()) {
+                    continue;
+                }
+
+                final boolean leafA = countsA[nodeA] > 0;
+                final boolean leafB = countsB[nodeB] > 0;
+                if (leafA && leafB) {
+                    pairCount = testLeaves(startsA[nodeA], countsA[nodeA], startsB[nodeB], countsB[nodeB],
+                            pairCount);
+                    if (stopAtFirst && pairCount > 0) {
+                        break;
+                    }
+                } else if (leafB || (!leafA && boxSize(boxA) >= boxSize(boxB))) {
+                    // descend into the first hierarchy
+                    stack[top++] = startsA[nodeA];
+                    stack[top++] = nodeB;
+                    stack[top++] = nodeA + 1;
+                    stack[top++] = nodeB;
+                } else {
+                    // descend into the second hierarchy
+                    stack[top++] = nodeA;
+                    stack[top++] = startsB[nodeB];
+                    stack[top++] = nodeA;
+                    stack[top++] = nodeB + 1;
+                }
+            }
+
+            return pairCount;
+        }
+
+        /** Test all pairs of triangles from two leaf nodes for intersection.
+         * @param startA index of the first triangle of the first leaf
+         * @param countA number of triangles in the first leaf
+         * @param startB index of the first triangle of the second leaf
+         * @param countB number of triangles in the second leaf
+         * @param pairCount number of intersecting face pairs found before this call
+         * @return the number of intersecting face pairs found, including those found before this call
+         */
+        private int testLeaves(final int startA, final int countA, final int startB, final int countB,
+                final int pairCount) {
+            final int[] facesA = a.getTriangleFaces();
+            final int[] facesB = b.getTriangleFaces();
+
+            int count = pairCount;
+            for (int i = startA; i < startA + countA; ++i) {
+                transformPoints(matrixA, a.getTriangles(), i * TRIANGLE_SIZE, triangleA, 0,
+                        EuclideanUtils.TRIANGLE_VERTEX_COUNT);
+                for (int j = startB; j < startB + countB; ++j) {
+                    transformPoints(matrixB, b.getTriangles(), j * TRIANGLE_SIZE, triangleB, 0,
+                            EuclideanUtils.TRIANGLE_VERTEX_COUNT);
+                    if (trianglesIntersect(triangleA, triangleB)) {
+                        if (count == pairs.length) {
+                            pairs = Arrays.copyOf(pairs, count * 2);
+                        }
+                        pairs[count++] = ((long) facesA[i] << PAIR_SHIFT) | facesB[j];
+                        if (stopAtFirst) {
+                            return count;
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        /** Return true if {@link #boxA} and {@link #boxB} overlap.
+         * @return true if the boxes overlap
+         */
+        private boolean boxesOverlap() {
+            for (int d = 0; d < DIMENSION; ++d) {
+                if (!(Math.abs(boxA[d] - boxB[d]) <= boxA[DIMENSION + d] + boxB[DIMENSION + d])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Compute a value proportional to the size of the given transformed box.
+         * @param box box stored as center and half extents
+         * @return a value proportional to the size of the box
+         */
+        private static double boxSize(final double[] box) {
+            return box[DIMENSION] + box[DIMENSION + 1] + box[DIMENSION + 2];
+        }
+
+        /** Compute the axis-aligned bounding box of a transformed node bounding box, using the method
+         * of Arvo (<em>Transforming Axis-Aligned Bounding Boxes</em>, Graphics Gems, 1990). The result
+         * is stored as center and half extents. The result for the empty box of a hierarchy without
+         * faces does not overlap any box.
+         * @param bounds node bounding boxes
+         * @param node node index
+         * @param matrix packed transform matrix
+         * @param box array to store the result in
+         */
+        private static void transformBounds(final double[] bounds, final int node, final double[] matrix,
+                final double[] box) {
+            final int o = node * BOUNDS_SIZE;
+            final double cx = 0.5 * (bounds[o] + bounds[o + 3]);
+            final double cy = 0.5 * (bounds[o + 1] + bounds[o + 4]);
+            final double cz = 0.5 * (bounds[o + 2] + bounds[o + 5]);
+            final double hx = 0.5 * (bounds[o + 3] - bounds[o]);
+            final double hy = 0.5 * (bounds[o + 4] - bounds[o + 1]);
+            final double hz = 0.5 * (bounds[o + 5] - bounds[o + 2]);
+
+            for (int r = 0; r < DIMENSION; ++r) {
+                final int m = r * MATRIX_ROW_SIZE;
+                box[r] = (matrix[m] * cx) + (matrix[m + 1] * cy) + (matrix[m + 2] * cz) + matrix[m + 3];
+                box[DIMENSION + r] = (Math.abs(matrix[m]) * hx) + (Math.abs(matrix[m + 1]) * hy) +
+                        (Math.abs(matrix[m + 2]) * hz);
+            }
+        }
+    }
+}
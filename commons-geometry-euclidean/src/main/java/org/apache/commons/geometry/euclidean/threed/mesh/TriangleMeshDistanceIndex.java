@@ -0,0 +1,703 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.angle.Angle;
+
+/** Class providing fast closest point and distance queries against a static {@link TriangleMesh}.
+ * The mesh faces are stored in a bounding volume hierarchy (BVH) of axis-aligned boxes, which allows
+ * queries to skip all faces that cannot contain the closest point. The hierarchy is built once, in
+ * {@code O(n log n)} time for {@code n} faces, and each query then visits a number of nodes that is
+ * typically logarithmic in the number of faces.
+ *
+ * <p>Signed distances are negative for points inside of the mesh and positive for points outside.
+ * The sign is determined from the angle-weighted pseudo-normal at the closest point, as described by
+ * Bærentzen and Aanæs in <em>Signed Distance Computation Using the Angle Weighted Pseudonormal</em>
+ * (IEEE TVCG 2005). The pseudo-normal is accumulated during the query from all faces containing the
+ * closest point, weighted by the angle of each face at that point, instead of being derived from the
+ * mesh connectivity. This produces the correct sign for all query points when the mesh is closed and
+ * consistently oriented with outward-pointing face normals, including meshes containing T-junctions
+ * such as those extracted from BSP trees. The sign is not meaningful for other meshes.</p>
+ *
+ * <p>In addition to single point queries, the class provides batch queries that read the query points
+ * from a packed coordinate array and write the results into primitive arrays. Large batches are
+ * evaluated in parallel. Instances of this class are immutable and may be safely queried from multiple
+ * threads.</p>
+ */
+public final class TriangleMeshDistanceIndex {
+
+    /** Number of vertices per face. */
+    private static final int FACE_SIZE = EuclideanUtils.TRIANGLE_VERTEX_COUNT;
+
+    /** Number of coordinates per point. */
+    private static final int DIMENSION = 3;
+
+    /** Number of coordinates per triangle. */
+    private static final int TRIANGLE_SIZE = FACE_SIZE * DIMENSION;
+
+    /** Number of values per node bounding box. */
+    private static final int BOUNDS_SIZE = 2 * DIMENSION;
+
+    /** Feature value indicating that the closest point lies in the interior of a face. Values
+     * {@code 0} through {@code 2} indicate face vertices and {@link #EDGE} plus {@code k} indicates
+     * the edge starting at face vertex {@code k}.
+     */
+    private static final int INTERIOR = -1;
+
+    /** Feature value of the first face edge. */
+    private static final int EDGE = 3;
+
+    /** Factor applied to the largest extent of the mesh bounding box to obtain the distance within
+     * which candidate closest points are considered to be the same point.
+     */
+    private static final double TIE_TOLERANCE = 1e-10;
+
+    /** Number of faces in the mesh. */
+    private final int faceCount;
+
+    /** Packed triangle vertex coordinates, in hierarchy order. */
+    private final double[] triangles;
+
+    /** Mesh face index of each triangle. */
+    private final int[] triangleFaces;
+
+    /** Flag for each triangle indicating whether it has zero area. */
+    private final boolean[] degenerate;
+
+    /** Unit normal of each triangle, or zero for degenerate triangles. */
+    private final double[] faceNormals;
+
+    /** Interior angles at the three vertices of each triangle, or zero for degenerate triangles. */
+    private final double[] vertexAngles;
+
+    /** Bounding box of each node, stored as {@code minX, minY, minZ, maxX, maxY, maxZ}. */
+    private final double[] nodeBounds;
+
+    /** For leaf nodes, the index of the first triangle in the node; for internal nodes, the index
+     * of the second child node. The first child of an internal node always directly follows the node.
+     */
+    private final int[] nodeStarts;
+
+    /** Number of triangles in each leaf node, or zero for internal nodes. */
+    private final int[] nodeCounts;
+
+    /** Size of the traversal stack required for queries. */
+    private final int stackSize;
+
+    /** Distance within which candidate closest points are considered to be the same point. */
+    private final double tieDistance;
+
+    /** Construct a new instance using the given hierarchy.
+     * @param hierarchy bounding volume hierarchy over the mesh faces
+     * @throws IllegalArgumentException if the hierarchy does not contain any faces
+     */
+    TriangleMeshDistanceIndex(final TriangleHierarchy hierarchy) {
+        faceCount = hierarchy.getTriangleCount();
+        if (faceCount < 1) {
+            throw new IllegalArgumentException("Mesh must contain at least one face");
+        }
+
+        triangles = hierarchy.getTriangles();
+        triangleFaces = hierarchy.getTriangleFaces();
+        nodeBounds = hierarchy.getNodeBounds();
+        nodeStarts = hierarchy.getNodeStarts();
+        nodeCounts = hierarchy.getNodeCounts();
+        stackSize = hierarchy.getStackSize();
+
+        // compute the normals and interior angles used to determine the sign of distances
+        degenerate = new boolean[faceCount];
+        faceNormals = new double[faceCount * DIMENSION];
+        vertexAngles = new double[faceCount * FACE_SIZE];
+        for (int t = 0; t < faceCount; ++t) {
+            degenerate[t] = !computeNormalAndAngles(triangles, t, faceNormals, vertexAngles);
+        }
+
+        // the root node bounds contain the entire mesh
+        tieDistance = TIE_TOLERANCE * Math.max(nodeBounds[3] - nodeBounds[0],
+                Math.max(nodeBounds[4] - nodeBounds[1], nodeBounds[5] - nodeBounds[2]));
+    }
+
+    /** Get the number of faces in the indexed mesh.
+     * @return the number of faces in the indexed mesh
+     */
+    public int getFaceCount() {
+        return faceCount;
+    }
+
+    /** Get the point on the mesh closest to the given point. If multiple points on the mesh are
+     * equally close, one of them is returned. A vector with NaN coordinates is returned if the
+     * given point contains NaN coordinates.
+     * @param pt query point
+     * @return the point on the mesh closest to {@code pt}
+     */
+    public Vector3D closestPoint(final Vector3D pt) {
+        final Query query = query(pt);
+        return Vector3D.of(query.closestX, query.closestY, query.closestZ);
+    }
+
+    /** Get the index of a mesh face containing the point on the mesh closest to the given point.
+     * If multiple faces are equally close, one of them is returned. -1 is returned if the given
+     * point contains NaN coordinates.
+     * @param pt query point
+     * @return the index of a face containing the point on the mesh closest to {@code pt}
+     */
+    public int closestFace(final Vector3D pt) {
+        final Query query = query(pt);
+        return query.bestTriangle > -1 ?
+                triangleFaces[query.bestTriangle] :
+                -1;
+    }
+
+    /** Get the distance from the given point to the mesh.
+     * @param pt query point
+     * @return the distance from {@code pt} to the mesh
+     */
+    public double distance(final Vector3D pt) {
+        return query(pt).distance();
+    }
+
+    /** Get the signed distance from the given point to the mesh. The value is negative if the
+     * point lies inside of the mesh and positive if it lies outside.
+     * @param pt query point
+     * @return the signed distance from {@code pt} to the mesh
+     */
+    public double signedDistance(final Vector3D pt) {
+        return query(pt).signedDistance();
+    }
+
+    /** Compute the distances from the points in the given packed coordinate array to the mesh,
+     * storing the result for the point at index {@code i} in {@code dst[i]}. Large arrays are
+     * processed in parallel.
+     * @param pts packed query point coordinates
+     * @param dst array to store the distances in
+     * @throws IllegalArgumentException if the length of {@code pts} is not a multiple of 3 or
+     *      the length of {@code dst} is not equal to the number of query points
+     */
+    public void distances(final double[] pts, final double[] dst) {
+        checkDestination(dst, EuclideanUtils.getPackedPointCount(pts, DIMENSION));
+        forEachQuery(pts, (query, i) -> dst[i] = query.distance());
+    }
+
+    /** Compute the signed distances from the points in the given packed coordinate array to the mesh,
+     * storing the result for the point at index {@code i} in {@code dst[i]}. The values are negative for
+     * points inside of the mesh and positive for points outside. Large arrays are processed in parallel.
+     * @param pts packed query point coordinates
+     * @param dst array to store the signed distances in
+     * @throws IllegalArgumentException if the length of {@code pts} is not a multiple of 3 or
+     *      the length of {@code dst} is not equal to the number of query points
+     */
+    public void signedDistances(final double[] pts, final double[] dst) {
+        checkDestination(dst, EuclideanUtils.getPackedPointCount(pts, DIMENSION));
+        forEachQuery(pts, (query, i) -> dst[i] = query.signedDistance());
+    }
+
+    /** Compute the points on the mesh closest to the points in the given packed coordinate array,
+     * storing the results in the packed array {@code dst}. Large arrays are processed in parallel.
+     * The source and destination may be the same array.
+     * @param pts packed query point coordinates
+     * @param dst packed array to store the closest point coordinates in
+     * @throws IllegalArgumentException if the length of {@code pts} is not a multiple of 3 or
+     *      the array lengths are not equal
+     */
+    public void closestPoints(final double[] pts, final double[] dst) {
+        EuclideanUtils.getPackedPointCount(pts, DIMENSION);
+        checkDestination(dst, pts.length);
+        forEachQuery(pts, (query, i) -> {
+            final int offset = i * DIMENSION;
+            dst[offset] = query.closestX;
+            dst[offset + 1] = query.closestY;
+            dst[offset + 2] = query.closestZ;
+        });
+    }
+
+    /** Run a query for the given point.
+     * @param pt query point
+     * @return completed query
+     */
+    private Query query(final Vector3D pt) {
+        final Query query = new Query();
+        query.run(pt.getX(), pt.getY(), pt.getZ());
+        return query;
+    }
+
+    /** Run a query for each point in the given packed coordinate array and pass the completed
+     * query to {@code fn}. Queries are run in parallel for large arrays.
+     * @param pts packed query point coordinates
+     * @param fn function accepting each completed query and the index of its query point
+     */
+    private void forEachQuery(final double[] pts, final QueryConsumer fn) {
+        EuclideanUtils.forEachPointBlock(pts.length / DIMENSION, (start, count) -> {
+            final Query query = new Query();
+            final int end = start + count;
+            for (int i = start; i < end; ++i) {
+                final int offset = i * DIMENSION;
+                query.run(pts[offset], pts[offset + 1], pts[offset + 2]);
+                fn.accept(query, i);
+            }
+        });
+    }
+
+    /** Construct a new index for the given mesh.
+     * @param mesh mesh to index
+     * @return a new index for the mesh
+     * @throws IllegalArgumentException if the mesh does not contain any faces
+     */
+    public static TriangleMeshDistanceIndex from(final TriangleMesh mesh) {
+        return new TriangleMeshDistanceIndex(
+                new TriangleHierarchy(mesh.getVertexCoordinates(), mesh.getFaceIndices()));
+    }
+
+    /** Compute the unit normal and the interior vertex angles of the given triangle.
+     * @param triangles packed triangle vertex coordinates
+     * @param t triangle index
+     * @param normals array to store the triangle normal in
+     * @param angles array to store the interior vertex angles in
+     * @return true if the triangle has a non-zero area; if false, the normal and angles are left
+     *      as zero
+     */
+    private static boolean computeNormalAndAngles(final double[] triangles, final int t,
+            final double[] normals, final double[] angles) {
+        final int o = t * TRIANGLE_SIZE;
+
+        final double abx = triangles[o + 3] - triangles[o];
+        final double aby = triangles[o + 4] - triangles[o + 1];
+        final double abz = triangles[o + 5] - triangles[o + 2];
+        final double acx = triangles[o + 6] - triangles[o];
+        final double acy = triangles[o + 7] - triangles[o + 1];
+        final double acz = triangles[o + 8] - triangles[o + 2];
+
+        final double nx = (aby * acz) - (abz * acy);
+        final double ny = (abz * acx) - (abx * acz);
+        final double nz = (abx * acy) - (aby * acx);
+        final double norm = Vectors.norm(nx, ny, nz);
+        if (!Vectors.isRealNonZero(norm)) {
+            return false;
+        }
+
+        final int n = t * DIMENSION;
+        normals[n] = nx / norm;
+        normals[n + 1] = ny / norm;
+        normals[n + 2] = nz / norm;
+
+        for (int k = 0; k < FACE_SIZE; ++k) {
+            final int v = o + (k * DIMENSION);
+            final int next = o + (((k + 1) % FACE_SIZE) * DIMENSION);
+            final int prev = o + (((k + 2) % FACE_SIZE) * DIMENSION);
+
+            final double ux = triangles[next] - triangles[v];
+            final double uy = triangles[next + 1] - triangles[v + 1];
+            final double uz = triangles[next + 2] - triangles[v + 2];
+            final double wx = triangles[prev] - triangles[v];
+            final double wy = triangles[prev + 1] - triangles[v + 1];
+            final double wz = triangles[prev + 2] - triangles[v + 2];
+
+            angles[(t * FACE_SIZE) + k] = Math.atan2(
+                    Vectors.norm((uy * wz) - (uz * wy), (uz * wx) - (ux * wz), (ux * wy) - (uy * wx)),
+                    (ux * wx) + (uy * wy) + (uz * wz));
+        }
+        return true;
+    }
+
+    /** Throw an exception if the given destination array does not have the expected length.
+     * @param dst destination array
+     * @param length expected length
+     * @throws IllegalArgumentException if the array does not have the expected length
+     */
+    private static void checkDestination(final double[] dst, final int length) {
+        if (dst.length != length) {
+            throw new IllegalArgumentException("Destination array length must be " + length +
+                    "; was " + dst.length);
+        }
+    }
+
+    /** Internal interface for functions accepting completed queries.
+     */
+    @FunctionalInterface
+    private interface QueryConsumer {
+
+        /** Accept a completed query.
+         * @param query completed query
+         * @param index index of the query point
+         */
+        void accept(Query query, int index);
+    }
+
+    /** Class containing the state of a single closest point query. Instances are reused for
+     * consecutive queries in order to avoid allocating the traversal stack for each query.
+     */
+    private final class Query {
+
+        /** Stack of nodes left to visit. */
+        private final int[] stack = new int[stackSize];
+
+        /** Squared distances from the query point to the bounding boxes of the nodes in {@link #stack}. */
+        private final double[] stackDistances = new double[stackSize];
+
+        /** Query point x coordinate. */
+        private double px;
+
+        /** Query point y coordinate. */
+        private double py;
+
+        /** Query point z coordinate. */
+        private double pz;
+
+        /** Squared distance to the closest point found so far. */
+        private double bestDistanceSq;
+
+        /** Distance to the closest point found so far. */
+        private double bestDistance;
+
+        /** Squared distance below which candidate points are either closer than or tied with the
+         * closest point found so far.
+         */
+        private double boundSq;
+
+        /** Sum of the angle-weighted dot products of the vectors from the tied closest points to the
+         * query point with the normals of the triangles containing them. The sign of the sum is the
+         * sign of the distance.
+         */
+        private double signSum;
+
+        /** Triangle containing the closest point found so far, or -1 if none has been found. */
+        private int bestTriangle;
+
+        /** Closest point x coordinate. */
+        private double closestX;
+
+        /** Closest point y coordinate. */
+        private double closestY;
+
+        /** Closest point z coordinate. */
+        private double closestZ;
+
+        /** Closest point x coordinate of the last tested triangle. */
+        private double candidateX;
+
+        /** Closest point y coordinate of the last tested triangle. */
+        private double candidateY;
+
+        /** Closest point z coordinate of the last tested triangle. */
+        private double candidateZ;
+
+        /** Feature containing the closest point of the last tested triangle. */
+        private int candidateFeature;
+
+        /** Find the point on the mesh closest to the given point.
+         * @param x query point x coordinate
+         * @param y query point y coordinate
+         * @param z query point z coordinate
+         */
+        void run(final double x, final double y, final double z) {
+            px = x;
+            py = y;
+            pz = z;
+
+            bestDistanceSq = Double.POSITIVE_INFINITY;
+            bestDistance = Double.POSITIVE_INFINITY;
+            boundSq = Double.POSITIVE_INFINITY;
+            signSum = 0;
+            bestTriangle = -1;
+            closestX = Double.NaN;
+            closestY = Double.NaN;
+            closestZ = Double.NaN;
+
+            int top = 0;
+            stack[top] = 0;
+            stackDistances[top] = boxDistanceSq(0);
+            ++top;
+
+            while (top > 0) {
+                --top;
+                final int node = stack[top];
+                if (!(stackDistances[top] < boundSq)) {
+                    continue;
+                }
+
+                final int count = nodeCounts[node];
+                if (count > 0) {
+                    final int start = nodeStarts[node];
+                    final int end = start + count;
+                    for (int t = start; t < end; ++t) {
+                        testTriangle(t);
+                    }
+                } else {
+                    // push the farther child first so that the nearer child is visited first
+                    final int left = node + 1;
+                    final int right = nodeStarts[node];
+                    final double leftDistSq = boxDistanceSq(left);
+                    final double rightDistSq = boxDistanceSq(right);
+
+                    if (leftDistSq <= rightDistSq) {
+                        top = push(top, right, rightDistSq);
+                        top = push(top, left, leftDistSq);
+                    } else {
+                        top = push(top, left, leftDistSq);
+                        top = push(top, right, rightDistSq);
+                    }
+                }
+            }
+        }
+
+        /** Get the distance to the closest point.
+         * @return the distance to the closest point
+         */
+        double distance() {
+            return bestTriangle > -1 ?
+                    Math.sqrt(bestDistanceSq) :
+                    Double.NaN;
+        }
+
+        /** Get the signed distance to the closest point.
+         * @return the signed distance to the closest point
+         */
+        double signedDistance() {
+            final double dist = distance();
+            if (!(dist > 0)) {
+                return dist;
+            }
+
+            return signSum < 0 ? -dist : dist;
+        }
+
+        /** Push a node onto the traversal stack if it may contain a point closer than the closest
+         * point found so far.
+         * @param top current stack size
+         * @param node node index
+         * @param distSq squared distance from the query point to the node bounding box
+         * @return the new stack size
+         */
+        private int push(final int top, final int node, final double distSq) {
+            if (distSq < boundSq) {
+                stack[top] = node;
+                stackDistances[top] = distSq;
+                return top + 1;
+            }
+            return top;
+        }
+
+        /** Get the squared distance from the query point to the bounding box of the given node.
+         * @param node node index
+         * @return squared distance from the query point to the node bounding box
+         */
+        private double boxDistanceSq(final int node) {
+            final int b = node * BOUNDS_SIZE;
+            final double dx = Math.max(0, Math.max(nodeBounds[b] - px, px - nodeBounds[b + 3]));
+            final double dy = Math.max(0, Math.max(nodeBounds[b + 1] - py, py - nodeBounds[b + 4]));
+            final double dz = Math.max(0, Math.max(nodeBounds[b + 2] - pz, pz - nodeBounds[b + 5]));
+            return (dx * dx) + (dy * dy) + (dz * dz);
+        }
+
+        /** Compute the closest point of the given triangle and update the closest point found so far
+         * if it is closer. The sign contribution of the triangle is accumulated if its closest point is
+         * closer than or tied with the closest point found so far.
+         * @param t triangle index
+         */
+        private void testTriangle(final int t) {
+            final double distSq = degenerate[t] ?
+                    closestPointOnDegenerateTriangle(t) :
+                    closestPointOnTriangle(t);
+
+            if (distSq < boundSq) {
+                final double dist = Math.sqrt(distSq);
+                if (dist + tieDistance < bestDistance) {
+                    // all previous candidates are farther away than this one; discard their contributions
+                    signSum = 0;
+                }
+                signSum += signContribution(t);
+
+                if (distSq < bestDistanceSq) {
+                    bestDistanceSq = distSq;
+                    bestDistance = dist;
+                    final double bound = dist + tieDistance;
+                    boundSq = bound * bound;
+
+                    bestTriangle = t;
+                    closestX = candidateX;
+                    closestY = candidateY;
+                    closestZ = candidateZ;
+                }
+            }
+        }
+
+        /** Get the contribution of the candidate closest point of the given triangle to the sign of the
+         * distance. This is the dot product of the vector from the candidate point to the query point with
+         * the triangle normal, weighted by the angle of the triangle at the candidate point.
+         * @param t triangle index
+         * @return the sign contribution of the candidate point
+         */
+        private double signContribution(final int t) {
+            final double weight;
+            if (candidateFeature == INTERIOR) {
+                weight = Angle.TWO_PI;
+            } else if (candidateFeature < EDGE) {
+                weight = vertexAngles[(t * FACE_SIZE) + candidateFeature];
+            } else {
+                weight = Math.PI;
+            }
+
+            final int n = t * DIMENSION;
+            return weight * (((px - candidateX) * faceNormals[n]) +
+                    ((py - candidateY) * faceNormals[n + 1]) +
+                    ((pz - candidateZ) * faceNormals[n + 2]));
+        }
+
+        /** Compute the point on the given non-degenerate triangle closest to the query point, using
+         * the Voronoi region method described by Ericson in <em>Real-Time Collision Detection</em>,
+         * section 5.1.5.
+         * @param t triangle index
+         * @return squared distance from the query point to the triangle
+         */
+        private double closestPointOnTriangle(final int t) {
+            final int o = t * TRIANGLE_SIZE;
+            final double ax = triangles[o];
+            final double ay = triangles[o + 1];
+            final double az = triangles[o + 2];
+
+            final double abx = triangles[o + 3] - ax;
+            final double aby = triangles[o + 4] - ay;
+            final double abz = triangles[o + 5] - az;
+            final double acx = triangles[o + 6] - ax;
+            final double acy = triangles[o + 7] - ay;
+            final double acz = triangles[o + 8] - az;
+
+            final double apx = px - ax;
+            final double apy = py - ay;
+            final double apz = pz - az;
+
+            final double d1 = (abx * apx) + (aby * apy) + (abz * apz);
+            final double d2 = (acx * apx) + (acy * apy) + (acz * apz);
+            if (d1 <= 0 && d2 <= 0) {
+                return setCandidate(ax, ay, az, 0);
+            }
+
+            // d3 and d4 are the dot products of the edges with the vector from vertex b to the query point
+            final double d3 = d1 - ((abx * abx) + (aby * aby) + (abz * abz));
+            final double d4 = d2 - ((acx * abx) + (acy * aby) + (acz * abz));
+            if (d3 >= 0 && d4 <= d3) {
+                return setCandidate(ax + abx, ay + aby, az + abz, 1);
+            }
+
+            final double vc = (d1 * d4) - (d3 * d2);
+            if (vc <= 0 && d1 >= 0 && d3 <= 0) {
+                final double v = d1 / (d1 - d3);
+                return setCandidate(ax + (v * abx), ay + (v * aby), az + (v * abz), EDGE);
+            }
+
+            // d5 and d6 are the dot products of the edges with the vector from vertex c to the query point
+            final double d5 = d1 - ((abx * acx) + (aby * acy) + (abz * acz));
+            final double d6 = d2 - ((acx * acx) + (acy * acy) + (acz * acz));
+            if (d6 >= 0 && d5 <= d6) {
+                return setCandidate(ax + acx, ay + acy, az + acz, 2);
+            }
+
+            final double vb = (d5 * d2) - (d1 * d6);
+            if (vb <= 0 && d2 >= 0 && d6 <= 0) {
+                final double w = d2 / (d2 - d6);
+                return setCandidate(ax + (w * acx), ay + (w * acy), az + (w * acz), EDGE + 2);
+            }
+
+            final double va = (d3 * d6) - (d5 * d4);
+            if (va <= 0 && (d4 - d3) >= 0 && (d5 - d6) >= 0) {
+                final double w = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+                return setCandidate(
+                        ax + abx + (w * (acx - abx)),
+                        ay + aby + (w * (acy - aby)),
+                        az + abz + (w * (acz - abz)),
+                        EDGE + 1);
+            }
+
+            final double denom = 1 / (va + vb + vc);
+            final double v = vb * denom;
+            final double w = vc * denom;
+            return setCandidate(
+                    ax + (abx * v) + (acx * w),
+                    ay + (aby * v) + (acy * w),
+                    az + (abz * v) + (acz * w),
+                    INTERIOR);
+        }
+
+        /** Compute the point on the given degenerate triangle closest to the query point by finding
+         * the closest point on each of its edges.
+         * @param t triangle index
+         * @return squared distance from the query point to the triangle
+         */
+        private double closestPointOnDegenerateTriangle(final int t) {
+            double minDistSq = Double.POSITIVE_INFINITY;
+            double x = 0;
+            double y = 0;
+            double z = 0;
+            int feature = EDGE;
+
+            final int o = t * TRIANGLE_SIZE;
+            for (int k = 0; k < FACE_SIZE; ++k) {
+                final int s = o + (k * DIMENSION);
+                final int e = o + (((k + 1) % FACE_SIZE) * DIMENSION);
+
+                final double ax = triangles[s];
+                final double ay = triangles[s + 1];
+                final double az = triangles[s + 2];
+                final double abx = triangles[e] - ax;
+                final double aby = triangles[e + 1] - ay;
+                final double abz = triangles[e + 2] - az;
+
+                final double lenSq = (abx * abx) + (aby * aby) + (abz * abz);
+                final double dot = ((px - ax) * abx) + ((py - ay) * aby) + ((pz - az) * abz);
+                final double u = lenSq > 0 ?
+                        Math.max(0, Math.min(1, dot / lenSq)) :
+                        0;
+
+                final double distSq = setCandidate(ax + (u * abx), ay + (u * aby), az + (u * abz), EDGE + k);
+                if (distSq < minDistSq) {
+                    minDistSq = distSq;
+                    x = candidateX;
+                    y = candidateY;
+                    z = candidateZ;
+                    feature = candidateFeature;
+                }
+            }
+
+            candidateX = x;
+            candidateY = y;
+            candidateZ = z;
+            candidateFeature = feature;
+            return minDistSq;
+        }
+
+        /** Set the candidate closest point and return its squared distance from the query point.
+         * @param x x coordinate
+         * @param y y coordinate
+         * @param z z coordinate
+         * @param feature triangle feature containing the point
+         * @return squared distance from the query point to the candidate point
+         */
+        private double setCandidate(final double x, final double y, final double z, final int feature) {
+            candidateX = x;
+            candidateY = y;
+            candidateZ = z;
+            candidateFeature = feature;
+
+            final double dx = px - x;
+            final double dy = py - y;
+            final double dz = pz - z;
+            return (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+}
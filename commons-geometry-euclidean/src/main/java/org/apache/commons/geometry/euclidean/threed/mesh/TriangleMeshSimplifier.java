@@ -0,0 +1,1090 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.commons.numbers.core.Precision;
+
+/** Class that reduces the number of faces in a {@link TriangleMesh} by repeatedly collapsing
+ * the edge with the smallest quadric error, as described by Garland and Heckbert in
+ * <em>Surface Simplification Using Quadric Error Metrics</em> (SIGGRAPH 1997). Each vertex
+ * accumulates the planes of the input faces that were merged into it and the error of a
+ * collapse is the sum of the squared distances from the merged vertex to those planes.
+ * Edges are collapsed until the mesh reaches the configured target face count or the
+ * smallest remaining error exceeds the configured maximum error.
+ *
+ * <p>Collapses are rejected if they would change the topology of the mesh (as determined by
+ * the link condition), flip the orientation of a face, or produce a face with zero area.
+ * When boundary preservation is enabled, vertices on the mesh boundary and on non-manifold
+ * edges are not moved, so boundary loops are retained exactly.</p>
+ *
+ * <p>All working state is kept in primitive arrays and candidate edges are ordered with a
+ * binary heap, giving a running time of {@code O(n log n)} for meshes with bounded vertex
+ * degree. Instances of this class are immutable and thread-safe.</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(precision)
+ *     .setTargetFaceCount(1000)
+ *     .build();
+ *
+ * TriangleMesh simplified = simplifier.simplify(mesh);
+ * </pre>
+ */
+public final class TriangleMeshSimplifier {
+
+    /** Number of values stored for each vertex quadric. */
+    private static final int QUADRIC_SIZE = 10;
+
+    /** Determinant threshold below which the quadric system is treated as singular. Face
+     * planes are stored with unit normals, so this value is independent of the scale of the mesh.
+     */
+    private static final double SINGULAR_DETERMINANT = 1e-10;
+
+    /** Maximum squared distance, relative to the squared edge length, between the optimal
+     * collapse position and the edge midpoint.
+     */
+    private static final double MAX_RELATIVE_OFFSET_SQ = 4;
+
+    /** Target face count. */
+    private final int targetFaceCount;
+
+    /** Maximum collapse error. */
+    private final double maxError;
+
+    /** Flag indicating whether boundary vertices are preserved. */
+    private final boolean preserveBoundary;
+
+    /** Precision context used for the output mesh and for degenerate face checks. */
+    private final Precision.DoubleEquivalence precision;
+
+    /** Construct a new instance from the given builder.
+     * @param builder builder to read configuration from
+     */
+    private TriangleMeshSimplifier(final Builder builder) {
+        this.targetFaceCount = builder.targetFaceCount;
+        this.maxError = builder.maxError;
+        this.preserveBoundary = builder.preserveBoundary;
+        this.precision = builder.precision;
+    }
+
+    /** Get the target face count. Simplification stops once the mesh contains no more than this
+     * number of faces.
+     * @return the target face count
+     */
+    public int getTargetFaceCount() {
+        return targetFaceCount;
+    }
+
+    /** Get the maximum quadric error of a single collapse. Simplification stops once the
+     * smallest remaining collapse error exceeds this value.
+     * @return the maximum quadric error of a single collapse
+     */
+    public double getMaxError() {
+        return maxError;
+    }
+
+    /** Return true if vertices on the mesh boundary are preserved.
+     * @return true if vertices on the mesh boundary are preserved
+     */
+    public boolean isPreserveBoundary() {
+        return preserveBoundary;
+    }
+
+    /** Get the precision context used for the output mesh and for degenerate face checks.
+     * @return the precision context
+     */
+    public Precision.DoubleEquivalence getPrecision() {
+        return precision;
+    }
+
+    /** Simplify the given mesh. The input mesh is not modified. Vertices of the returned mesh
+     * keep the relative order of the input vertices they were derived from; vertices that are not
+     * referenced by any remaining face are removed.
+     * @param mesh mesh to simplify
+     * @return the simplified mesh
+     */
+    public CompactTriangleMesh simplify(final TriangleMesh mesh) {
+        return new Simplification(mesh).run();
+    }
+
+    /** Return a new {@link Builder} instance for creating simplifiers.
+     * @param precision precision context used for the output mesh and for degenerate face checks
+     * @return a new builder instance
+     * @throws NullPointerException if {@code precision} is null
+     */
+    public static Builder builder(final Precision.DoubleEquivalence precision) {
+        return new Builder(precision);
+    }
+
+    /** Class used to configure and create {@link TriangleMeshSimplifier} instances. By default,
+     * meshes are simplified as far as possible with boundaries preserved.
+     */
+    public static final class Builder {
+
+        /** Target face count. */
+        private int targetFaceCount;
+
+        /** Maximum collapse error. */
+        private double maxError = Double.POSITIVE_INFINITY;
+
+        /** Flag indicating whether boundary vertices are preserved. */
+        private boolean preserveBoundary = true;
+
+        /** Precision context. */
+        private final Precision.DoubleEquivalence precision;
+
+        /** Construct a new instance with the given precision context.
+         * @param precision precision context
+         * @throws NullPointerException if {@code precision} is null
+         */
+        private Builder(final Precision.DoubleEquivalence precision) {
+            this.precision = Objects.requireNonNull(precision, "Precision context must not be null");
+        }
+
+        /** Set the target face count. Simplification stops once the mesh contains no more than this
+         * number of faces. The default value is zero.
+         * @param count target face count
+         * @return this instance
+         * @throws IllegalArgumentException if {@code count} is negative
+         */
+        public Builder setTargetFaceCount(final int count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Target face count must be non-negative; was " + count);
+            }
+            this.targetFaceCount = count;
+            return this;
+        }
+
+        /** Set the maximum quadric error of a single collapse, i.e. the maximum sum of squared distances
+         * from a merged vertex to the input face planes merged into it. Simplification stops once the
+         * smallest remaining collapse error exceeds this value. The default value is positive infinity.
+         * @param error maximum collapse error
+         * @return this instance
+         * @throws IllegalArgumentException if {@code error} is negative or NaN
+         */
+        public Builder setMaxError(final double error) {
+            if (!(error >= 0)) {
+                throw new IllegalArgumentException("Maximum error must be non-negative; was " + error);
+            }
+            this.maxError = error;
+            return this;
+        }
+
+        /** Set whether vertices on the mesh boundary and on non-manifold edges are preserved. If
+         * true, these vertices are never moved or removed. If false, boundaries may shrink during
+         * simplification. The default value is true.
+         * @param preserve true if boundary vertices should be preserved
+         * @return this instance
+         */
+        public Builder setPreserveBoundary(final boolean preserve) {
+            this.preserveBoundary = preserve;
+            return this;
+        }
+
+        /** Create a new simplifier with the current configuration.
+         * @return a new simplifier instance
+         */
+        public TriangleMeshSimplifier build() {
+            return new TriangleMeshSimplifier(this);
+        }
+    }
+
+    /** Class holding the working state for a single simplification run.
+     */
+    private final class Simplification {
+
+        /** Packed vertex coordinates; updated as vertices are merged. */
+        private final double[] coords;
+
+        /** Packed vertex quadrics. Each quadric is stored as the upper triangle of a symmetric
+         * 4x4 matrix in the order {@code aa, ab, ac, ad, bb, bc, bd, cc, cd, dd}.
+         */
+        private final double[] quadrics;
+
+        /** Packed face vertex indices; updated as vertices are merged. */
+        private final int[] faces;
+
+        /** Flags indicating removed faces. */
+        private final boolean[] faceRemoved;
+
+        /** Flags indicating removed vertices. */
+        private final boolean[] vertexRemoved;
+
+        /** Flags indicating vertices that cannot be moved or removed. */
+        private final boolean[] locked;
+
+        /** Start index of the face list of each vertex in {@link #refs}. */
+        private final int[] refStart;
+
+        /** Length of the face list of each vertex. Lists may contain removed faces. */
+        private final int[] refCount;
+
+        /** Face lists of all vertices. */
+        private int[] refs;
+
+        /** Number of elements in use in {@link #refs}. */
+        private int refSize;
+
+        /** Step at which each vertex was last modified. */
+        private final int[] lastUpdate;
+
+        /** Current collapse step. */
+        private int step;
+
+        /** Vertex marks used for neighbor queries. */
+        private final int[] mark;
+
+        /** Current vertex mark value. */
+        private int markStamp;
+
+        /** Smallest mark value assigned by the last call to {@link #isValidCollapse(int, int)}. All
+         * neighbors of the first vertex passed to that method have a mark greater than or equal to this.
+         */
+        private int linkStamp;
+
+        /** Candidate edge queue. */
+        private final EdgeHeap heap = new EdgeHeap();
+
+        /** Number of faces that have not been removed. */
+        private int liveFaceCount;
+
+        /** Target position computed by the last call to {@link #computeCost(int, int)}. */
+        private final double[] target = new double[3];
+
+        /** Combined quadric of the edge passed to the last call to {@link #computeCost(int, int)}. */
+        private final double[] sum = new double[QUADRIC_SIZE];
+
+        /** Construct a new instance for simplifying the given mesh.
+         * @param mesh input mesh
+         */
+        Simplification(final TriangleMesh mesh) {
+            final int vertexCount = mesh.getVertexCount();
+            final int faceCount = mesh.getFaceCount();
+
+            coords = mesh.getVertexCoordinates();
+            faces = mesh.getFaceIndices();
+
+            quadrics = new double[vertexCount * QUADRIC_SIZE];
+            faceRemoved = new boolean[faceCount];
+            vertexRemoved = new boolean[vertexCount];
+            locked = new boolean[vertexCount];
+            refStart = new int[vertexCount];
+            refCount = new int[vertexCount];
+            lastUpdate = new int[vertexCount];
+            mark = new int[vertexCount];
+            liveFaceCount = faceCount;
+
+            final TriangleMeshAdjacency adjacency = mesh.getAdjacency();
+            if (preserveBoundary) {
+                for (int v = 0; v < vertexCount; ++v) {
+                    locked[v] = adjacency.isBoundaryVertex(v);
+                }
+            }
+
+            initFaceData();
+            initEdges(adjacency);
+        }
+
+        /** Compute the initial vertex quadrics and face lists.
+         */
+        private void initFaceData() {
+            final int vertexCount = refStart.length;
+
+            for (int f = 0; f < faces.length; f += 3) {
+                final int a = faces[f];
+                final int b = faces[f + 1];
+                final int c = faces[f + 2];
+
+                addFaceQuadric(a, b, c);
+
+                ++refCount[a];
+                ++refCount[b];
+                ++refCount[c];
+            }
+
+            // leave room for the face lists created by merges before compacting
+            refs = new int[faces.length * 2];
+            int start = 0;
+            for (int v = 0; v < vertexCount; ++v) {
+                refStart[v] = start;
+                start += refCount[v];
+                refCount[v] = 0;
+            }
+            refSize = start;
+
+            for (int f = 0; f < faces.length; f += 3) {
+                final int face = f / 3;
+                addRef(faces[f], face);
+                addRef(faces[f + 1], face);
+                addRef(faces[f + 2], face);
+            }
+        }
+
+        /** Add the plane quadric of the given face to each of its vertices. Faces with zero area
+         * do not contribute.
+         * @param a first vertex
+         * @param b second vertex
+         * @param c third vertex
+         */
+        private void addFaceQuadric(final int a, final int b, final int c) {
+            final int ai = a * 3;
+            final double ux = coords[b * 3] - coords[ai];
+            final double uy = coords[(b * 3) + 1] - coords[ai + 1];
+            final double uz = coords[(b * 3) + 2] - coords[ai + 2];
+            final double vx = coords[c * 3] - coords[ai];
+            final double vy = coords[(c * 3) + 1] - coords[ai + 1];
+            final double vz = coords[(c * 3) + 2] - coords[ai + 2];
+
+            double nx = (uy * vz) - (uz * vy);
+            double ny = (uz * vx) - (ux * vz);
+            double nz = (ux * vy) - (uy * vx);
+            final double norm = Math.sqrt((nx * nx) + (ny * ny) + (nz * nz));
+            if (norm == 0 || !Double.isFinite(norm)) {
+                return;
+            }
+
+            nx /= norm;
+            ny /= norm;
+            nz /= norm;
+            final double d = -((nx * coords[ai]) + (ny * coords[ai + 1]) + (nz * coords[ai + 2]));
+
+            final double[] plane = {
+                nx * nx, nx * ny, nx * nz, nx * d, ny * ny, ny * nz, ny * d, nz * nz, nz * d, d * d
+            };
+            addQuadric(a, plane);
+            addQuadric(b, plane);
+            addQuadric(c, plane);
+        }
+
+        /** Add the given quadric to the quadric of a vertex.
+         * @param v vertex
+         * @param q quadric to add
+         */
+        private void addQuadric(final int v, final double[] q) {
+            final int qi = v * QUADRIC_SIZE;
+            for (int i = 0; i < QUADRIC_SIZE; ++i) {
+                quadrics[qi + i] += q[i];
+            }
+        }
+
+        /** Append a face to the face list of a vertex during initialization.
+         * @param v vertex
+         * @param face face
+         */
+        private void addRef(final int v, final int face) {
+            refs[refStart[v] + refCount[v]++] = face;
+        }
+
+        /** Add all candidate edges of the input mesh to the queue. Each undirected edge is added once.
+         * @param adjacency input mesh adjacency
+         */
+        private void initEdges(final TriangleMeshAdjacency adjacency) {
+            for (int h = 0; h < faces.length; ++h) {
+                final int twin = adjacency.getTwin(h);
+                if (twin < 0 || h < twin) {
+                    final int u = faces[h];
+                    final int v = faces[h % 3 == 2 ? h - 2 : h + 1];
+                    if (u != v && !(locked[u] && locked[v])) {
+                        heap.add(computeCost(u, v), u, v, 0);
+                    }
+                }
+            }
+            heap.heapify();
+        }
+
+        /** Run the simplification and return the result.
+         * @return the simplified mesh
+         */
+        CompactTriangleMesh run() {
+            while (liveFaceCount > targetFaceCount && !heap.isEmpty()) {
+                heap.loadTop();
+
+                final int u = heap.topU;
+                final int v = heap.topV;
+                if (vertexRemoved[u] || vertexRemoved[v]) {
+                    heap.removeTop();
+                } else if (heap.topStamp < lastUpdate[u] || heap.topStamp < lastUpdate[v]) {
+                    // one of the vertices has changed since the entry was queued; vertex quadrics only
+                    // grow, so the queued cost is usually a lower bound and the entry can be updated
+                    // in place with the current cost
+                    heap.replaceTop(computeCost(u, v), step);
+                } else if (heap.topCost > maxError) {
+                    break;
+                } else {
+                    heap.removeTop();
+                    if (locked[v]) {
+                        collapse(v, u);
+                    } else {
+                        collapse(u, v);
+                    }
+                }
+            }
+
+            return createMesh();
+        }
+
+        /** Collapse vertex {@code v} into vertex {@code u} if the collapse is valid.
+         * @param u vertex that is kept
+         * @param v vertex that is removed
+         */
+        private void collapse(final int u, final int v) {
+            computeCost(u, v);
+            if (!isValidCollapse(u, v)) {
+                return;
+            }
+
+            // move the kept vertex and merge the quadrics
+            coords[u * 3] = target[0];
+            coords[(u * 3) + 1] = target[1];
+            coords[(u * 3) + 2] = target[2];
+
+            final int uq = u * QUADRIC_SIZE;
+            final int vq = v * QUADRIC_SIZE;
+            for (int i = 0; i < QUADRIC_SIZE; ++i) {
+                quadrics[uq + i] += quadrics[vq + i];
+            }
+
+            vertexRemoved[v] = true;
+
+            // create the merged face list, removing the faces shared by both vertices
+            ensureRefCapacity(refCount[u] + refCount[v]);
+
+            final int start = refSize;
+            for (int i = refStart[u]; i < refStart[u] + refCount[u]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face]) {
+                    if (faceContains(face, v)) {
+                        faceRemoved[face] = true;
+                        --liveFaceCount;
+                    } else {
+                        refs[refSize++] = face;
+                    }
+                }
+            }
+            for (int i = refStart[v]; i < refStart[v] + refCount[v]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face]) {
+                    replaceVertex(face, v, u);
+                    refs[refSize++] = face;
+                }
+            }
+
+            refStart[u] = start;
+            refCount[u] = refSize - start;
+            refCount[v] = 0;
+
+            lastUpdate[u] = ++step;
+
+            // queue the edges that were previously attached to v; the existing edges of u are now
+            // stale and are re-evaluated when they reach the front of the queue
+            for (int i = refStart[u]; i < refStart[u] + refCount[u]; ++i) {
+                final int f = refs[i] * 3;
+                for (int k = f; k < f + 3; ++k) {
+                    final int w = faces[k];
+                    if (w != u && mark[w] < linkStamp) {
+                        mark[w] = linkStamp;
+                        if (!(locked[u] && locked[w])) {
+                            heap.push(computeCost(u, w), u, w, step);
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Return true if collapsing {@code v} into {@code u} at the current {@link #target} position
+         * preserves the mesh topology and does not flip or degenerate any face.
+         * @param u vertex that is kept
+         * @param v vertex that is removed
+         * @return true if the collapse is valid
+         */
+        private boolean isValidCollapse(final int u, final int v) {
+            // link condition: the vertices adjacent to both u and v must be exactly the
+            // vertices opposite the edge in the faces shared by u and v
+            linkStamp = ++markStamp;
+            final int neighborStamp = linkStamp;
+            final int countedStamp = ++markStamp;
+
+            int sharedCount = 0;
+            for (int i = refStart[u]; i < refStart[u] + refCount[u]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face]) {
+                    if (faceContains(face, v)) {
+                        ++sharedCount;
+                    }
+                    markFaceVertices(face, u, neighborStamp);
+                }
+            }
+
+            int commonCount = 0;
+            for (int i = refStart[v]; i < refStart[v] + refCount[v]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face]) {
+                    final int f = face * 3;
+                    for (int k = f; k < f + 3; ++k) {
+                        final int w = faces[k];
+                        if (w != u && w != v && mark[w] == neighborStamp) {
+                            mark[w] = countedStamp;
+                            ++commonCount;
+                        }
+                    }
+                }
+            }
+
+            if (sharedCount == 0 || commonCount != sharedCount || sharesOppositeEdge(u, v, countedStamp)) {
+                return false;
+            }
+
+            return !hasInvalidFace(u, v) && !hasInvalidFace(v, u);
+        }
+
+        /** Return true if {@code u} and {@code v} each have a face, not shared with the other vertex,
+         * whose remaining two vertices are the same common neighbors. Collapsing the edge would then
+         * produce two faces with identical vertices, as happens when collapsing an edge of a tetrahedron.
+         * @param u first vertex
+         * @param v second vertex
+         * @param commonStamp mark value of the common neighbors of {@code u} and {@code v}
+         * @return true if the vertices have faces opposite the same edge
+         */
+        private boolean sharesOppositeEdge(final int u, final int v, final int commonStamp) {
+            for (int i = refStart[u]; i < refStart[u] + refCount[u]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face] && !faceContains(face, v)) {
+                    final int f = face * 3;
+                    final int k = faces[f] == u ? 0 : (faces[f + 1] == u ? 1 : 2);
+                    final int a = faces[f + ((k + 1) % 3)];
+                    final int b = faces[f + ((k + 2) % 3)];
+                    if (mark[a] == commonStamp && mark[b] == commonStamp && hasFace(v, a, b)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /** Return true if vertex {@code v} has a face that also contains vertices {@code a} and {@code b}.
+         * @param v vertex
+         * @param a second vertex
+         * @param b third vertex
+         * @return true if the face exists
+         */
+        private boolean hasFace(final int v, final int a, final int b) {
+            for (int i = refStart[v]; i < refStart[v] + refCount[v]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face] && faceContains(face, a) && faceContains(face, b)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Mark the vertices of the given face other than {@code exclude}.
+         * @param face face
+         * @param exclude vertex to exclude
+         * @param stamp mark value
+         */
+        private void markFaceVertices(final int face, final int exclude, final int stamp) {
+            final int f = face * 3;
+            for (int k = f; k < f + 3; ++k) {
+                if (faces[k] != exclude) {
+                    mark[faces[k]] = stamp;
+                }
+            }
+        }
+
+        /** Return true if moving vertex {@code moved} to the current {@link #target} position would
+         * flip or degenerate any of its faces that do not also contain {@code other}.
+         * @param moved vertex being moved
+         * @param other other edge vertex
+         * @return true if any face would flip or degenerate
+         */
+        private boolean hasInvalidFace(final int moved, final int other) {
+            for (int i = refStart[moved]; i < refStart[moved] + refCount[moved]; ++i) {
+                final int face = refs[i];
+                if (!faceRemoved[face] && !faceContains(face, other) && isInvalidMove(face, moved)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Return true if moving vertex {@code moved} of the given face to the current {@link #target}
+         * position would flip the face normal or reduce the face to zero area.
+         * @param face face
+         * @param moved vertex being moved
+         * @return true if the move is invalid
+         */
+        private boolean isInvalidMove(final int face, final int moved) {
+            // rotate the face so that the moved vertex comes first
+            final int f = face * 3;
+            final int k = faces[f] == moved ? 0 : (faces[f + 1] == moved ? 1 : 2);
+            final int b = faces[f + ((k + 1) % 3)] * 3;
+            final int c = faces[f + ((k + 2) % 3)] * 3;
+            final int a = moved * 3;
+
+            final double bcx = coords[c] - coords[b];
+            final double bcy = coords[c + 1] - coords[b + 1];
+            final double bcz = coords[c + 2] - coords[b + 2];
+
+            // current normal
+            final double ox = coords[b] - coords[a];
+            final double oy = coords[b + 1] - coords[a + 1];
+            final double oz = coords[b + 2] - coords[a + 2];
+            final double n0x = (oy * bcz) - (oz * bcy);
+            final double n0y = (oz * bcx) - (ox * bcz);
+            final double n0z = (ox * bcy) - (oy * bcx);
+
+            // normal after the move
+            final double px = coords[b] - target[0];
+            final double py = coords[b + 1] - target[1];
+            final double pz = coords[b + 2] - target[2];
+            final double n1x = (py * bcz) - (pz * bcy);
+            final double n1y = (pz * bcx) - (px * bcz);
+            final double n1z = (px * bcy) - (py * bcx);
+
+            final double dot = (n0x * n1x) + (n0y * n1y) + (n0z * n1z);
+            return dot < 0 || precision.eqZero(Math.sqrt((n1x * n1x) + (n1y * n1y) + (n1z * n1z)));
+        }
+
+        /** Compute the error of collapsing the edge between {@code u} and {@code v}, storing the
+         * collapse position in {@link #target}. If either vertex is locked, the position is that of
+         * the locked vertex. Otherwise, the position minimizing the combined quadric is used, falling
+         * back to the best of the two end points and the midpoint when the minimizer is not
+         * well-defined.
+         * @param u first vertex
+         * @param v second vertex
+         * @return the collapse error
+         */
+        private double computeCost(final int u, final int v) {
+            final int uq = u * QUADRIC_SIZE;
+            final int vq = v * QUADRIC_SIZE;
+            for (int i = 0; i < QUADRIC_SIZE; ++i) {
+                sum[i] = quadrics[uq + i] + quadrics[vq + i];
+            }
+
+            final int ui = u * 3;
+            final int vi = v * 3;
+
+            if (locked[u] || locked[v]) {
+                final int li = locked[u] ? ui : vi;
+                setTarget(coords[li], coords[li + 1], coords[li + 2]);
+            } else if (!solveTarget(ui, vi)) {
+                // use the best of the edge midpoint and end points
+                setTarget(0.5 * (coords[ui] + coords[vi]),
+                        0.5 * (coords[ui + 1] + coords[vi + 1]),
+                        0.5 * (coords[ui + 2] + coords[vi + 2]));
+                double best = evaluate(sum, target[0], target[1], target[2]);
+
+                final double uErr = evaluate(sum, coords[ui], coords[ui + 1], coords[ui + 2]);
+                if (uErr < best) {
+                    best = uErr;
+                    setTarget(coords[ui], coords[ui + 1], coords[ui + 2]);
+                }
+
+                final double vErr = evaluate(sum, coords[vi], coords[vi + 1], coords[vi + 2]);
+                if (vErr < best) {
+                    setTarget(coords[vi], coords[vi + 1], coords[vi + 2]);
+                }
+            }
+
+            return Math.max(0, evaluate(sum, target[0], target[1], target[2]));
+        }
+
+        /** Compute the position minimizing the quadric in {@link #sum} and store it in {@link #target}.
+         * The position is rejected if the quadric system is nearly singular or if the position lies
+         * far from the edge.
+         * @param ui coordinate index of the first edge vertex
+         * @param vi coordinate index of the second edge vertex
+         * @return true if a position was stored
+         */
+        private boolean solveTarget(final int ui, final int vi) {
+            final double aa = sum[0];
+            final double ab = sum[1];
+            final double ac = sum[2];
+            final double bb = sum[4];
+            final double bc = sum[5];
+            final double cc = sum[7];
+
+            // solve A x = -b for the symmetric matrix A of the quadric using its adjugate
+            final double m00 = (bb * cc) - (bc * bc);
+            final double m01 = (ac * bc) - (ab * cc);
+            final double m02 = (ab * bc) - (ac * bb);
+            final double det = (aa * m00) + (ab * m01) + (ac * m02);
+            if (Math.abs(det) <= SINGULAR_DETERMINANT) {
+                return false;
+            }
+
+            final double m11 = (aa * cc) - (ac * ac);
+            final double m12 = (ab * ac) - (aa * bc);
+            final double m22 = (aa * bb) - (ab * ab);
+
+            final double ad = sum[3];
+            final double bd = sum[6];
+            final double cd = sum[8];
+            final double x = -((m00 * ad) + (m01 * bd) + (m02 * cd)) / det;
+            final double y = -((m01 * ad) + (m11 * bd) + (m12 * cd)) / det;
+            final double z = -((m02 * ad) + (m12 * bd) + (m22 * cd)) / det;
+
+            final double ex = coords[vi] - coords[ui];
+            final double ey = coords[vi + 1] - coords[ui + 1];
+            final double ez = coords[vi + 2] - coords[ui + 2];
+            final double ox = x - (0.5 * (coords[ui] + coords[vi]));
+            final double oy = y - (0.5 * (coords[ui + 1] + coords[vi + 1]));
+            final double oz = z - (0.5 * (coords[ui + 2] + coords[vi + 2]));
+            if ((ox * ox) + (oy * oy) + (oz * oz) > MAX_RELATIVE_OFFSET_SQ * ((ex * ex) + (ey * ey) + (ez * ez))) {
+                return false;
+            }
+
+            setTarget(x, y, z);
+            return true;
+        }
+
+        /** Set the current collapse target position.
+         * @param x x coordinate
+         * @param y y coordinate
+         * @param z z coordinate
+         */
+        private void setTarget(final double x, final double y, final double z) {
+            target[0] = x;
+            target[1] = y;
+            target[2] = z;
+        }
+
+        /** Ensure that {@link #refs} can hold {@code count} additional elements, compacting or growing
+         * the array as needed.
+         * @param count number of additional elements
+         */
+        private void ensureRefCapacity(final int count) {
+            if (refSize + count > refs.length) {
+                // drop the stale lists and removed faces
+                final int[] compact = new int[Math.max(refs.length, 2 * (liveFaceCount * 3 + count))];
+                int size = 0;
+                for (int v = 0; v < refStart.length; ++v) {
+                    final int start = size;
+                    for (int i = refStart[v]; i < refStart[v] + refCount[v]; ++i) {
+                        if (!faceRemoved[refs[i]]) {
+                            compact[size++] = refs[i];
+                        }
+                    }
+                    refStart[v] = start;
+                    refCount[v] = size - start;
+                }
+
+                refs = compact;
+                refSize = size;
+            }
+        }
+
+        /** Return true if the given face contains the given vertex.
+         * @param face face
+         * @param v vertex
+         * @return true if the face contains the vertex
+         */
+        private boolean faceContains(final int face, final int v) {
+            final int f = face * 3;
+            return faces[f] == v || faces[f + 1] == v || faces[f + 2] == v;
+        }
+
+        /** Replace vertex {@code v} with vertex {@code u} in the given face.
+         * @param face face
+         * @param v vertex to replace
+         * @param u replacement vertex
+         */
+        private void replaceVertex(final int face, final int v, final int u) {
+            final int f = face * 3;
+            for (int k = f; k < f + 3; ++k) {
+                if (faces[k] == v) {
+                    faces[k] = u;
+                }
+            }
+        }
+
+        /** Create the output mesh from the remaining faces.
+         * @return the output mesh
+         */
+        private CompactTriangleMesh createMesh() {
+            final int[] indexMap = new int[refStart.length];
+            Arrays.fill(indexMap, -1);
+
+            final int[] outFaces = new int[liveFaceCount * 3];
+            int faceSize = 0;
+            for (int face = 0; face < faceRemoved.length; ++face) {
+                if (!faceRemoved[face]) {
+                    final int f = face * 3;
+                    for (int k = f; k < f + 3; ++k) {
+                        indexMap[faces[k]] = 0;
+                        outFaces[faceSize++] = faces[k];
+                    }
+                }
+            }
+
+            int outVertexCount = 0;
+            for (int v = 0; v < indexMap.length; ++v) {
+                if (indexMap[v] == 0) {
+                    indexMap[v] = outVertexCount++;
+                } else {
+                    indexMap[v] = -1;
+                }
+            }
+
+            final double[] outCoords = new double[outVertexCount * 3];
+            for (int v = 0; v < indexMap.length; ++v) {
+                final int idx = indexMap[v];
+                if (idx > -1) {
+                    System.arraycopy(coords, v * 3, outCoords, idx * 3, 3);
+                }
+            }
+            for (int i = 0; i < outFaces.length; ++i) {
+                outFaces[i] = indexMap[outFaces[i]];
+            }
+
+            return CompactTriangleMesh.from(outCoords, outFaces, precision);
+        }
+    }
+
+    /** Evaluate the given quadric at the given point.
+     * @param q quadric, stored in the order {@code aa, ab, ac, ad, bb, bc, bd, cc, cd, dd}
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param z z coordinate
+     * @return the quadric value at the point
+     */
+    private static double evaluate(final double[] q, final double x, final double y, final double z) {
+        return (q[0] * x * x) + (2 * q[1] * x * y) + (2 * q[2] * x * z) + (2 * q[3] * x) +
+                (q[4] * y * y) + (2 * q[5] * y * z) + (2 * q[6] * y) +
+                (q[7] * z * z) + (2 * q[8] * z) + q[9];
+    }
+
+    /** 4-ary min-heap of candidate edges stored in primitive arrays. The children of each node are
+     * adjacent in memory, which reduces cache misses compared to a binary heap for the large queues
+     * created for big meshes. Only the entry costs and ids are moved when the heap is reordered; the entry data is stored by id and entry ids are reused once
+     * removed. Entries are never updated in place; stale entries are detected using the stamp value
+     * when they are removed.
+     */
+    private static final class EdgeHeap {
+
+        /** Initial capacity. */
+        private static final int INITIAL_CAPACITY = 64;
+
+        /** Number of children of each node. */
+        private static final int ARITY = 4;
+
+        /** Entry costs in heap order. */
+        private double[] costs = new double[INITIAL_CAPACITY];
+
+        /** Entry ids in heap order. */
+        private int[] ids = new int[INITIAL_CAPACITY];
+
+        /** First entry vertex for each entry id. */
+        private int[] us = new int[INITIAL_CAPACITY];
+
+        /** Second entry vertex for each entry id. */
+        private int[] vs = new int[INITIAL_CAPACITY];
+
+        /** Entry stamp for each entry id. */
+        private int[] stamps = new int[INITIAL_CAPACITY];
+
+        /** Number of entries in the heap. */
+        private int size;
+
+        /** Number of entry ids in use, including free ids. */
+        private int idCount;
+
+        /** Entry ids available for reuse. */
+        private int[] freeIds = new int[INITIAL_CAPACITY];
+
+        /** Number of entry ids available for reuse. */
+        private int freeCount;
+
+        /** Cost of the entry loaded by {@link #loadTop()}. */
+        private double topCost;
+
+        /** First vertex of the entry loaded by {@link #loadTop()}. */
+        private int topU;
+
+        /** Second vertex of the entry loaded by {@link #loadTop()}. */
+        private int topV;
+
+        /** Stamp of the entry loaded by {@link #loadTop()}. */
+        private int topStamp;
+
+        /** Return true if the heap is empty.
+         * @return true if the heap is empty
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /** Append an entry without restoring the heap order. {@link #heapify()} must be called before
+         * the heap is used.
+         * @param cost entry cost
+         * @param u first vertex
+         * @param v second vertex
+         * @param stamp entry stamp
+         */
+        void add(final double cost, final int u, final int v, final int stamp) {
+            final int id;
+            if (freeCount > 0) {
+                id = freeIds[--freeCount];
+            } else {
+                if (idCount == us.length) {
+                    final int capacity = idCount * 2;
+                    us = Arrays.copyOf(us, capacity);
+                    vs = Arrays.copyOf(vs, capacity);
+                    stamps = Arrays.copyOf(stamps, capacity);
+                }
+                id = idCount++;
+            }
+            us[id] = u;
+            vs[id] = v;
+            stamps[id] = stamp;
+
+            if (size == costs.length) {
+                final int capacity = size * 2;
+                costs = Arrays.copyOf(costs, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+            }
+            costs[size] = cost;
+            ids[size] = id;
+            ++size;
+        }
+
+        /** Restore the heap order after calls to {@link #add(double, int, int, int)}.
+         */
+        void heapify() {
+            for (int i = (size - 2) / ARITY; i >= 0; --i) {
+                siftDown(i, costs[i], ids[i]);
+            }
+        }
+
+        /** Add an entry to the heap.
+         * @param cost entry cost
+         * @param u first vertex
+         * @param v second vertex
+         * @param stamp entry stamp
+         */
+        void push(final double cost, final int u, final int v, final int stamp) {
+            add(cost, u, v, stamp);
+            siftUp(size - 1, cost, ids[size - 1]);
+        }
+
+        /** Store the values of the entry with the smallest cost in the {@code top} fields.
+         */
+        void loadTop() {
+            final int id = ids[0];
+            topCost = costs[0];
+            topU = us[id];
+            topV = vs[id];
+            topStamp = stamps[id];
+        }
+
+        /** Replace the cost and stamp of the entry with the smallest cost and restore the heap order.
+         * @param cost new entry cost
+         * @param stamp new entry stamp
+         */
+        void replaceTop(final double cost, final int stamp) {
+            final int id = ids[0];
+            stamps[id] = stamp;
+            siftDown(0, cost, id);
+        }
+
+        /** Remove the entry with the smallest cost.
+         */
+        void removeTop() {
+            final int id = ids[0];
+            if (freeCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+            }
+            freeIds[freeCount++] = id;
+
+            --size;
+            if (size > 0) {
+                // move the hole at the root down to a leaf along the smaller children and then
+                // move the last entry up from there; this uses fewer comparisons than a plain
+                // sift down since the last entry usually belongs near the bottom of the heap
+                int i = 0;
+                int child = minChild(1);
+                while (child > 0) {
+                    costs[i] = costs[child];
+                    ids[i] = ids[child];
+                    i = child;
+                    child = minChild((ARITY * i) + 1);
+                }
+                siftUp(i, costs[size], ids[size]);
+            }
+        }
+
+        /** Place the given entry at the given index and move it up until the heap order is restored.
+         * @param index entry index
+         * @param cost entry cost
+         * @param id entry id
+         */
+        private void siftUp(final int index, final double cost, final int id) {
+            int i = index;
+            while (i > 0) {
+                final int parent = (i - 1) / ARITY;
+                if (costs[parent] <= cost) {
+                    break;
+                }
+                costs[i] = costs[parent];
+                ids[i] = ids[parent];
+                i = parent;
+            }
+            costs[i] = cost;
+            ids[i] = id;
+        }
+
+        /** Place the given entry at the given index and move it down until the heap order is restored.
+         * @param index entry index
+         * @param cost entry cost
+         * @param id entry id
+         */
+        private void siftDown(final int index, final double cost, final int id) {
+            int i = index;
+            int child = minChild((ARITY * i) + 1);
+            while (child > 0 && costs[child] < cost) {
+                costs[i] = costs[child];
+                ids[i] = ids[child];
+                i = child;
+                child = minChild((ARITY * i) + 1);
+            }
+            costs[i] = cost;
+            ids[i] = id;
+        }
+
+        /** Get the index of the entry with the smallest cost among the children starting at
+         * {@code first}.
+         * @param first index of the first child
+         * @return index of the smallest child or -1 if there are no children
+         */
+        private int minChild(final int first) {
+            if (first >= size) {
+                return -1;
+            }
+            final int end = Math.min(first + ARITY, size);
+            int min = first;
+            for (int c = first + 1; c < end; ++c) {
+                if (costs[c] < costs[min]) {
+                    min = c;
+                }
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.rotation;
+
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+
+/** {@link Rotation3D} implementation that applies a {@link QuaternionRotation} using a precomputed
+ * 3x3 rotation matrix. Rotating a vector with a matrix requires approximately half of the floating
+ * point operations needed to compute the quaternion-vector product, making this class well suited
+ * for applying the same rotation to a large number of vectors. Instances also provide methods for
+ * rotating vectors stored in arrays without creating intermediate objects.
+ *
+ * <p>The results of the methods in this class may differ from those of the underlying
+ * {@link QuaternionRotation} by a small number of ulps due to the different order of
+ * operations.</p>
+ *
+ * <p>Instances of this class are immutable.</p>
+ * @see QuaternionRotation#prepare()
+ */
+public final class PreparedQuaternionRotation implements Rotation3D {
+
+    /** The number of coordinates per vector in packed coordinate arrays. */
+    private static final int DIMENSION = 3;
+
+    /** Source rotation. */
+    private final QuaternionRotation rotation;
+
+    /** Rotation matrix entry <code>m<sub>0,0</sub></code>. */
+    private final double m00;
+    /** Rotation matrix entry <code>m<sub>0,1</sub></code>. */
+    private final double m01;
+    /** Rotation matrix entry <code>m<sub>0,2</sub></code>. */
+    private final double m02;
+
+    /** Rotation matrix entry <code>m<sub>1,0</sub></code>. */
+    private final double m10;
+    /** Rotation matrix entry <code>m<sub>1,1</sub></code>. */
+    private final double m11;
+    /** Rotation matrix entry <code>m<sub>1,2</sub></code>. */
+    private final double m12;
+
+    /** Rotation matrix entry <code>m<sub>2,0</sub></code>. */
+    private final double m20;
+    /** Rotation matrix entry <code>m<sub>2,1</sub></code>. */
+    private final double m21;
+    /** Rotation matrix entry <code>m<sub>2,2</sub></code>. */
+    private final double m22;
+
+    /** Construct a new instance for the given rotation.
+     * @param rotation source rotation
+     */
+    PreparedQuaternionRotation(final QuaternionRotation rotation) {
+        this.rotation = rotation;
+
+        final double[] m = rotation.toMatrix().toArray();
+
+        this.m00 = m[0];
+        this.m01 = m[1];
+        this.m02 = m[2];
+
+        this.m10 = m[4];
+        this.m11 = m[5];
+        this.m12 = m[6];
+
+        this.m20 = m[8];
+        this.m21 = m[9];
+        this.m22 = m[10];
+    }
+
+    /** Get the source rotation for this instance.
+     * @return the source rotation
+     */
+    public QuaternionRotation getRotation() {
+        return rotation;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D apply(final Vector3D vec) {
+        final double x = vec.getX();
+        final double y = vec.getY();
+        final double z = vec.getZ();
+
+        return Vector3D.of(
+                (m00 * x) + (m01 * y) + (m02 * z),
+                (m10 * x) + (m11 * y) + (m12 * z),
+                (m20 * x) + (m21 * y) + (m22 * z));
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>This method simply calls {@code apply(vec)} since rotations treat
+     * points and vectors similarly.</p>
+     */
+    @Override
+    public Vector3D applyVector(final Vector3D vec) {
+        return apply(vec);
+    }
+
+    /** Rotate the vectors stored in the given packed coordinate array in place. The array must contain
+     * the coordinates of each vector in sequence, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]</code>.
+     * @param coords packed coordinate array to rotate in place
+     * @throws IllegalArgumentException if the array length is not a multiple of 3
+     * @see #apply(double[], int, int, double[], int, int, int)
+     */
+    public void apply(final double[] coords) {
+        final int count = EuclideanUtils.getPackedPointCount(coords, DIMENSION);
+        apply(coords, 0, DIMENSION, coords, 0, DIMENSION, count);
+    }
+
+    /** Rotate {@code count} vectors read from the coordinate array {@code src} and write the results
+     * to the coordinate array {@code dst}. The x, y, and z coordinates of vector {@code i} are read from
+     * indices {@code srcOffset + (i * srcStride)} through {@code srcOffset + (i * srcStride) + 2} of
+     * {@code src} and the rotated coordinates are written to the corresponding indices of {@code dst}.
+     *
+     * <p>The source and destination arrays may be the same array, in which case the vectors are
+     * rotated in place if the offsets and strides are equal. Results are undefined if the
+     * source and destination ranges otherwise overlap.</p>
+     * @param src source coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param srcStride number of indices between the first coordinates of consecutive vectors in {@code src}
+     * @param dst destination coordinate array
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param dstStride number of indices between the first coordinates of consecutive vectors in {@code dst}
+     * @param count number of vectors to rotate
+     * @throws IllegalArgumentException if {@code count} is negative or either stride is less than 3
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public void apply(final double[] src, final int srcOffset, final int srcStride,
+            final double[] dst, final int dstOffset, final int dstStride, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, srcStride, count, DIMENSION);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, dstStride, count, DIMENSION);
+
+        final double a00 = m00;
+        final double a01 = m01;
+        final double a02 = m02;
+        final double a10 = m10;
+        final double a11 = m11;
+        final double a12 = m12;
+        final double a20 = m20;
+        final double a21 = m21;
+        final double a22 = m22;
+
+        int s = srcOffset;
+        int d = dstOffset;
+        for (int i = 0; i < count; ++i) {
+            final double x = src[s];
+            final double y = src[s + 1];
+            final double z = src[s + 2];
+
+            dst[d] = (a00 * x) + (a01 * y) + (a02 * z);
+            dst[d + 1] = (a10 * x) + (a11 * y) + (a12 * z);
+            dst[d + 2] = (a20 * x) + (a21 * y) + (a22 * z);
+
+            s += srcStride;
+            d += dstStride;
+        }
+    }
+
+    /** Rotate each of the given vectors and write the resulting coordinates to {@code dst} as a packed
+     * coordinate array starting at index {@code dstOffset}.
+     * @param vecs vectors to rotate
+     * @param dst destination coordinate array
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @return the number of vectors written
+     * @throws IndexOutOfBoundsException if {@code dst} does not have space for all of the rotated
+     *      vectors; vectors preceding the first vector that does not fit are written to the array
+     *      before the exception is thrown
+     */
+    public int apply(final Iterable<Vector3D> vecs, final double[] dst, final int dstOffset) {
+        int d = dstOffset;
+        int count = 0;
+        for (final Vector3D vec : vecs) {
+            EuclideanUtils.checkCoordinateArrayRange(dst, d, DIMENSION, 1, DIMENSION);
+
+            final double x = vec.getX();
+            final double y = vec.getY();
+            final double z = vec.getZ();
+
+            dst[d] = (m00 * x) + (m01 * y) + (m02 * z);
+            dst[d + 1] = (m10 * x) + (m11 * y) + (m12 * z);
+            dst[d + 2] = (m20 * x) + (m21 * y) + (m22 * z);
+
+            d += DIMENSION;
+            ++count;
+        }
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PreparedQuaternionRotation inverse() {
+        return new PreparedQuaternionRotation(rotation.inverse());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D getAxis() {
+        return rotation.getAxis();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getAngle() {
+        return rotation.getAngle();
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>This method simply returns true since rotations always preserve the orientation
+     * of the space.</p>
+     */
+    @Override
+    public boolean preservesOrientation() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[rotation=" + rotation + "]";
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.function.DoubleFunction;
 
 import org.apache.commons.geometry.core.internal.GeometryInternalError;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.geometry.euclidean.internal.Vectors;
 import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
@@ -37,6 +38,17 @@ import org.apache.commons.numbers.quaternion.Slerp;
  * @see Quaternion
  */
 public final class QuaternionRotation implements Rotation3D {
+    /** The number of coordinates per point in packed coordinate arrays. */
+    private static final int DIMENSION = 3;
+
+    /** Number of values used to store each frame of quaternion components. */
+    private static final int QUATERNION_COMPONENT_COUNT = 4;
+
+    /** Quaternion dot product value above which slerp frames are computed using linear
+     * interpolation; this matches the value used by {@link Slerp}.
+     */
+    private static final double SLERP_LINEAR_DOT_THRESHOLD = 0.9995;
+
     /** Threshold value for the dot product of antiparallel vectors. If the dot product of two vectors is
      * less than this value, (adjusted for the lengths of the vectors), then the vectors are considered to be
      * antiparallel (ie, negations of each other).
@@ -146,6 +158,111 @@ public final class QuaternionRotation implements Rotation3D {
                 );
     }
 
+    /** Apply this rotation in place to the points stored in the given packed coordinate array.
+     * The array must contain the coordinates of each point in sequence, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, z<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, z<sub>1</sub>, ...]</code>.
+     * The computed values are identical to those produced by {@link #apply(Vector3D)} but no
+     * intermediate objects are created.
+     * @param coords packed coordinate array to rotate in place
+     * @throws IllegalArgumentException if the array length is not a multiple of 3
+     * @see #apply(double[], int, int, double[], int, int, int)
+     */
+    public void apply(final double[] coords) {
+        final int count = EuclideanUtils.getPackedPointCount(coords, DIMENSION);
+        apply(coords, 0, DIMENSION, coords, 0, DIMENSION, count);
+    }
+
+    /** Apply this rotation to {@code count} points read from the coordinate array {@code src} and
+     * write the results to the coordinate array {@code dst}. The x, y, and z coordinates of point
+     * {@code i} are read from indices {@code srcOffset + (i * srcStride)} through
+     * {@code srcOffset + (i * srcStride) + 2} of {@code src} and the rotated coordinates are
+     * written to the corresponding indices of {@code dst}. The computed values are identical to those
+     * produced by {@link #apply(Vector3D)} but no intermediate objects are created.
+     *
+     * <p>The source and destination arrays may be the same array, in which case the points are
+     * rotated in place if the offsets and strides are equal. Results are undefined if the
+     * source and destination ranges otherwise overlap.</p>
+     * @param src source coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param srcStride number of indices between the first coordinates of consecutive points in {@code src}
+     * @param dst destination coordinate array
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param dstStride number of indices between the first coordinates of consecutive points in {@code dst}
+     * @param count number of points to rotate
+     * @throws IllegalArgumentException if {@code count} is negative or either stride is less than 3
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public void apply(final double[] src, final int srcOffset, final int srcStride,
+            final double[] dst, final int dstOffset, final int dstStride, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, srcStride, count, DIMENSION);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, dstStride, count, DIMENSION);
+
+        final double qw = quat.getW();
+        final double qx = quat.getX();
+        final double qy = quat.getY();
+        final double qz = quat.getZ();
+
+        int s = srcOffset;
+        int d = dstOffset;
+        for (int i = 0; i < count; ++i) {
+            final double x = src[s];
+            final double y = src[s + 1];
+            final double z = src[s + 2];
+
+            // use the same computation as apply(Vector3D) so that results are identical
+            final double iw = -(qx * x) - (qy * y) - (qz * z);
+            final double ix = (qw * x) + (qy * z) - (qz * y);
+            final double iy = (qw * y) + (qz * x) - (qx * z);
+            final double iz = (qw * z) + (qx * y) - (qy * x);
+
+            dst[d] = (iw * -qx) + (ix * qw) + (iy * -qz) - (iz * -qy);
+            dst[d + 1] = (iw * -qy) - (ix * -qz) + (iy * qw) + (iz * -qx);
+            dst[d + 2] = (iw * -qz) + (ix * -qy) - (iy * -qx) + (iz * qw);
+
+            s += srcStride;
+            d += dstStride;
+        }
+    }
+
+    /** Apply this rotation in place to {@code count} points stored in separate coordinate arrays,
+     * starting at index {@code offset} in each array. The computed values are identical to those
+     * produced by {@link #apply(Vector3D)} but no intermediate objects are created.
+     * @param xs x coordinate values
+     * @param ys y coordinate values
+     * @param zs z coordinate values
+     * @param offset index of the first point in each array
+     * @param count number of points to rotate
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the range does not lie entirely within each array
+     */
+    public void apply(final double[] xs, final double[] ys, final double[] zs, final int offset, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(xs, offset, 1, count, 1);
+        EuclideanUtils.checkCoordinateArrayRange(ys, offset, 1, count, 1);
+        EuclideanUtils.checkCoordinateArrayRange(zs, offset, 1, count, 1);
+
+        final double qw = quat.getW();
+        final double qx = quat.getX();
+        final double qy = quat.getY();
+        final double qz = quat.getZ();
+
+        final int end = offset + count;
+        for (int i = offset; i < end; ++i) {
+            final double x = xs[i];
+            final double y = ys[i];
+            final double z = zs[i];
+
+            final double iw = -(qx * x) - (qy * y) - (qz * z);
+            final double ix = (qw * x) + (qy * z) - (qz * y);
+            final double iy = (qw * y) + (qz * x) - (qx * z);
+            final double iz = (qw * z) + (qx * y) - (qy * x);
+
+            xs[i] = (iw * -qx) + (ix * qw) + (iy * -qz) - (iz * -qy);
+            ys[i] = (iw * -qy) - (ix * -qz) + (iy * qw) + (iz * -qx);
+            zs[i] = (iw * -qz) + (ix * -qy) - (iy * -qx) + (iz * qw);
+        }
+    }
+
     /** {@inheritDoc}
      *
      * <p>This method simply calls {@code apply(vec)} since rotations treat
@@ -212,6 +329,15 @@ public final class QuaternionRotation implements Rotation3D {
                 );
     }
 
+    /** Return a {@link PreparedQuaternionRotation} representing the same rotation as this instance.
+     * The returned instance applies the rotation using a precomputed rotation matrix, which is
+     * faster when the same rotation is applied to many vectors.
+     * @return a prepared rotation representing the same rotation as this instance
+     */
+    public PreparedQuaternionRotation prepare() {
+        return new PreparedQuaternionRotation(this);
+    }
+
     /**
      * Multiply this instance by the given argument, returning the result as
      * a new instance. This is equivalent to the expression {@code t * q} where
@@ -279,6 +405,97 @@ public final class QuaternionRotation implements Rotation3D {
         return t -> of(s.apply(t));
     }
 
+    /** Compute {@code frameCount} evenly spaced frames of the
+     * <a href="https://en.wikipedia.org/wiki/Slerp">spherical linear interpolation</a> between this
+     * instance and {@code end}, writing the quaternion components of each frame to {@code dst} in the
+     * order {@code w, x, y, z}. Frame {@code i} is written to indices {@code dstOffset + (4 * i)} through
+     * {@code dstOffset + (4 * i) + 3} and is equivalent to the rotation returned by the
+     * {@link #slerp(QuaternionRotation) slerp} function at {@code t = i / (frameCount - 1)}. The first
+     * frame is therefore equal to this instance and the last frame is equal to {@code end}. If
+     * {@code frameCount} is one, the single frame is equal to this instance. Frames are computed without
+     * creating intermediate objects and are in positive polar form. Rotation instances can be created
+     * from the components with {@link #of(double, double, double, double)} if needed.
+     * @param end end value of the interpolation
+     * @param frameCount number of frames to compute
+     * @param dst array to write the frame quaternion components to
+     * @param dstOffset index of the first value to write to {@code dst}
+     * @throws IllegalArgumentException if {@code frameCount} is negative
+     * @throws IndexOutOfBoundsException if {@code dst} does not have room for all of the frames
+     * @see #slerp(QuaternionRotation)
+     */
+    public void slerpFrames(final QuaternionRotation end, final int frameCount,
+            final double[] dst, final int dstOffset) {
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, QUATERNION_COMPONENT_COUNT, frameCount,
+                QUATERNION_COMPONENT_COUNT);
+
+        final double sw = quat.getW();
+        final double sx = quat.getX();
+        final double sy = quat.getY();
+        final double sz = quat.getZ();
+
+        double ew = end.quat.getW();
+        double ex = end.quat.getX();
+        double ey = end.quat.getY();
+        double ez = end.quat.getZ();
+
+        // interpolate along the shortest path
+        double dot = (sw * ew) + (sx * ex) + (sy * ey) + (sz * ez);
+        if (dot < 0) {
+            dot = -dot;
+            ew = -ew;
+            ex = -ex;
+            ey = -ey;
+            ez = -ez;
+        }
+
+        final boolean linear = dot > SLERP_LINEAR_DOT_THRESHOLD;
+        final double theta = Math.acos(Math.min(dot, 1.0));
+        final double sinTheta = Math.sin(theta);
+
+        final double denom = frameCount - 1;
+
+        int d = dstOffset + QUATERNION_COMPONENT_COUNT;
+        for (int i = 1; i < frameCount - 1; ++i) {
+            final double t = i / denom;
+
+            final double f1;
+            final double f2;
+            if (linear) {
+                f1 = 1 - t;
+                f2 = t;
+            } else {
+                f1 = Math.sin((1 - t) * theta) / sinTheta;
+                f2 = Math.sin(t * theta) / sinTheta;
+            }
+
+            final double w = (f1 * sw) + (f2 * ew);
+            final double x = (f1 * sx) + (f2 * ex);
+            final double y = (f1 * sy) + (f2 * ey);
+            final double z = (f1 * sz) + (f2 * ez);
+
+            // normalize and convert to positive polar form
+            final double norm = Math.sqrt((w * w) + (x * x) + (y * y) + (z * z));
+            final double scale = w < 0 ?
+                    -1 / norm :
+                    1 / norm;
+
+            dst[d] = w * scale;
+            dst[d + 1] = x * scale;
+            dst[d + 2] = y * scale;
+            dst[d + 3] = z * scale;
+
+            d += QUATERNION_COMPONENT_COUNT;
+        }
+
+        // use the exact start and end values for the first and last frames
+        if (frameCount > 0) {
+            setComponents(quat, dst, dstOffset);
+        }
+        if (frameCount > 1) {
+            setComponents(end.quat, dst, d);
+        }
+    }
+
     /** Get a sequence of axis-angle rotations that produce an overall rotation equivalent to this instance.
      *
      * <p>
@@ -839,4 +1056,17 @@ public final class QuaternionRotation implements Rotation3D {
 
         return arr;
     }
+
+    /** Write the components of the given quaternion to {@code dst} in the order {@code w, x, y, z},
+     * starting at index {@code offset}.
+     * @param q quaternion
+     * @param dst destination array
+     * @param offset index of the first value to write
+     */
+    private static void setComponents(final Quaternion q, final double[] dst, final int offset) {
+        dst[offset] = q.getW();
+        dst[offset + 1] = q.getX();
+        dst[offset + 2] = q.getY();
+        dst[offset + 3] = q.getZ();
+    }
 }
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import org.apache.commons.geometry.core.internal.SimpleTupleFormat;
+import org.apache.commons.geometry.euclidean.internal.Vectors;
+
+/** Mutable 2D vector intended for use as a scratch value in performance-sensitive inner loops.
+ * All arithmetic methods modify the instance in place and return it, allowing calls to be
+ * chained without allocating intermediate {@link Vector2D} objects. The computations performed
+ * by each method are the same as those performed by the corresponding {@link Vector2D} method, so
+ * results are identical to those obtained using immutable vectors.
+ *
+ * <p>Instances are converted to immutable vectors with {@link #toVector()} and may be
+ * initialized from them with {@link #from(Vector2D)} or {@link #set(Vector2D)}.</p>
+ *
+ * <p>This class is mutable and not thread-safe. It does not override {@code equals} or
+ * {@code hashCode}.</p>
+ * @see Vector2D
+ */
+public final class MutableVector2D {
+
+    /** X coordinate value. */
+    private double x;
+
+    /** Y coordinate value. */
+    private double y;
+
+    /** Construct a new instance with all coordinates set to zero. Use the static factory
+     * methods to create instances with other initial values.
+     */
+    public MutableVector2D() {
+        // initialize to zero
+    }
+
+    /** Get the x coordinate value.
+     * @return x coordinate value
+     */
+    public double getX() {
+        return x;
+    }
+
+    /** Get the y coordinate value.
+     * @return y coordinate value
+     */
+    public double getY() {
+        return y;
+    }
+
+    /** Set the coordinates of this instance.
+     * @param xval x coordinate value
+     * @param yval y coordinate value
+     * @return this instance
+     */
+    public MutableVector2D set(final double xval, final double yval) {
+        this.x = xval;
+        this.y = yval;
+        return this;
+    }
+
+    /** Set the coordinates of this instance to those of the given vector.
+     * @param v vector to copy
+     * @return this instance
+     */
+    public MutableVector2D set(final Vector2D v) {
+        return set(v.getX(), v.getY());
+    }
+
+    /** Set the coordinates of this instance to those of the given vector.
+     * @param v vector to copy
+     * @return this instance
+     */
+    public MutableVector2D set(final MutableVector2D v) {
+        return set(v.x, v.y);
+    }
+
+    /** Add the given vector to this instance.
+     * @param v vector to add
+     * @return this instance
+     * @see Vector2D#add(Vector2D)
+     */
+    public MutableVector2D add(final Vector2D v) {
+        return set(x + v.getX(), y + v.getY());
+    }
+
+    /** Add the given vector to this instance.
+     * @param v vector to add
+     * @return this instance
+     * @see Vector2D#add(Vector2D)
+     */
+    public MutableVector2D add(final MutableVector2D v) {
+        return set(x + v.x, y + v.y);
+    }
+
+    /** Add a scaled vector to this instance.
+     * @param factor scale factor to apply to {@code v}
+     * @param v vector to scale and add
+     * @return this instance
+     * @see Vector2D#add(double, Vector2D)
+     */
+    public MutableVector2D add(final double factor, final Vector2D v) {
+        return set(
+                x + (factor * v.getX()),
+                y + (factor * v.getY()));
+    }
+
+    /** Add a scaled vector to this instance.
+     * @param factor scale factor to apply to {@code v}
+     * @param v vector to scale and add
+     * @return this instance
+     * @see Vector2D#add(double, Vector2D)
+     */
+    public MutableVector2D add(final double factor, final MutableVector2D v) {
+        return set(
+                x + (factor * v.x),
+                y + (factor * v.y));
+    }
+
+    /** Subtract the given vector from this instance.
+     * @param v vector to subtract
+     * @return this instance
+     * @see Vector2D#subtract(Vector2D)
+     */
+    public MutableVector2D subtract(final Vector2D v) {
+        return set(x - v.getX(), y - v.getY());
+    }
+
+    /** Subtract the given vector from this instance.
+     * @param v vector to subtract
+     * @return this instance
+     * @see Vector2D#subtract(Vector2D)
+     */
+    public MutableVector2D subtract(final MutableVector2D v) {
+        return set(x - v.x, y - v.y);
+    }
+
+    /** Multiply this instance by a scalar.
+     * @param a scalar
+     * @return this instance
+     * @see Vector2D#multiply(double)
+     */
+    public MutableVector2D multiply(final double a) {
+        return set(a * x, a * y);
+    }
+
+    /** Negate this instance.
+     * @return this instance
+     * @see Vector2D#negate()
+     */
+    public MutableVector2D negate() {
+        return set(-x, -y);
+    }
+
+    /** Set this instance to a linear interpolation between itself and the given point.
+     * @param p other point
+     * @param t interpolation parameter
+     * @return this instance
+     * @see Vector2D#lerp(Vector2D, double)
+     */
+    public MutableVector2D lerp(final Vector2D p, final double t) {
+        final double s = 1.0 - t;
+        return set(
+                Vectors.linearCombination(s, x, t, p.getX()),
+                Vectors.linearCombination(s, y, t, p.getY()));
+    }
+
+    /** Normalize this instance so that it has a length of one and points in the same
+     * direction as before.
+     * @return this instance
+     * @throws IllegalArgumentException if the norm of this instance is zero, NaN, or infinite;
+     *      the instance is not modified in this case
+     * @see Vector2D#normalize()
+     */
+    public MutableVector2D normalize() {
+        final double normInv = 1.0 / norm();
+        if (Vectors.isRealNonZero(normInv)) {
+            return multiply(normInv);
+        }
+
+        // fall back to the vector method to handle overflow, underflow, and invalid norms
+        return set(Vector2D.Unit.from(x, y));
+    }
+
+    /** Compute the dot product of this instance and the given vector.
+     * @param v second operand of the dot product
+     * @return dot product
+     * @see Vector2D#dot(Vector2D)
+     */
+    public double dot(final Vector2D v) {
+        return Vectors.linearCombination(x, v.getX(), y, v.getY());
+    }
+
+    /** Compute the dot product of this instance and the given vector.
+     * @param v second operand of the dot product
+     * @return dot product
+     * @see Vector2D#dot(Vector2D)
+     */
+    public double dot(final MutableVector2D v) {
+        return Vectors.linearCombination(x, v.x, y, v.y);
+    }
+
+    /** Get the L<sub>2</sub> norm (commonly known as the Euclidean norm) of this instance.
+     * @return L<sub>2</sub> norm
+     * @see Vector2D#norm()
+     */
+    public double norm() {
+        return Vectors.norm(x, y);
+    }
+
+    /** Get the square of the L<sub>2</sub> norm of this instance.
+     * @return square of the L<sub>2</sub> norm
+     * @see Vector2D#normSq()
+     */
+    public double normSq() {
+        return Vectors.normSq(x, y);
+    }
+
+    /** Return an immutable vector with the current coordinates of this instance.
+     * @return immutable vector with the current coordinates of this instance
+     */
+    public Vector2D toVector() {
+        return Vector2D.of(x, y);
+    }
+
+    /** Return a string representation of this instance in the same format as
+     * {@link Vector2D#toString()}.
+     * @return string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return SimpleTupleFormat.getDefault().format(x, y);
+    }
+
+    /** Create a new instance with the given coordinates.
+     * @param x x coordinate value
+     * @param y y coordinate value
+     * @return new instance
+     */
+    public static MutableVector2D of(final double x, final double y) {
+        return new MutableVector2D().set(x, y);
+    }
+
+    /** Create a new instance with the coordinates of the given vector.
+     * @param v vector to copy
+     * @return new instance
+     */
+    public static MutableVector2D from(final Vector2D v) {
+        return new MutableVector2D().set(v);
+    }
+}
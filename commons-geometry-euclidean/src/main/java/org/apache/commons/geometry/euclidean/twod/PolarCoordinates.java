@@ -18,6 +18,7 @@ package org.apache.commons.geometry.euclidean.twod;
 
 import org.apache.commons.geometry.core.Spatial;
 import org.apache.commons.geometry.core.internal.SimpleTupleFormat;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.numbers.angle.Angle;
 
 /** Class representing <a href="https://en.wikipedia.org/wiki/Polar_coordinate_system">polar coordinates</a>
@@ -47,6 +48,9 @@ import org.apache.commons.numbers.angle.Angle;
  * @see <a href="https://en.wikipedia.org/wiki/Polar_coordinate_system">Polar Coordinate System</a>
  */
 public final class PolarCoordinates implements Spatial {
+    /** Number of values in a set of polar or Cartesian coordinates. */
+    private static final int DIMENSION = 2;
+
     /** Radius value. */
     private final double radius;
 
@@ -216,6 +220,137 @@ public final class PolarCoordinates implements Spatial {
         return Vector2D.of(x, y);
     }
 
+    /** Convert the points stored in the given packed Cartesian coordinate array to polar coordinates,
+     * storing the results in the packed array {@code dst}. The source array must contain the coordinates of
+     * each point in sequence, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, ...]</code>, and the results are
+     * written in the same layout as <code>[radius<sub>0</sub>, azimuth<sub>0</sub>, ...]</code>. The computed
+     * values are identical to those of the instances returned by {@link #fromCartesian(double, double)} but
+     * no intermediate objects are created. Large arrays are converted in parallel. The source and destination
+     * may be the same array.
+     * @param src packed Cartesian coordinate array
+     * @param dst packed array to store the polar coordinates in
+     * @throws IllegalArgumentException if the array lengths are not equal or are not multiples of 2
+     * @see #fromCartesian(double[], int, double[], int, int)
+     */
+    public static void fromCartesian(final double[] src, final double[] dst) {
+        final int count = getPackedPointCount(src, dst);
+        EuclideanUtils.forEachPointBlock(count, (start, blockCount) ->
+            fromCartesian(src, start * DIMENSION, dst, start * DIMENSION, blockCount));
+    }
+
+    /** Convert {@code count} points stored in the packed Cartesian coordinate array {@code src}, starting at
+     * index {@code srcOffset}, to polar coordinates, storing the results in the packed array {@code dst}
+     * starting at index {@code dstOffset}. The conversion is performed sequentially in the current thread;
+     * otherwise, this method is the same as {@link #fromCartesian(double[], double[])}. The source and
+     * destination ranges may be the same range of the same array, but results are undefined if the ranges
+     * otherwise overlap.
+     * @param src packed Cartesian coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param dst packed array to store the polar coordinates in
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param count number of points to convert
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public static void fromCartesian(final double[] src, final int srcOffset, final double[] dst,
+            final int dstOffset, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, DIMENSION, count, DIMENSION);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, DIMENSION, count, DIMENSION);
+
+        final int end = srcOffset + (count * DIMENSION);
+        int d = dstOffset;
+        for (int s = srcOffset; s < end; s += DIMENSION) {
+            final double x = src[s];
+            final double y = src[s + 1];
+
+            // the radius is never negative here, so the normalization performed by the
+            // constructor reduces to normalizing the azimuth
+            dst[d] = Math.hypot(x, y);
+            dst[d + 1] = normalizeAzimuth(Math.atan2(y, x));
+
+            d += DIMENSION;
+        }
+    }
+
+    /** Convert the points stored in the given packed Cartesian coordinate array to polar coordinates using
+     * a fast approximation of the azimuth angle. This method is the same as
+     * {@link #fromCartesian(double[], double[])} except that the computed azimuth values may differ from the
+     * exact values, modulo {@code 2pi}, by up to {@code 1e-7} radians. The radius values are exact. This
+     * method is intended for applications that need high throughput and can tolerate the reduced angular
+     * accuracy, such as graphics and visualization.
+     * @param src packed Cartesian coordinate array
+     * @param dst packed array to store the polar coordinates in
+     * @throws IllegalArgumentException if the array lengths are not equal or are not multiples of 2
+     * @see #fromCartesian(double[], double[])
+     */
+    public static void fromCartesianApproximate(final double[] src, final double[] dst) {
+        final int count = getPackedPointCount(src, dst);
+        EuclideanUtils.forEachPointBlock(count, (start, blockCount) -> {
+            final int end = (start + blockCount) * DIMENSION;
+            for (int i = start * DIMENSION; i < end; i += DIMENSION) {
+                final double x = src[i];
+                final double y = src[i + 1];
+
+                dst[i] = Math.hypot(x, y);
+                dst[i + 1] = normalizeAzimuth(EuclideanUtils.approximateAtan2(y, x));
+            }
+        });
+    }
+
+    /** Convert the polar coordinates stored in the given packed array to Cartesian coordinates, storing
+     * the results in the packed array {@code dst}. The source array must contain the coordinates of
+     * each point in sequence, i.e.
+     * <code>[radius<sub>0</sub>, azimuth<sub>0</sub>, radius<sub>1</sub>, azimuth<sub>1</sub>, ...]</code>,
+     * and the results are written in the same layout as <code>[x<sub>0</sub>, y<sub>0</sub>, ...]</code>.
+     * The computed values are identical to those returned by {@link #toCartesian(double, double)} but no
+     * intermediate objects are created. Large arrays are converted in parallel. The source and destination
+     * may be the same array.
+     * @param src packed polar coordinate array
+     * @param dst packed array to store the Cartesian coordinates in
+     * @throws IllegalArgumentException if the array lengths are not equal or are not multiples of 2
+     * @see #toCartesian(double[], int, double[], int, int)
+     */
+    public static void toCartesian(final double[] src, final double[] dst) {
+        final int count = getPackedPointCount(src, dst);
+        EuclideanUtils.forEachPointBlock(count, (start, blockCount) ->
+            toCartesian(src, start * DIMENSION, dst, start * DIMENSION, blockCount));
+    }
+
+    /** Convert {@code count} sets of polar coordinates stored in the packed array {@code src}, starting at
+     * index {@code srcOffset}, to Cartesian coordinates, storing the results in the packed array {@code dst}
+     * starting at index {@code dstOffset}. The conversion is performed sequentially in the current thread;
+     * otherwise, this method is the same as {@link #toCartesian(double[], double[])}. The source and
+     * destination ranges may be the same range of the same array, but results are undefined if the ranges
+     * otherwise overlap.
+     * @param src packed polar coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param dst packed array to store the Cartesian coordinates in
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param count number of points to convert
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public static void toCartesian(final double[] src, final int srcOffset, final double[] dst,
+            final int dstOffset, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, DIMENSION, count, DIMENSION);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, DIMENSION, count, DIMENSION);
+
+        final int end = srcOffset + (count * DIMENSION);
+        int d = dstOffset;
+        for (int s = srcOffset; s < end; s += DIMENSION) {
+            final double radius = src[s];
+            final double azimuth = src[s + 1];
+
+            dst[d] = radius * Math.cos(azimuth);
+            dst[d + 1] = radius * Math.sin(azimuth);
+
+            d += DIMENSION;
+        }
+    }
+
     /** Parse the given string and return a new polar coordinates instance. The parsed
      * coordinates are normalized as in the {@link #of(double, double)} method. The expected string
      * format is the same as that returned by {@link #toString()}.
@@ -238,4 +373,17 @@ public final class PolarCoordinates implements Spatial {
 
         return azimuth;
     }
+
+    /** Get the number of points stored in the given packed source and destination arrays.
+     * @param src source array
+     * @param dst destination array
+     * @return number of points in the arrays
+     * @throws IllegalArgumentException if the array lengths are not equal or are not multiples of 2
+     */
+    private static int getPackedPointCount(final double[] src, final double[] dst) {
+        if (src.length != dst.length) {
+            throw new IllegalArgumentException("Array length mismatch: " + dst.length + " != " + src.length);
+        }
+        return EuclideanUtils.getPackedPointCount(src, DIMENSION);
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.geometry.euclidean.twod.rotation;
 
 import org.apache.commons.geometry.euclidean.EuclideanTransform;
+import org.apache.commons.geometry.euclidean.internal.EuclideanUtils;
 import org.apache.commons.geometry.euclidean.internal.Vectors;
 import org.apache.commons.geometry.euclidean.twod.AffineTransformMatrix2D;
 import org.apache.commons.geometry.euclidean.twod.Vector2D;
@@ -26,6 +27,9 @@ import org.apache.commons.geometry.euclidean.twod.Vector2D;
  */
 public final class Rotation2D implements EuclideanTransform<Vector2D> {
 
+    /** The number of coordinates per point in packed coordinate arrays. */
+    private static final int DIMENSION = 2;
+
     /** Instance representing a rotation of zero radians. */
     private static final Rotation2D IDENTITY = new Rotation2D(0);
 
@@ -82,6 +86,90 @@ public final class Rotation2D implements EuclideanTransform<Vector2D> {
                 );
     }
 
+    /** Apply this rotation in place to the points stored in the given packed coordinate array.
+     * The array must contain the coordinates of each point in sequence, i.e.
+     * <code>[x<sub>0</sub>, y<sub>0</sub>, x<sub>1</sub>, y<sub>1</sub>, ...]</code>.
+     * The computed values are identical to those produced by {@link #apply(Vector2D)} but no
+     * intermediate objects are created.
+     * @param coords packed coordinate array to rotate in place
+     * @throws IllegalArgumentException if the array length is not a multiple of 2
+     * @see #apply(double[], int, int, double[], int, int, int)
+     */
+    public void apply(final double[] coords) {
+        final int count = EuclideanUtils.getPackedPointCount(coords, DIMENSION);
+        apply(coords, 0, DIMENSION, coords, 0, DIMENSION, count);
+    }
+
+    /** Apply this rotation to {@code count} points read from the coordinate array {@code src} and
+     * write the results to the coordinate array {@code dst}. The x and y coordinates of point
+     * {@code i} are read from indices {@code srcOffset + (i * srcStride)} and
+     * {@code srcOffset + (i * srcStride) + 1} of {@code src} and the rotated coordinates are
+     * written to the corresponding indices of {@code dst}. The computed values are identical to those
+     * produced by {@link #apply(Vector2D)} but no intermediate objects are created.
+     *
+     * <p>The source and destination arrays may be the same array, in which case the points are
+     * rotated in place if the offsets and strides are equal. Results are undefined if the
+     * source and destination ranges otherwise overlap.</p>
+     * @param src source coordinate array
+     * @param srcOffset index of the first coordinate to read from {@code src}
+     * @param srcStride number of indices between the first coordinates of consecutive points in {@code src}
+     * @param dst destination coordinate array
+     * @param dstOffset index of the first coordinate to write to {@code dst}
+     * @param dstStride number of indices between the first coordinates of consecutive points in {@code dst}
+     * @param count number of points to rotate
+     * @throws IllegalArgumentException if {@code count} is negative or either stride is less than 2
+     * @throws IndexOutOfBoundsException if the source or destination range does not lie entirely
+     *      within its array
+     */
+    public void apply(final double[] src, final int srcOffset, final int srcStride,
+            final double[] dst, final int dstOffset, final int dstStride, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(src, srcOffset, srcStride, count, DIMENSION);
+        EuclideanUtils.checkCoordinateArrayRange(dst, dstOffset, dstStride, count, DIMENSION);
+
+        final double cos = cosAngle;
+        final double sin = sinAngle;
+
+        int s = srcOffset;
+        int d = dstOffset;
+        for (int i = 0; i < count; ++i) {
+            final double x = src[s];
+            final double y = src[s + 1];
+
+            dst[d] = (x * cos) - (y * sin);
+            dst[d + 1] = (x * sin) + (y * cos);
+
+            s += srcStride;
+            d += dstStride;
+        }
+    }
+
+    /** Apply this rotation in place to {@code count} points stored in separate coordinate arrays,
+     * starting at index {@code offset} in each array. The computed values are identical to those
+     * produced by {@link #apply(Vector2D)} but no intermediate objects are created.
+     * @param xs x coordinate values
+     * @param ys y coordinate values
+     * @param offset index of the first point in each array
+     * @param count number of points to rotate
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the range does not lie entirely within each array
+     */
+    public void apply(final double[] xs, final double[] ys, final int offset, final int count) {
+        EuclideanUtils.checkCoordinateArrayRange(xs, offset, 1, count, 1);
+        EuclideanUtils.checkCoordinateArrayRange(ys, offset, 1, count, 1);
+
+        final double cos = cosAngle;
+        final double sin = sinAngle;
+
+        final int end = offset + count;
+        for (int i = offset; i < end; ++i) {
+            final double x = xs[i];
+            final double y = ys[i];
+
+            xs[i] = (x * cos) - (y * sin);
+            ys[i] = (x * sin) + (y * cos);
+        }
+    }
+
     /** {@inheritDoc}
      *
      * <p>This method simply calls {@code apply(vec)} since rotations treat
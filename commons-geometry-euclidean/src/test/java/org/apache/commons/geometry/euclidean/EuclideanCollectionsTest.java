@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.core.collection.PointSet;
+import org.apache.commons.geometry.euclidean.EuclideanCollections.PointMapStrategy;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.twod.Vector2D;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EuclideanCollectionsTest {
+
+    private static final double EPS = 1e-6;
+
+    private static final Precision.DoubleEquivalence PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(EPS);
+
+    @Test
+    void testPointMap2D_strategies() {
+        for (final PointMapStrategy strategy : PointMapStrategy.values()) {
+            // act
+            final PointMap<Vector2D, Integer> map = EuclideanCollections.pointMap2D(PRECISION, strategy);
+            map.put(Vector2D.of(1, 2), 1);
+
+            // assert
+            Assertions.assertEquals(1, map.get(Vector2D.of(1, 2 + (0.5 * EPS))));
+            Assertions.assertNull(map.get(Vector2D.of(1, 2 + (2 * EPS))));
+        }
+    }
+
+    @Test
+    void testPointSet2D_strategies() {
+        for (final PointMapStrategy strategy : PointMapStrategy.values()) {
+            // act
+            final PointSet<Vector2D> set = EuclideanCollections.pointSet2D(PRECISION, strategy);
+            set.add(Vector2D.of(1, 2));
+
+            // assert
+            Assertions.assertTrue(set.contains(Vector2D.of(1, 2 + (0.5 * EPS))));
+            Assertions.assertFalse(set.contains(Vector2D.of(1, 2 + (2 * EPS))));
+        }
+    }
+
+    @Test
+    void testPointMap3D_strategies() {
+        for (final PointMapStrategy strategy : PointMapStrategy.values()) {
+            // act
+            final PointMap<Vector3D, Integer> map = EuclideanCollections.pointMap3D(PRECISION, strategy);
+            map.put(Vector3D.of(1, 2, 3), 1);
+
+            // assert
+            Assertions.assertEquals(1, map.get(Vector3D.of(1, 2, 3 + (0.5 * EPS))));
+            Assertions.assertNull(map.get(Vector3D.of(1, 2, 3 + (2 * EPS))));
+        }
+    }
+
+    @Test
+    void testPointSet3D_strategies() {
+        for (final PointMapStrategy strategy : PointMapStrategy.values()) {
+            // act
+            final PointSet<Vector3D> set = EuclideanCollections.pointSet3D(PRECISION, strategy);
+            set.add(Vector3D.of(1, 2, 3));
+
+            // assert
+            Assertions.assertTrue(set.contains(Vector3D.of(1, 2, 3 + (0.5 * EPS))));
+            Assertions.assertFalse(set.contains(Vector3D.of(1, 2, 3 + (2 * EPS))));
+        }
+    }
+
+    @Test
+    void testNearestEntries2D() {
+        // arrange
+        final Random rnd = new Random(1L);
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.pointMap2D(PRECISION);
+        for (int i = 0; i < 1_000; ++i) {
+            map.put(Vector2D.of(rnd.nextDouble(), rnd.nextDouble()), i);
+        }
+
+        final List<Vector2D> pts = new ArrayList<>();
+        for (int i = 0; i < 2_000; ++i) {
+            pts.add(Vector2D.of(rnd.nextDouble() * 2 - 0.5, rnd.nextDouble() * 2 - 0.5));
+        }
+
+        // act
+        final List<Map.Entry<Vector2D, Integer>> result = EuclideanCollections.nearestEntries2D(map, pts);
+        final List<List<Map.Entry<Vector2D, Integer>>> kResult =
+                EuclideanCollections.nearestEntries2D(map, pts, 3);
+
+        // assert
+        Assertions.assertEquals(pts.size(), result.size());
+        Assertions.assertEquals(pts.size(), kResult.size());
+        for (int i = 0; i < pts.size(); ++i) {
+            final Vector2D pt = pts.get(i);
+            Assertions.assertSame(map.nearestEntry(pt), result.get(i));
+            Assertions.assertEquals(
+                    map.entriesNearToFar(pt).stream().limit(3).collect(Collectors.toList()),
+                    kResult.get(i));
+        }
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> result.set(0, null));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> kResult.get(0).clear());
+    }
+
+    @Test
+    void testNearestEntries3D() {
+        // arrange
+        final Random rnd = new Random(2L);
+        final PointMap<Vector3D, Integer> map = EuclideanCollections.pointMap3D(PRECISION, PointMapStrategy.KD_TREE);
+        for (int i = 0; i < 1_000; ++i) {
+            map.put(Vector3D.of(rnd.nextDouble(), rnd.nextDouble(), rnd.nextDouble()), i);
+        }
+
+        final List<Vector3D> pts = new ArrayList<>();
+        for (int i = 0; i < 2_000; ++i) {
+            pts.add(Vector3D.of(rnd.nextDouble() * 2 - 0.5, rnd.nextDouble() * 2 - 0.5, rnd.nextDouble()));
+        }
+
+        // act
+        final List<Map.Entry<Vector3D, Integer>> result = EuclideanCollections.nearestEntries3D(map, pts);
+        final List<List<Map.Entry<Vector3D, Integer>>> kResult =
+                EuclideanCollections.nearestEntries3D(map, pts, 3);
+
+        // assert
+        Assertions.assertEquals(pts.size(), result.size());
+        Assertions.assertEquals(pts.size(), kResult.size());
+        for (int i = 0; i < pts.size(); ++i) {
+            final Vector3D pt = pts.get(i);
+            Assertions.assertSame(map.nearestEntry(pt), result.get(i));
+            Assertions.assertEquals(
+                    map.entriesNearToFar(pt).stream().limit(3).collect(Collectors.toList()),
+                    kResult.get(i));
+        }
+    }
+
+    @Test
+    void testNearestEntries_smallMapAndDegenerateQueries() {
+        // arrange
+        final PointMap<Vector2D, Integer> map2D = EuclideanCollections.pointMap2D(PRECISION);
+        map2D.put(Vector2D.ZERO, 1);
+
+        final PointMap<Vector3D, Integer> map3D = EuclideanCollections.pointMap3D(PRECISION);
+        map3D.put(Vector3D.ZERO, 1);
+
+        final Vector2D pt2D = Vector2D.of(1, 2);
+        final Vector3D pt3D = Vector3D.of(1, 2, 3);
+
+        // act/assert
+        Assertions.assertEquals(Arrays.asList(Vector2D.ZERO, Vector2D.ZERO),
+                EuclideanCollections.nearestEntries2D(map2D, Arrays.asList(pt2D, pt2D)).stream()
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList()));
+        Assertions.assertEquals(1, EuclideanCollections.nearestEntries2D(map2D, Arrays.asList(pt2D), 5).get(0).size());
+
+        Assertions.assertEquals(Arrays.asList(Vector3D.ZERO, Vector3D.ZERO),
+                EuclideanCollections.nearestEntries3D(map3D, Arrays.asList(pt3D, pt3D)).stream()
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList()));
+        Assertions.assertEquals(1, EuclideanCollections.nearestEntries3D(map3D, Arrays.asList(pt3D), 5).get(0).size());
+    }
+
+    @Test
+    void testNearestEntries_emptyInputs() {
+        // arrange
+        final PointMap<Vector2D, Integer> map2D = EuclideanCollections.pointMap2D(PRECISION);
+        final PointMap<Vector3D, Integer> map3D = EuclideanCollections.pointMap3D(PRECISION);
+
+        // act/assert
+        Assertions.assertEquals(0, EuclideanCollections.nearestEntries2D(map2D, Collections.emptyList()).size());
+        Assertions.assertEquals(0, EuclideanCollections.nearestEntries3D(map3D, Collections.emptyList(), 2).size());
+
+        Assertions.assertEquals(Arrays.asList(null, null),
+                EuclideanCollections.nearestEntries2D(map2D, Arrays.asList(Vector2D.ZERO, Vector2D.Unit.PLUS_X)));
+        Assertions.assertEquals(Collections.singletonList(Collections.emptyList()),
+                EuclideanCollections.nearestEntries3D(map3D, Collections.singletonList(Vector3D.ZERO), 2));
+    }
+
+    @Test
+    void testNearestEntries_invalidArgs() {
+        // arrange
+        final PointMap<Vector2D, Integer> map2D = EuclideanCollections.pointMap2D(PRECISION);
+        final PointMap<Vector3D, Integer> map3D = EuclideanCollections.pointMap3D(PRECISION);
+
+        final List<Vector2D> pts2D = Arrays.asList(Vector2D.ZERO, Vector2D.NaN);
+        final List<Vector3D> pts3D = Arrays.asList(Vector3D.ZERO, Vector3D.POSITIVE_INFINITY);
+
+        // act/assert
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.nearestEntries2D(map2D, pts2D));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.nearestEntries3D(map3D, pts3D));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.nearestEntries2D(map2D, Arrays.asList(Vector2D.ZERO), 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.nearestEntries3D(map3D, Arrays.asList(Vector3D.ZERO), -1));
+    }
+
+    @Test
+    void testNearestPoints2D() {
+        // arrange
+        final PointSet<Vector2D> set = EuclideanCollections.pointSet2D(PRECISION);
+        set.addAll(Arrays.asList(Vector2D.ZERO, Vector2D.of(1, 0), Vector2D.of(3, 0)));
+
+        final List<Vector2D> pts = Arrays.asList(Vector2D.of(2.5, 0), Vector2D.of(-1, 0));
+
+        // act/assert
+        Assertions.assertEquals(Arrays.asList(Vector2D.of(3, 0), Vector2D.ZERO),
+                EuclideanCollections.nearestPoints2D(set, pts));
+        Assertions.assertEquals(Arrays.asList(
+                    Arrays.asList(Vector2D.of(3, 0), Vector2D.of(1, 0)),
+                    Arrays.asList(Vector2D.ZERO, Vector2D.of(1, 0))),
+                EuclideanCollections.nearestPoints2D(set, pts, 2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.nearestPoints2D(set, pts, 0));
+    }
+
+    @Test
+    void testNearestPoints3D() {
+        // arrange
+        final PointSet<Vector3D> set = EuclideanCollections.pointSet3D(PRECISION);
+        set.addAll(Arrays.asList(Vector3D.ZERO, Vector3D.of(0, 0, 1), Vector3D.of(0, 0, 3)));
+
+        final List<Vector3D> pts = Arrays.asList(Vector3D.of(0, 0, 2.5), Vector3D.of(0, 0, -1));
+
+        // act/assert
+        Assertions.assertEquals(Arrays.asList(Vector3D.of(0, 0, 3), Vector3D.ZERO),
+                EuclideanCollections.nearestPoints3D(set, pts));
+        Assertions.assertEquals(Arrays.asList(
+                    Arrays.asList(Vector3D.of(0, 0, 3), Vector3D.of(0, 0, 1)),
+                    Arrays.asList(Vector3D.ZERO, Vector3D.of(0, 0, 1))),
+                EuclideanCollections.nearestPoints3D(set, pts, 2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.nearestPoints3D(set, pts, 0));
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.commons.geometry.core.GeometryTestUtils;
 import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
 import org.apache.commons.numbers.core.Precision;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -156,4 +158,147 @@ class EuclideanUtilsTest {
             EuclideanUtils.convexPolygonToTriangleFan(Arrays.asList(Vector3D.ZERO, Vector3D.of(1, 0, 0)), Function.identity());
         }, IllegalArgumentException.class, baseMsg + "2");
     }
+
+    @Test
+    void testGetPackedPointCount() {
+        // act/assert
+        Assertions.assertEquals(0, EuclideanUtils.getPackedPointCount(new double[0], 3));
+        Assertions.assertEquals(2, EuclideanUtils.getPackedPointCount(new double[6], 3));
+        Assertions.assertEquals(3, EuclideanUtils.getPackedPointCount(new double[6], 2));
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> EuclideanUtils.getPackedPointCount(new double[5], 3),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 5");
+    }
+
+    @Test
+    void testSumPackedCoordinates() {
+        // arrange
+        final double[] large = new double[10_001];
+        Arrays.fill(large, 0.1);
+
+        // act/assert
+        Assertions.assertArrayEquals(new double[2], EuclideanUtils.sumPackedCoordinates(new double[0], 2));
+        Assertions.assertArrayEquals(new double[] {4, -4},
+                EuclideanUtils.sumPackedCoordinates(new double[] {1, 2, 3, -6}, 2));
+        Assertions.assertArrayEquals(new double[] {1000.1},
+                EuclideanUtils.sumPackedCoordinates(large, 1));
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> EuclideanUtils.sumPackedCoordinates(new double[5], 3),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 5");
+    }
+
+    @Test
+    void testForEachPointBlock() {
+        // arrange
+        final int count = 10_001;
+        final int[] visits = new int[count];
+
+        // act
+        EuclideanUtils.forEachPointBlock(count, (start, blockCount) -> {
+            for (int i = start; i < start + blockCount; ++i) {
+                ++visits[i];
+            }
+        });
+        EuclideanUtils.forEachPointBlock(0, (start, blockCount) -> Assertions.fail("Unexpected block"));
+
+        // assert
+        for (final int v : visits) {
+            Assertions.assertEquals(1, v);
+        }
+    }
+
+    @Test
+    void testApproximateAtan2() {
+        // arrange
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+        final double err = EuclideanUtils.APPROXIMATE_ANGLE_ERROR;
+
+        // act/assert
+        for (int i = 0; i < 100_000; ++i) {
+            final double y = (2 * rnd.nextDouble()) - 1;
+            final double x = (2 * rnd.nextDouble()) - 1;
+            final double scale = Math.pow(10, rnd.nextInt(601) - 300);
+
+            Assertions.assertEquals(Math.atan2(y, x), EuclideanUtils.approximateAtan2(y, x), err);
+            Assertions.assertEquals(Math.atan2(y * scale, x * scale),
+                    EuclideanUtils.approximateAtan2(y * scale, x * scale), err);
+        }
+
+        Assertions.assertEquals(0.0, EuclideanUtils.approximateAtan2(0, 1), err);
+        Assertions.assertEquals(0.25 * Math.PI, EuclideanUtils.approximateAtan2(1, 1), err);
+        Assertions.assertEquals(0.5 * Math.PI, EuclideanUtils.approximateAtan2(1, 0), err);
+        Assertions.assertEquals(Math.PI, EuclideanUtils.approximateAtan2(0, -1), err);
+        Assertions.assertEquals(-Math.PI, EuclideanUtils.approximateAtan2(-0.0, -1), err);
+        Assertions.assertEquals(-0.5 * Math.PI, EuclideanUtils.approximateAtan2(-1, 0), err);
+        Assertions.assertEquals(-0.75 * Math.PI, EuclideanUtils.approximateAtan2(-1, -1), err);
+        Assertions.assertEquals(Double.MIN_VALUE, EuclideanUtils.approximateAtan2(Double.MIN_VALUE, 1), err);
+    }
+
+    @Test
+    void testApproximateAtan2_specialValues() {
+        // arrange
+        final double[] values = {
+            0.0, -0.0, 1.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+
+        // act/assert
+        for (final double y : values) {
+            for (final double x : values) {
+                if (Math.max(Math.abs(x), Math.abs(y)) != 1.0) {
+                    Assertions.assertEquals(Math.atan2(y, x), EuclideanUtils.approximateAtan2(y, x));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testApproximateAcos() {
+        // arrange
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+        final double err = EuclideanUtils.APPROXIMATE_ANGLE_ERROR;
+
+        // act/assert
+        for (int i = 0; i < 100_000; ++i) {
+            final double x = (2 * rnd.nextDouble()) - 1;
+            Assertions.assertEquals(Math.acos(x), EuclideanUtils.approximateAcos(x), err);
+
+            final double nearPole = 1 - (rnd.nextDouble() * 1e-6);
+            Assertions.assertEquals(Math.acos(nearPole), EuclideanUtils.approximateAcos(nearPole), err);
+            Assertions.assertEquals(Math.acos(-nearPole), EuclideanUtils.approximateAcos(-nearPole), err);
+        }
+
+        Assertions.assertEquals(0.0, EuclideanUtils.approximateAcos(1));
+        Assertions.assertEquals(Math.PI, EuclideanUtils.approximateAcos(-1));
+        Assertions.assertEquals(0.5 * Math.PI, EuclideanUtils.approximateAcos(0), err);
+
+        Assertions.assertEquals(Double.NaN, EuclideanUtils.approximateAcos(Math.nextUp(1.0)));
+        Assertions.assertEquals(Double.NaN, EuclideanUtils.approximateAcos(Math.nextDown(-1.0)));
+        Assertions.assertEquals(Double.NaN, EuclideanUtils.approximateAcos(Double.NaN));
+        Assertions.assertEquals(Double.NaN, EuclideanUtils.approximateAcos(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testCheckCoordinateArrayRange() {
+        // arrange
+        final double[] arr = new double[10];
+
+        // act/assert
+        EuclideanUtils.checkCoordinateArrayRange(arr, 0, 3, 0, 3);
+        EuclideanUtils.checkCoordinateArrayRange(arr, 20, 3, 0, 3);
+        EuclideanUtils.checkCoordinateArrayRange(arr, 0, 3, 3, 3);
+        EuclideanUtils.checkCoordinateArrayRange(arr, 1, 3, 3, 3);
+        EuclideanUtils.checkCoordinateArrayRange(arr, 0, 4, 2, 3);
+        EuclideanUtils.checkCoordinateArrayRange(arr, 9, 1, 1, 1);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> EuclideanUtils.checkCoordinateArrayRange(arr, 0, 3, -1, 3),
+                IllegalArgumentException.class, "Invalid point count: -1");
+        GeometryTestUtils.assertThrowsWithMessage(() -> EuclideanUtils.checkCoordinateArrayRange(arr, 0, 2, 1, 3),
+                IllegalArgumentException.class, "Invalid stride: 2");
+        GeometryTestUtils.assertThrowsWithMessage(() -> EuclideanUtils.checkCoordinateArrayRange(arr, 2, 3, 3, 3),
+                IndexOutOfBoundsException.class, "Coordinate array range [2, 11) is out of bounds for array length 10");
+        GeometryTestUtils.assertThrowsWithMessage(() -> EuclideanUtils.checkCoordinateArrayRange(arr, -1, 3, 1, 3),
+                IndexOutOfBoundsException.class, "Coordinate array range [-1, 2) is out of bounds for array length 10");
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> EuclideanUtils.checkCoordinateArrayRange(arr, 0, Integer.MAX_VALUE, 3, 3));
+    }
 }
@@ -298,6 +298,35 @@ class AffineTransformMatrix1DTest {
         });
     }
 
+    @Test
+    void testApply_arrays() {
+        // arrange
+        final AffineTransformMatrix1D transform = AffineTransformMatrix1D.createScale(-3)
+                .translate(1.5);
+
+        final double[] coords = {1, -2, 1e-3};
+        final double[] src = {1, 0, 2, 0, 3};
+        final double[] dst = new double[4];
+
+        // act
+        transform.apply(coords);
+        transform.apply(src, 0, 2, dst, 1, 1, 3);
+
+        // assert
+        Assertions.assertEquals(transform.applyX(1), coords[0]);
+        Assertions.assertEquals(transform.applyX(-2), coords[1]);
+        Assertions.assertEquals(transform.applyX(1e-3), coords[2]);
+
+        Assertions.assertEquals(0.0, dst[0]);
+        Assertions.assertEquals(transform.apply(Vector1D.of(1)).getX(), dst[1]);
+        Assertions.assertEquals(transform.apply(Vector1D.of(2)).getX(), dst[2]);
+        Assertions.assertEquals(transform.apply(Vector1D.of(3)).getX(), dst[3]);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(src, 0, 0, dst, 0, 1, 1),
+                IllegalArgumentException.class, "Invalid stride: 0");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> transform.apply(src, 0, 2, dst, 2, 1, 3));
+    }
+
     @Test
     void testApplyVector_identity() {
         // arrange
@@ -543,6 +543,81 @@ class AffineTransformMatrix3DTest {
         });
     }
 
+    @Test
+    void testApply_packedArray() {
+        // arrange
+        final AffineTransformMatrix3D transform = AffineTransformMatrix3D.createScale(2, 3, 4)
+                .rotate(QuaternionRotation.fromAxisAngle(Vector3D.of(1, 1, 1), 0.75))
+                .translate(1, -2, 3);
+
+        final double[] coords = {1, 2, 3, -0.5, 0.25, 7, 1e3, -1e-3, 0};
+
+        // act
+        transform.apply(coords);
+
+        // assert
+        assertPackedCoordinates(transform, new double[] {1, 2, 3, -0.5, 0.25, 7, 1e3, -1e-3, 0}, coords, 0, 3);
+    }
+
+    @Test
+    void testApply_stridedArrays() {
+        // arrange
+        final AffineTransformMatrix3D transform = AffineTransformMatrix3D.createTranslation(1, 2, 3)
+                .rotate(QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, 1));
+
+        final double[] src = {-1, 1, 2, 3, 0, 4, 5, 6, 0, -7, -8, -9};
+        final double[] dst = new double[8];
+
+        // act
+        transform.apply(src, 1, 4, dst, 2, 3, 2);
+        transform.apply(src, 0, 4, dst, 0, 3, 0);
+
+        // assert
+        assertPackedCoordinates(transform, new double[] {1, 2, 3, 4, 5, 6}, dst, 2, 3);
+        Assertions.assertEquals(0.0, dst[0]);
+        Assertions.assertEquals(0.0, dst[1]);
+    }
+
+    @Test
+    void testApply_separateArrays() {
+        // arrange
+        final AffineTransformMatrix3D transform = AffineTransformMatrix3D.createScale(-1, 2, 0.5)
+                .translate(4, 5, 6);
+
+        final double[] xs = {1, 2, 3, 4};
+        final double[] ys = {-1, -2, -3, -4};
+        final double[] zs = {0.5, 1.5, 2.5, 3.5};
+
+        // act
+        transform.apply(xs, ys, zs, 1, 2);
+
+        // assert
+        Assertions.assertEquals(transform.apply(Vector3D.of(2, -2, 1.5)), Vector3D.of(xs[1], ys[1], zs[1]));
+        Assertions.assertEquals(transform.apply(Vector3D.of(3, -3, 2.5)), Vector3D.of(xs[2], ys[2], zs[2]));
+
+        Assertions.assertEquals(Vector3D.of(1, -1, 0.5), Vector3D.of(xs[0], ys[0], zs[0]));
+        Assertions.assertEquals(Vector3D.of(4, -4, 3.5), Vector3D.of(xs[3], ys[3], zs[3]));
+    }
+
+    @Test
+    void testApply_arrays_invalidArgs() {
+        // arrange
+        final AffineTransformMatrix3D transform = AffineTransformMatrix3D.createTranslation(1, 2, 3);
+        final double[] arr = new double[6];
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(new double[4]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(arr, 0, 2, arr, 0, 3, 1),
+                IllegalArgumentException.class, "Invalid stride: 2");
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(arr, 0, 3, arr, 0, 3, -1),
+                IllegalArgumentException.class, "Invalid point count: -1");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> transform.apply(arr, 1, 3, arr, 0, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> transform.apply(arr, 0, 3, new double[5], 0, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> transform.apply(arr, arr, new double[2], 0, 3));
+    }
+
     @Test
     void testApplyVector_identity() {
         // arrange
@@ -1256,4 +1331,18 @@ class AffineTransformMatrix3DTest {
         EuclideanTestUtils.permute(-1e-2, 1e-2, 5e-3, test);
         EuclideanTestUtils.permute(-1e2, 1e2, 5, test);
     }
+
+    /** Assert that the points in {@code dst} are exactly equal to the result of transforming the
+     * corresponding points in the packed array {@code input} with {@link AffineTransformMatrix3D#apply(Vector3D)}.
+     */
+    private static void assertPackedCoordinates(final AffineTransformMatrix3D transform, final double[] input,
+            final double[] dst, final int dstOffset, final int dstStride) {
+        for (int i = 0; i < input.length / 3; ++i) {
+            final int s = i * 3;
+            final int d = dstOffset + (i * dstStride);
+
+            final Vector3D expected = transform.apply(Vector3D.of(input[s], input[s + 1], input[s + 2]));
+            Assertions.assertEquals(expected, Vector3D.of(dst[d], dst[d + 1], dst[d + 2]));
+        }
+    }
 }
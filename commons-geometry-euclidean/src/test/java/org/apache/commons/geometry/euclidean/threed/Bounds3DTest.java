@@ -38,6 +38,8 @@ import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
 import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
 import org.apache.commons.numbers.angle.Angle;
 import org.apache.commons.numbers.core.Precision;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -160,6 +162,58 @@ class Bounds3DTest {
         }, IllegalStateException.class, INVALID_BOUNDS_PATTERN);
     }
 
+    @Test
+    void testFrom_packedArray() {
+        // act
+        final Bounds3D b = Bounds3D.from(new double[] {
+            1, 6, 7,
+            2, 5, 9,
+            3, 4, 8
+        });
+
+        // assert
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 4, 7), b.getMin(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(3, 6, 9), b.getMax(), TEST_EPS);
+    }
+
+    @Test
+    void testFrom_packedArray_matchesIterable() {
+        // arrange
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+        final int count = 100_000;
+
+        final double[] xyz = new double[3 * count];
+        final List<Vector3D> pts = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            final Vector3D pt = Vector3D.of(rnd.nextDouble(), 2 * rnd.nextDouble(), -rnd.nextDouble());
+            System.arraycopy(pt.toArray(), 0, xyz, 3 * i, 3);
+            pts.add(pt);
+        }
+
+        // act/assert
+        Assertions.assertEquals(Bounds3D.from(pts), Bounds3D.from(xyz));
+    }
+
+    @Test
+    void testFrom_packedArray_invalidArgs() {
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            Bounds3D.from(new double[0]);
+        }, IllegalStateException.class, NO_POINTS_MESSAGE);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            Bounds3D.from(new double[] {1, 1, 1, Double.NaN, 1, 1});
+        }, IllegalStateException.class, INVALID_BOUNDS_PATTERN);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            Bounds3D.from(new double[] {1, Double.POSITIVE_INFINITY, 1});
+        }, IllegalStateException.class, INVALID_BOUNDS_PATTERN);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            Bounds3D.from(new double[4]);
+        }, IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+    }
+
     @Test
     void testHasSize() {
         // arrange
@@ -913,6 +967,141 @@ class Bounds3DTest {
         assertNoLineIntersection(bounds, line);
     }
 
+    @Test
+    void testIntersectsBoxes() {
+        // arrange
+        final double[] boxes = {
+            0, 0, 0, 1, 1, 1,
+            2, 0, 0, 3, 1, 1,
+            -2, -2, -2, -1, -1, -1,
+            0, 0, 2, 1, 1, 3,
+            0.5, 0.5, 0.5, 0.5, 0.5, 0.5
+        };
+        final boolean[] result = new boolean[5];
+
+        final Line3D line = Lines3D.fromPointAndDirection(Vector3D.of(0, 0.5, 0.5), Vector3D.Unit.PLUS_X,
+                TEST_PRECISION);
+
+        // act/assert
+        Assertions.assertEquals(3, Bounds3D.intersectsBoxes(line, boxes, result));
+        Assertions.assertArrayEquals(new boolean[] {true, true, false, false, true}, result);
+
+        Assertions.assertEquals(1, Bounds3D.intersectsBoxes(line.rayFrom(1.5), boxes, result));
+        Assertions.assertArrayEquals(new boolean[] {false, true, false, false, false}, result);
+
+        Assertions.assertEquals(2, Bounds3D.intersectsBoxes(line.segment(0.5, 1.5), boxes, result));
+        Assertions.assertArrayEquals(new boolean[] {true, false, false, false, true}, result);
+
+        Assertions.assertEquals(0, Bounds3D.intersectsBoxes(line.reverseRayTo(-1), boxes, result));
+        Assertions.assertArrayEquals(new boolean[] {false, false, false, false, false}, result);
+    }
+
+    @Test
+    void testIntersectsBoxes_parallelToFaces() {
+        // arrange
+        final double[] boxes = {
+            0, 0, 0, 1, 1, 1,
+            0, 1, 0, 1, 2, 1,
+            0, 1.5, 0, 1, 2, 1
+        };
+        final boolean[] result = new boolean[3];
+
+        final Line3D line = Lines3D.fromPointAndDirection(Vector3D.of(0.5, 1, 0), Vector3D.Unit.PLUS_Z,
+                TEST_PRECISION);
+
+        // act/assert
+        Assertions.assertEquals(2, Bounds3D.intersectsBoxes(line, boxes, result));
+        Assertions.assertArrayEquals(new boolean[] {true, true, false}, result);
+    }
+
+    @Test
+    void testIntersectsBoxes_matchesIntersects() {
+        // arrange
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(2L);
+        final int count = 1000;
+
+        final List<Bounds3D> boundsList = new ArrayList<>(count);
+        final double[] boxes = new double[6 * count];
+        for (int i = 0; i < count; ++i) {
+            final Bounds3D bounds = Bounds3D.from(randomPoint(rnd), randomPoint(rnd));
+            System.arraycopy(bounds.getMin().toArray(), 0, boxes, 6 * i, 3);
+            System.arraycopy(bounds.getMax().toArray(), 0, boxes, (6 * i) + 3, 3);
+            boundsList.add(bounds);
+        }
+
+        final boolean[] result = new boolean[count];
+        final Precision.DoubleEquivalence precision = Precision.doubleEquivalenceOfEpsilon(0);
+
+        for (int i = 0; i < 10; ++i) {
+            final Line3D line = Lines3D.fromPoints(randomPoint(rnd), randomPoint(rnd), precision);
+            final LineConvexSubset3D subset = line.segment(rnd.nextDouble() - 1, rnd.nextDouble());
+
+            // act
+            final int hits = Bounds3D.intersectsBoxes(subset, boxes, result);
+
+            // assert
+            int expectedHits = 0;
+            for (int j = 0; j < count; ++j) {
+                final boolean expected = boundsList.get(j).intersects(subset);
+                Assertions.assertEquals(expected, result[j]);
+                if (expected) {
+                    ++expectedHits;
+                }
+            }
+            Assertions.assertEquals(expectedHits, hits);
+        }
+    }
+
+    @Test
+    void testIntersectsBoxes_invalidArgs() {
+        // arrange
+        final Line3D line = Lines3D.fromPointAndDirection(Vector3D.ZERO, Vector3D.Unit.PLUS_X, TEST_PRECISION);
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> Bounds3D.intersectsBoxes(line, new double[7], new boolean[1]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 6; was 7");
+        GeometryTestUtils.assertThrowsWithMessage(() -> Bounds3D.intersectsBoxes(line, new double[12], new boolean[1]),
+                IllegalArgumentException.class, "Array length mismatch: 1 != 2");
+    }
+
+    @Test
+    void testIntersectsRays() {
+        // arrange
+        final Bounds3D b = Bounds3D.from(Vector3D.ZERO, Vector3D.of(1, 1, 1));
+        final double[] rays = {
+            -1, 0.5, 0.5, 1, 0, 0,
+            2, 0.5, 0.5, 1, 0, 0,
+            2, 0.5, 0.5, -2, 0, 0,
+            0.5, 0.5, 0.5, 0, 0, 0,
+            2, 2, 2, 0, 0, 0,
+            -1, -1, -1, 1, 1, 1,
+            -1, 1, 0.5, 1, 0, 0,
+            -1, 1.5, 0.5, 1, 0, 0,
+            -1, -1, 0.5, 1, 1, 0
+        };
+        final boolean[] result = new boolean[9];
+
+        // act
+        final int hits = b.intersectsRays(rays, result);
+
+        // assert
+        Assertions.assertEquals(6, hits);
+        Assertions.assertArrayEquals(
+                new boolean[] {true, false, true, true, false, true, true, false, true}, result);
+    }
+
+    @Test
+    void testIntersectsRays_invalidArgs() {
+        // arrange
+        final Bounds3D b = Bounds3D.from(Vector3D.ZERO, Vector3D.of(1, 1, 1));
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> b.intersectsRays(new double[5], new boolean[1]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 6; was 5");
+        GeometryTestUtils.assertThrowsWithMessage(() -> b.intersectsRays(new double[6], new boolean[0]),
+                IllegalArgumentException.class, "Array length mismatch: 0 != 1");
+    }
+
     @Test
     void testHashCode() {
         // arrange
@@ -989,6 +1178,7 @@ class Bounds3DTest {
                 .add(p1)
                 .addAll(Arrays.asList(p2, p3))
                 .add(Bounds3D.from(p4, p5))
+                .addAll(new double[] {4, 8, 12, 2, 9, 14})
                 .build();
 
         // assert
@@ -1089,6 +1279,13 @@ class Bounds3DTest {
         return new BoundsLinecastChecker3D(bounds);
     }
 
+    private static Vector3D randomPoint(final UniformRandomProvider rnd) {
+        return Vector3D.of(
+                (4 * rnd.nextDouble()) - 2,
+                (4 * rnd.nextDouble()) - 2,
+                (4 * rnd.nextDouble()) - 2);
+    }
+
     /**
      * Internal test class used to perform and verify linecast operations.
      */
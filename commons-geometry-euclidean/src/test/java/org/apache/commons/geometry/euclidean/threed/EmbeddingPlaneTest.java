@@ -130,6 +130,22 @@ class EmbeddingPlaneTest {
         checkPlane(result, Vector3D.ZERO, Vector3D.Unit.PLUS_Y, Vector3D.Unit.PLUS_Z);
     }
 
+    @Test
+    void testTransform_rigid() {
+        // arrange
+        final Vector3D pt = Vector3D.of(0, 0, 1);
+        final EmbeddingPlane plane = Planes.fromPointAndPlaneVectors(pt, Vector3D.Unit.PLUS_Y, Vector3D.Unit.MINUS_X, TEST_PRECISION);
+
+        final RigidTransform3D rigid = RigidTransform3D.createRotation(pt,
+                QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Y, Angle.PI_OVER_TWO));
+
+        // act
+        final EmbeddingPlane result = plane.transform(rigid);
+
+        // assert
+        checkPlane(result, Vector3D.ZERO, Vector3D.Unit.PLUS_Y, Vector3D.Unit.PLUS_Z);
+    }
+
     @Test
     void testTransform_asymmetricScaling() {
         // arrange
@@ -318,6 +334,49 @@ class EmbeddingPlaneTest {
                 Vector3D.of(1, 0, 0), Vector3D.of(1, 0, -1), Vector3D.of(1, 1, 0));
     }
 
+    @Test
+    void testSubspaceTransform_rigid() {
+        // arrange
+        final EmbeddingPlane plane = Planes.fromPointAndPlaneVectors(Vector3D.of(0, 0, 1),
+                Vector3D.Unit.PLUS_X, Vector3D.Unit.PLUS_Y, TEST_PRECISION);
+
+        // act/assert
+        checkSubspaceTransform(plane.subspaceTransform(RigidTransform3D.createTranslation(Vector3D.of(2, 3, 4))),
+                Vector3D.of(0, 0, 5), Vector3D.Unit.PLUS_X, Vector3D.Unit.PLUS_Y,
+                Vector3D.of(2, 3, 5), Vector3D.of(3, 3, 5), Vector3D.of(2, 4, 5));
+
+        checkSubspaceTransform(plane.subspaceTransform(RigidTransform3D.of(
+                    QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Y, Angle.PI_OVER_TWO), Vector3D.ZERO)),
+                Vector3D.of(1, 0, 0), Vector3D.Unit.MINUS_Z, Vector3D.Unit.PLUS_Y,
+                Vector3D.of(1, 0, 0), Vector3D.of(1, 0, -1), Vector3D.of(1, 1, 0));
+    }
+
+    @Test
+    void testSubspaceTransform_rigid_transformsPointsCorrectly() {
+        // arrange
+        final EmbeddingPlane plane = Planes.fromPointAndPlaneVectors(Vector3D.of(1, 2, 3),
+                Vector3D.of(-1, -1, 1), Vector3D.of(-1, 1, 1), TEST_PRECISION);
+
+        EuclideanTestUtils.permuteSkipZero(-2, 2, 0.5, (a, b, c) -> {
+            final RigidTransform3D transform = RigidTransform3D.of(
+                    QuaternionRotation.fromAxisAngle(Vector3D.of(b, c, a), Math.PI * c),
+                    Vector3D.of(a, b, c));
+
+            // act
+            final SubspaceTransform st = plane.subspaceTransform(transform);
+
+            // assert
+            EuclideanTestUtils.permute(-5, 5, 1, (x, y) -> {
+                final Vector2D subPt = Vector2D.of(x, y);
+                final Vector3D expected = transform.apply(plane.toSpace(subPt));
+                final Vector3D actual = st.getPlane().toSpace(
+                        st.getTransform().apply(subPt));
+
+                EuclideanTestUtils.assertCoordinatesEqual(expected, actual, TEST_EPS);
+            });
+        });
+    }
+
     private void checkSubspaceTransform(final SubspaceTransform st,
                                         final Vector3D origin, final Vector3D u, final Vector3D v,
                                         final Vector3D tOrigin, final Vector3D tU, final Vector3D tV) {
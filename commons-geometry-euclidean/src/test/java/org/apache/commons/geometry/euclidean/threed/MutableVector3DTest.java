@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MutableVector3DTest {
+
+    private static final double EPS = 1e-15;
+
+    @Test
+    void testConstructionAndConversion() {
+        // act/assert
+        checkVector(new MutableVector3D(), 0, 0, 0);
+        checkVector(MutableVector3D.of(1, -2, 3), 1, -2, 3);
+        checkVector(MutableVector3D.from(Vector3D.of(-4, 5, -6)), -4, 5, -6);
+
+        Assertions.assertEquals(Vector3D.of(1, -2, 3), MutableVector3D.of(1, -2, 3).toVector());
+    }
+
+    @Test
+    void testSet() {
+        // arrange
+        final MutableVector3D v = new MutableVector3D();
+
+        // act/assert
+        Assertions.assertSame(v, v.set(1, 2, 3));
+        checkVector(v, 1, 2, 3);
+
+        Assertions.assertSame(v, v.set(Vector3D.of(4, 5, 6)));
+        checkVector(v, 4, 5, 6);
+
+        Assertions.assertSame(v, v.set(MutableVector3D.of(7, 8, 9)));
+        checkVector(v, 7, 8, 9);
+    }
+
+    @Test
+    void testArithmetic() {
+        // arrange
+        final MutableVector3D v = MutableVector3D.of(1, 2, 3);
+
+        // act/assert
+        checkVector(v.add(Vector3D.of(1, 1, 1)), 2, 3, 4);
+        checkVector(v.add(MutableVector3D.of(-1, -1, -1)), 1, 2, 3);
+        checkVector(v.add(2, Vector3D.of(1, 0, -1)), 3, 2, 1);
+        checkVector(v.add(-2, MutableVector3D.of(1, 0, -1)), 1, 2, 3);
+        checkVector(v.subtract(Vector3D.of(1, 1, 1)), 0, 1, 2);
+        checkVector(v.subtract(MutableVector3D.of(-1, -1, -1)), 1, 2, 3);
+        checkVector(v.multiply(2), 2, 4, 6);
+        checkVector(v.negate(), -2, -4, -6);
+    }
+
+    @Test
+    void testCross() {
+        // act/assert
+        checkVector(MutableVector3D.of(1, 0, 0).cross(Vector3D.Unit.PLUS_Y), 0, 0, 1);
+        checkVector(MutableVector3D.of(0, 1, 0).cross(MutableVector3D.of(1, 0, 0)), 0, 0, -1);
+
+        final MutableVector3D v = MutableVector3D.of(1, 2, 3);
+        checkVector(v.cross(v), 0, 0, 0);
+    }
+
+    @Test
+    void testDotAndNorm() {
+        // arrange
+        final MutableVector3D v = MutableVector3D.of(2, -3, 6);
+
+        // act/assert
+        Assertions.assertEquals(-1, v.dot(Vector3D.of(1, 1, 0)), EPS);
+        Assertions.assertEquals(49, v.dot(v), EPS);
+        Assertions.assertEquals(7, v.norm(), EPS);
+        Assertions.assertEquals(49, v.normSq(), EPS);
+    }
+
+    @Test
+    void testLerp() {
+        // arrange
+        final MutableVector3D v = MutableVector3D.of(1, 2, 3);
+
+        // act/assert
+        checkVector(v.lerp(Vector3D.of(3, 6, 9), 0.5), 2, 4, 6);
+        checkVector(v.lerp(Vector3D.ZERO, 0), 2, 4, 6);
+        checkVector(v.lerp(Vector3D.ZERO, 1), 0, 0, 0);
+    }
+
+    @Test
+    void testNormalize() {
+        // act/assert
+        checkVector(MutableVector3D.of(0, 0, -5).normalize(), 0, 0, -1);
+        checkVector(MutableVector3D.of(Double.MAX_VALUE, 0, 0).normalize(), 1, 0, 0);
+        checkVector(MutableVector3D.of(0, Double.MIN_VALUE, 0).normalize(), 0, 1, 0);
+    }
+
+    @Test
+    void testNormalize_illegalNorm() {
+        // arrange
+        final MutableVector3D v = MutableVector3D.of(0, 0, 0);
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(v::normalize,
+                IllegalArgumentException.class, "Illegal norm: 0.0");
+        checkVector(v, 0, 0, 0);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MutableVector3D.of(Double.NaN, 0, 0).normalize());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MutableVector3D.of(Double.POSITIVE_INFINITY, 0, 0).normalize());
+    }
+
+    @Test
+    void testResultsMatchVector3D() {
+        // arrange
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+
+        for (int i = 0; i < 100; ++i) {
+            final Vector3D a = randomVector(rnd);
+            final Vector3D b = randomVector(rnd);
+            final double t = rnd.nextDouble();
+
+            // act/assert
+            Assertions.assertEquals(a.add(b), MutableVector3D.from(a).add(b).toVector());
+            Assertions.assertEquals(a.add(t, b), MutableVector3D.from(a).add(t, b).toVector());
+            Assertions.assertEquals(a.subtract(b), MutableVector3D.from(a).subtract(b).toVector());
+            Assertions.assertEquals(a.multiply(t), MutableVector3D.from(a).multiply(t).toVector());
+            Assertions.assertEquals(a.cross(b), MutableVector3D.from(a).cross(b).toVector());
+            Assertions.assertEquals(a.lerp(b, t), MutableVector3D.from(a).lerp(b, t).toVector());
+            Assertions.assertEquals(a.normalize(), MutableVector3D.from(a).normalize().toVector());
+            Assertions.assertEquals(a.dot(b), MutableVector3D.from(a).dot(b));
+            Assertions.assertEquals(a.norm(), MutableVector3D.from(a).norm());
+            Assertions.assertEquals(a.normSq(), MutableVector3D.from(a).normSq());
+        }
+    }
+
+    @Test
+    void testToString() {
+        // arrange
+        final MutableVector3D v = MutableVector3D.of(1, 2, 3);
+
+        // act/assert
+        Assertions.assertEquals(Vector3D.of(1, 2, 3).toString(), v.toString());
+    }
+
+    private static Vector3D randomVector(final UniformRandomProvider rnd) {
+        return Vector3D.of(
+                (rnd.nextDouble() * 200) - 100,
+                (rnd.nextDouble() * 200) - 100,
+                (rnd.nextDouble() * 200) - 100);
+    }
+
+    private static void checkVector(final MutableVector3D v, final double x, final double y, final double z) {
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(x, y, z), v.toVector(), EPS);
+    }
+}
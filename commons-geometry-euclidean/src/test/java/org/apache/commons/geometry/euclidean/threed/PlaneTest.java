@@ -553,6 +553,41 @@ class PlaneTest {
         checkPlane(result, Vector3D.ZERO, Vector3D.Unit.PLUS_X);
     }
 
+    @Test
+    void testTransform_rigid() {
+        // arrange
+        final Vector3D pt = Vector3D.of(0, 0, 1);
+        final Plane plane = Planes.fromPointAndNormal(pt, Vector3D.Unit.PLUS_Z, TEST_PRECISION);
+
+        final RigidTransform3D rigid = RigidTransform3D.createRotation(pt,
+                QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Y, Angle.PI_OVER_TWO));
+
+        // act
+        final Plane result = plane.transform(rigid);
+
+        // assert
+        checkPlane(result, Vector3D.ZERO, Vector3D.Unit.PLUS_X);
+    }
+
+    @Test
+    void testTransform_rigid_matchesMatrix() {
+        // arrange
+        final Plane plane = Planes.fromPointAndNormal(Vector3D.of(1, 2, 3), Vector3D.of(-1, 1, 2), TEST_PRECISION);
+
+        EuclideanTestUtils.permuteSkipZero(-2, 2, 1, (x, y, z) -> {
+            final RigidTransform3D rigid = RigidTransform3D.of(
+                    QuaternionRotation.fromAxisAngle(Vector3D.of(y, z, x), x + (2 * y) + z),
+                    Vector3D.of(x, y, z));
+
+            // act
+            final Plane expected = plane.transform(rigid.toMatrix());
+            final Plane actual = plane.transform(rigid);
+
+            // assert
+            checkPlane(actual, expected.getOrigin(), expected.getNormal());
+        });
+    }
+
     @Test
     void testTransform_asymmetricScaling() {
         // arrange
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.euclidean.EuclideanCollections;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PointMap3DGridTest extends PointMap3DTest {
+
+    private static final double CELL_SIZE = 10 * EPS;
+
+    /** {@inheritDoc} */
+    @Override
+    protected <V> PointMap<Vector3D, V> getMap(final Precision.DoubleEquivalence precision) {
+        return EuclideanCollections.gridPointMap3D(precision, CELL_SIZE);
+    }
+
+    @Test
+    void testInvalidCellSize() {
+        // act/assert
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap3D(PRECISION, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap3D(PRECISION, EPS));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap3D(PRECISION, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap3D(PRECISION, Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap3D(PRECISION, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testCellBoundaries() {
+        // arrange
+        final PointMap<Vector3D, Integer> map = getMap(PRECISION);
+
+        final Vector3D corner = Vector3D.of(CELL_SIZE, -CELL_SIZE, 2 * CELL_SIZE);
+        final double offset = 0.25 * EPS;
+
+        // act
+        map.put(corner.add(Vector3D.of(offset, -offset, offset)), 1);
+
+        // assert
+        Assertions.assertEquals(1, map.get(corner.add(Vector3D.of(-offset, offset, -offset))));
+        Assertions.assertEquals(1, map.get(corner.add(Vector3D.of(-offset, -offset, offset))));
+        Assertions.assertNull(map.get(corner.add(Vector3D.of(-5 * offset, offset, -offset))));
+
+        Assertions.assertEquals(1, map.remove(corner.add(Vector3D.of(-offset, offset, -offset))));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testExtremeCoordinates() {
+        // arrange
+        final PointMap<Vector3D, Integer> map = EuclideanCollections.gridPointMap3D(PRECISION, 1);
+
+        final double limit = 0x1.0p52;
+        final List<Vector3D> pts = Arrays.asList(
+                Vector3D.of(-1e300, 0, 0),
+                Vector3D.of(-limit, 0, 0),
+                Vector3D.of(-limit - 4, 0, 0),
+                Vector3D.of(0, 0, 0),
+                Vector3D.of(limit, 0, 0),
+                Vector3D.of(limit + 4, 0, 0),
+                Vector3D.of(0, 1e300, 1e100),
+                Vector3D.of(0, 1e200, 1e100));
+
+        // act
+        for (int i = 0; i < pts.size(); ++i) {
+            map.put(pts.get(i), i);
+        }
+
+        // assert
+        Assertions.assertEquals(pts.size(), map.size());
+        for (int i = 0; i < pts.size(); ++i) {
+            Assertions.assertEquals(i, map.get(pts.get(i)));
+        }
+
+        Assertions.assertEquals(0, map.get(Vector3D.of(-1e300, 0, 0)));
+        Assertions.assertEquals(1, map.get(Vector3D.of(-limit + (0.5 * EPS), 0, 0)));
+        Assertions.assertEquals(4, map.get(Vector3D.of(limit, 0, 0)));
+
+        Assertions.assertEquals(pts.get(1), map.nearestEntry(Vector3D.of(-limit + 10, 0, 0)).getKey());
+        Assertions.assertEquals(pts.get(6), map.farthestEntry(Vector3D.ZERO).getKey());
+        Assertions.assertEquals(pts.get(6), map.farthestEntry(Vector3D.of(0, -1e300, 0)).getKey());
+        Assertions.assertEquals(pts.get(0), map.farthestEntry(Vector3D.of(1e300, 1e300, 0)).getKey());
+
+        for (final Vector3D refPt : pts) {
+            assertDistanceOrder(map, refPt);
+        }
+        assertDistanceOrder(map, Vector3D.of(-1e200, 1, 1));
+        assertDistanceOrder(map, Vector3D.of(1e200, 1e201, -1));
+    }
+
+    @Test
+    void testSparseEntries() {
+        // arrange
+        final PointMap<Vector3D, Integer> map = getMap(PRECISION);
+
+        final List<Vector3D> pts = Arrays.asList(
+                Vector3D.of(-1, -1, -1),
+                Vector3D.of(1, 1, 1),
+                Vector3D.of(1, 1, 1 + (2 * CELL_SIZE)),
+                Vector3D.of(1, -1, 1),
+                Vector3D.of(0, 0, 0));
+
+        // act
+        for (int i = 0; i < pts.size(); ++i) {
+            map.put(pts.get(i), i);
+        }
+
+        // assert
+        Assertions.assertEquals(pts.get(4), map.nearestEntry(Vector3D.of(0.1, 0.1, 0.1)).getKey());
+        Assertions.assertEquals(pts.get(1), map.nearestEntry(Vector3D.of(1, 1, 1 + (0.9 * CELL_SIZE))).getKey());
+        Assertions.assertEquals(pts.get(2), map.nearestEntry(Vector3D.of(1, 1, 1 + (1.1 * CELL_SIZE))).getKey());
+
+        assertDistanceOrder(map, Vector3D.ZERO);
+        assertDistanceOrder(map, Vector3D.of(1, 1, 1));
+        assertDistanceOrder(map, Vector3D.of(3, -3, 3));
+    }
+
+    @Test
+    void testEntrySetIterator_removeAllAndReuse() {
+        // arrange
+        final PointMap<Vector3D, Integer> map = getMap(PRECISION);
+        for (int i = 0; i < 100; ++i) {
+            map.put(Vector3D.of(i * 0.3 * CELL_SIZE, 0, 0), i);
+        }
+
+        // act
+        final Iterator<Map.Entry<Vector3D, Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            it.next();
+            if (it.hasNext()) {
+                it.remove();
+            }
+        }
+
+        // assert
+        Assertions.assertEquals(1, map.size());
+
+        final Map.Entry<Vector3D, Integer> remaining = map.entrySet().iterator().next();
+        Assertions.assertEquals(remaining, map.nearestEntry(Vector3D.ZERO));
+        Assertions.assertEquals(remaining, map.farthestEntry(Vector3D.ZERO));
+
+        map.remove(remaining.getKey());
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.nearestEntry(Vector3D.ZERO));
+
+        map.put(Vector3D.of(0.3 * CELL_SIZE, 0, 0), -1);
+        map.put(Vector3D.of(5, 0, 0), -2);
+        Assertions.assertEquals(-1, map.nearestEntry(Vector3D.ZERO).getValue());
+        Assertions.assertEquals(-2, map.farthestEntry(Vector3D.ZERO).getValue());
+    }
+
+    private static void assertDistanceOrder(final PointMap<Vector3D, Integer> map, final Vector3D refPt) {
+        final List<Vector3D> expected = new ArrayList<>(map.keySet());
+        expected.sort((a, b) -> {
+            final int cmp = Double.compare(a.distance(refPt), b.distance(refPt));
+            return cmp != 0 ?
+                    cmp :
+                    Vector3D.COORDINATE_ASCENDING_ORDER.compare(a, b);
+        });
+
+        final List<Vector3D> nearToFar = new ArrayList<>();
+        map.entriesNearToFar(refPt).forEach(e -> nearToFar.add(e.getKey()));
+        Assertions.assertEquals(expected, nearToFar);
+
+        final List<Vector3D> farToNear = new ArrayList<>();
+        map.entriesFarToNear(refPt).forEach(e -> farToNear.add(0, e.getKey()));
+        Assertions.assertEquals(expected, farToNear);
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.commons.geometry.euclidean.threed.line.Line3D;
 import org.apache.commons.geometry.euclidean.threed.line.LinecastPoint3D;
 import org.apache.commons.geometry.euclidean.threed.line.Lines3D;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
 import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
 import org.apache.commons.geometry.euclidean.twod.path.LinePath;
 import org.apache.commons.numbers.core.Precision;
@@ -1258,6 +1259,30 @@ class RegionBSPTree3DTest {
         );
     }
 
+    @Test
+    void testTransform_rigid() {
+        // arrange
+        final RegionBSPTree3D tree = createSphere(Vector3D.of(1, 2, 3), 1.0, 8, 16);
+        final RegionBSPTree3D matrixTree = tree.copy();
+
+        final RigidTransform3D rigid = RigidTransform3D.of(
+                QuaternionRotation.fromAxisAngle(Vector3D.of(1, -1, 2), 0.7),
+                Vector3D.of(-3, 1, 0.5));
+
+        // act
+        tree.transform(rigid);
+        matrixTree.transform(rigid.toMatrix());
+
+        // assert
+        Assertions.assertEquals(matrixTree.count(), tree.count());
+        Assertions.assertEquals(matrixTree.getSize(), tree.getSize(), TEST_EPS);
+        Assertions.assertEquals(matrixTree.getBoundarySize(), tree.getBoundarySize(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(rigid.apply(Vector3D.of(1, 2, 3)), tree.getCentroid(), TEST_EPS);
+
+        EuclideanTestUtils.assertRegionLocation(tree, RegionLocation.INSIDE, rigid.apply(Vector3D.of(1, 2, 3)));
+        EuclideanTestUtils.assertRegionLocation(tree, RegionLocation.OUTSIDE, rigid.apply(Vector3D.of(2.1, 2, 3)));
+    }
+
     @Test
     void testSphere() {
         // arrange
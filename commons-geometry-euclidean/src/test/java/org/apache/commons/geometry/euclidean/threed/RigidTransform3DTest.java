@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.numbers.angle.Angle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class RigidTransform3DTest {
+
+    private static final double EPS = 1e-12;
+
+    private static final QuaternionRotation ROTATION =
+            QuaternionRotation.fromAxisAngle(Vector3D.of(1, -2, 3), 0.75);
+
+    private static final Vector3D TRANSLATION = Vector3D.of(-1, 4, 2.5);
+
+    @Test
+    void testOf() {
+        // act
+        final RigidTransform3D t = RigidTransform3D.of(ROTATION, TRANSLATION);
+
+        // assert
+        Assertions.assertSame(ROTATION, t.getRotation());
+        Assertions.assertSame(TRANSLATION, t.getTranslation());
+        Assertions.assertTrue(t.preservesOrientation());
+    }
+
+    @Test
+    void testIdentity() {
+        // act
+        final RigidTransform3D t = RigidTransform3D.identity();
+
+        // assert
+        Assertions.assertSame(t, RigidTransform3D.identity());
+        EuclideanTestUtils.permute(-2, 2, 1, (x, y, z) -> {
+            final Vector3D v = Vector3D.of(x, y, z);
+            Assertions.assertEquals(v, t.apply(v));
+            Assertions.assertEquals(v, t.applyVector(v));
+        });
+    }
+
+    @Test
+    void testCreateTranslation() {
+        // act
+        final RigidTransform3D t = RigidTransform3D.createTranslation(TRANSLATION);
+
+        // assert
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 5, 5.5), t.apply(Vector3D.of(1, 1, 3)), EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 1, 3), t.applyVector(Vector3D.of(1, 1, 3)), EPS);
+    }
+
+    @Test
+    void testCreateRotation() {
+        // arrange
+        final Vector3D center = Vector3D.of(1, 2, 3);
+        final QuaternionRotation rot = QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, Angle.PI_OVER_TWO);
+
+        // act
+        final RigidTransform3D t = RigidTransform3D.createRotation(center, rot);
+
+        // assert
+        EuclideanTestUtils.assertCoordinatesEqual(center, t.apply(center), EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 3, 3), t.apply(Vector3D.of(2, 2, 3)), EPS);
+        assertTransformEquals(AffineTransformMatrix3D.createRotation(center, rot), t);
+    }
+
+    @Test
+    void testApply_matchesMatrix() {
+        // arrange
+        final RigidTransform3D t = RigidTransform3D.of(ROTATION, TRANSLATION);
+        final AffineTransformMatrix3D m = AffineTransformMatrix3D.createTranslation(TRANSLATION)
+                .multiply(ROTATION.toMatrix());
+
+        // act/assert
+        assertTransformEquals(m, t);
+        Assertions.assertArrayEquals(m.toArray(), t.toMatrix().toArray(), EPS);
+    }
+
+    @Test
+    void testApplyUnit() {
+        // arrange
+        final RigidTransform3D t = RigidTransform3D.of(ROTATION, TRANSLATION);
+
+        // act/assert
+        EuclideanTestUtils.permuteSkipZero(-2, 2, 1, (x, y, z) -> {
+            final Vector3D.Unit u = Vector3D.of(x, y, z).normalize();
+            final Vector3D.Unit result = t.applyUnit(u);
+
+            EuclideanTestUtils.assertCoordinatesEqual(ROTATION.apply(u), result, EPS);
+            Assertions.assertEquals(1.0, result.norm(), EPS);
+        });
+    }
+
+    @Test
+    void testInverse() {
+        // arrange
+        final RigidTransform3D t = RigidTransform3D.of(ROTATION, TRANSLATION);
+
+        // act
+        final RigidTransform3D inv = t.inverse();
+
+        // assert
+        Assertions.assertEquals(ROTATION.inverse(), inv.getRotation());
+        assertTransformEquals(t.toMatrix().inverse(), inv);
+
+        EuclideanTestUtils.permute(-2, 2, 1, (x, y, z) -> {
+            final Vector3D v = Vector3D.of(x, y, z);
+            EuclideanTestUtils.assertCoordinatesEqual(v, inv.apply(t.apply(v)), EPS);
+        });
+    }
+
+    @Test
+    void testMultiply() {
+        // arrange
+        final RigidTransform3D a = RigidTransform3D.of(ROTATION, TRANSLATION);
+        final RigidTransform3D b = RigidTransform3D.createRotation(Vector3D.of(3, 2, 1),
+                QuaternionRotation.fromAxisAngle(Vector3D.Unit.MINUS_Y, 2.0));
+
+        // act
+        final RigidTransform3D ab = a.multiply(b);
+        final RigidTransform3D ba = a.premultiply(b);
+
+        // assert
+        assertTransformEquals(a.toMatrix().multiply(b.toMatrix()), ab);
+        assertTransformEquals(a.toMatrix().premultiply(b.toMatrix()), ba);
+    }
+
+    @Test
+    void testHashCodeAndEquals() {
+        // arrange
+        final RigidTransform3D a = RigidTransform3D.of(ROTATION, TRANSLATION);
+        final RigidTransform3D b = RigidTransform3D.of(ROTATION, Vector3D.ZERO);
+        final RigidTransform3D c = RigidTransform3D.of(QuaternionRotation.identity(), TRANSLATION);
+        final RigidTransform3D d = RigidTransform3D.of(ROTATION, TRANSLATION);
+
+        // act/assert
+        GeometryTestUtils.assertSimpleEqualsCases(a);
+
+        Assertions.assertNotEquals(a, b);
+        Assertions.assertNotEquals(a, c);
+
+        Assertions.assertEquals(a, d);
+        Assertions.assertEquals(a.hashCode(), d.hashCode());
+    }
+
+    @Test
+    void testToString() {
+        // arrange
+        final RigidTransform3D t = RigidTransform3D.createTranslation(Vector3D.of(1, 2, 3));
+
+        // act
+        final String str = t.toString();
+
+        // assert
+        GeometryTestUtils.assertContains("RigidTransform3D[rotation= ", str);
+        GeometryTestUtils.assertContains(", translation= (1.0, 2.0, 3.0)]", str);
+    }
+
+    private static void assertTransformEquals(final AffineTransformMatrix3D expected, final RigidTransform3D actual) {
+        EuclideanTestUtils.permute(-2, 2, 1, (x, y, z) -> {
+            final Vector3D v = Vector3D.of(x, y, z);
+            EuclideanTestUtils.assertCoordinatesEqual(expected.apply(v), actual.apply(v), EPS);
+            EuclideanTestUtils.assertCoordinatesEqual(expected.applyVector(v), actual.applyVector(v), EPS);
+        });
+    }
+}
@@ -20,6 +20,8 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.geometry.core.GeometryTestUtils;
 import org.apache.commons.numbers.angle.Angle;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -199,6 +201,155 @@ class SphericalCoordinatesTest {
         checkVector(SphericalCoordinates.toCartesian(Math.sqrt(3), MINUS_THREE_QUARTER_PI, Math.acos(-1 / sqrt3)), -1, -1, -1);
     }
 
+    @Test
+    void testFromCartesian_packedArray() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] dst = new double[src.length];
+
+        // act
+        SphericalCoordinates.fromCartesian(src, dst);
+
+        // assert
+        for (int i = 0; i < src.length; i += 3) {
+            final SphericalCoordinates expected = SphericalCoordinates.fromCartesian(src[i], src[i + 1], src[i + 2]);
+
+            Assertions.assertEquals(expected.getRadius(), dst[i]);
+            Assertions.assertEquals(expected.getAzimuth(), dst[i + 1]);
+            Assertions.assertEquals(expected.getPolar(), dst[i + 2]);
+        }
+    }
+
+    @Test
+    void testFromCartesian_packedArray_inPlace() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] expected = new double[src.length];
+        SphericalCoordinates.fromCartesian(src, expected);
+
+        // act
+        SphericalCoordinates.fromCartesian(src, src);
+
+        // assert
+        Assertions.assertArrayEquals(expected, src);
+    }
+
+    @Test
+    void testFromCartesian_packedArrayRange() {
+        // arrange
+        final double[] src = {9, 0, 0, 1, 1, 1, 9};
+        final double[] dst = {7, 7, 7, 7, 7, 7};
+
+        // act
+        SphericalCoordinates.fromCartesian(src, 3, dst, 2, 1);
+        SphericalCoordinates.fromCartesian(src, 0, dst, 0, 0);
+
+        // assert
+        final double sqrt3 = Math.sqrt(3);
+        Assertions.assertArrayEquals(new double[] {7, 7, sqrt3, QUARTER_PI, Math.acos(1 / sqrt3), 7}, dst, EPS);
+    }
+
+    @Test
+    void testFromCartesianApproximate_packedArray() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] dst = new double[src.length];
+        SphericalCoordinates.fromCartesian(src, dst);
+
+        final double[] approx = new double[src.length];
+        final double err = 1e-7;
+
+        // act
+        SphericalCoordinates.fromCartesianApproximate(src, approx);
+
+        // assert
+        for (int i = 0; i < src.length; i += 3) {
+            Assertions.assertEquals(dst[i], approx[i]);
+            assertAngleEquals(dst[i + 1], approx[i + 1], err);
+            assertAngleEquals(dst[i + 2], approx[i + 2], err);
+        }
+    }
+
+    @Test
+    void testFromCartesianApproximate_packedArray_inPlace() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] expected = new double[src.length];
+        SphericalCoordinates.fromCartesianApproximate(src, expected);
+
+        // act
+        SphericalCoordinates.fromCartesianApproximate(src, src);
+
+        // assert
+        Assertions.assertArrayEquals(expected, src);
+    }
+
+    @Test
+    void testToCartesian_packedArray() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] dst = new double[src.length];
+
+        // act
+        SphericalCoordinates.toCartesian(src, dst);
+
+        // assert
+        for (int i = 0; i < src.length; i += 3) {
+            final Vector3D expected = SphericalCoordinates.toCartesian(src[i], src[i + 1], src[i + 2]);
+
+            Assertions.assertEquals(expected.getX(), dst[i]);
+            Assertions.assertEquals(expected.getY(), dst[i + 1]);
+            Assertions.assertEquals(expected.getZ(), dst[i + 2]);
+        }
+    }
+
+    @Test
+    void testToCartesian_packedArray_inPlace() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] expected = new double[src.length];
+        SphericalCoordinates.toCartesian(src, expected);
+
+        // act
+        SphericalCoordinates.toCartesian(src, src);
+
+        // assert
+        Assertions.assertArrayEquals(expected, src);
+    }
+
+    @Test
+    void testToCartesian_packedArrayRange() {
+        // arrange
+        final double[] src = {9, 2, 0, Math.PI, 9};
+        final double[] dst = {7, 7, 7, 7};
+
+        // act
+        SphericalCoordinates.toCartesian(src, 1, dst, 1, 1);
+        SphericalCoordinates.toCartesian(src, 0, dst, 0, 0);
+
+        // assert
+        Assertions.assertArrayEquals(new double[] {7, 0, 0, -2}, dst, EPS);
+    }
+
+    @Test
+    void testPackedArrayConversions_invalidArgs() {
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> SphericalCoordinates.fromCartesian(new double[3], new double[6]),
+                IllegalArgumentException.class, "Array length mismatch: 6 != 3");
+        GeometryTestUtils.assertThrowsWithMessage(() -> SphericalCoordinates.toCartesian(new double[4], new double[4]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> SphericalCoordinates.fromCartesianApproximate(new double[3], new double[6]),
+                IllegalArgumentException.class, "Array length mismatch: 6 != 3");
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> SphericalCoordinates.fromCartesian(new double[3], 0, new double[3], 0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> SphericalCoordinates.fromCartesian(new double[3], 1, new double[3], 0, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> SphericalCoordinates.toCartesian(new double[3], 0, new double[3], 1, 1));
+    }
+
     @Test
     void testGetDimension() {
         // arrange
@@ -414,6 +565,38 @@ class SphericalCoordinatesTest {
         Assertions.assertEquals(Double.POSITIVE_INFINITY, SphericalCoordinates.normalizePolar(Double.POSITIVE_INFINITY), EPS);
     }
 
+    private static void assertAngleEquals(final double expected, final double actual, final double eps) {
+        if (Double.isNaN(expected)) {
+            Assertions.assertEquals(expected, actual);
+        } else {
+            final double diff = Math.abs(expected - actual);
+            Assertions.assertTrue(Math.min(diff, Angle.TWO_PI - diff) <= eps,
+                () -> "Expected angle " + expected + " but was " + actual);
+        }
+    }
+
+    private static double[] createTestArray() {
+        final double[] special = {
+            0, -0.0, 1, -1, 1e-300, 1e300, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        final int randomCount = 10_000;
+
+        final double[] result = new double[(3 * special.length) + (3 * randomCount)];
+        int idx = 0;
+        for (final double value : special) {
+            result[idx++] = value;
+            result[idx++] = 1 - value;
+            result[idx++] = -value;
+        }
+
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+        while (idx < result.length) {
+            result[idx++] = (20 * rnd.nextDouble()) - 10;
+        }
+
+        return result;
+    }
+
     private void checkSpherical(final SphericalCoordinates c, final double radius, final double azimuth, final double polar) {
         Assertions.assertEquals(radius, c.getRadius(), EPS);
         Assertions.assertEquals(azimuth, c.getAzimuth(), EPS);
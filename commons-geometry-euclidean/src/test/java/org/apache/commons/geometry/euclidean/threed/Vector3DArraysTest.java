@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class Vector3DArraysTest {
+
+    private static final double U = 0x1.0p-53;
+
+    private static final int COUNT = 1000;
+
+    @Test
+    void testDot() {
+        // arrange
+        final double[][] a = randomCoordinates(1L);
+        final double[][] b = randomCoordinates(2L);
+        final double[] result = new double[COUNT];
+
+        // act
+        Vector3DArrays.dot(a[0], a[1], a[2], b[0], b[1], b[2], result);
+
+        // assert
+        for (int i = 0; i < COUNT; ++i) {
+            final Vector3D va = Vector3D.of(a[0][i], a[1][i], a[2][i]);
+            final Vector3D vb = Vector3D.of(b[0][i], b[1][i], b[2][i]);
+
+            final double bound = 3 * U * (Math.abs(va.getX() * vb.getX()) + Math.abs(va.getY() * vb.getY()) +
+                    Math.abs(va.getZ() * vb.getZ()));
+            Assertions.assertEquals(va.dot(vb), result[i], bound + Math.ulp(result[i]));
+        }
+    }
+
+    @Test
+    void testNorm() {
+        // arrange
+        final double[][] a = randomCoordinates(3L);
+        final double[] result = new double[COUNT];
+
+        // act
+        Vector3DArrays.norm(a[0], a[1], a[2], result);
+
+        // assert
+        for (int i = 0; i < COUNT; ++i) {
+            final double expected = Vector3D.of(a[0][i], a[1][i], a[2][i]).norm();
+            Assertions.assertEquals(expected, result[i], 3 * U * expected + Math.ulp(expected));
+        }
+    }
+
+    @Test
+    void testNormalize() {
+        // arrange
+        final double[][] a = randomCoordinates(4L);
+        final double[][] orig = {a[0].clone(), a[1].clone(), a[2].clone()};
+
+        // act
+        Vector3DArrays.normalize(a[0], a[1], a[2]);
+
+        // assert
+        for (int i = 0; i < COUNT; ++i) {
+            final Vector3D expected = Vector3D.of(orig[0][i], orig[1][i], orig[2][i]).normalize();
+
+            Assertions.assertEquals(expected, Vector3D.of(a[0][i], a[1][i], a[2][i]));
+        }
+    }
+
+    @Test
+    void testNormalize_extremeMagnitudes() {
+        // arrange
+        final double[] xs = {1e300, 3e-320, 0};
+        final double[] ys = {1e300, 0, -2e-200};
+        final double[] zs = {0, 4e-320, 0};
+
+        // act
+        Vector3DArrays.normalize(xs, ys, zs);
+
+        // assert
+        Assertions.assertEquals(Vector3D.of(1e300, 1e300, 0).normalize(), Vector3D.of(xs[0], ys[0], zs[0]));
+        Assertions.assertEquals(Vector3D.of(3e-320, 0, 4e-320).normalize(), Vector3D.of(xs[1], ys[1], zs[1]));
+        Assertions.assertEquals(Vector3D.of(0, -1, 0), Vector3D.of(xs[2], ys[2], zs[2]));
+    }
+
+    @Test
+    void testNormalize_illegalNorm() {
+        // arrange
+        final double[] xs = {1, 0, 1};
+        final double[] ys = {1, 0, Double.NaN};
+        final double[] zs = {0, 0, 1};
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3DArrays.normalize(xs, ys, zs),
+                IllegalArgumentException.class, "Illegal norm: 0.0");
+        GeometryTestUtils.assertThrowsWithMessage(
+                () -> Vector3DArrays.normalize(new double[] {Double.POSITIVE_INFINITY}, new double[1], new double[1]),
+                IllegalArgumentException.class, "Illegal norm: Infinity");
+        GeometryTestUtils.assertThrowsWithMessage(
+                () -> Vector3DArrays.normalize(new double[] {1}, new double[] {Double.NaN}, new double[1]),
+                IllegalArgumentException.class, "Illegal norm: NaN");
+    }
+
+    @Test
+    void testTransform() {
+        // arrange
+        final double[][] a = randomCoordinates(5L);
+        final double[][] orig = {a[0].clone(), a[1].clone(), a[2].clone()};
+
+        final AffineTransformMatrix3D transform = AffineTransformMatrix3D.createScale(2, -3, 0.5)
+                .rotate(QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 0.6))
+                .translate(10, -20, 30);
+        final double[] m = transform.toArray();
+
+        // act
+        Vector3DArrays.transform(transform, a[0], a[1], a[2]);
+
+        // assert
+        for (int i = 0; i < COUNT; ++i) {
+            final double x = orig[0][i];
+            final double y = orig[1][i];
+            final double z = orig[2][i];
+            final Vector3D expected = transform.apply(Vector3D.of(x, y, z));
+
+            for (int row = 0; row < 3; ++row) {
+                final int r = row * 4;
+                final double bound = 4 * U * (Math.abs(m[r] * x) + Math.abs(m[r + 1] * y) +
+                        Math.abs(m[r + 2] * z) + Math.abs(m[r + 3]));
+                final double exp = row == 0 ?
+                        expected.getX() :
+                        (row == 1 ? expected.getY() : expected.getZ());
+
+                Assertions.assertEquals(exp, a[row][i], bound + Math.ulp(exp));
+            }
+        }
+    }
+
+    @Test
+    void testEmptyArrays() {
+        // arrange
+        final double[] empty = {};
+
+        // act/assert
+        Vector3DArrays.dot(empty, empty, empty, empty, empty, empty, empty);
+        Vector3DArrays.norm(empty, empty, empty, empty);
+        Vector3DArrays.normalize(empty, empty, empty);
+        Vector3DArrays.transform(AffineTransformMatrix3D.identity(), empty, empty, empty);
+
+        Assertions.assertEquals(0, empty.length);
+    }
+
+    @Test
+    void testLengthMismatch() {
+        // arrange
+        final double[] a = new double[2];
+        final double[] b = new double[3];
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3DArrays.dot(a, a, a, a, a, b, a),
+                IllegalArgumentException.class, "Array length mismatch: 3 != 2");
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3DArrays.dot(a, a, b, a, a, a, a),
+                IllegalArgumentException.class, "Array length mismatch: 3 != 2");
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3DArrays.norm(a, a, a, b),
+                IllegalArgumentException.class, "Array length mismatch: 2 != 3");
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3DArrays.normalize(a, b, a),
+                IllegalArgumentException.class, "Array length mismatch: 3 != 2");
+        GeometryTestUtils.assertThrowsWithMessage(
+                () -> Vector3DArrays.transform(AffineTransformMatrix3D.identity(), a, a, b),
+                IllegalArgumentException.class, "Array length mismatch: 3 != 2");
+    }
+
+    private static double[][] randomCoordinates(final long seed) {
+        final UniformRandomProvider rand = RandomSource.XO_RO_SHI_RO_128_PP.create(seed);
+        final double[][] coords = new double[3][COUNT];
+        for (int i = 0; i < COUNT; ++i) {
+            for (int d = 0; d < 3; ++d) {
+                coords[d][i] = (rand.nextDouble() - 0.5) * Math.pow(10, rand.nextInt(13) - 6);
+            }
+        }
+        return coords;
+    }
+}
@@ -22,7 +22,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.geometry.core.GeometryTestUtils;
 import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
@@ -40,6 +44,9 @@ class Vector3DTest {
 
     private static final double EPS = 1e-15;
 
+    /** Values whose naive left-to-right sum is zero but whose exact sum is one. */
+    private static final double[] CANCELLING_VALUES = {1e100, 1, -1e100};
+
     @Test
     void testConstants() {
         // act/assert
@@ -1400,6 +1407,104 @@ class Vector3DTest {
         checkVector(s.get(), 5, -3, 6);
     }
 
+    @Test
+    void testSum_mutableVectors() {
+        // arrange
+        final MutableVector3D p1 = MutableVector3D.of(1, 2, -3);
+        final MutableVector3D p2 = MutableVector3D.of(3, -6, 8);
+
+        // act
+        final Vector3D.Sum s = Vector3D.Sum.create()
+                .add(p1)
+                .addScaled(0.5, p2);
+
+        // assert
+        checkVector(s.get(), 2.5, -1, 1);
+    }
+
+    @Test
+    void testSum_combine() {
+        // arrange
+        final Vector3D p1 = Vector3D.of(1, 2, -3);
+        final Vector3D p2 = Vector3D.of(3, -6, 8);
+
+        final Vector3D.Sum a = Vector3D.Sum.of(p1);
+        final Vector3D.Sum b = Vector3D.Sum.of(p2);
+
+        // act
+        final Vector3D.Sum result = a.combine(b);
+
+        // assert
+        Assertions.assertSame(a, result);
+        checkVector(a.get(), 4, -4, 5);
+        checkVector(b.get(), 3, -6, 8);
+    }
+
+    @Test
+    void testSum_collector() {
+        // arrange
+        final List<Vector3D> vecs = IntStream.range(0, 9_999)
+                .mapToObj(i -> {
+                    final double v = CANCELLING_VALUES[i % CANCELLING_VALUES.length];
+                    return Vector3D.of(v, -v, v);
+                })
+                .collect(Collectors.toList());
+
+        // act/assert
+        checkVector(vecs.stream().collect(Vector3D.Sum.collector()), 3333, -3333, 3333);
+        checkVector(vecs.parallelStream().collect(Vector3D.Sum.collector()), 3333, -3333, 3333);
+        checkVector(Stream.<Vector3D>empty().collect(Vector3D.Sum.collector()), 0, 0, 0);
+    }
+
+    @Test
+    void testSumOf() {
+        // act/assert
+        checkVector(Vector3D.sumOf(new double[0]), 0, 0, 0);
+        checkVector(Vector3D.sumOf(new double[] {1, 2, -3, 3, -6, 8}), 4, -4, 5);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3D.sumOf(new double[4]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+    }
+
+    @Test
+    void testSumOf_largeArray() throws Exception {
+        // arrange
+        final int count = 99_999;
+        final double[] coords = new double[count * 3];
+        for (int i = 0; i < count; ++i) {
+            final double v = CANCELLING_VALUES[i % CANCELLING_VALUES.length];
+            for (int d = 0; d < 3; ++d) {
+                coords[(i * 3) + d] = d % 2 == 0 ? v : -v;
+            }
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            // act
+            final Vector3D parallel = Vector3D.sumOf(coords);
+            final Vector3D singleThread = pool.submit(() -> Vector3D.sumOf(coords)).get();
+
+            // assert
+            checkVector(parallel, 33_333, -33_333, 33_333);
+            Assertions.assertEquals(parallel, singleThread);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCentroidOf() {
+        // act/assert
+        checkVector(Vector3D.centroidOf(new double[] {1, 2, -3, 3, -6, 8}), 2, -2, 2.5);
+        Assertions.assertEquals(Vector3D.centroid(Vector3D.of(1, 2, -3), Vector3D.of(3, -6, 8)),
+                Vector3D.centroidOf(new double[] {1, 2, -3, 3, -6, 8}));
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3D.centroidOf(new double[0]),
+                IllegalArgumentException.class, "Cannot compute centroid: no points given");
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector3D.centroidOf(new double[4]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+    }
+
     @Test
     void testUnitFactoryOptimization() {
         // An already normalized vector will avoid unnecessary creation.
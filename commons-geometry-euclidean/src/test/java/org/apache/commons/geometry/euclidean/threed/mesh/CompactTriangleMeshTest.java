@@ -0,0 +1,772 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.geometry.euclidean.threed.Bounds3D;
+import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
+import org.apache.commons.geometry.euclidean.threed.Planes;
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.Triangle3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.angle.Angle;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CompactTriangleMeshTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    private static final double[] SQUARE_COORDS = {
+        0, 0, 0,
+        1, 1, 0,
+        1, 1, 1,
+        0, 0, 1
+    };
+
+    private static final int[] SQUARE_FACES = {0, 1, 2, 0, 2, 3};
+
+    @Test
+    void testFrom_packedArrays() {
+        // arrange
+        final double[] coords = SQUARE_COORDS.clone();
+        final int[] faces = SQUARE_FACES.clone();
+
+        // act
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(coords, faces, TEST_PRECISION);
+
+        // assert
+        Assertions.assertFalse(mesh.isFloatStorage());
+        Assertions.assertEquals(4, mesh.getVertexCount());
+        Assertions.assertEquals(Arrays.asList(
+                Vector3D.ZERO, Vector3D.of(1, 1, 0), Vector3D.of(1, 1, 1), Vector3D.of(0, 0, 1)),
+                mesh.getVertices());
+        Assertions.assertEquals(Vector3D.of(1, 1, 1), mesh.getVertex(2));
+
+        Assertions.assertEquals(2, mesh.getFaceCount());
+
+        final List<TriangleMesh.Face> meshFaces = mesh.getFaces();
+        Assertions.assertEquals(2, meshFaces.size());
+
+        final TriangleMesh.Face f1 = meshFaces.get(0);
+        Assertions.assertEquals(0, f1.getIndex());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2}, f1.getVertexIndices());
+        Assertions.assertEquals(Vector3D.ZERO, f1.getPoint1());
+        Assertions.assertEquals(Vector3D.of(1, 1, 0), f1.getPoint2());
+        Assertions.assertEquals(Vector3D.of(1, 1, 1), f1.getPoint3());
+        Assertions.assertEquals(Arrays.asList(Vector3D.ZERO, Vector3D.of(1, 1, 0), Vector3D.of(1, 1, 1)),
+                f1.getVertices());
+        Assertions.assertTrue(f1.definesPolygon());
+
+        final Triangle3D t1 = f1.getPolygon();
+        Assertions.assertEquals(f1.getVertices(), t1.getVertices());
+
+        final TriangleMesh.Face f2 = meshFaces.get(1);
+        Assertions.assertEquals(1, f2.getIndex());
+        Assertions.assertArrayEquals(new int[] {0, 2, 3}, f2.getVertexIndices());
+        Assertions.assertEquals(Arrays.asList(Vector3D.ZERO, Vector3D.of(1, 1, 1), Vector3D.of(0, 0, 1)),
+                f2.getVertices());
+
+        final Bounds3D bounds = mesh.getBounds();
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.ZERO, bounds.getMin(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 1, 1), bounds.getMax(), TEST_EPS);
+
+        Assertions.assertSame(TEST_PRECISION, mesh.getPrecision());
+
+        Assertions.assertArrayEquals(SQUARE_COORDS, mesh.getVertexCoordinates());
+        Assertions.assertArrayEquals(SQUARE_FACES, mesh.getFaceIndices());
+
+        // check that the input arrays were copied
+        coords[0] = -1;
+        faces[0] = 3;
+        Assertions.assertEquals(Vector3D.ZERO, mesh.getVertex(0));
+        Assertions.assertArrayEquals(new int[] {0, 1, 2}, mesh.getFace(0).getVertexIndices());
+
+        // check that the output arrays are copies
+        mesh.getVertexCoordinates()[0] = -1;
+        mesh.getFaceIndices()[0] = 3;
+        Assertions.assertArrayEquals(SQUARE_COORDS, mesh.getVertexCoordinates());
+        Assertions.assertArrayEquals(SQUARE_FACES, mesh.getFaceIndices());
+    }
+
+    @Test
+    void testFrom_packedFloatArrays() {
+        // arrange
+        final float[] coords = {
+            0.1f, 0.2f, 0.3f,
+            1.1f, 0.2f, 0.3f,
+            0.1f, 1.2f, 0.3f
+        };
+        final int[] faces = {0, 1, 2};
+
+        // act
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(coords, faces, TEST_PRECISION);
+
+        // assert
+        Assertions.assertTrue(mesh.isFloatStorage());
+        Assertions.assertEquals(3, mesh.getVertexCount());
+        Assertions.assertEquals(1, mesh.getFaceCount());
+
+        Assertions.assertEquals(Vector3D.of(0.1f, 0.2f, 0.3f), mesh.getVertex(0));
+        Assertions.assertEquals(Vector3D.of(1.1f, 0.2f, 0.3f), mesh.getFace(0).getPoint2());
+        Assertions.assertEquals(Vector3D.of(0.1f, 1.2f, 0.3f), mesh.getVertices().get(2));
+
+        final double[] expectedCoords = new double[coords.length];
+        for (int i = 0; i < coords.length; ++i) {
+            expectedCoords[i] = coords[i];
+        }
+        Assertions.assertArrayEquals(expectedCoords, mesh.getVertexCoordinates());
+
+        final Bounds3D bounds = mesh.getBounds();
+        Assertions.assertEquals(Vector3D.of(0.1f, 0.2f, 0.3f), bounds.getMin());
+        Assertions.assertEquals(Vector3D.of(1.1f, 1.2f, 0.3f), bounds.getMax());
+    }
+
+    @Test
+    void testFrom_packedArrays_empty() {
+        // act
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(new double[0], new int[0], TEST_PRECISION);
+        final CompactTriangleMesh floatMesh = CompactTriangleMesh.from(new float[0], new int[0], TEST_PRECISION);
+
+        // assert
+        for (final CompactTriangleMesh m : Arrays.asList(mesh, floatMesh)) {
+            Assertions.assertEquals(0, m.getVertexCount());
+            Assertions.assertEquals(0, m.getVertices().size());
+
+            Assertions.assertEquals(0, m.getFaceCount());
+            Assertions.assertEquals(0, m.getFaces().size());
+
+            Assertions.assertNull(m.getBounds());
+
+            Assertions.assertTrue(m.toTree().isEmpty());
+        }
+    }
+
+    @Test
+    void testFrom_packedArrays_invalidArgs() {
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> CompactTriangleMesh.from(new double[4], new int[0], TEST_PRECISION),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> CompactTriangleMesh.from(new float[5], new int[0], TEST_PRECISION),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 5");
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1}, TEST_PRECISION),
+                IllegalArgumentException.class, "Packed face index array length must be a multiple of 3; was 2");
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1, 4}, TEST_PRECISION),
+                IllegalArgumentException.class, "Invalid vertex index: 4");
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> CompactTriangleMesh.from(new float[3], new int[] {0, -1, 0}, TEST_PRECISION),
+                IllegalArgumentException.class, "Invalid vertex index: -1");
+    }
+
+    @Test
+    void testFrom_boundarySource() {
+        // arrange
+        final BoundarySource3D src = Parallelepiped.axisAligned(Vector3D.ZERO, Vector3D.of(1, 1, 1), TEST_PRECISION);
+
+        // act
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(src, TEST_PRECISION);
+
+        // assert
+        Assertions.assertEquals(8, mesh.getVertexCount());
+
+        final List<Vector3D> vertices = mesh.getVertices();
+        Assertions.assertEquals(8, vertices.size());
+        for (int i = 0; i < 8; ++i) {
+            Assertions.assertTrue(vertices.contains(Vector3D.of(i & 1, (i >> 1) & 1, (i >> 2) & 1)));
+        }
+
+        Assertions.assertEquals(12, mesh.getFaceCount());
+
+        final RegionBSPTree3D tree = mesh.toTree();
+
+        Assertions.assertEquals(1, tree.getSize(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0.5, 0.5, 0.5), tree.getCentroid(), TEST_EPS);
+
+        Assertions.assertSame(TEST_PRECISION, mesh.getPrecision());
+    }
+
+    @Test
+    void testFrom_boundarySource_matchesSimpleTriangleMesh() {
+        // arrange
+        final BoundarySource3D src = Sphere.from(Vector3D.of(1, 2, 3), 2, TEST_PRECISION).toTree(2);
+
+        // act
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(src, TEST_PRECISION);
+
+        // assert
+        final SimpleTriangleMesh expected = SimpleTriangleMesh.from(src, TEST_PRECISION);
+
+        Assertions.assertEquals(expected.getVertices(), mesh.getVertices());
+        Assertions.assertEquals(expected.getFaceCount(), mesh.getFaceCount());
+        for (int i = 0; i < expected.getFaceCount(); ++i) {
+            Assertions.assertArrayEquals(expected.getFace(i).getVertexIndices(), mesh.getFace(i).getVertexIndices());
+        }
+        Assertions.assertEquals(expected.getBounds(), mesh.getBounds());
+    }
+
+    @Test
+    void testFrom_boundarySource_empty() {
+        // act
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(BoundarySource3D.of(Collections.emptyList()),
+                TEST_PRECISION);
+
+        // assert
+        Assertions.assertEquals(0, mesh.getVertexCount());
+        Assertions.assertEquals(0, mesh.getFaceCount());
+        Assertions.assertNull(mesh.getBounds());
+    }
+
+    @Test
+    void testVertices_iterable() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, SQUARE_FACES, TEST_PRECISION);
+
+        // act
+        final List<Vector3D> result = new ArrayList<>();
+        mesh.vertices().forEach(result::add);
+
+        // assert
+        Assertions.assertEquals(mesh.getVertices(), result);
+        Assertions.assertEquals(4, result.size());
+    }
+
+    @Test
+    void testVertices_unmodifiable() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, SQUARE_FACES, TEST_PRECISION);
+        final List<Vector3D> vertices = mesh.getVertices();
+
+        // act/assert
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> vertices.add(Vector3D.ZERO));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> vertices.set(0, Vector3D.ZERO));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> vertices.remove(0));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, SQUARE_FACES, TEST_PRECISION);
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> mesh.getVertex(4),
+                IndexOutOfBoundsException.class, "Index 4 out of bounds for length 4");
+        GeometryTestUtils.assertThrowsWithMessage(() -> mesh.getVertex(-1),
+                IndexOutOfBoundsException.class, "Index -1 out of bounds for length 4");
+        GeometryTestUtils.assertThrowsWithMessage(() -> mesh.getVertices().get(5),
+                IndexOutOfBoundsException.class, "Index 5 out of bounds for length 4");
+        GeometryTestUtils.assertThrowsWithMessage(() -> mesh.getFace(2),
+                IndexOutOfBoundsException.class, "Index 2 out of bounds for length 2");
+        GeometryTestUtils.assertThrowsWithMessage(() -> mesh.getFace(-1),
+                IndexOutOfBoundsException.class, "Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void testFaces_iterable() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, SQUARE_FACES, TEST_PRECISION);
+
+        // act
+        final List<TriangleMesh.Face> result = new ArrayList<>();
+        mesh.faces().forEach(result::add);
+
+        // assert
+        Assertions.assertEquals(2, result.size());
+
+        Assertions.assertEquals(0, result.get(0).getIndex());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2}, result.get(0).getVertexIndices());
+
+        Assertions.assertEquals(1, result.get(1).getIndex());
+        Assertions.assertArrayEquals(new int[] {0, 2, 3}, result.get(1).getVertexIndices());
+    }
+
+    @Test
+    void testFaces_iterator() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(new double[9], new int[] {0, 1, 2},
+                TEST_PRECISION);
+
+        // act/assert
+        final Iterator<TriangleMesh.Face> it = mesh.faces().iterator();
+
+        Assertions.assertTrue(it.hasNext());
+        Assertions.assertEquals(0, it.next().getIndex());
+        Assertions.assertFalse(it.hasNext());
+
+        Assertions.assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void testTriangleAndBoundaryStreams() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, SQUARE_FACES, TEST_PRECISION);
+
+        // act
+        final List<Triangle3D> tris = mesh.triangleStream().collect(Collectors.toList());
+        final List<PlaneConvexSubset> boundaries = mesh.boundaryStream().collect(Collectors.toList());
+
+        // assert
+        Assertions.assertEquals(2, tris.size());
+        Assertions.assertEquals(mesh.getFace(0).getVertices(), tris.get(0).getVertices());
+        Assertions.assertEquals(mesh.getFace(1).getVertices(), tris.get(1).getVertices());
+
+        Assertions.assertEquals(2, boundaries.size());
+        Assertions.assertEquals(mesh.getFace(1).getVertices(), boundaries.get(1).getVertices());
+    }
+
+    @Test
+    void testToTriangleMesh() {
+        // arrange
+        final Precision.DoubleEquivalence precision1 = Precision.doubleEquivalenceOfEpsilon(1e-1);
+        final Precision.DoubleEquivalence precision2 = Precision.doubleEquivalenceOfEpsilon(1e-2);
+
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(Parallelepiped.unitCube(TEST_PRECISION), precision1);
+
+        // act/assert
+        Assertions.assertSame(mesh, mesh.toTriangleMesh(precision1));
+
+        final CompactTriangleMesh other = mesh.toTriangleMesh(precision2);
+        Assertions.assertSame(precision2, other.getPrecision());
+        Assertions.assertEquals(mesh.getVertices(), other.getVertices());
+        Assertions.assertArrayEquals(mesh.getFaceIndices(), other.getFaceIndices());
+        Assertions.assertSame(mesh.getBounds(), other.getBounds());
+    }
+
+    @Test
+    void testFace_doesNotDefineTriangle() {
+        // arrange
+        final Precision.DoubleEquivalence precision = Precision.doubleEquivalenceOfEpsilon(1e-1);
+        final double[] coords = {
+            0, 0, 0,
+            0.01, -0.01, 0.01,
+            0.01, 0.01, 0.01,
+            1, 0, 0,
+            2, 0.01, 0
+        };
+        final int[] faces = {0, 1, 2, 0, 3, 4};
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(coords, faces, precision);
+
+        // act/assert
+        final Pattern msgPattern = Pattern.compile("^Points do not define a plane: .*");
+
+        Assertions.assertFalse(mesh.getFace(0).definesPolygon());
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            mesh.getFace(0).getPolygon();
+        }, IllegalArgumentException.class, msgPattern);
+
+        Assertions.assertFalse(mesh.getFace(1).definesPolygon());
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            mesh.getFace(1).getPolygon();
+        }, IllegalArgumentException.class, msgPattern);
+    }
+
+    @Test
+    void testTransform() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(Parallelepiped.unitCube(TEST_PRECISION),
+                TEST_PRECISION);
+
+        final AffineTransformMatrix3D t = AffineTransformMatrix3D.createScale(1, 2, 3)
+                .translate(0.5, 1, 1.5);
+
+        // act
+        final CompactTriangleMesh result = mesh.transform(t);
+
+        // assert
+        Assertions.assertNotSame(mesh, result);
+        Assertions.assertFalse(result.isFloatStorage());
+
+        Assertions.assertEquals(8, result.getVertexCount());
+        Assertions.assertEquals(12, result.getFaceCount());
+        Assertions.assertArrayEquals(mesh.getFaceIndices(), result.getFaceIndices());
+
+        for (int i = 0; i < mesh.getVertexCount(); ++i) {
+            Assertions.assertEquals(t.apply(mesh.getVertex(i)), result.getVertex(i));
+        }
+
+        final Bounds3D resultBounds = result.getBounds();
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.ZERO, resultBounds.getMin(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 2, 3), resultBounds.getMax(), TEST_EPS);
+
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0.5, 1, 1.5), result.toTree().getCentroid(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.ZERO, mesh.toTree().getCentroid(), TEST_EPS);
+    }
+
+    @Test
+    void testTransform_nonMatrixTransform() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, SQUARE_FACES, TEST_PRECISION);
+        final QuaternionRotation rot = QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, Angle.PI_OVER_TWO);
+
+        // act
+        final CompactTriangleMesh result = mesh.transform(rot);
+
+        // assert
+        Assertions.assertEquals(4, result.getVertexCount());
+        for (int i = 0; i < mesh.getVertexCount(); ++i) {
+            Assertions.assertEquals(rot.apply(mesh.getVertex(i)), result.getVertex(i));
+        }
+
+        final Bounds3D resultBounds = result.getBounds();
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(-1, 0, 0), resultBounds.getMin(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 1, 1), resultBounds.getMax(), TEST_EPS);
+    }
+
+    @Test
+    void testTransform_floatStorage() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(Parallelepiped.unitCube(TEST_PRECISION),
+                TEST_PRECISION);
+        final CompactTriangleMesh floatMesh = CompactTriangleMesh.from(toFloats(mesh.getVertexCoordinates()),
+                mesh.getFaceIndices(), TEST_PRECISION);
+
+        final AffineTransformMatrix3D t = AffineTransformMatrix3D.createScale(0.1, 2, 3)
+                .translate(0.5, 1, 1.5);
+
+        // act
+        final CompactTriangleMesh result = floatMesh.transform(t);
+
+        // assert
+        Assertions.assertTrue(result.isFloatStorage());
+        Assertions.assertArrayEquals(mesh.getFaceIndices(), result.getFaceIndices());
+
+        for (int i = 0; i < mesh.getVertexCount(); ++i) {
+            final Vector3D expected = t.apply(mesh.getVertex(i));
+            Assertions.assertEquals(Vector3D.of((float) expected.getX(), (float) expected.getY(),
+                    (float) expected.getZ()), result.getVertex(i));
+        }
+
+        final Bounds3D resultBounds = result.getBounds();
+        Assertions.assertEquals(Bounds3D.from(result.getVertices()), resultBounds);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0.45, 0, 0), resultBounds.getMin(), 1e-6);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0.55, 2, 3), resultBounds.getMax(), 1e-6);
+    }
+
+    @Test
+    void testTransform_empty() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.builder(TEST_PRECISION).build();
+        final CompactTriangleMesh floatMesh = CompactTriangleMesh.floatBuilder(TEST_PRECISION).build();
+
+        final AffineTransformMatrix3D t = AffineTransformMatrix3D.createScale(1, 2, 3);
+
+        // act
+        final CompactTriangleMesh result = mesh.transform(t);
+        final CompactTriangleMesh floatResult = floatMesh.transform(t);
+
+        // assert
+        Assertions.assertEquals(0, result.getVertexCount());
+        Assertions.assertEquals(0, result.getFaceCount());
+        Assertions.assertNull(result.getBounds());
+
+        Assertions.assertEquals(0, floatResult.getVertexCount());
+        Assertions.assertEquals(0, floatResult.getFaceCount());
+        Assertions.assertNull(floatResult.getBounds());
+    }
+
+    @Test
+    void testToString() {
+        // arrange
+        final Triangle3D tri = Planes.triangleFromVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0),
+                TEST_PRECISION);
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(BoundarySource3D.of(tri), TEST_PRECISION);
+
+        // act
+        final String str = mesh.toString();
+
+        // assert
+        GeometryTestUtils.assertContains("CompactTriangleMesh[vertexCount= 3, faceCount= 1, bounds= Bounds3D[", str);
+    }
+
+    @Test
+    void testFaceToString() {
+        // arrange
+        final Triangle3D tri = Planes.triangleFromVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0),
+                TEST_PRECISION);
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(BoundarySource3D.of(tri), TEST_PRECISION);
+
+        // act
+        final String str = mesh.getFace(0).toString();
+
+        // assert
+        GeometryTestUtils.assertContains("CompactTriangleFace[index= 0, vertexIndices= [0, 1, 2], vertices= [(0", str);
+    }
+
+    @Test
+    void testBuilder_mixedBuildMethods() {
+        // arrange
+        final Precision.DoubleEquivalence precision = Precision.doubleEquivalenceOfEpsilon(1e-1);
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.builder(precision);
+
+        // act
+        builder.addVertices(new double[] {0, 0, 0, 1, 0, 0});
+        builder.useVertex(Vector3D.of(0, 0, 1));
+        builder.addVertex(Vector3D.of(0, 1, 0));
+        builder.useVertex(Vector3D.of(1, 1, 1));
+        builder.addVertex(0.5, 0, 0);
+
+        builder.addFace(0, 2, 1);
+        builder.addFaces(new int[] {1, 2, 3});
+        builder.addFaceUsingVertices(Vector3D.of(0.5, 0, 0), Vector3D.of(1.01, 0, 0), Vector3D.of(1, 1, 0.95));
+
+        final CompactTriangleMesh mesh = builder.build();
+
+        // assert
+        Assertions.assertEquals(6, mesh.getVertexCount());
+        Assertions.assertEquals(3, mesh.getFaceCount());
+
+        Assertions.assertArrayEquals(new int[] {0, 2, 1, 1, 2, 3, 5, 1, 4}, mesh.getFaceIndices());
+    }
+
+    @Test
+    void testBuilder_floatStorage() {
+        // arrange
+        final Precision.DoubleEquivalence precision = Precision.doubleEquivalenceOfEpsilon(1e-6);
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.floatBuilder(precision);
+
+        final Vector3D p1 = Vector3D.of(0.1, 0.2, 0.3);
+        final Vector3D p2 = Vector3D.of(1.1, 0.2, 0.3);
+        final Vector3D p3 = Vector3D.of(0.1, 1.2, 0.3);
+
+        // act
+        builder.addFaceUsingVertices(p1, p2, p3);
+        builder.addFaceUsingVertices(p3, p2, Vector3D.of(1.1, 1.2, 0.3));
+        builder.addVertex(p1);
+        builder.useVertex(Vector3D.of(0.1, 0.2, 0.3 + 1e-7));
+
+        final CompactTriangleMesh mesh = builder.build();
+
+        // assert
+        Assertions.assertTrue(mesh.isFloatStorage());
+        Assertions.assertEquals(5, mesh.getVertexCount());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 2, 1, 3}, mesh.getFaceIndices());
+
+        final Vector3D rounded = Vector3D.of(0.1f, 0.2f, 0.3f);
+        Assertions.assertEquals(rounded, mesh.getVertex(0));
+        Assertions.assertEquals(rounded, mesh.getVertex(4));
+        Assertions.assertEquals(rounded, builder.getVertex(0));
+        Assertions.assertNotEquals(p1, mesh.getVertex(0));
+        EuclideanTestUtils.assertCoordinatesEqual(p1, mesh.getVertex(0), 1e-7);
+
+        Assertions.assertEquals(rounded, mesh.getBounds().getMin());
+        Assertions.assertEquals(Vector3D.of(1.1f, 1.2f, 0.3f), mesh.getBounds().getMax());
+    }
+
+    @Test
+    void testBuilder_largeMesh() {
+        // arrange
+        final int n = 50;
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.builder(TEST_PRECISION);
+        final CompactTriangleMesh.Builder floatBuilder = CompactTriangleMesh.floatBuilder(TEST_PRECISION);
+        final SimpleTriangleMesh.Builder simpleBuilder = SimpleTriangleMesh.builder(TEST_PRECISION);
+
+        // act
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                final Vector3D p1 = Vector3D.of(i, j, 0);
+                final Vector3D p2 = Vector3D.of(i + 1, j, 0);
+                final Vector3D p3 = Vector3D.of(i, j + 1, 0);
+                final Vector3D p4 = Vector3D.of(i + 1, j + 1, 0);
+
+                builder.addFaceUsingVertices(p1, p2, p4).addFaceUsingVertices(p1, p4, p3);
+                floatBuilder.addFaceUsingVertices(p1, p2, p4).addFaceUsingVertices(p1, p4, p3);
+                simpleBuilder.addFaceUsingVertices(p1, p2, p4).addFaceUsingVertices(p1, p4, p3);
+            }
+        }
+
+        final CompactTriangleMesh mesh = builder.build();
+        final CompactTriangleMesh floatMesh = floatBuilder.build();
+        final SimpleTriangleMesh expected = simpleBuilder.build();
+
+        // assert
+        Assertions.assertEquals((n + 1) * (n + 1), mesh.getVertexCount());
+        Assertions.assertEquals(2 * n * n, mesh.getFaceCount());
+
+        Assertions.assertEquals(expected.getVertices(), mesh.getVertices());
+        Assertions.assertEquals(expected.getVertices(), floatMesh.getVertices());
+        for (int i = 0; i < expected.getFaceCount(); ++i) {
+            Assertions.assertArrayEquals(expected.getFace(i).getVertexIndices(), mesh.getFace(i).getVertexIndices());
+            Assertions.assertArrayEquals(expected.getFace(i).getVertexIndices(),
+                    floatMesh.getFace(i).getVertexIndices());
+        }
+        Assertions.assertEquals(expected.getBounds(), mesh.getBounds());
+        Assertions.assertEquals(expected.getBounds(), floatMesh.getBounds());
+    }
+
+    @Test
+    void testBuilder_ensureCapacity() {
+        // arrange
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.builder(TEST_PRECISION)
+                .ensureVertexCapacity(3)
+                .ensureVertexCapacity(1000)
+                .ensureFaceCapacity(1)
+                .ensureFaceCapacity(1000);
+        final CompactTriangleMesh.Builder floatBuilder = CompactTriangleMesh.floatBuilder(TEST_PRECISION)
+                .ensureVertexCapacity(3)
+                .ensureVertexCapacity(1000);
+
+        // act
+        builder.addVertices(SQUARE_COORDS).addFaces(SQUARE_FACES);
+        floatBuilder.addVertices(SQUARE_COORDS).addFaces(SQUARE_FACES);
+
+        final CompactTriangleMesh mesh = builder.build();
+        final CompactTriangleMesh floatMesh = floatBuilder.build();
+
+        // assert
+        Assertions.assertArrayEquals(SQUARE_COORDS, mesh.getVertexCoordinates());
+        Assertions.assertArrayEquals(SQUARE_FACES, mesh.getFaceIndices());
+        Assertions.assertArrayEquals(SQUARE_COORDS, floatMesh.getVertexCoordinates());
+        Assertions.assertArrayEquals(SQUARE_FACES, floatMesh.getFaceIndices());
+    }
+
+    @Test
+    void testBuilder_invalidArgs() {
+        // arrange
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.builder(TEST_PRECISION);
+        builder.useVertex(Vector3D.ZERO);
+        builder.useVertex(Vector3D.of(1, 0, 0));
+        builder.useVertex(Vector3D.of(0, 1, 0));
+
+        final String msgBase = "Invalid vertex index: ";
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFace(-1, 1, 2);
+        }, IllegalArgumentException.class, msgBase + "-1");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFace(0, 3, 2);
+        }, IllegalArgumentException.class, msgBase + "3");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFace(0, 1, 4);
+        }, IllegalArgumentException.class, msgBase + "4");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFaces(new int[] {0, 1});
+        }, IllegalArgumentException.class, "Packed face index array length must be a multiple of 3; was 2");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addVertices(new double[] {0, 1});
+        }, IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 2");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.getVertex(3);
+        }, IndexOutOfBoundsException.class, "Index 3 out of bounds for length 3");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            CompactTriangleMesh.builder(null);
+        }, NullPointerException.class, "Precision context must not be null");
+    }
+
+    @Test
+    void testBuilder_cannotModifyOnceBuilt() {
+        // arrange
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.builder(TEST_PRECISION)
+            .addVertices(new double[] {0, 0, 0, 1, 1, 0, 1, 1, 1})
+            .addFaces(new int[] {0, 1, 2});
+        final CompactTriangleMesh mesh = builder.build();
+
+        final String msg = "Builder instance cannot be modified: mesh construction is complete";
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.useVertex(Vector3D.ZERO);
+        }, IllegalStateException.class, msg);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addVertex(Vector3D.ZERO);
+        }, IllegalStateException.class, msg);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addVertices(new double[] {0, 0, 0});
+        }, IllegalStateException.class, msg);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0));
+        }, IllegalStateException.class, msg);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFace(0, 1, 2);
+        }, IllegalStateException.class, msg);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFaces(new int[] {0, 1, 2});
+        }, IllegalStateException.class, msg);
+
+        // the builder can still be queried
+        Assertions.assertEquals(3, builder.getVertexCount());
+        Assertions.assertEquals(1, builder.getFaceCount());
+        Assertions.assertEquals(Vector3D.of(1, 1, 1), builder.getVertex(2));
+        Assertions.assertEquals(3, mesh.getVertexCount());
+    }
+
+    @Test
+    void testBuilder_addFaceAndVertices_vs_addFaceUsingVertices() {
+        // arrange
+        final CompactTriangleMesh.Builder builder = CompactTriangleMesh.builder(TEST_PRECISION);
+        final Vector3D p1 = Vector3D.ZERO;
+        final Vector3D p2 = Vector3D.of(1, 0, 0);
+        final Vector3D p3 = Vector3D.of(0, 1, 0);
+
+        // act
+        builder.addFaceUsingVertices(p1, p2, p3);
+        builder.addFaceAndVertices(p1, p2, p3);
+        builder.addFaceUsingVertices(p1, p2, p3);
+
+        // assert
+        Assertions.assertEquals(6, builder.getVertexCount());
+        Assertions.assertEquals(3, builder.getFaceCount());
+        Assertions.assertEquals(p1, builder.getVertex(0));
+        Assertions.assertEquals(p1, builder.getVertex(3));
+
+        final CompactTriangleMesh mesh = builder.build();
+
+        Assertions.assertEquals(6, mesh.getVertexCount());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 0, 1, 2}, mesh.getFaceIndices());
+    }
+
+    private static float[] toFloats(final double[] values) {
+        final float[] result = new float[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            result[i] = (float) values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.commons.geometry.core.Transform;
+import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+
+/** {@link TriangleMesh} implementation that delegates to another mesh, used to test the
+ * default interface methods.
+ */
+final class DelegatingTriangleMesh implements TriangleMesh {
+
+    private final TriangleMesh mesh;
+
+    DelegatingTriangleMesh(final TriangleMesh mesh) {
+        this.mesh = mesh;
+    }
+
+    @Override
+    public Iterable<Vector3D> vertices() {
+        return mesh.vertices();
+    }
+
+    @Override
+    public List<Vector3D> getVertices() {
+        return mesh.getVertices();
+    }
+
+    @Override
+    public int getVertexCount() {
+        return mesh.getVertexCount();
+    }
+
+    @Override
+    public Iterable<TriangleMesh.Face> faces() {
+        return mesh.faces();
+    }
+
+    @Override
+    public List<TriangleMesh.Face> getFaces() {
+        return mesh.getFaces();
+    }
+
+    @Override
+    public int getFaceCount() {
+        return mesh.getFaceCount();
+    }
+
+    @Override
+    public TriangleMesh.Face getFace(final int index) {
+        return mesh.getFace(index);
+    }
+
+    @Override
+    public Stream<PlaneConvexSubset> boundaryStream() {
+        return mesh.boundaryStream();
+    }
+
+    @Override
+    public TriangleMesh transform(final Transform<Vector3D> transform) {
+        return new DelegatingTriangleMesh(mesh.transform(transform));
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.geometry.euclidean.threed.Planes;
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MeshMassPropertiesTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    @Test
+    void testFrom_unitCube() {
+        // arrange
+        final TriangleMesh mesh = Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(mesh);
+
+        // assert
+        Assertions.assertEquals(1, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(6, props.getSurfaceArea(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.ZERO, props.getCentroid(), TEST_EPS);
+
+        final double i = 1.0 / 6.0;
+        assertTensor(new double[] {
+            i, 0, 0,
+            0, i, 0,
+            0, 0, i
+        }, props.getInertiaTensor());
+    }
+
+    @Test
+    void testFrom_translatedBox() {
+        // arrange
+        final Vector3D min = Vector3D.of(1e6, -2e6, 3e6);
+        final TriangleMesh mesh = Parallelepiped.axisAligned(min, min.add(Vector3D.of(1, 2, 3)), TEST_PRECISION)
+                .toTriangleMesh(TEST_PRECISION);
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(mesh);
+
+        // assert
+        Assertions.assertEquals(6, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(22, props.getSurfaceArea(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(min.add(Vector3D.of(0.5, 1, 1.5)), props.getCentroid(), TEST_EPS);
+
+        assertTensor(new double[] {
+            6.5, 0, 0,
+            0, 5, 0,
+            0, 0, 2.5
+        }, props.getInertiaTensor());
+    }
+
+    @Test
+    void testFrom_rotatedBox() {
+        // arrange
+        final double angle = 0.3 * Math.PI;
+        final AffineTransformMatrix3D transform = AffineTransformMatrix3D.createScale(1, 2, 3)
+                .rotate(QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, angle))
+                .translate(Vector3D.of(-1, 2, 4));
+        final Parallelepiped box = Parallelepiped.fromTransformedUnitCube(transform, TEST_PRECISION);
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(box.toTriangleMesh(TEST_PRECISION));
+
+        // assert
+        Assertions.assertEquals(6, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(22, props.getSurfaceArea(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(-1, 2, 4), props.getCentroid(), TEST_EPS);
+
+        // rotate the axis-aligned tensor
+        final double c = Math.cos(angle);
+        final double s = Math.sin(angle);
+        final double ixx = 6.5;
+        final double iyy = 5;
+        final double izz = 2.5;
+        final double ixy = c * s * (ixx - iyy);
+        assertTensor(new double[] {
+            (c * c * ixx) + (s * s * iyy), ixy, 0,
+            ixy, (s * s * ixx) + (c * c * iyy), 0,
+            0, 0, izz
+        }, props.getInertiaTensor());
+    }
+
+    @Test
+    void testFrom_sphere_matchesTree() {
+        // arrange
+        final Sphere sphere = Sphere.from(Vector3D.of(1, -2, 3), 2, TEST_PRECISION);
+        final TriangleMesh mesh = sphere.toTriangleMesh(3);
+        final RegionBSPTree3D tree = mesh.toTree();
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(mesh);
+
+        // assert
+        Assertions.assertEquals(tree.getSize(), props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(tree.getBoundarySize(), props.getSurfaceArea(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(tree.getCentroid(), props.getCentroid(), TEST_EPS);
+
+        // the tensor of the tessellated sphere approaches that of a solid sphere
+        final double i = 0.4 * props.getVolume() * 4;
+        final double[] tensor = props.getInertiaTensor();
+        for (int row = 0; row < 3; ++row) {
+            for (int col = 0; col < 3; ++col) {
+                Assertions.assertEquals(row == col ? i : 0, tensor[(row * 3) + col], 2e-2 * i);
+            }
+        }
+    }
+
+    @Test
+    void testFrom_largeMesh_parallel() {
+        // arrange
+        final Sphere sphere = Sphere.from(Vector3D.of(10, 20, 30), 3, TEST_PRECISION);
+        final TriangleMesh mesh = sphere.toTriangleMesh(5);
+        final CompactTriangleMesh compact = CompactTriangleMesh.from(
+                mesh.getVertexCoordinates(), mesh.getFaceIndices(), TEST_PRECISION);
+
+        // act
+        final MeshMassProperties simpleProps = MeshMassProperties.from(mesh);
+        final MeshMassProperties compactProps = MeshMassProperties.from(compact);
+
+        // assert
+        Assertions.assertTrue(mesh.getFaceCount() > 4096);
+
+        Assertions.assertEquals(sequentialVolume(mesh), simpleProps.getVolume(), 1e-10);
+        Assertions.assertEquals(simpleProps.getVolume(), compactProps.getVolume(), 0);
+        Assertions.assertEquals(simpleProps.getSurfaceArea(), compactProps.getSurfaceArea(), 0);
+        Assertions.assertEquals(simpleProps.getCentroid(), compactProps.getCentroid());
+        Assertions.assertArrayEquals(simpleProps.getInertiaTensor(), compactProps.getInertiaTensor(), 0);
+
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(10, 20, 30), simpleProps.getCentroid(), 1e-10);
+    }
+
+    @Test
+    void testFrom_reversedMesh() {
+        // arrange
+        final TriangleMesh mesh = Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+        final int[] faces = mesh.getFaceIndices();
+        for (int i = 0; i < faces.length; i += 3) {
+            final int tmp = faces[i + 1];
+            faces[i + 1] = faces[i + 2];
+            faces[i + 2] = tmp;
+        }
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(
+                CompactTriangleMesh.from(mesh.getVertexCoordinates(), faces, TEST_PRECISION));
+
+        // assert
+        Assertions.assertEquals(-1, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(6, props.getSurfaceArea(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.ZERO, props.getCentroid(), TEST_EPS);
+        Assertions.assertEquals(-1.0 / 6.0, props.getInertiaTensor()[0], TEST_EPS);
+    }
+
+    @Test
+    void testFrom_openMesh() {
+        // arrange
+        final TriangleMesh mesh = SimpleTriangleMesh.builder(TEST_PRECISION)
+                .addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0))
+                .build();
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(mesh);
+
+        // assert
+        Assertions.assertEquals(0, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(0.5, props.getSurfaceArea(), TEST_EPS);
+        Assertions.assertNull(props.getCentroid());
+        Assertions.assertNull(props.getInertiaTensor());
+    }
+
+    @Test
+    void testFrom_emptyMesh() {
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(
+                SimpleTriangleMesh.builder(TEST_PRECISION).build());
+
+        // assert
+        Assertions.assertEquals(0, props.getVolume());
+        Assertions.assertEquals(0, props.getSurfaceArea());
+        Assertions.assertNull(props.getCentroid());
+        Assertions.assertNull(props.getInertiaTensor());
+    }
+
+    @Test
+    void testFrom_boundarySource() {
+        // arrange
+        final Sphere sphere = Sphere.from(Vector3D.of(1, 2, 3), 1, TEST_PRECISION);
+        final RegionBSPTree3D tree = sphere.toTree(2);
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(tree);
+
+        // assert
+        Assertions.assertEquals(tree.getSize(), props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(tree.getBoundarySize(), props.getSurfaceArea(), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(tree.getCentroid(), props.getCentroid(), TEST_EPS);
+
+        final MeshMassProperties meshProps = MeshMassProperties.from(tree.toTriangleMesh(TEST_PRECISION));
+        Assertions.assertEquals(meshProps.getVolume(), props.getVolume(), TEST_EPS);
+        Assertions.assertArrayEquals(meshProps.getInertiaTensor(), props.getInertiaTensor(), TEST_EPS);
+    }
+
+    @Test
+    void testFrom_boundarySource_triangleMesh() {
+        // arrange
+        final BoundarySource3D src = Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(src);
+
+        // assert
+        Assertions.assertEquals(1, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(6, props.getSurfaceArea(), TEST_EPS);
+    }
+
+    @Test
+    void testFrom_boundarySource_empty() {
+        // act
+        final MeshMassProperties props = MeshMassProperties.from(BoundarySource3D.of());
+
+        // assert
+        Assertions.assertEquals(0, props.getVolume());
+        Assertions.assertNull(props.getCentroid());
+    }
+
+    @Test
+    void testFrom_boundarySource_infinite() {
+        // arrange
+        final BoundarySource3D src = BoundarySource3D.of(
+                Planes.fromNormal(Vector3D.Unit.PLUS_Z, TEST_PRECISION).span());
+
+        // act/assert
+        Assertions.assertThrows(IllegalStateException.class, () -> MeshMassProperties.from(src));
+    }
+
+    @Test
+    void testGetInertiaTensor_returnsCopy() {
+        // arrange
+        final MeshMassProperties props = MeshMassProperties.from(
+                Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION));
+
+        // act
+        props.getInertiaTensor()[0] = 100;
+
+        // assert
+        Assertions.assertEquals(1.0 / 6.0, props.getInertiaTensor()[0], TEST_EPS);
+    }
+
+    @Test
+    void testToString() {
+        // arrange
+        final MeshMassProperties props = MeshMassProperties.from(
+                Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION));
+
+        // act
+        final String str = props.toString();
+
+        // assert
+        GeometryTestUtils.assertContains("MeshMassProperties[volume= ", str);
+        Assertions.assertTrue(Pattern.matches(".*inertiaTensor= \\[.*\\]\\]", str));
+    }
+
+    private static double sequentialVolume(final TriangleMesh mesh) {
+        double sum = 0;
+        for (final TriangleMesh.Face face : mesh.faces()) {
+            final Vector3D a = face.getPoint1();
+            sum += a.dot(face.getPoint2().cross(face.getPoint3()));
+        }
+        return sum / 6;
+    }
+
+    private static void assertTensor(final double[] expected, final double[] actual) {
+        Assertions.assertEquals(9, actual.length);
+        for (int i = 0; i < expected.length; ++i) {
+            Assertions.assertEquals(expected[i], actual[i], 1e-8,
+                () -> "Tensors differ; expected " + Arrays.toString(expected) + " but was " + Arrays.toString(actual));
+        }
+    }
+}
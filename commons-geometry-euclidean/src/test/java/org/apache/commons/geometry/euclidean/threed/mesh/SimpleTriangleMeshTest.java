@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -590,6 +591,145 @@ class SimpleTriangleMeshTest {
         }, IllegalArgumentException.class, msgBase + "4");
     }
 
+    @Test
+    void testBuilder_addFacesUsingVertices() {
+        // arrange
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(TEST_PRECISION);
+        builder.addVertex(Vector3D.of(1, 1, 0));
+
+        final double[] coords = {
+            0, 0, 0, 1, 0, 0, 0, 1, 0,
+            1, 0, 0, 1, 1, 0, 0, 1, 0,
+            1 + (0.5 * TEST_EPS), 0, 0, 1, 1, 1, 1, 1, 0,
+            0, 0, 0, 1, 0, 0, 0, 1, 0
+        };
+
+        // act
+        final SimpleTriangleMesh mesh = builder.addFacesUsingVertices(coords).build();
+
+        // assert
+        Assertions.assertEquals(5, mesh.getVertexCount());
+        Assertions.assertEquals(4, mesh.getFaceCount());
+
+        Assertions.assertEquals(Arrays.asList(
+                    Vector3D.of(1, 1, 0),
+                    Vector3D.ZERO,
+                    Vector3D.of(1, 0, 0),
+                    Vector3D.of(0, 1, 0),
+                    Vector3D.of(1, 1, 1)
+                ), mesh.getVertices());
+
+        Assertions.assertArrayEquals(new int[] {1, 2, 3}, mesh.getFace(0).getVertexIndices());
+        Assertions.assertArrayEquals(new int[] {2, 0, 3}, mesh.getFace(1).getVertexIndices());
+        Assertions.assertArrayEquals(new int[] {2, 4, 0}, mesh.getFace(2).getVertexIndices());
+        Assertions.assertArrayEquals(new int[] {1, 2, 3}, mesh.getFace(3).getVertexIndices());
+    }
+
+    @Test
+    void testBuilder_addFacesUsingVertices_empty() {
+        // arrange
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(TEST_PRECISION);
+
+        // act
+        builder.addFacesUsingVertices(new double[0]);
+
+        // assert
+        Assertions.assertEquals(0, builder.getVertexCount());
+        Assertions.assertEquals(0, builder.getFaceCount());
+    }
+
+    @Test
+    void testBuilder_addFacesUsingVertices_matchesSequentialBuild() {
+        // arrange
+        final Random rnd = new Random(1L);
+        final int faceCount = 20_000;
+
+        // use vertices from a set of well-separated base points, with some vertices offset from
+        // their base point by less than the precision epsilon
+        final double[] coords = new double[faceCount * 9];
+        for (int i = 0; i < coords.length; i += 3) {
+            final int base = rnd.nextInt(4000);
+            coords[i] = base % 20;
+            coords[i + 1] = (base / 20) % 20;
+            coords[i + 2] = base / 400;
+
+            final int variant = rnd.nextInt(10);
+            if (variant == 0) {
+                coords[i] += 0.4 * TEST_EPS;
+            } else if (variant == 1) {
+                coords[i + 1] -= 0.4 * TEST_EPS;
+            } else if (variant == 2 && coords[i + 2] == 0) {
+                coords[i + 2] = -0.0;
+            }
+        }
+
+        // act/assert
+        checkAddFacesUsingVerticesMatchesSequentialBuild(coords);
+    }
+
+    @Test
+    void testBuilder_addFacesUsingVertices_ambiguousVertices() {
+        // arrange
+        final double[] coords = {
+            0, 0, 0, 1, 0, 0, 0, 1, 0,
+            1.5 * TEST_EPS, 0, 0, 1, 1, 0, 0, 1, 0,
+            0.75 * TEST_EPS, 0, 0, 1, 1, 1, 1, 1, 0,
+            0.75 * TEST_EPS, 0, 0, 1, 0, 0, 0, 1, 0
+        };
+
+        // act/assert
+        checkAddFacesUsingVerticesMatchesSequentialBuild(coords);
+    }
+
+    @Test
+    void testBuilder_addFacesUsingVertices_largeCluster() {
+        // arrange
+        final int faceCount = 100;
+        final double[] coords = new double[faceCount * 9];
+        for (int i = 0; i < faceCount; ++i) {
+            coords[i * 9] = i * 0.6 * TEST_EPS;
+            coords[(i * 9) + 3] = 1;
+            coords[(i * 9) + 7] = 1;
+        }
+
+        // act/assert
+        checkAddFacesUsingVerticesMatchesSequentialBuild(coords);
+    }
+
+    @Test
+    void testBuilder_addFacesUsingVertices_useVertexAfterAdd() {
+        // arrange
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(TEST_PRECISION);
+        builder.useVertex(Vector3D.of(0, 0, 1));
+
+        // act
+        builder.addFacesUsingVertices(new double[] {0, 0, 0, 1, 0, 0, 0, 1, 0});
+
+        // assert
+        Assertions.assertEquals(0, builder.useVertex(Vector3D.of(0, 0, 1)));
+        Assertions.assertEquals(2, builder.useVertex(Vector3D.of(1, 0, 0)));
+        Assertions.assertEquals(4, builder.useVertex(Vector3D.of(1, 1, 0)));
+        Assertions.assertEquals(5, builder.getVertexCount());
+    }
+
+    @Test
+    void testBuilder_addFacesUsingVertices_invalidArgs() {
+        // arrange
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(TEST_PRECISION);
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFacesUsingVertices(new double[8]);
+        }, IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 9; was 8");
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFacesUsingVertices(new double[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 1, Double.NaN});
+        }, IllegalArgumentException.class, "Non-finite point: (0.0, 1.0, NaN)");
+
+        Assertions.assertEquals(0, builder.getVertexCount());
+        Assertions.assertEquals(0, builder.getFaceCount());
+    }
+
     @Test
     void testBuilder_cannotModifyOnceBuilt() {
         // arrange
@@ -627,6 +767,10 @@ class SimpleTriangleMeshTest {
             builder.addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0));
         }, IllegalStateException.class, msg);
 
+        GeometryTestUtils.assertThrowsWithMessage(() -> {
+            builder.addFacesUsingVertices(new double[] {0, 0, 0, 1, 0, 0, 0, 1, 0});
+        }, IllegalStateException.class, msg);
+
         GeometryTestUtils.assertThrowsWithMessage(() -> {
             builder.addFace(0, 1, 2);
         }, IllegalStateException.class, msg);
@@ -673,4 +817,33 @@ class SimpleTriangleMeshTest {
         final TriangleMesh.Face f3 = mesh.getFace(2);
         Assertions.assertArrayEquals(new int[] {0, 1, 2}, f3.getVertexIndices());
     }
+
+    private static void checkAddFacesUsingVerticesMatchesSequentialBuild(final double[] coords) {
+        final SimpleTriangleMesh.Builder expectedBuilder = SimpleTriangleMesh.builder(TEST_PRECISION);
+        final SimpleTriangleMesh.Builder actualBuilder = SimpleTriangleMesh.builder(TEST_PRECISION);
+        for (final SimpleTriangleMesh.Builder builder : Arrays.asList(expectedBuilder, actualBuilder)) {
+            builder.addVertex(Vector3D.of(1, 2, 3));
+            builder.addFaceAndVertices(Vector3D.of(4, 5, 6), Vector3D.of(7, 8, 9), Vector3D.of(1, 2, 3));
+        }
+
+        for (int i = 0; i < coords.length; i += 9) {
+            expectedBuilder.addFaceUsingVertices(
+                    Vector3D.of(coords[i], coords[i + 1], coords[i + 2]),
+                    Vector3D.of(coords[i + 3], coords[i + 4], coords[i + 5]),
+                    Vector3D.of(coords[i + 6], coords[i + 7], coords[i + 8]));
+        }
+
+        actualBuilder.addFacesUsingVertices(coords);
+
+        final SimpleTriangleMesh expected = expectedBuilder.build();
+        final SimpleTriangleMesh actual = actualBuilder.build();
+
+        Assertions.assertEquals(expected.getVertices(), actual.getVertices());
+        Assertions.assertEquals((coords.length / 9) + 1, actual.getFaceCount());
+        for (int i = 0; i < actual.getFaceCount(); ++i) {
+            Assertions.assertArrayEquals(expected.getFace(i).getVertexIndices(),
+                    actual.getFace(i).getVertexIndices());
+        }
+        Assertions.assertEquals(expected.getBounds(), actual.getBounds());
+    }
 }
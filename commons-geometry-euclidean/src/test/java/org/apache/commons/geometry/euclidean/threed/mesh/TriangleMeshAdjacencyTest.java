@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleMeshAdjacencyTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    private static final double[] SQUARE_COORDS = {
+        0, 0, 0,
+        1, 0, 0,
+        1, 1, 0,
+        0, 1, 0
+    };
+
+    @Test
+    void testFrom_empty() {
+        // arrange
+        final TriangleMesh mesh = SimpleTriangleMesh.builder(TEST_PRECISION).build();
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(0, adj.getVertexCount());
+        Assertions.assertEquals(0, adj.getFaceCount());
+        Assertions.assertEquals(0, adj.getHalfEdgeCount());
+        Assertions.assertEquals(0, adj.getBoundaryEdgeCount());
+        Assertions.assertEquals(0, adj.getNonManifoldEdgeCount());
+        Assertions.assertTrue(adj.isManifold());
+        Assertions.assertTrue(adj.isClosed());
+        Assertions.assertEquals(0, adj.getBoundaryLoops().size());
+    }
+
+    @Test
+    void testFrom_square() {
+        // arrange
+        final TriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1, 2, 0, 2, 3},
+                TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(4, adj.getVertexCount());
+        Assertions.assertEquals(2, adj.getFaceCount());
+        Assertions.assertEquals(6, adj.getHalfEdgeCount());
+
+        Assertions.assertEquals(4, adj.getBoundaryEdgeCount());
+        Assertions.assertEquals(0, adj.getNonManifoldEdgeCount());
+        Assertions.assertTrue(adj.isManifold());
+        Assertions.assertFalse(adj.isClosed());
+
+        // half-edge 2 runs from vertex 2 to vertex 0 in face 0 and half-edge 3 runs
+        // from vertex 0 to vertex 2 in face 1
+        Assertions.assertEquals(0, adj.getFace(2));
+        Assertions.assertEquals(1, adj.getFace(3));
+        Assertions.assertEquals(2, adj.getOrigin(2));
+        Assertions.assertEquals(0, adj.getTarget(2));
+        Assertions.assertEquals(0, adj.getOrigin(3));
+        Assertions.assertEquals(2, adj.getTarget(3));
+
+        Assertions.assertEquals(3, adj.getTwin(2));
+        Assertions.assertEquals(2, adj.getTwin(3));
+        Assertions.assertFalse(adj.isBoundary(2));
+        Assertions.assertFalse(adj.isNonManifold(2));
+
+        Assertions.assertEquals(-1, adj.getTwin(0));
+        Assertions.assertTrue(adj.isBoundary(0));
+        Assertions.assertFalse(adj.isNonManifold(0));
+
+        Assertions.assertArrayEquals(new int[] {-1, -1, 1}, adj.getNeighbors(0));
+        Assertions.assertArrayEquals(new int[] {0, -1, -1}, adj.getNeighbors(1));
+        Assertions.assertEquals(1, adj.getNeighbor(0, 2));
+        Assertions.assertEquals(-1, adj.getNeighbor(0, 0));
+
+        Assertions.assertEquals(2, adj.getOutgoingCount(0));
+        Assertions.assertEquals(0, adj.getOutgoing(0, 0));
+        Assertions.assertEquals(3, adj.getOutgoing(0, 1));
+        Assertions.assertArrayEquals(new int[] {0, 1}, adj.getVertexFaces(0));
+        Assertions.assertArrayEquals(new int[] {0}, adj.getVertexFaces(1));
+
+        assertSameElements(new int[] {1, 2, 3}, adj.getVertexNeighbors(0));
+        assertSameElements(new int[] {0, 2}, adj.getVertexNeighbors(1));
+        assertSameElements(new int[] {0, 1, 3}, adj.getVertexNeighbors(2));
+        assertSameElements(new int[] {0, 2}, adj.getVertexNeighbors(3));
+
+        Assertions.assertTrue(adj.isBoundaryVertex(0));
+        Assertions.assertTrue(adj.isBoundaryVertex(1));
+
+        final List<int[]> loops = adj.getBoundaryLoops();
+        Assertions.assertEquals(1, loops.size());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3}, loops.get(0));
+    }
+
+    @Test
+    void testFrom_closedMesh() {
+        // arrange
+        final TriangleMesh mesh = Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(8, adj.getVertexCount());
+        Assertions.assertEquals(12, adj.getFaceCount());
+        Assertions.assertEquals(0, adj.getBoundaryEdgeCount());
+        Assertions.assertEquals(0, adj.getNonManifoldEdgeCount());
+        Assertions.assertTrue(adj.isManifold());
+        Assertions.assertTrue(adj.isClosed());
+        Assertions.assertEquals(0, adj.getBoundaryLoops().size());
+
+        for (int h = 0; h < adj.getHalfEdgeCount(); ++h) {
+            final int twin = adj.getTwin(h);
+            Assertions.assertEquals(h, adj.getTwin(twin));
+            Assertions.assertEquals(adj.getOrigin(h), adj.getTarget(twin));
+            Assertions.assertEquals(adj.getTarget(h), adj.getOrigin(twin));
+            Assertions.assertNotEquals(adj.getFace(h), adj.getFace(twin));
+
+            Assertions.assertEquals(h, adj.getNext(adj.getPrevious(h)));
+            Assertions.assertEquals(h, adj.getPrevious(adj.getNext(h)));
+            Assertions.assertEquals(adj.getTarget(h), adj.getOrigin(adj.getNext(h)));
+        }
+
+        for (int v = 0; v < adj.getVertexCount(); ++v) {
+            Assertions.assertFalse(adj.isBoundaryVertex(v));
+            Assertions.assertEquals(adj.getOutgoingCount(v), adj.getVertexNeighbors(v).length);
+            Assertions.assertEquals(adj.getOutgoingCount(v), adj.getVertexFaces(v).length);
+        }
+    }
+
+    @Test
+    void testFrom_sphere() {
+        // arrange
+        final TriangleMesh mesh = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(2);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertTrue(adj.isClosed());
+
+        // Euler characteristic of a sphere
+        final int edgeCount = adj.getHalfEdgeCount() / 2;
+        Assertions.assertEquals(2, adj.getVertexCount() - edgeCount + adj.getFaceCount());
+    }
+
+    @Test
+    void testFrom_nonManifoldEdge() {
+        // arrange
+        // three faces share the edge between vertices 0 and 2
+        final TriangleMesh mesh = SimpleTriangleMesh.from(new Vector3D[] {
+            Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(1, 1, 0), Vector3D.of(0, 1, 0), Vector3D.of(1, 1, 1)
+        }, new int[][] {
+            {0, 1, 2},
+            {0, 2, 3},
+            {0, 2, 4}
+        }, TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(3, adj.getNonManifoldEdgeCount());
+        Assertions.assertEquals(6, adj.getBoundaryEdgeCount());
+        Assertions.assertFalse(adj.isManifold());
+        Assertions.assertFalse(adj.isClosed());
+
+        Assertions.assertTrue(adj.isNonManifold(2));
+        Assertions.assertTrue(adj.isNonManifold(3));
+        Assertions.assertTrue(adj.isNonManifold(6));
+        Assertions.assertFalse(adj.isBoundary(2));
+        Assertions.assertEquals(-1, adj.getTwin(2));
+        Assertions.assertEquals(-1, adj.getNeighbor(0, 2));
+
+        Assertions.assertTrue(adj.isBoundaryVertex(0));
+
+        final List<int[]> loops = adj.getBoundaryLoops();
+        Assertions.assertEquals(2, loops.size());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3}, loops.get(0));
+        Assertions.assertArrayEquals(new int[] {2, 4, 0}, loops.get(1));
+    }
+
+    @Test
+    void testFrom_nonManifoldEdge_singleOppositeHalfEdge() {
+        // arrange
+        // the edge between vertices 0 and 1 is traversed twice in one direction and once
+        // in the other
+        final double[] coords = {
+            0, 0, 0,
+            1, 0, 0,
+            0, 1, 0,
+            0, -1, 0,
+            0, 0, 1
+        };
+        final TriangleMesh mesh = CompactTriangleMesh.from(coords, new int[] {0, 1, 2, 1, 0, 3, 0, 1, 4},
+                TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(3, adj.getNonManifoldEdgeCount());
+        Assertions.assertTrue(adj.isNonManifold(0));
+        Assertions.assertTrue(adj.isNonManifold(3));
+        Assertions.assertTrue(adj.isNonManifold(6));
+        Assertions.assertEquals(-1, adj.getTwin(0));
+        Assertions.assertEquals(6, adj.getBoundaryEdgeCount());
+    }
+
+    @Test
+    void testFrom_inconsistentOrientation() {
+        // arrange
+        final TriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1, 2, 0, 3, 2},
+                TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(2, adj.getNonManifoldEdgeCount());
+        Assertions.assertEquals(4, adj.getBoundaryEdgeCount());
+        Assertions.assertTrue(adj.isNonManifold(2));
+        Assertions.assertTrue(adj.isNonManifold(5));
+        Assertions.assertArrayEquals(new int[] {-1, -1, -1}, adj.getNeighbors(0));
+    }
+
+    @Test
+    void testFrom_degenerateFace() {
+        // arrange
+        final TriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1, 1}, TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        // the degenerate edge is non-manifold and the two remaining half-edges are twins
+        Assertions.assertEquals(1, adj.getNonManifoldEdgeCount());
+        Assertions.assertTrue(adj.isNonManifold(1));
+        Assertions.assertEquals(0, adj.getBoundaryEdgeCount());
+        Assertions.assertEquals(2, adj.getTwin(0));
+        Assertions.assertEquals(0, adj.getNeighbor(0, 0));
+        assertSameElements(new int[] {0}, adj.getVertexNeighbors(1));
+    }
+
+    @Test
+    void testFrom_sharedVertex() {
+        // arrange
+        // two triangles touching at vertex 0
+        final double[] coords = {
+            0, 0, 0,
+            1, 0, 0,
+            1, 1, 0,
+            -1, 0, 0,
+            -1, -1, 0
+        };
+        final TriangleMesh mesh = CompactTriangleMesh.from(coords, new int[] {0, 1, 2, 0, 3, 4}, TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertTrue(adj.isManifold());
+        Assertions.assertEquals(6, adj.getBoundaryEdgeCount());
+        assertSameElements(new int[] {1, 2, 3, 4}, adj.getVertexNeighbors(0));
+
+        final List<int[]> loops = adj.getBoundaryLoops();
+        Assertions.assertEquals(2, loops.size());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2}, loops.get(0));
+        Assertions.assertArrayEquals(new int[] {0, 3, 4}, loops.get(1));
+    }
+
+    @Test
+    void testUnreferencedVertex() {
+        // arrange
+        final TriangleMesh mesh = CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1, 2}, TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency adj = TriangleMeshAdjacency.from(mesh);
+
+        // assert
+        Assertions.assertEquals(0, adj.getOutgoingCount(3));
+        Assertions.assertEquals(0, adj.getVertexFaces(3).length);
+        Assertions.assertEquals(0, adj.getVertexNeighbors(3).length);
+        Assertions.assertFalse(adj.isBoundaryVertex(3));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        // arrange
+        final TriangleMeshAdjacency adj = CompactTriangleMesh.from(SQUARE_COORDS, new int[] {0, 1, 2, 0, 2, 3},
+                TEST_PRECISION).getAdjacency();
+
+        // act/assert
+        assertIndexOutOfBounds(() -> adj.getFace(-1), -1, 6);
+        assertIndexOutOfBounds(() -> adj.getOrigin(6), 6, 6);
+        assertIndexOutOfBounds(() -> adj.getTarget(6), 6, 6);
+        assertIndexOutOfBounds(() -> adj.getNext(6), 6, 6);
+        assertIndexOutOfBounds(() -> adj.getPrevious(6), 6, 6);
+        assertIndexOutOfBounds(() -> adj.getTwin(6), 6, 6);
+        assertIndexOutOfBounds(() -> adj.isBoundary(6), 6, 6);
+        assertIndexOutOfBounds(() -> adj.isNonManifold(6), 6, 6);
+
+        assertIndexOutOfBounds(() -> adj.getNeighbor(2, 0), 2, 2);
+        assertIndexOutOfBounds(() -> adj.getNeighbor(0, 3), 3, 3);
+        assertIndexOutOfBounds(() -> adj.getNeighbors(-1), -1, 2);
+
+        assertIndexOutOfBounds(() -> adj.getOutgoingCount(4), 4, 4);
+        assertIndexOutOfBounds(() -> adj.getOutgoing(0, 2), 2, 2);
+        assertIndexOutOfBounds(() -> adj.getVertexFaces(-1), -1, 4);
+        assertIndexOutOfBounds(() -> adj.getVertexNeighbors(4), 4, 4);
+        assertIndexOutOfBounds(() -> adj.isBoundaryVertex(4), 4, 4);
+    }
+
+    @Test
+    void testGetAdjacency_cached() {
+        // arrange
+        final SimpleTriangleMesh simple = SimpleTriangleMesh.from(Parallelepiped.unitCube(TEST_PRECISION),
+                TEST_PRECISION);
+        final CompactTriangleMesh compact = CompactTriangleMesh.from(Parallelepiped.unitCube(TEST_PRECISION),
+                TEST_PRECISION);
+
+        // act
+        final TriangleMeshAdjacency simpleAdj = simple.getAdjacency();
+        final TriangleMeshAdjacency compactAdj = compact.getAdjacency();
+
+        // assert
+        Assertions.assertSame(simpleAdj, simple.getAdjacency());
+        Assertions.assertSame(compactAdj, compact.getAdjacency());
+
+        Assertions.assertTrue(simpleAdj.isClosed());
+        Assertions.assertTrue(compactAdj.isClosed());
+        Assertions.assertEquals(simple.getFaceCount(), simpleAdj.getFaceCount());
+        Assertions.assertEquals(compact.getFaceCount(), compactAdj.getFaceCount());
+    }
+
+    @Test
+    void testGetAdjacency_defaultMethod() {
+        // arrange
+        final SimpleTriangleMesh simple = SimpleTriangleMesh.from(new Vector3D[] {
+            Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0)
+        }, new int[][] {
+            {0, 1, 2}
+        }, TEST_PRECISION);
+        final TriangleMesh mesh = new DelegatingTriangleMesh(simple);
+
+        // act
+        final TriangleMeshAdjacency adj = mesh.getAdjacency();
+
+        // assert
+        Assertions.assertNotSame(adj, mesh.getAdjacency());
+        Assertions.assertEquals(3, adj.getBoundaryEdgeCount());
+        Assertions.assertArrayEquals(new int[] {0, 1, 2}, adj.getBoundaryLoops().get(0));
+    }
+
+    private static void assertSameElements(final int[] expected, final int[] actual) {
+        final int[] sorted = actual.clone();
+        Arrays.sort(sorted);
+        Assertions.assertArrayEquals(expected, sorted);
+    }
+
+    private static void assertIndexOutOfBounds(final Runnable r, final int index, final int size) {
+        GeometryTestUtils.assertThrowsWithMessage(r::run, IndexOutOfBoundsException.class,
+                "Index " + index + " out of bounds for length " + size);
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import org.apache.commons.geometry.core.RegionLocation;
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleMeshBooleansTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    private static final TriangleMesh EMPTY = SimpleTriangleMesh.builder(TEST_PRECISION).build();
+
+    @Test
+    void testUnion_overlappingCubes() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        final TriangleMesh b = box(Vector3D.of(1, 1, 1), Vector3D.of(3, 3, 3));
+
+        // act
+        final TriangleMesh result = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+
+        // assert
+        assertMassProperties(15, 42, result);
+        assertMatchesTree(treeUnion(a, b), result, TEST_EPS);
+    }
+
+    @Test
+    void testIntersection_overlappingCubes() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        final TriangleMesh b = box(Vector3D.of(1, 1, 1), Vector3D.of(3, 3, 3));
+
+        // act
+        final TriangleMesh result = TriangleMeshBooleans.intersection(a, b, TEST_PRECISION);
+
+        // assert
+        assertMassProperties(1, 6, result);
+        assertMatchesTree(treeIntersection(a, b), result, TEST_EPS);
+    }
+
+    @Test
+    void testDifference_overlappingCubes() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        final TriangleMesh b = box(Vector3D.of(1, 1, 1), Vector3D.of(3, 3, 3));
+
+        // act
+        final TriangleMesh result = TriangleMeshBooleans.difference(a, b, TEST_PRECISION);
+
+        // assert
+        assertMassProperties(7, 24, result);
+        assertMatchesTree(treeDifference(a, b), result, TEST_EPS);
+    }
+
+    @Test
+    void testOperations_disjoint() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(1, 1, 1));
+        final TriangleMesh b = box(Vector3D.of(2, 0, 0), Vector3D.of(3, 2, 1));
+
+        // act/assert
+        final TriangleMesh union = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+        assertMassProperties(3, 16, union);
+        Assertions.assertEquals(a.getFaceCount() + b.getFaceCount(), union.getFaceCount());
+
+        Assertions.assertEquals(0, TriangleMeshBooleans.intersection(a, b, TEST_PRECISION).getFaceCount());
+
+        final TriangleMesh difference = TriangleMeshBooleans.difference(a, b, TEST_PRECISION);
+        assertMassProperties(1, 6, difference);
+        Assertions.assertEquals(a.getFaceCount(), difference.getFaceCount());
+        Assertions.assertEquals(a.getVertexCount(), difference.getVertexCount());
+    }
+
+    @Test
+    void testOperations_nested() {
+        // arrange
+        final TriangleMesh outer = box(Vector3D.ZERO, Vector3D.of(3, 3, 3));
+        final TriangleMesh inner = box(Vector3D.of(1, 1, 1), Vector3D.of(2, 2, 2));
+
+        // act/assert
+        assertMassProperties(27, 54, TriangleMeshBooleans.union(outer, inner, TEST_PRECISION));
+        assertMassProperties(27, 54, TriangleMeshBooleans.union(inner, outer, TEST_PRECISION));
+
+        assertMassProperties(1, 6, TriangleMeshBooleans.intersection(outer, inner, TEST_PRECISION));
+        assertMassProperties(1, 6, TriangleMeshBooleans.intersection(inner, outer, TEST_PRECISION));
+
+        final TriangleMesh cavity = TriangleMeshBooleans.difference(outer, inner, TEST_PRECISION);
+        assertMassProperties(26, 60, cavity);
+        assertMatchesTree(treeDifference(outer, inner), cavity, TEST_EPS);
+
+        Assertions.assertEquals(0, TriangleMeshBooleans.difference(inner, outer, TEST_PRECISION).getFaceCount());
+    }
+
+    @Test
+    void testOperations_sharedFace() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        final TriangleMesh b = box(Vector3D.of(2, 0.5, 0.5), Vector3D.of(3, 1.5, 1.5));
+
+        // act/assert
+        final TriangleMesh union = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+        assertMassProperties(9, 28, union);
+        assertMatchesTree(treeUnion(a, b), union, TEST_EPS);
+
+        Assertions.assertEquals(0, TriangleMeshBooleans.intersection(a, b, TEST_PRECISION).getFaceCount());
+
+        final TriangleMesh difference = TriangleMeshBooleans.difference(a, b, TEST_PRECISION);
+        assertMassProperties(8, 24, difference);
+    }
+
+    @Test
+    void testOperations_nearlySharedFace() {
+        // arrange
+        // the faces are separated by a gap smaller than the precision epsilon, so they do not
+        // intersect but are still considered to be coincident
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(1, 1, 1));
+        final TriangleMesh b = box(Vector3D.of(0, 0, 1 + 1e-12), Vector3D.of(1, 1, 2));
+
+        // act/assert
+        final TriangleMesh union = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+        assertMassProperties(2, 10, union);
+
+        Assertions.assertEquals(0, TriangleMeshBooleans.intersection(a, b, TEST_PRECISION).getFaceCount());
+
+        final TriangleMesh difference = TriangleMeshBooleans.difference(a, b, TEST_PRECISION);
+        assertMassProperties(1, 6, difference);
+    }
+
+    @Test
+    void testOperations_flushFaces() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        final TriangleMesh b = box(Vector3D.of(1, 0, 0), Vector3D.of(3, 2, 1));
+
+        // act/assert
+        final TriangleMesh union = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+        assertMassProperties(10, 30, union);
+        assertMatchesTree(treeUnion(a, b), union, TEST_EPS);
+
+        final TriangleMesh intersection = TriangleMeshBooleans.intersection(a, b, TEST_PRECISION);
+        assertMassProperties(2, 10, intersection);
+        assertMatchesTree(treeIntersection(a, b), intersection, TEST_EPS);
+
+        final TriangleMesh difference = TriangleMeshBooleans.difference(a, b, TEST_PRECISION);
+        assertMassProperties(6, 22, difference);
+        assertMatchesTree(treeDifference(a, b), difference, TEST_EPS);
+
+        final TriangleMesh reverseDifference = TriangleMeshBooleans.difference(b, a, TEST_PRECISION);
+        assertMassProperties(2, 10, reverseDifference);
+        assertMatchesTree(treeDifference(b, a), reverseDifference, TEST_EPS);
+    }
+
+    @Test
+    void testOperations_spheres() {
+        // arrange
+        final TriangleMesh a = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(2);
+        final TriangleMesh b = Sphere.from(Vector3D.of(0.7, 0.3, 0.1), 0.8, TEST_PRECISION).toTriangleMesh(2)
+                .transform(AffineTransformMatrix3D.createRotation(Vector3D.of(0.7, 0.3, 0.1),
+                        QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 0.4)));
+
+        // act
+        final TriangleMesh union = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+        final TriangleMesh intersection = TriangleMeshBooleans.intersection(a, b, TEST_PRECISION);
+        final TriangleMesh difference = TriangleMeshBooleans.difference(a, b, TEST_PRECISION);
+
+        // assert
+        assertMatchesTree(treeUnion(a, b), union, 1e-8);
+        assertMatchesTree(treeIntersection(a, b), intersection, 1e-8);
+        assertMatchesTree(treeDifference(a, b), difference, 1e-8);
+
+        final double volumeA = MeshMassProperties.from(a).getVolume();
+        final double volumeB = MeshMassProperties.from(b).getVolume();
+        Assertions.assertEquals(volumeA + volumeB,
+                MeshMassProperties.from(union).getVolume() + MeshMassProperties.from(intersection).getVolume(),
+                1e-8);
+        Assertions.assertEquals(volumeA,
+                MeshMassProperties.from(difference).getVolume() + MeshMassProperties.from(intersection).getVolume(),
+                1e-8);
+    }
+
+    @Test
+    void testOperations_emptyMeshes() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(1, 1, 1));
+
+        // act/assert
+        assertMassProperties(1, 6, TriangleMeshBooleans.union(a, EMPTY, TEST_PRECISION));
+        assertMassProperties(1, 6, TriangleMeshBooleans.union(EMPTY, a, TEST_PRECISION));
+
+        Assertions.assertEquals(0, TriangleMeshBooleans.intersection(a, EMPTY, TEST_PRECISION).getFaceCount());
+        Assertions.assertEquals(0, TriangleMeshBooleans.intersection(EMPTY, a, TEST_PRECISION).getFaceCount());
+
+        assertMassProperties(1, 6, TriangleMeshBooleans.difference(a, EMPTY, TEST_PRECISION));
+        Assertions.assertEquals(0, TriangleMeshBooleans.difference(EMPTY, a, TEST_PRECISION).getFaceCount());
+
+        Assertions.assertEquals(0, TriangleMeshBooleans.union(EMPTY, EMPTY, TEST_PRECISION).getFaceCount());
+    }
+
+    @Test
+    void testOperations_degenerateFaces() {
+        // arrange
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(TEST_PRECISION);
+        final TriangleMesh cube = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        for (final TriangleMesh.Face face : cube.faces()) {
+            builder.addFaceUsingVertices(face.getPoint1(), face.getPoint2(), face.getPoint3());
+        }
+        builder.addFaceUsingVertices(Vector3D.of(0.5, 0.5, 0), Vector3D.of(1, 0.5, 0), Vector3D.of(1.5, 0.5, 0));
+        final TriangleMesh a = builder.build();
+        final TriangleMesh b = box(Vector3D.of(1, 1, 1), Vector3D.of(3, 3, 3));
+
+        // act
+        final TriangleMesh result = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+
+        // assert
+        assertMassProperties(15, 42, result);
+    }
+
+    @Test
+    void testResult_isWelded() {
+        // arrange
+        final TriangleMesh a = box(Vector3D.ZERO, Vector3D.of(2, 2, 2));
+        final TriangleMesh b = box(Vector3D.of(1, 1, 1), Vector3D.of(3, 3, 3));
+
+        // act
+        final TriangleMesh result = TriangleMeshBooleans.union(a, b, TEST_PRECISION);
+
+        // assert
+        final RegionBSPTree3D tree = treeUnion(a, b);
+        for (final Vector3D vertex : result.getVertices()) {
+            Assertions.assertEquals(RegionLocation.BOUNDARY, tree.classify(vertex));
+        }
+        for (int i = 0; i < result.getVertexCount(); ++i) {
+            for (int j = i + 1; j < result.getVertexCount(); ++j) {
+                Assertions.assertFalse(result.getVertices().get(i).eq(result.getVertices().get(j), TEST_PRECISION));
+            }
+        }
+        for (final TriangleMesh.Face face : result.faces()) {
+            Assertions.assertTrue(face.definesPolygon());
+        }
+    }
+
+    private static TriangleMesh box(final Vector3D min, final Vector3D max) {
+        return Parallelepiped.axisAligned(min, max, TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+    }
+
+    private static RegionBSPTree3D treeUnion(final TriangleMesh a, final TriangleMesh b) {
+        final RegionBSPTree3D result = RegionBSPTree3D.empty();
+        result.union(a.toTree(), b.toTree());
+        return result;
+    }
+
+    private static RegionBSPTree3D treeIntersection(final TriangleMesh a, final TriangleMesh b) {
+        final RegionBSPTree3D result = RegionBSPTree3D.empty();
+        result.intersection(a.toTree(), b.toTree());
+        return result;
+    }
+
+    private static RegionBSPTree3D treeDifference(final TriangleMesh a, final TriangleMesh b) {
+        final RegionBSPTree3D result = RegionBSPTree3D.empty();
+        result.difference(a.toTree(), b.toTree());
+        return result;
+    }
+
+    private static void assertMassProperties(final double volume, final double surfaceArea, final TriangleMesh mesh) {
+        final MeshMassProperties props = MeshMassProperties.from(mesh);
+        Assertions.assertEquals(volume, props.getVolume(), TEST_EPS);
+        Assertions.assertEquals(surfaceArea, props.getSurfaceArea(), TEST_EPS);
+    }
+
+    private static void assertMatchesTree(final RegionBSPTree3D expected, final TriangleMesh actual,
+            final double eps) {
+        final MeshMassProperties props = MeshMassProperties.from(actual);
+        Assertions.assertEquals(expected.getSize(), props.getVolume(), eps);
+        Assertions.assertEquals(expected.getBoundarySize(), props.getSurfaceArea(), eps);
+    }
+}
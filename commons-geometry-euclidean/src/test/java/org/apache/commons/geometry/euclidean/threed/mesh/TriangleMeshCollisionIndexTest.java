@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.geometry.euclidean.threed.Planes;
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleMeshCollisionIndexTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    private static final TriangleMesh UNIT_CUBE =
+            Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+
+    @Test
+    void testFrom_emptyMesh() {
+        // arrange
+        final TriangleMeshCollisionIndex empty = TriangleMeshCollisionIndex.from(
+                SimpleTriangleMesh.builder(TEST_PRECISION).build());
+        final TriangleMeshCollisionIndex cube = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+
+        // act/assert
+        Assertions.assertEquals(0, empty.getFaceCount());
+
+        Assertions.assertFalse(empty.intersects(cube));
+        Assertions.assertFalse(cube.intersects(empty));
+        Assertions.assertFalse(empty.intersects(empty));
+
+        Assertions.assertEquals(0, empty.findIntersectingFaces(cube).length);
+        Assertions.assertEquals(0, cube.findIntersectingFaces(empty).length);
+
+        Assertions.assertFalse(empty.overlaps(cube));
+        Assertions.assertFalse(cube.overlaps(empty));
+    }
+
+    @Test
+    void testIntersects_cubes() {
+        // arrange
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+        final AffineTransformMatrix3D identity = AffineTransformMatrix3D.identity();
+
+        // act/assert
+        Assertions.assertEquals(12, index.getFaceCount());
+
+        Assertions.assertTrue(index.intersects(index));
+        Assertions.assertTrue(index.intersects(identity, index, translation(0.5, 0.5, 0.5)));
+        Assertions.assertTrue(index.intersects(identity, index, translation(0.9, 0, -0.9)));
+        Assertions.assertTrue(index.intersects(translation(0, 1.5, 0), index, translation(0, 1, 0)));
+
+        Assertions.assertFalse(index.intersects(identity, index, translation(1.5, 0, 0)));
+        Assertions.assertFalse(index.intersects(identity, index, translation(1.1, 1.1, 1.1)));
+        Assertions.assertFalse(index.intersects(translation(-0.6, 0, 0), index, translation(0.6, 0, 0)));
+    }
+
+    @Test
+    void testIntersects_touchingCubes() {
+        // arrange
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+        final AffineTransformMatrix3D identity = AffineTransformMatrix3D.identity();
+
+        // act/assert
+        Assertions.assertTrue(index.intersects(identity, index, translation(1, 0, 0)));
+        Assertions.assertTrue(index.intersects(identity, index, translation(1, 1, 0)));
+        Assertions.assertTrue(index.intersects(identity, index, translation(1, 1, 1)));
+    }
+
+    @Test
+    void testIntersects_rotated() {
+        // arrange
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+        final AffineTransformMatrix3D identity = AffineTransformMatrix3D.identity();
+
+        // rotate the second cube so that one of its corners points toward the first cube
+        final AffineTransformMatrix3D rotation = AffineTransformMatrix3D.createRotation(Vector3D.ZERO,
+                QuaternionRotation.createVectorRotation(Vector3D.of(1, 1, 1), Vector3D.Unit.MINUS_X));
+        final double cornerDistance = 0.5 * Math.sqrt(3);
+
+        // act/assert
+        Assertions.assertTrue(index.intersects(identity, index,
+                rotation.translate(Vector3D.of(0.5 + cornerDistance - 0.01, 0, 0))));
+        Assertions.assertFalse(index.intersects(identity, index,
+                rotation.translate(Vector3D.of(0.5 + cornerDistance + 0.01, 0, 0))));
+    }
+
+    @Test
+    void testIntersects_commonTransformDoesNotChangeResult() {
+        // arrange
+        final TriangleMeshCollisionIndex a = TriangleMeshCollisionIndex.from(
+                Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(2));
+        final TriangleMeshCollisionIndex b = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+
+        final AffineTransformMatrix3D common = AffineTransformMatrix3D.createScale(2, 3, -1)
+                .rotate(QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 1.2))
+                .translate(Vector3D.of(-5, 4, 10));
+
+        int intersectCount = 0;
+        final int steps = 10;
+        for (int i = 0; i <= steps; ++i) {
+            final double x = 2.5 * i / steps;
+            final AffineTransformMatrix3D offset = translation(x, 0.1, 0.2);
+
+            // act
+            final boolean expected = a.intersects(AffineTransformMatrix3D.identity(), b, offset);
+            final boolean actual = a.intersects(common, b, offset.premultiply(common));
+
+            // assert
+            Assertions.assertEquals(expected, actual);
+            if (actual) {
+                ++intersectCount;
+            }
+        }
+
+        Assertions.assertTrue(intersectCount > 0);
+        Assertions.assertTrue(intersectCount < steps);
+    }
+
+    @Test
+    void testFindIntersectingFaces_matchesBruteForce() {
+        // arrange
+        final TriangleMesh sphere = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(2);
+        final TriangleMesh cube = Parallelepiped.axisAligned(Vector3D.of(-2, -2, -2), Vector3D.of(2, 2, 2),
+                TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+
+        final TriangleMeshCollisionIndex sphereIndex = TriangleMeshCollisionIndex.from(sphere);
+        final TriangleMeshCollisionIndex cubeIndex = TriangleMeshCollisionIndex.from(cube);
+
+        final AffineTransformMatrix3D sphereTransform = AffineTransformMatrix3D.createScale(1.5, 1, 1)
+                .rotate(QuaternionRotation.fromAxisAngle(Vector3D.of(1, 1, 0), 0.3))
+                .translate(Vector3D.of(1.8, 1.5, -0.5));
+        final AffineTransformMatrix3D cubeTransform = AffineTransformMatrix3D.createRotation(Vector3D.ZERO,
+                QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, 0.1));
+
+        // act
+        final int[] pairs = sphereIndex.findIntersectingFaces(sphereTransform, cubeIndex, cubeTransform);
+        final int[] reversed = cubeIndex.findIntersectingFaces(cubeTransform, sphereIndex, sphereTransform);
+
+        // assert
+        final int[] expected = bruteForcePairs(sphere, sphereTransform, cube, cubeTransform);
+        Assertions.assertTrue(expected.length > 0);
+        Assertions.assertArrayEquals(expected, pairs);
+
+        Assertions.assertEquals(pairs.length, reversed.length);
+        Assertions.assertArrayEquals(bruteForcePairs(cube, cubeTransform, sphere, sphereTransform), reversed);
+
+        Assertions.assertTrue(sphereIndex.intersects(sphereTransform, cubeIndex, cubeTransform));
+    }
+
+    @Test
+    void testFindIntersectingFaces_manyPairs() {
+        // arrange
+        final TriangleMesh mesh = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(3);
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from(mesh);
+        final AffineTransformMatrix3D identity = AffineTransformMatrix3D.identity();
+        final AffineTransformMatrix3D offset = translation(0.01, 0, 0);
+
+        // act
+        final int[] pairs = index.findIntersectingFaces(identity, index, offset);
+
+        // assert
+        Assertions.assertArrayEquals(bruteForcePairs(mesh, identity, mesh, offset), pairs);
+        Assertions.assertTrue(pairs.length > 200);
+    }
+
+    @Test
+    void testFindIntersectingFaces_sameMesh() {
+        // arrange
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+
+        // act
+        final int[] pairs = index.findIntersectingFaces(index);
+
+        // assert
+        Assertions.assertArrayEquals(bruteForcePairs(UNIT_CUBE, AffineTransformMatrix3D.identity(),
+                UNIT_CUBE, AffineTransformMatrix3D.identity()), pairs);
+
+        // pairs are sorted
+        for (int i = 2; i < pairs.length; i += 2) {
+            Assertions.assertTrue(pairs[i - 2] < pairs[i] ||
+                    (pairs[i - 2] == pairs[i] && pairs[i - 1] < pairs[i + 1]));
+        }
+
+        // each face intersects at least itself and its neighbors
+        Assertions.assertTrue(pairs.length >= 2 * 4 * UNIT_CUBE.getFaceCount());
+    }
+
+    @Test
+    void testOverlaps() {
+        // arrange
+        final TriangleMeshCollisionIndex small = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+        final TriangleMeshCollisionIndex large = TriangleMeshCollisionIndex.from(
+                Sphere.from(Vector3D.of(1, 1, 1), 3, TEST_PRECISION).toTriangleMesh(2));
+        final AffineTransformMatrix3D identity = AffineTransformMatrix3D.identity();
+
+        // act/assert
+        Assertions.assertFalse(small.intersects(large));
+        Assertions.assertTrue(small.overlaps(large));
+        Assertions.assertTrue(large.overlaps(small));
+
+        Assertions.assertTrue(small.overlaps(identity, large, translation(1, 0, 0)));
+        Assertions.assertTrue(small.overlaps(translation(2.5, 0, 0), large, identity));
+
+        Assertions.assertFalse(small.overlaps(identity, large, translation(5, 0, 0)));
+        Assertions.assertFalse(large.overlaps(identity, small, translation(5, 5, 5)));
+    }
+
+    @Test
+    void testOverlaps_reversedOrientation() {
+        // arrange
+        final TriangleMeshCollisionIndex small = TriangleMeshCollisionIndex.from(UNIT_CUBE);
+        final TriangleMeshCollisionIndex large = TriangleMeshCollisionIndex.from(
+                Parallelepiped.axisAligned(Vector3D.of(-3, -3, -3), Vector3D.of(3, 3, 3), TEST_PRECISION)
+                    .toTriangleMesh(TEST_PRECISION));
+
+        final AffineTransformMatrix3D mirror = AffineTransformMatrix3D.createScale(-1, 1, 1);
+
+        // act/assert
+        Assertions.assertTrue(small.overlaps(mirror, large, AffineTransformMatrix3D.identity()));
+        Assertions.assertTrue(large.overlaps(mirror, small, AffineTransformMatrix3D.identity()));
+        Assertions.assertTrue(small.overlaps(mirror, large, mirror));
+    }
+
+    @Test
+    void testFrom_boundarySource() {
+        // arrange
+        final RegionBSPTree3D a = Parallelepiped.axisAligned(Vector3D.ZERO, Vector3D.of(2, 2, 2), TEST_PRECISION)
+                .toTree();
+        final RegionBSPTree3D b = Parallelepiped.axisAligned(Vector3D.of(1, 1, 1), Vector3D.of(3, 3, 3),
+                TEST_PRECISION).toTree();
+        final RegionBSPTree3D inner = Parallelepiped.axisAligned(Vector3D.of(0.5, 0.5, 0.5), Vector3D.of(0.9, 0.9, 0.9),
+                TEST_PRECISION).toTree();
+        final RegionBSPTree3D far = Parallelepiped.axisAligned(Vector3D.of(5, 5, 5), Vector3D.of(6, 6, 6),
+                TEST_PRECISION).toTree();
+
+        final TriangleMeshCollisionIndex indexA = TriangleMeshCollisionIndex.from(a, TEST_PRECISION);
+        final TriangleMeshCollisionIndex indexB = TriangleMeshCollisionIndex.from(b, TEST_PRECISION);
+        final TriangleMeshCollisionIndex indexInner = TriangleMeshCollisionIndex.from(inner, TEST_PRECISION);
+        final TriangleMeshCollisionIndex indexFar = TriangleMeshCollisionIndex.from(far, TEST_PRECISION);
+
+        // act/assert
+        Assertions.assertEquals(12, indexA.getFaceCount());
+
+        Assertions.assertTrue(indexA.intersects(indexB));
+        Assertions.assertTrue(indexA.overlaps(indexB));
+
+        Assertions.assertFalse(indexA.intersects(indexInner));
+        Assertions.assertTrue(indexA.overlaps(indexInner));
+        Assertions.assertTrue(indexInner.overlaps(indexA));
+        Assertions.assertFalse(indexInner.overlaps(indexB));
+
+        Assertions.assertFalse(indexA.overlaps(indexFar));
+        Assertions.assertFalse(indexB.overlaps(indexFar));
+    }
+
+    @Test
+    void testFrom_boundarySource_triangleMesh() {
+        // act
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from((BoundarySource3D) UNIT_CUBE,
+                TEST_PRECISION);
+
+        // assert
+        Assertions.assertEquals(UNIT_CUBE.getFaceCount(), index.getFaceCount());
+        Assertions.assertArrayEquals(TriangleMeshCollisionIndex.from(UNIT_CUBE).findIntersectingFaces(index),
+                index.findIntersectingFaces(index));
+    }
+
+    @Test
+    void testFrom_boundarySource_empty() {
+        // act
+        final TriangleMeshCollisionIndex index = TriangleMeshCollisionIndex.from(RegionBSPTree3D.empty(),
+                TEST_PRECISION);
+
+        // assert
+        Assertions.assertEquals(0, index.getFaceCount());
+        Assertions.assertFalse(index.overlaps(TriangleMeshCollisionIndex.from(UNIT_CUBE)));
+    }
+
+    @Test
+    void testFrom_boundarySource_infinite() {
+        // arrange
+        final BoundarySource3D src = BoundarySource3D.of(
+                Planes.fromNormal(Vector3D.Unit.PLUS_Z, TEST_PRECISION).span());
+
+        // act/assert
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> TriangleMeshCollisionIndex.from(src, TEST_PRECISION));
+    }
+
+    @Test
+    void testTrianglesIntersect_crossing() {
+        // arrange
+        final double[] a = {0, 0, 0, 2, 0, 0, 0, 2, 0};
+
+        // act/assert
+        assertTrianglesIntersect(true, a, new double[] {0.5, 0.5, -1, 0.5, 0.5, 1, 3, 3, 0});
+        assertTrianglesIntersect(true, a, new double[] {-1, 0.5, -1, 3, 0.5, -1, 1, 0.5, 1});
+        assertTrianglesIntersect(true, a, new double[] {0.2, 0.2, -1, 0.2, 0.2, 1, 0.3, 0.2, 1});
+    }
+
+    @Test
+    void testTrianglesIntersect_separated() {
+        // arrange
+        final double[] a = {0, 0, 0, 2, 0, 0, 0, 2, 0};
+
+        // act/assert
+        assertTrianglesIntersect(false, a, new double[] {0, 0, 1, 2, 0, 1, 0, 2, 1});
+        assertTrianglesIntersect(false, a, new double[] {0, 0, 1, 2, 0, 3, 0, 2, 1});
+        assertTrianglesIntersect(false, a, new double[] {1.5, 1.5, -1, 1.5, 1.5, 1, 3, 3, 0});
+        assertTrianglesIntersect(false, a, new double[] {-1, 0.5, -1, -2, 0.5, -1, -1, 0.5, 1});
+    }
+
+    @Test
+    void testTrianglesIntersect_touching() {
+        // arrange
+        final double[] a = {0, 0, 0, 2, 0, 0, 0, 2, 0};
+
+        // act/assert
+        // vertex on face
+        assertTrianglesIntersect(true, a, new double[] {0.5, 0.5, 0, 0.5, 0.5, 1, 1, 0.5, 1});
+        // vertex on vertex
+        assertTrianglesIntersect(true, a, new double[] {0, 0, 0, -1, 0, 1, 0, -1, 1});
+        // edge on face
+        assertTrianglesIntersect(true, a, new double[] {0.2, 0.2, 0, 0.5, 0.2, 0, 0.3, 0.2, 1});
+        // shared edge
+        assertTrianglesIntersect(true, a, new double[] {0, 0, 0, 2, 0, 0, 1, 0, 1});
+
+        // vertex near but not on face
+        assertTrianglesIntersect(false, a, new double[] {1.5, 1.5, 0, 1.5, 1.5, 1, 2, 1.5, 1});
+    }
+
+    @Test
+    void testTrianglesIntersect_coplanar() {
+        // arrange
+        final double[] a = {0, 0, 0, 2, 0, 0, 0, 2, 0};
+
+        // act/assert
+        // overlapping edges
+        assertTrianglesIntersect(true, a, new double[] {1, 1, 0, 1, -1, 0, 3, 0, 0});
+        // contained
+        assertTrianglesIntersect(true, a, new double[] {0.1, 0.1, 0, 0.5, 0.1, 0, 0.1, 0.5, 0});
+        // containing
+        assertTrianglesIntersect(true, a, new double[] {-1, -1, 0, 5, -1, 0, -1, 5, 0});
+        // shared vertex
+        assertTrianglesIntersect(true, a, new double[] {0, 0, 0, -1, 0, 0, 0, -1, 0});
+        // collinear overlapping edges
+        assertTrianglesIntersect(true, a, new double[] {1, 0, 0, 3, 0, 0, 2, -1, 0});
+        // identical
+        assertTrianglesIntersect(true, a, a.clone());
+
+        // disjoint
+        assertTrianglesIntersect(false, a, new double[] {2, 2, 0, 3, 2, 0, 2, 3, 0});
+        assertTrianglesIntersect(false, a, new double[] {3, 0, 0, 4, 0, 0, 3, -1, 0});
+        assertTrianglesIntersect(false, a, new double[] {-1, -1, 0, -2, -1, 0, -1, -2, 0});
+
+        // other coordinate planes
+        assertTrianglesIntersect(true, new double[] {0, 0, 0, 0, 2, 0, 0, 0, 2},
+                new double[] {0, 1, 1, 0, 3, 1, 0, 1, 3});
+        assertTrianglesIntersect(false, new double[] {0, 0, 0, 2, 0, 0, 0, 0, 2},
+                new double[] {2, 0, 2, 3, 0, 2, 2, 0, 3});
+    }
+
+    @Test
+    void testTrianglesIntersect_degenerate() {
+        // arrange
+        final double[] a = {0, 0, 0, 2, 0, 0, 0, 2, 0};
+
+        // act/assert
+        assertTrianglesIntersect(false, a, new double[] {0.5, 0.5, -1, 0.5, 0.5, 1, 0.5, 0.5, 0});
+        assertTrianglesIntersect(false, a, new double[] {0.5, 0.5, 0, 0.5, 0.5, 0, 0.5, 0.5, 0});
+    }
+
+    private static AffineTransformMatrix3D translation(final double x, final double y, final double z) {
+        return AffineTransformMatrix3D.createTranslation(Vector3D.of(x, y, z));
+    }
+
+    /** Assert that the result of the triangle intersection test matches the expected value for all
+     * cyclic permutations of the triangle vertices and both argument orders.
+     */
+    private static void assertTrianglesIntersect(final boolean expected, final double[] a, final double[] b) {
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < 3; ++j) {
+                final double[] pa = rotateVertices(a, i);
+                final double[] pb = rotateVertices(b, j);
+
+                Assertions.assertEquals(expected, TriangleMeshCollisionIndex.trianglesIntersect(pa, pb));
+                Assertions.assertEquals(expected, TriangleMeshCollisionIndex.trianglesIntersect(pb, pa));
+            }
+        }
+    }
+
+    private static double[] rotateVertices(final double[] tri, final int shift) {
+        final double[] result = new double[9];
+        for (int i = 0; i < 9; ++i) {
+            result[i] = tri[(i + (shift * 3)) % 9];
+        }
+        return result;
+    }
+
+    private static int[] bruteForcePairs(final TriangleMesh a, final AffineTransformMatrix3D transformA,
+            final TriangleMesh b, final AffineTransformMatrix3D transformB) {
+        final List<double[]> trianglesA = transformedTriangles(a, transformA);
+        final List<double[]> trianglesB = transformedTriangles(b, transformB);
+
+        final List<Integer> pairs = new ArrayList<>();
+        for (int i = 0; i < trianglesA.size(); ++i) {
+            for (int j = 0; j < trianglesB.size(); ++j) {
+                if (TriangleMeshCollisionIndex.trianglesIntersect(trianglesA.get(i), trianglesB.get(j))) {
+                    pairs.add(i);
+                    pairs.add(j);
+                }
+            }
+        }
+        return pairs.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static List<double[]> transformedTriangles(final TriangleMesh mesh,
+            final AffineTransformMatrix3D transform) {
+        final List<double[]> result = new ArrayList<>();
+        for (final TriangleMesh.Face face : mesh.faces()) {
+            final double[] tri = new double[9];
+            int i = 0;
+            for (final Vector3D pt : face.getVertices()) {
+                final Vector3D t = transform.apply(pt);
+                tri[i++] = t.getX();
+                tri[i++] = t.getY();
+                tri[i++] = t.getZ();
+            }
+            result.add(tri);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.core.RegionLocation;
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.core.Precision;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleMeshDistanceIndexTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    @Test
+    void testFrom_emptyMesh() {
+        // arrange
+        final TriangleMesh mesh = SimpleTriangleMesh.builder(TEST_PRECISION).build();
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> TriangleMeshDistanceIndex.from(mesh),
+                IllegalArgumentException.class, "Mesh must contain at least one face");
+    }
+
+    @Test
+    void testSingleTriangle_allRegions() {
+        // arrange
+        final TriangleMesh mesh = SimpleTriangleMesh.builder(TEST_PRECISION)
+                .addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(2, 0, 0), Vector3D.of(0, 2, 0))
+                .build();
+
+        // act
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(mesh);
+
+        // assert
+        Assertions.assertEquals(1, index.getFaceCount());
+
+        // vertices
+        checkClosestPoint(index, Vector3D.of(-1, -1, 1), Vector3D.ZERO);
+        checkClosestPoint(index, Vector3D.of(3, -1, -1), Vector3D.of(2, 0, 0));
+        checkClosestPoint(index, Vector3D.of(-1, 3, 1), Vector3D.of(0, 2, 0));
+
+        // edges
+        checkClosestPoint(index, Vector3D.of(1, -1, 1), Vector3D.of(1, 0, 0));
+        checkClosestPoint(index, Vector3D.of(-1, 1, -1), Vector3D.of(0, 1, 0));
+        checkClosestPoint(index, Vector3D.of(2, 2, 1), Vector3D.of(1, 1, 0));
+
+        // interior
+        checkClosestPoint(index, Vector3D.of(0.5, 0.5, 3), Vector3D.of(0.5, 0.5, 0));
+        checkClosestPoint(index, Vector3D.of(0.5, 0.5, -3), Vector3D.of(0.5, 0.5, 0));
+        checkClosestPoint(index, Vector3D.of(0.5, 0.5, 0), Vector3D.of(0.5, 0.5, 0));
+
+        Assertions.assertEquals(0, index.closestFace(Vector3D.of(4, 5, 6)));
+        Assertions.assertEquals(3, index.signedDistance(Vector3D.of(0.5, 0.5, 3)), TEST_EPS);
+        Assertions.assertEquals(-3, index.signedDistance(Vector3D.of(0.5, 0.5, -3)), TEST_EPS);
+        Assertions.assertEquals(0, index.signedDistance(Vector3D.of(0.5, 0.5, 0)), TEST_EPS);
+    }
+
+    @Test
+    void testUnitCube() {
+        // arrange
+        final TriangleMesh mesh = Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+
+        // act
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(mesh);
+
+        // assert
+        Assertions.assertEquals(12, index.getFaceCount());
+
+        // outside, closest to a face, an edge, and a vertex
+        checkSignedDistance(index, Vector3D.of(0, 0, 2), Vector3D.of(0, 0, 0.5), 1.5);
+        checkSignedDistance(index, Vector3D.of(1, 1, 0), Vector3D.of(0.5, 0.5, 0), Math.sqrt(0.5));
+        checkSignedDistance(index, Vector3D.of(-1, 1, -1), Vector3D.of(-0.5, 0.5, -0.5), Math.sqrt(0.75));
+
+        // inside
+        checkSignedDistance(index, Vector3D.of(0, 0, 0.1), Vector3D.of(0, 0, 0.5), -0.4);
+        checkSignedDistance(index, Vector3D.of(0.4, 0.1, 0.1), Vector3D.of(0.5, 0.1, 0.1), -0.1);
+
+        // inside, closest to the center of a face, which lies on the diagonal edge of its triangles
+        checkSignedDistance(index, Vector3D.of(0.4, 0, 0), Vector3D.of(0.5, 0, 0), -0.1);
+
+        // on the boundary
+        checkSignedDistance(index, Vector3D.of(0.5, 0.2, 0.3), Vector3D.of(0.5, 0.2, 0.3), 0);
+        checkSignedDistance(index, Vector3D.of(0.5, 0.5, 0.5), Vector3D.of(0.5, 0.5, 0.5), 0);
+
+        // all diagonal directions from the center, in order to reach all vertex pseudo-normals
+        for (int i = 0; i < 8; ++i) {
+            final Vector3D dir = Vector3D.of((i & 1) == 0 ? 1 : -1, (i & 2) == 0 ? 1 : -1, (i & 4) == 0 ? 1 : -1);
+            final Vector3D corner = dir.multiply(0.5);
+            checkSignedDistance(index, dir, corner, dir.distance(corner));
+            Assertions.assertEquals(-0.1, index.signedDistance(dir.multiply(0.4)), TEST_EPS);
+        }
+    }
+
+    @Test
+    void testSphere_matchesTree() {
+        // arrange
+        final Sphere sphere = Sphere.from(Vector3D.of(1, 2, 3), 2, TEST_PRECISION);
+        final TriangleMesh mesh = sphere.toTriangleMesh(2);
+        final RegionBSPTree3D tree = mesh.toTree();
+
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(mesh);
+
+        final UniformRandomProvider rand = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+
+        // act/assert
+        for (int i = 0; i < 500; ++i) {
+            final Vector3D pt = Vector3D.of(
+                    1 + (6 * rand.nextDouble()) - 3,
+                    2 + (6 * rand.nextDouble()) - 3,
+                    3 + (6 * rand.nextDouble()) - 3);
+
+            final Vector3D closest = index.closestPoint(pt);
+            final double dist = index.distance(pt);
+            final double expectedDist = tree.project(pt).distance(pt);
+
+            Assertions.assertEquals(expectedDist, dist, TEST_EPS);
+            Assertions.assertEquals(dist, closest.distance(pt), TEST_EPS);
+            Assertions.assertEquals(RegionLocation.BOUNDARY, tree.classify(closest));
+
+            final double expectedSigned = tree.classify(pt) == RegionLocation.INSIDE ?
+                    -expectedDist :
+                    expectedDist;
+            Assertions.assertEquals(expectedSigned, index.signedDistance(pt), TEST_EPS);
+
+            final TriangleMesh.Face face = mesh.getFace(index.closestFace(pt));
+            Assertions.assertTrue(face.getPolygon().contains(closest));
+        }
+    }
+
+    @Test
+    void testTJunction_reflexEdge() {
+        // arrange
+        // prism extruded along the y-axis from a polygon in the xz-plane with a reflex vertex at r; the
+        // face below the reflex edge is split at the middle of the edge while the face above it is not,
+        // so that the edge has no twin on either side
+        final double[][] profile = {{0, 0}, {3, 0}, {3, 1}, {1, 1}, {3, 3}, {0, 3}};
+        final Vector3D[] front = new Vector3D[profile.length];
+        final Vector3D[] back = new Vector3D[profile.length];
+        for (int i = 0; i < profile.length; ++i) {
+            front[i] = Vector3D.of(profile[i][0], 0, profile[i][1]);
+            back[i] = Vector3D.of(profile[i][0], 1, profile[i][1]);
+        }
+        final Vector3D mid = Vector3D.of(1, 0.5, 1);
+
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(TEST_PRECISION);
+        for (final int[] tri : new int[][] {{0, 1, 2}, {0, 2, 3}, {0, 3, 5}, {3, 4, 5}}) {
+            builder.addFaceUsingVertices(front[tri[0]], front[tri[1]], front[tri[2]]);
+            builder.addFaceUsingVertices(back[tri[0]], back[tri[2]], back[tri[1]]);
+        }
+        for (int i = 0; i < profile.length; ++i) {
+            final int j = (i + 1) % profile.length;
+            if (i == 2) {
+                builder.addFaceUsingVertices(front[i], back[i], mid)
+                    .addFaceUsingVertices(back[i], back[j], mid)
+                    .addFaceUsingVertices(front[i], mid, front[j]);
+            } else {
+                builder.addFaceUsingVertices(front[i], back[i], back[j])
+                    .addFaceUsingVertices(front[i], back[j], front[j]);
+            }
+        }
+        final TriangleMesh mesh = builder.build();
+
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(mesh);
+
+        // act/assert
+        // points inside of the prism closest to the reflex edge; the vector to the edge forms an acute
+        // angle with the normal of the face above the edge
+        for (double y = 0.1; y < 0.95; y += 0.05) {
+            final Vector3D pt = Vector3D.of(0.98, y, 0.92);
+            checkClosestPoint(index, pt, Vector3D.of(1, y, 1));
+            Assertions.assertEquals(-pt.distance(Vector3D.of(1, y, 1)), index.signedDistance(pt), TEST_EPS);
+        }
+
+        // points outside of the prism near the reflex edge
+        checkSignedDistance(index, Vector3D.of(2, 0.25, 1.1), Vector3D.of(2, 0.25, 1), 0.1);
+        checkSignedDistance(index, Vector3D.of(1.5, 0.75, 1.2), Vector3D.of(1.5, 0.75, 1), 0.2);
+    }
+
+    @Test
+    void testDegenerateFaces() {
+        // arrange
+        final TriangleMesh mesh = CompactTriangleMesh.from(
+                new double[] {
+                    0, 0, 0,
+                    1, 0, 0,
+                    2, 0, 0,
+                    5, 5, 5
+                },
+                new int[] {
+                    0, 1, 2,
+                    3, 3, 3
+                }, TEST_PRECISION);
+
+        // act
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(mesh);
+
+        // assert
+        checkClosestPoint(index, Vector3D.of(1.5, 1, 0), Vector3D.of(1.5, 0, 0));
+        checkClosestPoint(index, Vector3D.of(-1, 0, 1), Vector3D.ZERO);
+        checkClosestPoint(index, Vector3D.of(3, -1, 0), Vector3D.of(2, 0, 0));
+        checkClosestPoint(index, Vector3D.of(6, 5, 5), Vector3D.of(5, 5, 5));
+
+        Assertions.assertEquals(0, index.closestFace(Vector3D.of(1, 1, 1)));
+        Assertions.assertEquals(1, index.closestFace(Vector3D.of(4, 4, 4)));
+    }
+
+    @Test
+    void testNaNQueryPoint() {
+        // arrange
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(
+                Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION));
+        final Vector3D pt = Vector3D.of(0, Double.NaN, 0);
+
+        // act/assert
+        Assertions.assertTrue(index.closestPoint(pt).isNaN());
+        Assertions.assertEquals(-1, index.closestFace(pt));
+        Assertions.assertEquals(Double.NaN, index.distance(pt));
+        Assertions.assertEquals(Double.NaN, index.signedDistance(pt));
+    }
+
+    @Test
+    void testBatchQueries() {
+        // arrange
+        final TriangleMesh mesh = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(4);
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(mesh);
+
+        final UniformRandomProvider rand = RandomSource.XO_RO_SHI_RO_128_PP.create(2L);
+        final int count = 10_000;
+        final double[] pts = new double[count * 3];
+        for (int i = 0; i < pts.length; ++i) {
+            pts[i] = (4 * rand.nextDouble()) - 2;
+        }
+
+        final double[] distances = new double[count];
+        final double[] signedDistances = new double[count];
+        final double[] closest = new double[pts.length];
+
+        // act
+        index.distances(pts, distances);
+        index.signedDistances(pts, signedDistances);
+        index.closestPoints(pts, closest);
+
+        // assert
+        int inside = 0;
+        for (int i = 0; i < count; ++i) {
+            final Vector3D pt = Vector3D.of(pts[3 * i], pts[(3 * i) + 1], pts[(3 * i) + 2]);
+
+            Assertions.assertEquals(index.distance(pt), distances[i]);
+            Assertions.assertEquals(index.signedDistance(pt), signedDistances[i]);
+            EuclideanTestUtils.assertCoordinatesEqual(index.closestPoint(pt),
+                    Vector3D.of(closest[3 * i], closest[(3 * i) + 1], closest[(3 * i) + 2]), 0);
+
+            if (signedDistances[i] < 0) {
+                ++inside;
+                Assertions.assertTrue(pt.norm() < 1);
+            } else {
+                Assertions.assertTrue(pt.norm() > 0.99);
+            }
+        }
+        Assertions.assertTrue(inside > 0);
+
+        // check that the closest points can be written in place
+        index.closestPoints(pts, pts);
+        Assertions.assertArrayEquals(closest, pts, 0);
+    }
+
+    @Test
+    void testBatchQueries_invalidArrays() {
+        // arrange
+        final TriangleMeshDistanceIndex index = TriangleMeshDistanceIndex.from(
+                Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION));
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> index.distances(new double[6], new double[3]),
+                IllegalArgumentException.class, "Destination array length must be 2; was 3");
+        GeometryTestUtils.assertThrowsWithMessage(() -> index.signedDistances(new double[4], new double[1]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 4");
+        GeometryTestUtils.assertThrowsWithMessage(() -> index.closestPoints(new double[6], new double[3]),
+                IllegalArgumentException.class, "Destination array length must be 6; was 3");
+    }
+
+    private static void checkClosestPoint(final TriangleMeshDistanceIndex index, final Vector3D pt,
+            final Vector3D expected) {
+        EuclideanTestUtils.assertCoordinatesEqual(expected, index.closestPoint(pt), TEST_EPS);
+        Assertions.assertEquals(expected.distance(pt), index.distance(pt), TEST_EPS);
+    }
+
+    private static void checkSignedDistance(final TriangleMeshDistanceIndex index, final Vector3D pt,
+            final Vector3D expectedClosest, final double expectedSignedDistance) {
+        checkClosestPoint(index, pt, expectedClosest);
+        Assertions.assertEquals(expectedSignedDistance, index.signedDistance(pt), TEST_EPS);
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleMeshSimplifierTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    @Test
+    void testBuilder_defaults() {
+        // act
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION).build();
+
+        // assert
+        Assertions.assertEquals(0, simplifier.getTargetFaceCount());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, simplifier.getMaxError());
+        Assertions.assertTrue(simplifier.isPreserveBoundary());
+        Assertions.assertSame(TEST_PRECISION, simplifier.getPrecision());
+    }
+
+    @Test
+    void testBuilder_values() {
+        // act
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setTargetFaceCount(10)
+                .setMaxError(0.5)
+                .setPreserveBoundary(false)
+                .build();
+
+        // assert
+        Assertions.assertEquals(10, simplifier.getTargetFaceCount());
+        Assertions.assertEquals(0.5, simplifier.getMaxError());
+        Assertions.assertFalse(simplifier.isPreserveBoundary());
+    }
+
+    @Test
+    void testBuilder_invalidArgs() {
+        // arrange
+        final TriangleMeshSimplifier.Builder builder = TriangleMeshSimplifier.builder(TEST_PRECISION);
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> builder.setTargetFaceCount(-1),
+                IllegalArgumentException.class, "Target face count must be non-negative; was -1");
+        GeometryTestUtils.assertThrowsWithMessage(() -> builder.setMaxError(-1e-10),
+                IllegalArgumentException.class, "Maximum error must be non-negative; was -1.0E-10");
+        GeometryTestUtils.assertThrowsWithMessage(() -> builder.setMaxError(Double.NaN),
+                IllegalArgumentException.class, "Maximum error must be non-negative; was NaN");
+        GeometryTestUtils.assertThrowsWithMessage(() -> TriangleMeshSimplifier.builder(null),
+                NullPointerException.class, "Precision context must not be null");
+    }
+
+    @Test
+    void testSimplify_empty() {
+        // arrange
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION).build();
+
+        // act
+        final CompactTriangleMesh result = simplifier.simplify(SimpleTriangleMesh.builder(TEST_PRECISION).build());
+
+        // assert
+        Assertions.assertEquals(0, result.getVertexCount());
+        Assertions.assertEquals(0, result.getFaceCount());
+        Assertions.assertSame(TEST_PRECISION, result.getPrecision());
+    }
+
+    @Test
+    void testSimplify_planarGrid_preserveBoundary() {
+        // arrange
+        final CompactTriangleMesh mesh = createGrid(10);
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION).build();
+
+        // act
+        final CompactTriangleMesh result = simplifier.simplify(mesh);
+
+        // assert
+        Assertions.assertTrue(result.getFaceCount() < mesh.getFaceCount() / 4);
+
+        // all vertices remain in the plane and the boundary is unchanged
+        for (final Vector3D vertex : result.vertices()) {
+            Assertions.assertEquals(0, vertex.getZ(), TEST_EPS);
+        }
+        Assertions.assertEquals(100, computeArea(result), TEST_EPS);
+
+        final TriangleMeshAdjacency adj = result.getAdjacency();
+        Assertions.assertTrue(adj.isManifold());
+
+        final List<int[]> loops = adj.getBoundaryLoops();
+        Assertions.assertEquals(1, loops.size());
+        Assertions.assertEquals(40, loops.get(0).length);
+        Assertions.assertEquals(getBoundaryVertices(mesh), getBoundaryVertices(result));
+    }
+
+    @Test
+    void testSimplify_planarGrid_noBoundaryPreservation() {
+        // arrange
+        final CompactTriangleMesh mesh = createGrid(10);
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setPreserveBoundary(false)
+                .setMaxError(0)
+                .build();
+
+        // act
+        final CompactTriangleMesh result = simplifier.simplify(mesh);
+
+        // assert
+        final CompactTriangleMesh preserved = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .build()
+                .simplify(mesh);
+        Assertions.assertTrue(result.getFaceCount() < preserved.getFaceCount());
+
+        for (final Vector3D vertex : result.vertices()) {
+            Assertions.assertEquals(0, vertex.getZ(), TEST_EPS);
+        }
+        Assertions.assertTrue(result.getAdjacency().isManifold());
+    }
+
+    @Test
+    void testSimplify_sphere_targetFaceCount() {
+        // arrange
+        final TriangleMesh mesh = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(3);
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setTargetFaceCount(200)
+                .build();
+
+        // act
+        final CompactTriangleMesh result = simplifier.simplify(mesh);
+
+        // assert
+        Assertions.assertTrue(result.getFaceCount() <= 200);
+        Assertions.assertTrue(result.getFaceCount() >= 190);
+
+        final TriangleMeshAdjacency adj = result.getAdjacency();
+        Assertions.assertTrue(adj.isClosed());
+        Assertions.assertEquals(2,
+                adj.getVertexCount() - (adj.getHalfEdgeCount() / 2) + adj.getFaceCount());
+
+        for (final Vector3D vertex : result.vertices()) {
+            Assertions.assertEquals(1, vertex.norm(), 0.1);
+        }
+
+        // all faces must still point outward
+        for (final TriangleMesh.Face face : result.faces()) {
+            final Vector3D p1 = face.getPoint1();
+            final Vector3D normal = p1.vectorTo(face.getPoint2()).cross(p1.vectorTo(face.getPoint3()));
+            Assertions.assertTrue(normal.dot(p1) > 0);
+        }
+    }
+
+    @Test
+    void testSimplify_sphere_maxError() {
+        // arrange
+        final TriangleMesh mesh = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(2);
+
+        // act
+        final CompactTriangleMesh zeroError = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setMaxError(0)
+                .build()
+                .simplify(mesh);
+        final CompactTriangleMesh smallError = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setMaxError(3e-2)
+                .build()
+                .simplify(mesh);
+
+        // assert
+        Assertions.assertEquals(mesh.getFaceCount(), zeroError.getFaceCount());
+        Assertions.assertEquals(mesh.getVertexCount(), zeroError.getVertexCount());
+
+        Assertions.assertTrue(smallError.getFaceCount() < mesh.getFaceCount());
+        Assertions.assertTrue(smallError.getFaceCount() > 4);
+        Assertions.assertTrue(smallError.getAdjacency().isClosed());
+    }
+
+    @Test
+    void testSimplify_closedMesh_minimal() {
+        // arrange
+        final TriangleMesh mesh = Sphere.from(Vector3D.ZERO, 1, TEST_PRECISION).toTriangleMesh(2);
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION).build();
+
+        // act
+        final CompactTriangleMesh result = simplifier.simplify(mesh);
+
+        // assert
+        // a tetrahedron cannot be simplified further without creating duplicate faces
+        Assertions.assertEquals(4, result.getFaceCount());
+        Assertions.assertEquals(4, result.getVertexCount());
+        Assertions.assertTrue(result.getAdjacency().isClosed());
+    }
+
+    @Test
+    void testSimplify_cube() {
+        // arrange
+        final TriangleMesh mesh = Parallelepiped.unitCube(TEST_PRECISION).toTriangleMesh(TEST_PRECISION);
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION).build();
+
+        // act
+        final CompactTriangleMesh result = simplifier.simplify(mesh);
+
+        // assert
+        Assertions.assertEquals(4, result.getFaceCount());
+        Assertions.assertTrue(result.getAdjacency().isClosed());
+    }
+
+    @Test
+    void testSimplify_inputMeshTypes() {
+        // arrange
+        final CompactTriangleMesh compact = createGrid(6);
+        final SimpleTriangleMesh simple = SimpleTriangleMesh.from(compact.getVertices(), compact.getFaces().stream()
+                .map(TriangleMesh.Face::getVertexIndices)
+                .collect(java.util.stream.Collectors.toList()), TEST_PRECISION);
+        final TriangleMeshSimplifier simplifier = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setTargetFaceCount(30)
+                .build();
+
+        // act
+        final CompactTriangleMesh compactResult = simplifier.simplify(compact);
+        final CompactTriangleMesh simpleResult = simplifier.simplify(simple);
+
+        // assert
+        Assertions.assertEquals(compactResult.getVertices(), simpleResult.getVertices());
+        Assertions.assertArrayEquals(compactResult.getFaceIndices(), simpleResult.getFaceIndices());
+        Assertions.assertTrue(compactResult.getFaceCount() <= 30);
+    }
+
+    @Test
+    void testSimplify_degenerateFaces() {
+        // arrange
+        final double[] coords = {
+            0, 0, 0,
+            1, 0, 0,
+            2, 0, 0,
+            1, 1, 0
+        };
+        // the first face has zero area
+        final int[] faces = {0, 1, 2, 0, 1, 3, 1, 2, 3};
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(coords, faces, TEST_PRECISION);
+
+        // act
+        final CompactTriangleMesh result = TriangleMeshSimplifier.builder(TEST_PRECISION)
+                .setPreserveBoundary(false)
+                .build()
+                .simplify(mesh);
+
+        // assert
+        Assertions.assertTrue(result.getFaceCount() <= mesh.getFaceCount());
+        for (final Vector3D vertex : result.vertices()) {
+            Assertions.assertEquals(0, vertex.getZ(), TEST_EPS);
+        }
+    }
+
+    @Test
+    void testSimplify_inputNotModified() {
+        // arrange
+        final CompactTriangleMesh mesh = createGrid(4);
+        final double[] coords = mesh.getVertexCoordinates();
+        final int[] faces = mesh.getFaceIndices();
+
+        // act
+        TriangleMeshSimplifier.builder(TEST_PRECISION).build().simplify(mesh);
+
+        // assert
+        Assertions.assertArrayEquals(coords, mesh.getVertexCoordinates());
+        Assertions.assertArrayEquals(faces, mesh.getFaceIndices());
+    }
+
+    private static CompactTriangleMesh createGrid(final int size) {
+        final int n = size + 1;
+        final double[] coords = new double[n * n * 3];
+        int c = 0;
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                coords[c++] = i;
+                coords[c++] = j;
+                coords[c++] = 0;
+            }
+        }
+
+        final int[] faces = new int[size * size * 6];
+        int f = 0;
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                final int v = (i * n) + j;
+
+                faces[f++] = v;
+                faces[f++] = v + n;
+                faces[f++] = v + n + 1;
+
+                faces[f++] = v;
+                faces[f++] = v + n + 1;
+                faces[f++] = v + 1;
+            }
+        }
+
+        return CompactTriangleMesh.from(coords, faces, TEST_PRECISION);
+    }
+
+    private static double computeArea(final TriangleMesh mesh) {
+        double area = 0;
+        for (final TriangleMesh.Face face : mesh.faces()) {
+            final Vector3D p1 = face.getPoint1();
+            area += p1.vectorTo(face.getPoint2()).cross(p1.vectorTo(face.getPoint3())).norm();
+        }
+        return 0.5 * area;
+    }
+
+    private static Set<Vector3D> getBoundaryVertices(final TriangleMesh mesh) {
+        final TriangleMeshAdjacency adj = mesh.getAdjacency();
+        final Set<Vector3D> result = new HashSet<>();
+        for (int v = 0; v < adj.getVertexCount(); ++v) {
+            if (adj.isBoundaryVertex(v)) {
+                result.add(mesh.getVertices().get(v));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.mesh;
+
+import java.util.Arrays;
+
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TriangleMeshTest {
+
+    private static final double TEST_EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence TEST_PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(TEST_EPS);
+
+    private static final double[] COORDS = {
+        0, 0, 0,
+        1, 0, 0,
+        1, 1, 0,
+        0, 1, 2
+    };
+
+    private static final int[] FACES = {
+        0, 1, 2,
+        0, 2, 3,
+        3, 2, 1
+    };
+
+    @Test
+    void testGetVertexCoordinatesAndFaceIndices() {
+        // arrange
+        final CompactTriangleMesh compact = CompactTriangleMesh.from(COORDS, FACES, TEST_PRECISION);
+        final SimpleTriangleMesh simple = SimpleTriangleMesh.from(compact.getVertices(),
+                Arrays.asList(new int[] {0, 1, 2}, new int[] {0, 2, 3}, new int[] {3, 2, 1}), TEST_PRECISION);
+
+        // act/assert
+        for (final TriangleMesh mesh : new TriangleMesh[] {compact, simple, new DelegatingTriangleMesh(simple)}) {
+            final double[] coords = mesh.getVertexCoordinates();
+            final int[] faces = mesh.getFaceIndices();
+
+            Assertions.assertArrayEquals(COORDS, coords);
+            Assertions.assertArrayEquals(FACES, faces);
+
+            // check that the arrays are copies
+            coords[0] = -1;
+            faces[0] = -1;
+            Assertions.assertEquals(Vector3D.ZERO, mesh.getVertices().get(0));
+            Assertions.assertEquals(0, mesh.getFace(0).getVertexIndices()[0]);
+            Assertions.assertArrayEquals(COORDS, mesh.getVertexCoordinates());
+            Assertions.assertArrayEquals(FACES, mesh.getFaceIndices());
+        }
+    }
+
+    @Test
+    void testGetVertexCoordinatesAndFaceIndices_empty() {
+        // arrange
+        final TriangleMesh mesh = new DelegatingTriangleMesh(SimpleTriangleMesh.builder(TEST_PRECISION).build());
+
+        // act/assert
+        Assertions.assertEquals(0, mesh.getVertexCoordinates().length);
+        Assertions.assertEquals(0, mesh.getFaceIndices().length);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.rotation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PreparedQuaternionRotationTest {
+
+    private static final double EPS = 1e-12;
+
+    private static final QuaternionRotation ROTATION =
+            QuaternionRotation.fromAxisAngle(Vector3D.of(1, -2, 3), 0.75);
+
+    @Test
+    void testApply() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+
+        // act/assert
+        EuclideanTestUtils.permute(-2, 2, 0.5, (x, y, z) -> {
+            final Vector3D v = Vector3D.of(x, y, z);
+            final Vector3D expected = ROTATION.apply(v);
+
+            EuclideanTestUtils.assertCoordinatesEqual(expected, prepared.apply(v), EPS);
+            EuclideanTestUtils.assertCoordinatesEqual(expected, prepared.applyVector(v), EPS);
+        });
+    }
+
+    @Test
+    void testApply_packedArray() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+        final double[] coords = {1, 2, 3, -4, 5, -6};
+
+        // act
+        prepared.apply(coords);
+
+        // assert
+        assertCoordinates(ROTATION.apply(Vector3D.of(1, 2, 3)), coords, 0);
+        assertCoordinates(ROTATION.apply(Vector3D.of(-4, 5, -6)), coords, 3);
+    }
+
+    @Test
+    void testApply_stridedArrays() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+        final double[] src = {0, 1, 2, 3, 0, -4, 5, -6};
+        final double[] dst = new double[7];
+
+        // act
+        prepared.apply(src, 1, 4, dst, 1, 3, 2);
+
+        // assert
+        Assertions.assertEquals(0.0, dst[0]);
+        assertCoordinates(ROTATION.apply(Vector3D.of(1, 2, 3)), dst, 1);
+        assertCoordinates(ROTATION.apply(Vector3D.of(-4, 5, -6)), dst, 4);
+    }
+
+    @Test
+    void testApply_arrays_invalidArgs() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+
+        // act/assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> prepared.apply(new double[4]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> prepared.apply(new double[6], 0, 2, new double[6], 0, 3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> prepared.apply(new double[6], 0, 3, new double[5], 0, 3, 2));
+    }
+
+    @Test
+    void testApply_iterable() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+        final List<Vector3D> vecs = Arrays.asList(Vector3D.of(1, 2, 3), Vector3D.of(-4, 5, -6));
+        final double[] dst = new double[8];
+
+        // act
+        final int count = prepared.apply(vecs, dst, 2);
+
+        // assert
+        Assertions.assertEquals(2, count);
+        assertCoordinates(ROTATION.apply(vecs.get(0)), dst, 2);
+        assertCoordinates(ROTATION.apply(vecs.get(1)), dst, 5);
+
+        Assertions.assertEquals(0, prepared.apply(Collections.emptyList(), dst, 8));
+    }
+
+    @Test
+    void testApply_iterable_insufficientSpace() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+        final List<Vector3D> vecs = Arrays.asList(Vector3D.of(1, 2, 3), Vector3D.of(-4, 5, -6));
+        final double[] dst = new double[5];
+
+        // act/assert
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> prepared.apply(vecs, dst, 0));
+        assertCoordinates(ROTATION.apply(vecs.get(0)), dst, 0);
+    }
+
+    @Test
+    void testInverse() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+
+        // act
+        final PreparedQuaternionRotation inverse = prepared.inverse();
+
+        // assert
+        Assertions.assertEquals(ROTATION.inverse(), inverse.getRotation());
+
+        final Vector3D v = Vector3D.of(1, 2, 3);
+        EuclideanTestUtils.assertCoordinatesEqual(v, inverse.apply(prepared.apply(v)), EPS);
+    }
+
+    @Test
+    void testProperties() {
+        // arrange
+        final PreparedQuaternionRotation prepared = ROTATION.prepare();
+
+        // act/assert
+        Assertions.assertSame(ROTATION, prepared.getRotation());
+        EuclideanTestUtils.assertCoordinatesEqual(ROTATION.getAxis(), prepared.getAxis(), EPS);
+        Assertions.assertEquals(ROTATION.getAngle(), prepared.getAngle(), EPS);
+        Assertions.assertTrue(prepared.preservesOrientation());
+    }
+
+    @Test
+    void testToString() {
+        // arrange
+        final PreparedQuaternionRotation prepared = QuaternionRotation.identity().prepare();
+
+        // act
+        final String str = prepared.toString();
+
+        // assert
+        Assertions.assertEquals("PreparedQuaternionRotation[rotation=" + QuaternionRotation.identity() + "]", str);
+    }
+
+    private static void assertCoordinates(final Vector3D expected, final double[] coords, final int offset) {
+        EuclideanTestUtils.assertCoordinatesEqual(expected,
+                Vector3D.of(coords[offset], coords[offset + 1], coords[offset + 2]), EPS);
+    }
+}
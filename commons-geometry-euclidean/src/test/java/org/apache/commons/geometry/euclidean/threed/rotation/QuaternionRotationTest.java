@@ -266,6 +266,54 @@ class QuaternionRotationTest {
                 IllegalArgumentException.class, "Invalid angle: -Infinity");
     }
 
+    @Test
+    void testApply_packedArrays() {
+        // arrange
+        final QuaternionRotation q = QuaternionRotation.fromAxisAngle(Vector3D.of(1, -2, 3), 2.5);
+
+        final double[] coords = {1, 2, 3, -4, 5, -6, 0.1, 0.2, 0.3};
+        final double[] src = {-1, 1, 2, 3, -1, -4, 5, -6};
+        final double[] dst = new double[8];
+
+        // act
+        q.apply(coords);
+        q.apply(src, 1, 4, dst, 2, 3, 2);
+
+        // assert
+        Assertions.assertEquals(q.apply(Vector3D.of(1, 2, 3)), Vector3D.of(coords[0], coords[1], coords[2]));
+        Assertions.assertEquals(q.apply(Vector3D.of(-4, 5, -6)), Vector3D.of(coords[3], coords[4], coords[5]));
+        Assertions.assertEquals(q.apply(Vector3D.of(0.1, 0.2, 0.3)), Vector3D.of(coords[6], coords[7], coords[8]));
+
+        Assertions.assertEquals(q.apply(Vector3D.of(1, 2, 3)), Vector3D.of(dst[2], dst[3], dst[4]));
+        Assertions.assertEquals(q.apply(Vector3D.of(-4, 5, -6)), Vector3D.of(dst[5], dst[6], dst[7]));
+        Assertions.assertEquals(0.0, dst[0]);
+        Assertions.assertEquals(0.0, dst[1]);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> q.apply(new double[2]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 3; was 2");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> q.apply(src, 0, 4, dst, 0, 3, 3));
+    }
+
+    @Test
+    void testApply_separateArrays() {
+        // arrange
+        final QuaternionRotation q = QuaternionRotation.fromAxisAngle(Vector3D.of(1, -2, 3), 2.5);
+
+        final double[] xs = {1, -4, 0.1};
+        final double[] ys = {2, 5, 0.2};
+        final double[] zs = {3, -6, 0.3};
+
+        // act
+        q.apply(xs, ys, zs, 1, 2);
+
+        // assert
+        Assertions.assertEquals(Vector3D.of(1, 2, 3), Vector3D.of(xs[0], ys[0], zs[0]));
+        Assertions.assertEquals(q.apply(Vector3D.of(-4, 5, -6)), Vector3D.of(xs[1], ys[1], zs[1]));
+        Assertions.assertEquals(q.apply(Vector3D.of(0.1, 0.2, 0.3)), Vector3D.of(xs[2], ys[2], zs[2]));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> q.apply(xs, ys, new double[2], 1, 2));
+    }
+
     @Test
     void testApplyVector() {
         // arrange
@@ -698,6 +746,88 @@ class QuaternionRotationTest {
         EuclideanTestUtils.assertCoordinatesEqual(Vector3D.Unit.PLUS_X, slerp21.apply(5.5).apply(vec), EPS);
     }
 
+    @Test
+    void testSlerpFrames_matchesSlerp() {
+        // arrange
+        final QuaternionRotation[] rotations = {
+            QuaternionRotation.identity(),
+            QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, 0.75 * Math.PI),
+            QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Z, -0.75 * Math.PI),
+            QuaternionRotation.fromAxisAngle(Vector3D.of(1, -2, 3), 1e-3),
+            QuaternionRotation.fromAxisAngle(Vector3D.of(-1, 1, 1), 2.5),
+            QuaternionRotation.of(-1, 0, 0, -1)
+        };
+
+        final int frameCount = 11;
+        final double[] frames = new double[(4 * frameCount) + 2];
+
+        for (final QuaternionRotation start : rotations) {
+            for (final QuaternionRotation end : rotations) {
+                // act
+                start.slerpFrames(end, frameCount, frames, 2);
+
+                // assert
+                final DoubleFunction<QuaternionRotation> slerp = start.slerp(end);
+                for (int i = 0; i < frameCount; ++i) {
+                    final Quaternion expected = slerp.apply(i / (frameCount - 1.0)).getQuaternion();
+                    final int idx = 2 + (4 * i);
+
+                    Assertions.assertEquals(expected.getW(), frames[idx], EPS);
+                    Assertions.assertEquals(expected.getX(), frames[idx + 1], EPS);
+                    Assertions.assertEquals(expected.getY(), frames[idx + 2], EPS);
+                    Assertions.assertEquals(expected.getZ(), frames[idx + 3], EPS);
+                }
+
+                assertFrameEquals(start, frames, 2);
+                assertFrameEquals(end, frames, frames.length - 4);
+            }
+        }
+    }
+
+    @Test
+    void testSlerpFrames_smallFrameCounts() {
+        // arrange
+        final QuaternionRotation start = QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_X, 1);
+        final QuaternionRotation end = QuaternionRotation.fromAxisAngle(Vector3D.Unit.PLUS_Y, 1);
+        final double[] frames = new double[8];
+
+        // act/assert
+        start.slerpFrames(end, 0, frames, 0);
+        Assertions.assertArrayEquals(new double[8], frames);
+
+        start.slerpFrames(end, 1, frames, 4);
+        assertFrameEquals(start, frames, 4);
+
+        start.slerpFrames(end, 2, frames, 0);
+        assertFrameEquals(start, frames, 0);
+        assertFrameEquals(end, frames, 4);
+    }
+
+    @Test
+    void testSlerpFrames_invalidArgs() {
+        // arrange
+        final QuaternionRotation q = QuaternionRotation.identity();
+        final double[] frames = new double[8];
+
+        // act/assert
+        Assertions.assertThrows(IllegalArgumentException.class, () -> q.slerpFrames(q, -1, frames, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> q.slerpFrames(q, 3, frames, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> q.slerpFrames(q, 2, frames, 1));
+    }
+
+    @Test
+    void testPrepare() {
+        // arrange
+        final QuaternionRotation q = QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 0.5);
+
+        // act
+        final PreparedQuaternionRotation prepared = q.prepare();
+
+        // assert
+        Assertions.assertSame(q, prepared.getRotation());
+        assertFnEquals(q::apply, prepared::apply);
+    }
+
     @Test
     void testToMatrix() {
         // act/assert
@@ -1609,4 +1739,13 @@ class QuaternionRotationTest {
             Assertions.assertEquals(expected.getZ(), actual.getZ(), EPS, msg);
         });
     }
+
+    private static void assertFrameEquals(final QuaternionRotation expected, final double[] frames,
+            final int offset) {
+        final Quaternion q = expected.getQuaternion();
+        Assertions.assertEquals(q.getW(), frames[offset]);
+        Assertions.assertEquals(q.getX(), frames[offset + 1]);
+        Assertions.assertEquals(q.getY(), frames[offset + 2]);
+        Assertions.assertEquals(q.getZ(), frames[offset + 3]);
+    }
 }
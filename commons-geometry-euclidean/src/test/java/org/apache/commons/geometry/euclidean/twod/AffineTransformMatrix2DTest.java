@@ -736,6 +736,68 @@ class AffineTransformMatrix2DTest {
         });
     }
 
+    @Test
+    void testApply_packedArrays() {
+        // arrange
+        final AffineTransformMatrix2D transform = AffineTransformMatrix2D.createScale(2, -3)
+                .rotate(0.3)
+                .shear(0.5, -0.25)
+                .translate(1, 2);
+
+        final double[] coords = {1, 2, -3, 4, 1e3, -1e-3};
+        final double[] src = {-1, 1, 2, -1, -3, 4};
+        final double[] dst = new double[5];
+
+        // act
+        transform.apply(coords);
+        transform.apply(src, 1, 3, dst, 1, 2, 2);
+
+        // assert
+        Assertions.assertEquals(transform.apply(Vector2D.of(1, 2)), Vector2D.of(coords[0], coords[1]));
+        Assertions.assertEquals(transform.apply(Vector2D.of(-3, 4)), Vector2D.of(coords[2], coords[3]));
+        Assertions.assertEquals(transform.apply(Vector2D.of(1e3, -1e-3)), Vector2D.of(coords[4], coords[5]));
+
+        Assertions.assertEquals(0.0, dst[0]);
+        Assertions.assertEquals(transform.apply(Vector2D.of(1, 2)), Vector2D.of(dst[1], dst[2]));
+        Assertions.assertEquals(transform.apply(Vector2D.of(-3, 4)), Vector2D.of(dst[3], dst[4]));
+    }
+
+    @Test
+    void testApply_separateArrays() {
+        // arrange
+        final AffineTransformMatrix2D transform = AffineTransformMatrix2D.createScale(2, -3)
+                .translate(1, 2);
+
+        final double[] xs = {1, -3, 0.5};
+        final double[] ys = {2, 4, -0.25};
+
+        // act
+        transform.apply(xs, ys, 1, 2);
+
+        // assert
+        Assertions.assertEquals(Vector2D.of(1, 2), Vector2D.of(xs[0], ys[0]));
+        Assertions.assertEquals(transform.apply(Vector2D.of(-3, 4)), Vector2D.of(xs[1], ys[1]));
+        Assertions.assertEquals(transform.apply(Vector2D.of(0.5, -0.25)), Vector2D.of(xs[2], ys[2]));
+    }
+
+    @Test
+    void testApply_arrays_invalidArgs() {
+        // arrange
+        final AffineTransformMatrix2D transform = AffineTransformMatrix2D.createTranslation(1, 2);
+        final double[] arr = new double[4];
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(new double[3]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 2; was 3");
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(arr, 0, 2, arr, 0, 1, 1),
+                IllegalArgumentException.class, "Invalid stride: 1");
+        GeometryTestUtils.assertThrowsWithMessage(() -> transform.apply(arr, 0, 2, arr, 0, 2, -2),
+                IllegalArgumentException.class, "Invalid point count: -2");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> transform.apply(arr, -1, 2, arr, 0, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> transform.apply(arr, 0, 2, arr, 1, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> transform.apply(arr, new double[3], 0, 4));
+    }
+
     @Test
     void testApplyVector_identity() {
         // arrange
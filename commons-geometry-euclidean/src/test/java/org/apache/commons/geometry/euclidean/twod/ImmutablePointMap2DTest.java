@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.core.collection.PointSet;
+import org.apache.commons.geometry.euclidean.EuclideanCollections;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ImmutablePointMap2DTest {
+
+    private static final double EPS = 1e-10;
+
+    private static final Precision.DoubleEquivalence PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(EPS);
+
+    @Test
+    void testEmpty() {
+        // act
+        final PointMap<Vector2D, Integer> map =
+                EuclideanCollections.immutablePointMap2D(PRECISION, Collections.emptyMap());
+
+        // assert
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.get(Vector2D.ZERO));
+        Assertions.assertNull(map.getEntry(Vector2D.ZERO));
+        Assertions.assertFalse(map.containsKey(Vector2D.ZERO));
+        Assertions.assertNull(map.nearestEntry(Vector2D.ZERO));
+        Assertions.assertNull(map.farthestEntry(Vector2D.ZERO));
+        Assertions.assertEquals(0, map.entriesNearToFar(Vector2D.ZERO).size());
+        Assertions.assertFalse(map.entriesNearToFar(Vector2D.ZERO).iterator().hasNext());
+        Assertions.assertFalse(map.entriesFarToNear(Vector2D.ZERO).iterator().hasNext());
+
+        final Iterator<Map.Entry<Vector2D, Integer>> it = map.entrySet().iterator();
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void testGet() {
+        // arrange
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        src.put(Vector2D.of(2, 3), 0);
+        src.put(Vector2D.of(2, 3 + (0.5 * EPS)), 1);
+        src.put(Vector2D.of(-1, 0), 2);
+        src.put(Vector2D.of(Double.MAX_VALUE, 0), 3);
+
+        // act
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // assert
+        Assertions.assertEquals(3, map.size());
+
+        Assertions.assertEquals(1, map.get(Vector2D.of(2, 3)));
+        Assertions.assertEquals(Vector2D.of(2, 3), map.getEntry(Vector2D.of(2 + (0.5 * EPS), 3)).getKey());
+        Assertions.assertEquals(2, map.get(Vector2D.of(-1, 0)));
+        Assertions.assertEquals(3, map.get(Vector2D.of(Double.MAX_VALUE, 0)));
+
+        Assertions.assertNull(map.get(Vector2D.of(2, 3 + (2 * EPS))));
+        Assertions.assertNull(map.get(Vector2D.NaN));
+        Assertions.assertNull(map.get(Vector2D.POSITIVE_INFINITY));
+        Assertions.assertThrows(NullPointerException.class, () -> map.get(null));
+
+        Assertions.assertTrue(map.containsKey(Vector2D.of(-1, 0)));
+        Assertions.assertFalse(map.containsKey(Vector2D.of(-1, 1)));
+
+        Assertions.assertTrue(map.containsValue(3));
+        Assertions.assertFalse(map.containsValue(0));
+    }
+
+    @Test
+    void testEntrySet() {
+        // arrange
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        src.put(Vector2D.of(2, 3), 0);
+        src.put(Vector2D.of(-1, 0), 1);
+
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // act/assert
+        Assertions.assertEquals(2, map.entrySet().size());
+        Assertions.assertTrue(map.entrySet().contains(new SimpleEntry<>(Vector2D.of(2, 3 + (0.5 * EPS)), 0)));
+        Assertions.assertFalse(map.entrySet().contains(new SimpleEntry<>(Vector2D.of(2, 3), 1)));
+        Assertions.assertFalse(map.entrySet().contains(new SimpleEntry<>(Vector2D.of(2, 4), 0)));
+        Assertions.assertFalse(map.entrySet().contains(Vector2D.of(2, 3)));
+
+        Assertions.assertEquals(src, map);
+        Assertions.assertEquals(map, src);
+        Assertions.assertEquals(src.hashCode(), map.hashCode());
+    }
+
+    @Test
+    void testModificationUnsupported() {
+        // arrange
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        src.put(Vector2D.of(2, 3), 0);
+
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // act/assert
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.put(Vector2D.ZERO, 1));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.putAll(Collections.emptyMap()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.remove(Vector2D.of(2, 3)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.remove(Vector2D.ZERO));
+        Assertions.assertThrows(UnsupportedOperationException.class, map::clear);
+
+        final Map.Entry<Vector2D, Integer> entry = map.getEntry(Vector2D.of(2, 3));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> entry.setValue(1));
+
+        final Iterator<Map.Entry<Vector2D, Integer>> it = map.entrySet().iterator();
+        it.next();
+        Assertions.assertThrows(UnsupportedOperationException.class, it::remove);
+
+        final Iterator<Map.Entry<Vector2D, Integer>> nearIt = map.entriesNearToFar(Vector2D.ZERO).iterator();
+        nearIt.next();
+        Assertions.assertThrows(UnsupportedOperationException.class, nearIt::remove);
+
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    void testInvalidArgs() {
+        // arrange
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        src.put(Vector2D.of(2, 3), 0);
+
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // act/assert
+        Assertions.assertThrows(NullPointerException.class, () -> map.nearestEntry(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.nearestEntry(Vector2D.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.farthestEntry(Vector2D.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.entriesNearToFar(Vector2D.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.entriesFarToNear(Vector2D.NaN));
+
+        src.put(Vector2D.NEGATIVE_INFINITY, 1);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.immutablePointMap2D(PRECISION, src));
+    }
+
+    @Test
+    void testNearestAndFarthestEntry_equalDistances() {
+        // arrange
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        int i = 0;
+        for (final Vector2D pt : Arrays.asList(
+                Vector2D.Unit.MINUS_X, Vector2D.Unit.PLUS_X,
+                Vector2D.Unit.MINUS_Y, Vector2D.Unit.PLUS_Y)) {
+            src.put(pt, ++i);
+        }
+
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // act/assert
+        Assertions.assertEquals(new SimpleEntry<>(Vector2D.Unit.MINUS_X, 1), map.nearestEntry(Vector2D.ZERO));
+        Assertions.assertEquals(new SimpleEntry<>(Vector2D.Unit.PLUS_X, 2), map.farthestEntry(Vector2D.ZERO));
+    }
+
+    @Test
+    void testDenseLine() {
+        // arrange
+        final double step = 1.1 * EPS;
+        final int cnt = 10_000;
+
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        for (int i = 0; i < cnt; ++i) {
+            src.put(Vector2D.of(-1 + (i * step), 0), i);
+        }
+
+        // act
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // assert
+        Assertions.assertEquals(cnt, map.size());
+
+        final double offset = 0.9 * EPS;
+        for (int i = 0; i < cnt; ++i) {
+            Assertions.assertEquals(i, map.get(Vector2D.of(-1 + (i * step) + offset, 0)));
+        }
+    }
+
+    @Test
+    void testMatchesMutableMap() {
+        // arrange
+        final Random rnd = new Random(3L);
+
+        final PointMap<Vector2D, Integer> expected = EuclideanCollections.pointMap2D(PRECISION);
+        for (int i = 0; i < 2_000; ++i) {
+            expected.put(randomPoint(rnd), i);
+        }
+
+        // act
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, expected);
+
+        // assert
+        Assertions.assertEquals(expected, map);
+
+        for (final Vector2D pt : expected.keySet()) {
+            final Vector2D near = pt.add(Vector2D.of(0.5 * EPS, -0.5 * EPS));
+            Assertions.assertEquals(expected.getEntry(near), map.getEntry(near));
+            Assertions.assertSame(map.getEntry(near), map.nearestEntry(near));
+        }
+
+        for (int i = 0; i < 50; ++i) {
+            final Vector2D refPt = randomPoint(rnd).multiply(1.5);
+
+            Assertions.assertNull(map.get(refPt));
+            Assertions.assertEquals(expected.nearestEntry(refPt), map.nearestEntry(refPt));
+            Assertions.assertEquals(expected.farthestEntry(refPt), map.farthestEntry(refPt));
+
+            Assertions.assertEquals(new ArrayList<>(expected.entriesNearToFar(refPt)),
+                    new ArrayList<>(map.entriesNearToFar(refPt)));
+            Assertions.assertEquals(new ArrayList<>(expected.entriesFarToNear(refPt)),
+                    new ArrayList<>(map.entriesFarToNear(refPt)));
+        }
+    }
+
+    @Test
+    void testApproximateNearestEntry() {
+        // arrange
+        final Random rnd = new Random(4L);
+
+        final PointMap<Vector2D, Integer> expected = EuclideanCollections.pointMap2D(PRECISION);
+        for (int i = 0; i < 2_000; ++i) {
+            expected.put(randomPoint(rnd), i);
+        }
+
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, expected);
+
+        // act/assert
+        Assertions.assertNull(EuclideanCollections.immutablePointMap2D(PRECISION, Collections.emptyMap())
+                .approximateNearestEntry(Vector2D.ZERO, 0, 1));
+
+        for (int i = 0; i < 100; ++i) {
+            final Vector2D refPt = randomPoint(rnd).multiply(1.5);
+            final double nearestDist = expected.nearestEntry(refPt).getKey().distance(refPt);
+
+            Assertions.assertEquals(expected.nearestEntry(refPt), map.approximateNearestEntry(refPt, 0, Integer.MAX_VALUE));
+
+            final Map.Entry<Vector2D, Integer> approx = map.approximateNearestEntry(refPt, 0.5, Integer.MAX_VALUE);
+            Assertions.assertTrue(approx.getKey().distance(refPt) <= 1.5 * nearestDist);
+
+            final Map.Entry<Vector2D, Integer> budget = map.approximateNearestEntry(refPt, 0, 1);
+            Assertions.assertEquals(budget.getValue(), map.get(budget.getKey()));
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> map.approximateNearestEntry(Vector2D.NaN, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> map.approximateNearestEntry(Vector2D.ZERO, -1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> map.approximateNearestEntry(Vector2D.ZERO, 0, 0));
+    }
+
+    @Test
+    void testConcurrentReads() {
+        // arrange
+        final Random rnd = new Random(5L);
+
+        final List<Vector2D> pts = new ArrayList<>();
+        final Map<Vector2D, Integer> src = new LinkedHashMap<>();
+        for (int i = 0; i < 5_000; ++i) {
+            final Vector2D pt = randomPoint(rnd);
+            pts.add(pt);
+            src.put(pt, i);
+        }
+
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.immutablePointMap2D(PRECISION, src);
+
+        // act/assert
+        Assertions.assertTrue(IntStream.range(0, pts.size()).parallel()
+                .allMatch(i -> map.get(pts.get(i)) == i && map.nearestEntry(pts.get(i)).getValue() == i));
+    }
+
+    @Test
+    void testImmutablePointSet() {
+        // arrange
+        final List<Vector2D> pts = Arrays.asList(
+                Vector2D.of(2, 3),
+                Vector2D.of(2, 3 + (0.5 * EPS)),
+                Vector2D.of(-1, 0),
+                Vector2D.of(4, 0));
+
+        // act
+        final PointSet<Vector2D> set = EuclideanCollections.immutablePointSet2D(PRECISION, pts);
+
+        // assert
+        Assertions.assertEquals(3, set.size());
+        Assertions.assertTrue(set.contains(Vector2D.of(2, 3 - (0.5 * EPS))));
+        Assertions.assertSame(pts.get(0), set.get(Vector2D.of(2, 3)));
+        Assertions.assertEquals(Vector2D.of(-1, 0), set.nearest(Vector2D.ZERO));
+        Assertions.assertEquals(Vector2D.of(4, 0), set.farthest(Vector2D.ZERO));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.add(Vector2D.ZERO));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.remove(Vector2D.ZERO));
+        Assertions.assertThrows(UnsupportedOperationException.class, set::clear);
+    }
+
+    private static Vector2D randomPoint(final Random rnd) {
+        return Vector2D.of(rnd.nextDouble() - 0.5, rnd.nextDouble() - 0.5);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MutableVector2DTest {
+
+    private static final double EPS = 1e-15;
+
+    @Test
+    void testConstructionAndConversion() {
+        // act/assert
+        checkVector(new MutableVector2D(), 0, 0);
+        checkVector(MutableVector2D.of(1, -2), 1, -2);
+        checkVector(MutableVector2D.from(Vector2D.of(-4, 5)), -4, 5);
+
+        Assertions.assertEquals(Vector2D.of(1, -2), MutableVector2D.of(1, -2).toVector());
+    }
+
+    @Test
+    void testSet() {
+        // arrange
+        final MutableVector2D v = new MutableVector2D();
+
+        // act/assert
+        Assertions.assertSame(v, v.set(1, 2));
+        checkVector(v, 1, 2);
+
+        Assertions.assertSame(v, v.set(Vector2D.of(4, 5)));
+        checkVector(v, 4, 5);
+
+        Assertions.assertSame(v, v.set(MutableVector2D.of(7, 8)));
+        checkVector(v, 7, 8);
+    }
+
+    @Test
+    void testArithmetic() {
+        // arrange
+        final MutableVector2D v = MutableVector2D.of(1, 2);
+
+        // act/assert
+        checkVector(v.add(Vector2D.of(1, 1)), 2, 3);
+        checkVector(v.add(MutableVector2D.of(-1, -1)), 1, 2);
+        checkVector(v.add(2, Vector2D.of(1, -1)), 3, 0);
+        checkVector(v.add(-2, MutableVector2D.of(1, -1)), 1, 2);
+        checkVector(v.subtract(Vector2D.of(1, 1)), 0, 1);
+        checkVector(v.subtract(MutableVector2D.of(-1, -1)), 1, 2);
+        checkVector(v.multiply(2), 2, 4);
+        checkVector(v.negate(), -2, -4);
+    }
+
+    @Test
+    void testDotAndNorm() {
+        // arrange
+        final MutableVector2D v = MutableVector2D.of(3, -4);
+
+        // act/assert
+        Assertions.assertEquals(-1, v.dot(Vector2D.of(1, 1)), EPS);
+        Assertions.assertEquals(25, v.dot(v), EPS);
+        Assertions.assertEquals(5, v.norm(), EPS);
+        Assertions.assertEquals(25, v.normSq(), EPS);
+    }
+
+    @Test
+    void testLerp() {
+        // arrange
+        final MutableVector2D v = MutableVector2D.of(1, 2);
+
+        // act/assert
+        checkVector(v.lerp(Vector2D.of(3, 6), 0.5), 2, 4);
+        checkVector(v.lerp(Vector2D.ZERO, 0), 2, 4);
+        checkVector(v.lerp(Vector2D.ZERO, 1), 0, 0);
+    }
+
+    @Test
+    void testNormalize() {
+        // act/assert
+        checkVector(MutableVector2D.of(0, -5).normalize(), 0, -1);
+        checkVector(MutableVector2D.of(Double.MAX_VALUE, 0).normalize(), 1, 0);
+        checkVector(MutableVector2D.of(0, Double.MIN_VALUE).normalize(), 0, 1);
+    }
+
+    @Test
+    void testNormalize_illegalNorm() {
+        // arrange
+        final MutableVector2D v = MutableVector2D.of(0, 0);
+
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(v::normalize,
+                IllegalArgumentException.class, "Illegal norm: 0.0");
+        checkVector(v, 0, 0);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MutableVector2D.of(Double.NaN, 0).normalize());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MutableVector2D.of(Double.POSITIVE_INFINITY, 0).normalize());
+    }
+
+    @Test
+    void testResultsMatchVector2D() {
+        // arrange
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+
+        for (int i = 0; i < 100; ++i) {
+            final Vector2D a = randomVector(rnd);
+            final Vector2D b = randomVector(rnd);
+            final double t = rnd.nextDouble();
+
+            // act/assert
+            Assertions.assertEquals(a.add(b), MutableVector2D.from(a).add(b).toVector());
+            Assertions.assertEquals(a.add(t, b), MutableVector2D.from(a).add(t, b).toVector());
+            Assertions.assertEquals(a.subtract(b), MutableVector2D.from(a).subtract(b).toVector());
+            Assertions.assertEquals(a.multiply(t), MutableVector2D.from(a).multiply(t).toVector());
+            Assertions.assertEquals(a.lerp(b, t), MutableVector2D.from(a).lerp(b, t).toVector());
+            Assertions.assertEquals(a.normalize(), MutableVector2D.from(a).normalize().toVector());
+            Assertions.assertEquals(a.dot(b), MutableVector2D.from(a).dot(b));
+            Assertions.assertEquals(a.norm(), MutableVector2D.from(a).norm());
+            Assertions.assertEquals(a.normSq(), MutableVector2D.from(a).normSq());
+        }
+    }
+
+    @Test
+    void testToString() {
+        // arrange
+        final MutableVector2D v = MutableVector2D.of(1, 2);
+
+        // act/assert
+        Assertions.assertEquals(Vector2D.of(1, 2).toString(), v.toString());
+    }
+
+    private static Vector2D randomVector(final UniformRandomProvider rnd) {
+        return Vector2D.of(
+                (rnd.nextDouble() * 200) - 100,
+                (rnd.nextDouble() * 200) - 100);
+    }
+
+    private static void checkVector(final MutableVector2D v, final double x, final double y) {
+        EuclideanTestUtils.assertCoordinatesEqual(Vector2D.of(x, y), v.toVector(), EPS);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.geometry.core.collection.PointMap;
+import org.apache.commons.geometry.euclidean.EuclideanCollections;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PointMap2DGridTest extends PointMap2DTest {
+
+    private static final double CELL_SIZE = 10 * EPS;
+
+    /** {@inheritDoc} */
+    @Override
+    protected <V> PointMap<Vector2D, V> getMap(final Precision.DoubleEquivalence precision) {
+        return EuclideanCollections.gridPointMap2D(precision, CELL_SIZE);
+    }
+
+    @Test
+    void testInvalidCellSize() {
+        // act/assert
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap2D(PRECISION, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap2D(PRECISION, EPS));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap2D(PRECISION, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap2D(PRECISION, Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> EuclideanCollections.gridPointMap2D(PRECISION, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testCellBoundaries() {
+        // arrange
+        final PointMap<Vector2D, Integer> map = getMap(PRECISION);
+
+        final Vector2D corner = Vector2D.of(CELL_SIZE, -CELL_SIZE);
+        final double offset = 0.25 * EPS;
+
+        // act
+        map.put(corner.add(Vector2D.of(offset, -offset)), 1);
+
+        // assert
+        Assertions.assertEquals(1, map.get(corner.add(Vector2D.of(-offset, offset))));
+        Assertions.assertEquals(1, map.get(corner.add(Vector2D.of(-offset, -offset))));
+        Assertions.assertNull(map.get(corner.add(Vector2D.of(-5 * offset, offset))));
+
+        Assertions.assertEquals(1, map.remove(corner.add(Vector2D.of(-offset, offset))));
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testExtremeCoordinates() {
+        // arrange
+        final PointMap<Vector2D, Integer> map = EuclideanCollections.gridPointMap2D(PRECISION, 1);
+
+        final double limit = 0x1.0p52;
+        final List<Vector2D> pts = Arrays.asList(
+                Vector2D.of(-1e300, 0),
+                Vector2D.of(-limit, 0),
+                Vector2D.of(-limit - 4, 0),
+                Vector2D.of(0, 0),
+                Vector2D.of(limit, 0),
+                Vector2D.of(limit + 4, 0),
+                Vector2D.of(1e100, 1e300),
+                Vector2D.of(1e100, 1e200));
+
+        // act
+        for (int i = 0; i < pts.size(); ++i) {
+            map.put(pts.get(i), i);
+        }
+
+        // assert
+        Assertions.assertEquals(pts.size(), map.size());
+        for (int i = 0; i < pts.size(); ++i) {
+            Assertions.assertEquals(i, map.get(pts.get(i)));
+        }
+
+        Assertions.assertEquals(0, map.get(Vector2D.of(-1e300, 0)));
+        Assertions.assertEquals(1, map.get(Vector2D.of(-limit + (0.5 * EPS), 0)));
+        Assertions.assertEquals(4, map.get(Vector2D.of(limit, 0)));
+
+        Assertions.assertEquals(pts.get(1), map.nearestEntry(Vector2D.of(-limit + 10, 0)).getKey());
+        Assertions.assertEquals(pts.get(6), map.farthestEntry(Vector2D.ZERO).getKey());
+        Assertions.assertEquals(pts.get(6), map.farthestEntry(Vector2D.of(0, -1e300)).getKey());
+        Assertions.assertEquals(pts.get(0), map.farthestEntry(Vector2D.of(1e300, 1e300)).getKey());
+
+        for (final Vector2D refPt : pts) {
+            assertDistanceOrder(map, refPt);
+        }
+        assertDistanceOrder(map, Vector2D.of(-1e200, 1));
+        assertDistanceOrder(map, Vector2D.of(1e200, 1e201));
+    }
+
+    @Test
+    void testSparseEntries() {
+        // arrange
+        final PointMap<Vector2D, Integer> map = getMap(PRECISION);
+
+        final List<Vector2D> pts = Arrays.asList(
+                Vector2D.of(-1, -1),
+                Vector2D.of(1, 1),
+                Vector2D.of(1, 1 + (2 * CELL_SIZE)),
+                Vector2D.of(1, -1),
+                Vector2D.of(0, 0));
+
+        // act
+        for (int i = 0; i < pts.size(); ++i) {
+            map.put(pts.get(i), i);
+        }
+
+        // assert
+        Assertions.assertEquals(pts.get(4), map.nearestEntry(Vector2D.of(0.1, 0.1)).getKey());
+        Assertions.assertEquals(pts.get(1), map.nearestEntry(Vector2D.of(1, 1 + (0.9 * CELL_SIZE))).getKey());
+        Assertions.assertEquals(pts.get(2), map.nearestEntry(Vector2D.of(1, 1 + (1.1 * CELL_SIZE))).getKey());
+
+        assertDistanceOrder(map, Vector2D.ZERO);
+        assertDistanceOrder(map, Vector2D.of(1, 1));
+        assertDistanceOrder(map, Vector2D.of(3, -3));
+    }
+
+    @Test
+    void testEntrySetIterator_removeAllAndReuse() {
+        // arrange
+        final PointMap<Vector2D, Integer> map = getMap(PRECISION);
+        for (int i = 0; i < 100; ++i) {
+            map.put(Vector2D.of(i * 0.3 * CELL_SIZE, 0), i);
+        }
+
+        // act
+        final Iterator<Map.Entry<Vector2D, Integer>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            it.next();
+            if (it.hasNext()) {
+                it.remove();
+            }
+        }
+
+        // assert
+        Assertions.assertEquals(1, map.size());
+
+        final Map.Entry<Vector2D, Integer> remaining = map.entrySet().iterator().next();
+        Assertions.assertEquals(remaining, map.nearestEntry(Vector2D.ZERO));
+        Assertions.assertEquals(remaining, map.farthestEntry(Vector2D.ZERO));
+
+        map.remove(remaining.getKey());
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertNull(map.nearestEntry(Vector2D.ZERO));
+
+        map.put(Vector2D.of(0.3 * CELL_SIZE, 0), -1);
+        map.put(Vector2D.of(5, 0), -2);
+        Assertions.assertEquals(-1, map.nearestEntry(Vector2D.ZERO).getValue());
+        Assertions.assertEquals(-2, map.farthestEntry(Vector2D.ZERO).getValue());
+    }
+
+    private static void assertDistanceOrder(final PointMap<Vector2D, Integer> map, final Vector2D refPt) {
+        final List<Vector2D> expected = new ArrayList<>(map.keySet());
+        expected.sort((a, b) -> {
+            final int cmp = Double.compare(a.distance(refPt), b.distance(refPt));
+            return cmp != 0 ?
+                    cmp :
+                    Vector2D.COORDINATE_ASCENDING_ORDER.compare(a, b);
+        });
+
+        final List<Vector2D> nearToFar = new ArrayList<>();
+        map.entriesNearToFar(refPt).forEach(e -> nearToFar.add(e.getKey()));
+        Assertions.assertEquals(expected, nearToFar);
+
+        final List<Vector2D> farToNear = new ArrayList<>();
+        map.entriesFarToNear(refPt).forEach(e -> farToNear.add(0, e.getKey()));
+        Assertions.assertEquals(expected, farToNear);
+    }
+}
@@ -20,6 +20,8 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.geometry.core.GeometryTestUtils;
 import org.apache.commons.numbers.angle.Angle;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -137,6 +139,151 @@ class PolarCoordinatesTest {
         checkPolar(PolarCoordinates.fromCartesian(Vector2D.of(1, -1)), sqrt2, 1.75 * Math.PI);
     }
 
+    @Test
+    void testFromCartesian_packedArray() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] dst = new double[src.length];
+
+        // act
+        PolarCoordinates.fromCartesian(src, dst);
+
+        // assert
+        for (int i = 0; i < src.length; i += 2) {
+            final PolarCoordinates expected = PolarCoordinates.fromCartesian(src[i], src[i + 1]);
+
+            Assertions.assertEquals(expected.getRadius(), dst[i]);
+            Assertions.assertEquals(expected.getAzimuth(), dst[i + 1]);
+        }
+    }
+
+    @Test
+    void testFromCartesian_packedArray_inPlace() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] expected = new double[src.length];
+        PolarCoordinates.fromCartesian(src, expected);
+
+        // act
+        PolarCoordinates.fromCartesian(src, src);
+
+        // assert
+        Assertions.assertArrayEquals(expected, src);
+    }
+
+    @Test
+    void testFromCartesian_packedArrayRange() {
+        // arrange
+        final double[] src = {9, 0, -2, 9};
+        final double[] dst = {7, 7, 7, 7};
+
+        // act
+        PolarCoordinates.fromCartesian(src, 1, dst, 2, 1);
+        PolarCoordinates.fromCartesian(src, 0, dst, 0, 0);
+
+        // assert
+        Assertions.assertArrayEquals(new double[] {7, 7, 2, THREE_PI_OVER_TWO}, dst, EPS);
+    }
+
+    @Test
+    void testFromCartesianApproximate_packedArray() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] dst = new double[src.length];
+        PolarCoordinates.fromCartesian(src, dst);
+
+        final double[] approx = new double[src.length];
+        final double err = 1e-7;
+
+        // act
+        PolarCoordinates.fromCartesianApproximate(src, approx);
+
+        // assert
+        for (int i = 0; i < src.length; i += 2) {
+            Assertions.assertEquals(dst[i], approx[i]);
+            assertAngleEquals(dst[i + 1], approx[i + 1], err);
+        }
+    }
+
+    @Test
+    void testFromCartesianApproximate_packedArray_inPlace() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] expected = new double[src.length];
+        PolarCoordinates.fromCartesianApproximate(src, expected);
+
+        // act
+        PolarCoordinates.fromCartesianApproximate(src, src);
+
+        // assert
+        Assertions.assertArrayEquals(expected, src);
+    }
+
+    @Test
+    void testToCartesian_packedArray() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] dst = new double[src.length];
+
+        // act
+        PolarCoordinates.toCartesian(src, dst);
+
+        // assert
+        for (int i = 0; i < src.length; i += 2) {
+            final Vector2D expected = PolarCoordinates.toCartesian(src[i], src[i + 1]);
+
+            Assertions.assertEquals(expected.getX(), dst[i]);
+            Assertions.assertEquals(expected.getY(), dst[i + 1]);
+        }
+    }
+
+    @Test
+    void testToCartesian_packedArray_inPlace() {
+        // arrange
+        final double[] src = createTestArray();
+        final double[] expected = new double[src.length];
+        PolarCoordinates.toCartesian(src, expected);
+
+        // act
+        PolarCoordinates.toCartesian(src, src);
+
+        // assert
+        Assertions.assertArrayEquals(expected, src);
+    }
+
+    @Test
+    void testToCartesian_packedArrayRange() {
+        // arrange
+        final double[] src = {9, 2, Math.PI, 9};
+        final double[] dst = {7, 7, 7};
+
+        // act
+        PolarCoordinates.toCartesian(src, 1, dst, 0, 1);
+        PolarCoordinates.toCartesian(src, 0, dst, 0, 0);
+
+        // assert
+        Assertions.assertArrayEquals(new double[] {-2, 0, 7}, dst, EPS);
+    }
+
+    @Test
+    void testPackedArrayConversions_invalidArgs() {
+        // act/assert
+        GeometryTestUtils.assertThrowsWithMessage(() -> PolarCoordinates.fromCartesian(new double[2], new double[4]),
+                IllegalArgumentException.class, "Array length mismatch: 4 != 2");
+        GeometryTestUtils.assertThrowsWithMessage(() -> PolarCoordinates.toCartesian(new double[3], new double[3]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 2; was 3");
+        GeometryTestUtils.assertThrowsWithMessage(
+            () -> PolarCoordinates.fromCartesianApproximate(new double[2], new double[4]),
+                IllegalArgumentException.class, "Array length mismatch: 4 != 2");
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> PolarCoordinates.fromCartesian(new double[2], 0, new double[2], 0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> PolarCoordinates.fromCartesian(new double[2], 1, new double[2], 0, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> PolarCoordinates.toCartesian(new double[2], 0, new double[2], 1, 1));
+    }
+
     @Test
     void testDimension() {
         // arrange
@@ -378,6 +525,37 @@ class PolarCoordinatesTest {
         Assertions.assertEquals(Double.POSITIVE_INFINITY, PolarCoordinates.normalizeAzimuth(Double.POSITIVE_INFINITY), EPS);
     }
 
+    private static void assertAngleEquals(final double expected, final double actual, final double eps) {
+        if (Double.isNaN(expected)) {
+            Assertions.assertEquals(expected, actual);
+        } else {
+            final double diff = Math.abs(expected - actual);
+            Assertions.assertTrue(Math.min(diff, Angle.TWO_PI - diff) <= eps,
+                () -> "Expected angle " + expected + " but was " + actual);
+        }
+    }
+
+    private static double[] createTestArray() {
+        final double[] special = {
+            0, -0.0, 1, -1, 1e-300, 1e300, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        final int randomCount = 10_000;
+
+        final double[] result = new double[(2 * special.length) + (2 * randomCount)];
+        int idx = 0;
+        for (final double value : special) {
+            result[idx++] = value;
+            result[idx++] = 1 - value;
+        }
+
+        final UniformRandomProvider rnd = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+        while (idx < result.length) {
+            result[idx++] = (20 * rnd.nextDouble()) - 10;
+        }
+
+        return result;
+    }
+
     private void checkPolar(final PolarCoordinates polar, final double radius, final double azimuth) {
         Assertions.assertEquals(radius, polar.getRadius(), EPS);
         Assertions.assertEquals(azimuth, polar.getAzimuth(), EPS);
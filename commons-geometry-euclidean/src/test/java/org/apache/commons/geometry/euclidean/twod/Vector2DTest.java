@@ -21,7 +21,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.geometry.core.GeometryTestUtils;
 import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
@@ -37,6 +41,9 @@ class Vector2DTest {
 
     private static final double EPS = Math.ulp(1d);
 
+    /** Values whose naive left-to-right sum is zero but whose exact sum is one. */
+    private static final double[] CANCELLING_VALUES = {1e100, 1, -1e100};
+
     @Test
     void testConstants() {
         // act/assert
@@ -1195,6 +1202,104 @@ class Vector2DTest {
         checkVector(s.get(), 5, -3);
     }
 
+    @Test
+    void testSum_mutableVectors() {
+        // arrange
+        final MutableVector2D p1 = MutableVector2D.of(1, 2);
+        final MutableVector2D p2 = MutableVector2D.of(3, -6);
+
+        // act
+        final Vector2D.Sum s = Vector2D.Sum.create()
+                .add(p1)
+                .addScaled(0.5, p2);
+
+        // assert
+        checkVector(s.get(), 2.5, -1);
+    }
+
+    @Test
+    void testSum_combine() {
+        // arrange
+        final Vector2D p1 = Vector2D.of(1, 2);
+        final Vector2D p2 = Vector2D.of(3, -6);
+
+        final Vector2D.Sum a = Vector2D.Sum.of(p1);
+        final Vector2D.Sum b = Vector2D.Sum.of(p2);
+
+        // act
+        final Vector2D.Sum result = a.combine(b);
+
+        // assert
+        Assertions.assertSame(a, result);
+        checkVector(a.get(), 4, -4);
+        checkVector(b.get(), 3, -6);
+    }
+
+    @Test
+    void testSum_collector() {
+        // arrange
+        final List<Vector2D> vecs = IntStream.range(0, 9_999)
+                .mapToObj(i -> {
+                    final double v = CANCELLING_VALUES[i % CANCELLING_VALUES.length];
+                    return Vector2D.of(v, -v);
+                })
+                .collect(Collectors.toList());
+
+        // act/assert
+        checkVector(vecs.stream().collect(Vector2D.Sum.collector()), 3333, -3333);
+        checkVector(vecs.parallelStream().collect(Vector2D.Sum.collector()), 3333, -3333);
+        checkVector(Stream.<Vector2D>empty().collect(Vector2D.Sum.collector()), 0, 0);
+    }
+
+    @Test
+    void testSumOf() {
+        // act/assert
+        checkVector(Vector2D.sumOf(new double[0]), 0, 0);
+        checkVector(Vector2D.sumOf(new double[] {1, 2, 3, -6}), 4, -4);
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector2D.sumOf(new double[3]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 2; was 3");
+    }
+
+    @Test
+    void testSumOf_largeArray() throws Exception {
+        // arrange
+        final int count = 99_999;
+        final double[] coords = new double[count * 2];
+        for (int i = 0; i < count; ++i) {
+            final double v = CANCELLING_VALUES[i % CANCELLING_VALUES.length];
+            for (int d = 0; d < 2; ++d) {
+                coords[(i * 2) + d] = d % 2 == 0 ? v : -v;
+            }
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            // act
+            final Vector2D parallel = Vector2D.sumOf(coords);
+            final Vector2D singleThread = pool.submit(() -> Vector2D.sumOf(coords)).get();
+
+            // assert
+            checkVector(parallel, 33_333, -33_333);
+            Assertions.assertEquals(parallel, singleThread);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCentroidOf() {
+        // act/assert
+        checkVector(Vector2D.centroidOf(new double[] {1, 2, 3, -6}), 2, -2);
+        Assertions.assertEquals(Vector2D.centroid(Vector2D.of(1, 2), Vector2D.of(3, -6)),
+                Vector2D.centroidOf(new double[] {1, 2, 3, -6}));
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector2D.centroidOf(new double[0]),
+                IllegalArgumentException.class, "Cannot compute centroid: no points given");
+        GeometryTestUtils.assertThrowsWithMessage(() -> Vector2D.centroidOf(new double[3]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 2; was 3");
+    }
+
     @Test
     void testUnitFactoryOptimization() {
         // An already normalized vector will avoid unnecessary creation.
@@ -74,6 +74,52 @@ class Rotation2DTest {
         checkRotate(Rotation2D::of, Rotation2D::apply);
     }
 
+    @Test
+    void testApply_packedArrays() {
+        // arrange
+        final Rotation2D r = Rotation2D.of(0.75);
+
+        final double[] coords = {1, 2, -3, 4, 0.5, -0.25};
+        final double[] src = {-1, 1, 2, -1, -3, 4};
+        final double[] dst = new double[5];
+
+        // act
+        r.apply(coords);
+        r.apply(src, 1, 3, dst, 1, 2, 2);
+
+        // assert
+        Assertions.assertEquals(r.apply(Vector2D.of(1, 2)), Vector2D.of(coords[0], coords[1]));
+        Assertions.assertEquals(r.apply(Vector2D.of(-3, 4)), Vector2D.of(coords[2], coords[3]));
+        Assertions.assertEquals(r.apply(Vector2D.of(0.5, -0.25)), Vector2D.of(coords[4], coords[5]));
+
+        Assertions.assertEquals(0.0, dst[0]);
+        Assertions.assertEquals(r.apply(Vector2D.of(1, 2)), Vector2D.of(dst[1], dst[2]));
+        Assertions.assertEquals(r.apply(Vector2D.of(-3, 4)), Vector2D.of(dst[3], dst[4]));
+
+        GeometryTestUtils.assertThrowsWithMessage(() -> r.apply(new double[3]),
+                IllegalArgumentException.class, "Packed coordinate array length must be a multiple of 2; was 3");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> r.apply(src, 0, 2, dst, 0, 2, 3));
+    }
+
+    @Test
+    void testApply_separateArrays() {
+        // arrange
+        final Rotation2D r = Rotation2D.of(-2);
+
+        final double[] xs = {1, -3, 0.5};
+        final double[] ys = {2, 4, -0.25};
+
+        // act
+        r.apply(xs, ys, 0, 2);
+
+        // assert
+        Assertions.assertEquals(r.apply(Vector2D.of(1, 2)), Vector2D.of(xs[0], ys[0]));
+        Assertions.assertEquals(r.apply(Vector2D.of(-3, 4)), Vector2D.of(xs[1], ys[1]));
+        Assertions.assertEquals(Vector2D.of(0.5, -0.25), Vector2D.of(xs[2], ys[2]));
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> r.apply(xs, new double[1], 0, 2));
+    }
+
     @Test
     void testApplyVector() {
         // act/assert
@@ -228,6 +228,22 @@ public class AffineTransformMatrixPerformance {
         return arr;
     }
 
+    /** Benchmark testing the performance of transforming an array of doubles in place using the
+     * packed coordinate array batch method.
+     * @param arrayInput array input
+     * @param transformInput transform input
+     * @return transformed output
+     */
+    @Benchmark
+    public double[] transformArrayBatch1D(final TransformArrayInput arrayInput,
+            final TransformMatrixInput1D transformInput) {
+        final double[] arr = arrayInput.getArray();
+
+        transformInput.getTransform().apply(arr);
+
+        return arr;
+    }
+
     /** Baseline benchmark for 2D transforms on array data.
      * @param arrayInput array input
      * @return transformed output
@@ -302,6 +318,22 @@ public class AffineTransformMatrixPerformance {
         return arr;
     }
 
+    /** Benchmark testing the performance of transforming an array of doubles in place using the
+     * packed coordinate array batch method.
+     * @param arrayInput array input
+     * @param transformInput transform input
+     * @return transformed output
+     */
+    @Benchmark
+    public double[] transformArrayBatch2D(final TransformArrayInput arrayInput,
+            final TransformMatrixInput2D transformInput) {
+        final double[] arr = arrayInput.getArray();
+
+        transformInput.getTransform().apply(arr);
+
+        return arr;
+    }
+
     /** Baseline benchmark for 3D transforms on array data.
      * @param arrayInput array input
      * @return transformed output
@@ -383,4 +415,20 @@ public class AffineTransformMatrixPerformance {
 
         return arr;
     }
+
+    /** Benchmark testing the performance of transforming an array of doubles in place using the
+     * packed coordinate array batch method.
+     * @param arrayInput array input
+     * @param transformInput transform input
+     * @return transformed output
+     */
+    @Benchmark
+    public double[] transformArrayBatch3D(final TransformArrayInput arrayInput,
+            final TransformMatrixInput3D transformInput) {
+        final double[] arr = arrayInput.getArray();
+
+        transformInput.getTransform().apply(arr);
+
+        return arr;
+    }
 }
@@ -77,6 +77,9 @@ public class Bounds3DPerformance {
         /** List of segments for the run. */
         private List<Segment3D> segments;
 
+        /** Packed ray array for the run. */
+        private double[] rays;
+
         /** Random instance. */
         private UniformRandomProvider random;
 
@@ -87,6 +90,14 @@ public class Bounds3DPerformance {
             return segments;
         }
 
+        /** Get the rays for the run in packed array form. Each ray starts at the start point of the
+         * corresponding segment and points in the same direction.
+         * @return packed rays for the run
+         */
+        public double[] getRays() {
+            return rays;
+        }
+
         /** Set up the instance for the benchmark. */
         @Setup(Level.Iteration)
         public void setup() {
@@ -103,6 +114,13 @@ public class Bounds3DPerformance {
 
                 segments.add(line.segment(randomCoordinate(), randomCoordinate()));
             }
+
+            rays = new double[6 * count];
+            for (int i = 0; i < count; ++i) {
+                final Segment3D segment = segments.get(i);
+                System.arraycopy(segment.getStartPoint().toArray(), 0, rays, 6 * i, 3);
+                System.arraycopy(segment.getLine().getDirection().toArray(), 0, rays, (6 * i) + 3, 3);
+            }
         }
 
         /** Return a random point with coordinates within the configured min and max range.
@@ -124,6 +142,114 @@ public class Bounds3DPerformance {
         }
     }
 
+    /** Benchmark input class providing random points, both as a list and as a packed
+     * coordinate array.
+     */
+    @State(Scope.Thread)
+    public static class PointInput {
+
+        /** Number of points to generate. */
+        @Param({"1000", "1000000"})
+        private int count;
+
+        /** List of points. */
+        private List<Vector3D> points;
+
+        /** Packed coordinate array containing the same points as {@link #points}. */
+        private double[] coordinates;
+
+        /** Get the point list.
+         * @return point list
+         */
+        public List<Vector3D> getPoints() {
+            return points;
+        }
+
+        /** Get the packed coordinate array.
+         * @return packed coordinate array
+         */
+        public double[] getCoordinates() {
+            return coordinates;
+        }
+
+        /** Set up the instance for the benchmark. */
+        @Setup(Level.Iteration)
+        public void setup() {
+            final UniformRandomProvider random = RandomSource.XO_SHI_RO_256_PP.create(1L);
+
+            points = new ArrayList<>(count);
+            coordinates = new double[3 * count];
+            for (int i = 0; i < count; ++i) {
+                final Vector3D pt = Vector3D.of(random.nextDouble(), random.nextDouble(), random.nextDouble());
+                points.add(pt);
+                System.arraycopy(pt.toArray(), 0, coordinates, 3 * i, 3);
+            }
+        }
+    }
+
+    /** Benchmark input class providing random boxes, both as a list of {@link Bounds3D} instances
+     * and as a packed box array, along with a single segment to test against them.
+     */
+    @State(Scope.Thread)
+    public static class BoxInput {
+
+        /** Number of boxes to generate. */
+        @Param({"1000", "100000"})
+        private int count;
+
+        /** List of boxes. */
+        private List<Bounds3D> boxes;
+
+        /** Packed box array containing the same boxes as {@link #boxes}. */
+        private double[] packedBoxes;
+
+        /** Segment to test against the boxes. */
+        private Segment3D segment;
+
+        /** Get the box list.
+         * @return box list
+         */
+        public List<Bounds3D> getBoxes() {
+            return boxes;
+        }
+
+        /** Get the packed box array.
+         * @return packed box array
+         */
+        public double[] getPackedBoxes() {
+            return packedBoxes;
+        }
+
+        /** Get the segment to test against the boxes.
+         * @return segment to test against the boxes
+         */
+        public Segment3D getSegment() {
+            return segment;
+        }
+
+        /** Set up the instance for the benchmark. */
+        @Setup(Level.Iteration)
+        public void setup() {
+            final UniformRandomProvider random = RandomSource.XO_SHI_RO_256_PP.create(1L);
+
+            boxes = new ArrayList<>(count);
+            packedBoxes = new double[6 * count];
+            for (int i = 0; i < count; ++i) {
+                final Vector3D min = Vector3D.of(
+                        20 * random.nextDouble() - 10,
+                        20 * random.nextDouble() - 10,
+                        20 * random.nextDouble() - 10);
+                final Bounds3D box = Bounds3D.from(min, min.add(Vector3D.of(1, 1, 1)));
+
+                boxes.add(box);
+                System.arraycopy(box.getMin().toArray(), 0, packedBoxes, 6 * i, 3);
+                System.arraycopy(box.getMax().toArray(), 0, packedBoxes, (6 * i) + 3, 3);
+            }
+
+            segment = Lines3D.segmentFromPoints(Vector3D.of(-10, -9, -8), Vector3D.of(10, 9, 8), PRECISION);
+        }
+    }
+
     /** Construct a default {@link Bounds3D} instance for performance testing.
      * @return a default {@link Bounds3D} instance
      */
@@ -205,4 +331,67 @@ public class Bounds3DPerformance {
         }
         return bounds;
     }
+
+    /** Benchmark that tests the performance of the
+     * {@link Bounds3D#intersectsRays(double[], boolean[])} method.
+     * @param input input for the run
+     * @return intersection results
+     */
+    @Benchmark
+    public boolean[] rayIntersectsPacked(final SegmentInput input) {
+        final Bounds3D bounds = createDefaultTestBounds();
+        final double[] rays = input.getRays();
+        final boolean[] result = new boolean[rays.length / 6];
+        bounds.intersectsRays(rays, result);
+        return result;
+    }
+
+    /** Benchmark that tests a single segment against many boxes by calling
+     * {@link Bounds3D#intersects(org.apache.commons.geometry.euclidean.threed.line.LineConvexSubset3D)}
+     * on each box.
+     * @param input input for the run
+     * @return intersection results
+     */
+    @Benchmark
+    public boolean[] boxIntersectsLoop(final BoxInput input) {
+        final List<Bounds3D> boxes = input.getBoxes();
+        final Segment3D segment = input.getSegment();
+        final boolean[] result = new boolean[boxes.size()];
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = boxes.get(i).intersects(segment);
+        }
+        return result;
+    }
+
+    /** Benchmark that tests the performance of the
+     * {@link Bounds3D#intersectsBoxes(org.apache.commons.geometry.euclidean.threed.line.LineConvexSubset3D,
+     * double[], boolean[])} method.
+     * @param input input for the run
+     * @return intersection results
+     */
+    @Benchmark
+    public boolean[] boxIntersectsPacked(final BoxInput input) {
+        final double[] boxes = input.getPackedBoxes();
+        final boolean[] result = new boolean[boxes.length / 6];
+        Bounds3D.intersectsBoxes(input.getSegment(), boxes, result);
+        return result;
+    }
+
+    /** Benchmark that tests the performance of the {@link Bounds3D#from(Iterable)} method.
+     * @param input input for the run
+     * @return bounds instance
+     */
+    @Benchmark
+    public Bounds3D fromPoints(final PointInput input) {
+        return Bounds3D.from(input.getPoints());
+    }
+
+    /** Benchmark that tests the performance of the {@link Bounds3D#from(double[])} method.
+     * @param input input for the run
+     * @return bounds instance
+     */
+    @Benchmark
+    public Bounds3D fromPacked(final PointInput input) {
+        return Bounds3D.from(input.getCoordinates());
+    }
 }
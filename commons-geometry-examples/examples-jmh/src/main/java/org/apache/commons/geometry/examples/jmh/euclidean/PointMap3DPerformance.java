@@ -27,6 +27,7 @@ import java.util.function.BiFunction;
 
 import org.apache.commons.geometry.core.collection.PointMap;
 import org.apache.commons.geometry.euclidean.EuclideanCollections;
+import org.apache.commons.geometry.euclidean.EuclideanCollections.PointMapStrategy;
 import org.apache.commons.geometry.euclidean.threed.Bounds3D;
 import org.apache.commons.geometry.euclidean.threed.SphericalCoordinates;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
@@ -63,6 +64,12 @@ public class PointMap3DPerformance {
     /** Value inserted into maps during runs. */
     private static final Integer VAL = Integer.valueOf(1);
 
+    /** Relative distance error used in approximate nearest entry benchmarks. */
+    private static final double APPROXIMATE_EPSILON = 0.5;
+
+    /** Maximum number of leaf visits used in approximate nearest entry benchmarks. */
+    private static final int APPROXIMATE_MAX_LEAF_VISITS = 4;
+
     /** Maximum number of iterable instances used during iterable benchmarks. */
     private static final int MAX_ITERABLES = 100;
 
@@ -88,11 +95,15 @@ public class PointMap3DPerformance {
         /** Random instance. */
         private Random random;
 
+        /** Map instance for the run. */
+        private Map<Vector3D, Integer> map;
+
         /** Set up the instance for the benchmark. */
         @Setup(Level.Iteration)
         public void setup() {
             random = new Random(randomSeed);
             points = createPoints();
+            map = createMap();
 
             switch (dist) {
             case "none":
@@ -111,7 +122,14 @@ public class PointMap3DPerformance {
         /** Get the map instance under test.
          * @return map instance
          */
-        public abstract Map<Vector3D, Integer> getMap();
+        public Map<Vector3D, Integer> getMap() {
+            return map;
+        }
+
+        /** Create a new, empty map instance for the run.
+         * @return map instance
+         */
+        protected abstract Map<Vector3D, Integer> createMap();
 
         /** Get the points for the run.
          * @return list of points
@@ -198,10 +216,20 @@ public class PointMap3DPerformance {
     @State(Scope.Thread)
     public static class PointMapInput extends AbstractPointMapInput {
 
+        /** Point map data structure strategy. */
+        @Param({"BUCKET_TREE", "KD_TREE"})
+        private String strategy;
+
         /** {@inheritDoc} */
         @Override
         public PointMap<Vector3D, Integer> getMap() {
-            return EuclideanCollections.pointMap3D(PRECISION);
+            return (PointMap<Vector3D, Integer>) super.getMap();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected PointMap<Vector3D, Integer> createMap() {
+            return EuclideanCollections.pointMap3D(PRECISION, PointMapStrategy.valueOf(strategy));
         }
     }
 
@@ -210,10 +238,50 @@ public class PointMap3DPerformance {
     @State(Scope.Thread)
     public static class PreInsertedPointMapInput extends AbstractPreInsertedPointMapInput {
 
+        /** Point map data structure strategy. */
+        @Param({"BUCKET_TREE", "KD_TREE"})
+        private String strategy;
+
         /** {@inheritDoc} */
         @Override
         public PointMap<Vector3D, Integer> getMap() {
-            return EuclideanCollections.pointMap3D(PRECISION);
+            return (PointMap<Vector3D, Integer>) super.getMap();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected PointMap<Vector3D, Integer> createMap() {
+            return EuclideanCollections.pointMap3D(PRECISION, PointMapStrategy.valueOf(strategy));
+        }
+    }
+
+    /** Input class containing an immutable {@link PointMap} snapshot of a map with
+     * pre-inserted points.
+     */
+    @State(Scope.Thread)
+    public static class ImmutablePointMapInput extends PreInsertedPointMapInput {
+
+        /** Immutable map instance. */
+        private PointMap<Vector3D, Integer> immutableMap;
+
+        /** {@inheritDoc} */
+        @Override
+        @Setup(Level.Iteration)
+        public void setup() {
+            // insert the points into the mutable map created by the superclass
+            // and then take the snapshot
+            immutableMap = null;
+            super.setup();
+
+            immutableMap = EuclideanCollections.immutablePointMap3D(PRECISION, super.getMap());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public PointMap<Vector3D, Integer> getMap() {
+            return immutableMap != null ?
+                    immutableMap :
+                    super.getMap();
         }
     }
 
@@ -224,7 +292,7 @@ public class PointMap3DPerformance {
 
         /** {@inheritDoc} */
         @Override
-        public Map<Vector3D, Integer> getMap() {
+        protected Map<Vector3D, Integer> createMap() {
             return createTreeMap();
         }
     }
@@ -236,7 +304,7 @@ public class PointMap3DPerformance {
 
         /** {@inheritDoc} */
         @Override
-        public Map<Vector3D, Integer> getMap() {
+        protected Map<Vector3D, Integer> createMap() {
             return createTreeMap();
         }
     }
@@ -397,7 +465,7 @@ public class PointMap3DPerformance {
             for (final Object element : iterableFactory.apply(map, pt)) {
                 bh.consume(element);
 
-                if (++cnt >= cnt) {
+                if (++cnt >= count) {
                     break;
                 }
             }
@@ -448,7 +516,7 @@ public class PointMap3DPerformance {
      * @return input instance
      */
     @Benchmark
-    public Object put(final TreeMapInput input, final Blackhole bh) {
+    public Object put(final PointMapInput input, final Blackhole bh) {
         return doPut(input, bh);
     }
 
@@ -472,6 +540,16 @@ public class PointMap3DPerformance {
         return doGet(input, bh);
     }
 
+    /** Benchmark that retrieves each point in the input from an immutable map.
+     * @param input input for the run
+     * @param bh blackhole instance
+     * @return input instance
+     */
+    @Benchmark
+    public Object getImmutable(final ImmutablePointMapInput input, final Blackhole bh) {
+        return doGet(input, bh);
+    }
+
     /** Baseline benchmark for {@link Map#remove(Object)} using a {@link TreeMap}.
      * @param input input for the run
      * @param bh blackhole instance
@@ -536,6 +614,20 @@ public class PointMap3DPerformance {
                 PointMap::nearestEntry);
     }
 
+    /** Benchmark for the {@link PointMap#approximateNearestEntry(org.apache.commons.geometry.core.Point,
+     * double, int)} method.
+     * @param input input for the run
+     * @param bh blackhole instance
+     * @return input instance
+     */
+    @Benchmark
+    public Object approximateNearestEntry(final PreInsertedPointMapInput input, final Blackhole bh) {
+        return doDistanceSelect(
+                input,
+                bh,
+                (map, pt) -> map.approximateNearestEntry(pt, APPROXIMATE_EPSILON, APPROXIMATE_MAX_LEAF_VISITS));
+    }
+
     /** Benchmark for the {@link PointMap#entriesFarToNear(org.apache.commons.geometry.core.Point)} method.
      * @param input input for the run
      * @param bh blackhole instance
@@ -579,4 +671,47 @@ public class PointMap3DPerformance {
                 bh,
                 PointMap::farthestEntry);
     }
+
+    /** Benchmark for the {@link PointMap#entriesNearToFar(org.apache.commons.geometry.core.Point)} method
+     * of an immutable map.
+     * @param input input for the run
+     * @param bh blackhole instance
+     * @return input instance
+     */
+    @Benchmark
+    public Object entriesNearToFarImmutable(final ImmutablePointMapInput input, final Blackhole bh) {
+        return doDistanceIteration(
+                input,
+                bh,
+                input.getPoints().size(),
+                PointMap::entriesNearToFar);
+    }
+
+    /** Benchmark for the {@link PointMap#nearestEntry(org.apache.commons.geometry.core.Point)} method
+     * of an immutable map.
+     * @param input input for the run
+     * @param bh blackhole instance
+     * @return input instance
+     */
+    @Benchmark
+    public Object nearestEntryImmutable(final ImmutablePointMapInput input, final Blackhole bh) {
+        return doDistanceSelect(
+                input,
+                bh,
+                PointMap::nearestEntry);
+    }
+
+    /** Benchmark for the {@link PointMap#farthestEntry(org.apache.commons.geometry.core.Point)} method
+     * of an immutable map.
+     * @param input input for the run
+     * @param bh blackhole instance
+     * @return input instance
+     */
+    @Benchmark
+    public Object farthestEntryImmutable(final ImmutablePointMapInput input, final Blackhole bh) {
+        return doDistanceSelect(
+                input,
+                bh,
+                PointMap::farthestEntry);
+    }
 }
@@ -19,9 +19,12 @@ package org.apache.commons.geometry.examples.jmh.euclidean;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
 import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
 import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.RigidTransform3D;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
 import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
 import org.apache.commons.numbers.core.Precision;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -46,6 +49,15 @@ import org.openjdk.jmh.annotations.Warmup;
 @Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
 public class RegionBSPTree3DPerformance {
 
+    /** Rigid transform used in the transform benchmarks. A pure rotation is used so that
+     * repeated application does not move the region away from the origin.
+     */
+    private static final RigidTransform3D RIGID_TRANSFORM = RigidTransform3D.of(
+            QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 0.1), Vector3D.ZERO);
+
+    /** Matrix equivalent of {@link #RIGID_TRANSFORM}. */
+    private static final AffineTransformMatrix3D MATRIX_TRANSFORM = RIGID_TRANSFORM.toMatrix();
+
     /** Base class for inputs that use sphere approximation boundaries.
      */
     @State(Scope.Thread)
@@ -138,4 +150,27 @@ public class RegionBSPTree3DPerformance {
     public List<PlaneConvexSubset> boundaryConvexWorstCase(final WorstCaseSphericalRegionInput input) {
         return input.getTree().getBoundaries();
     }
+
+    /** Benchmark testing the performance of transforming a tree with a general affine matrix
+     * representing a rigid motion.
+     * @param input input tree
+     * @return transformed tree
+     */
+    @Benchmark
+    public RegionBSPTree3D transformMatrixWorstCase(final WorstCaseSphericalRegionInput input) {
+        final RegionBSPTree3D tree = input.getTree();
+        tree.transform(MATRIX_TRANSFORM);
+        return tree;
+    }
+
+    /** Benchmark testing the performance of transforming a tree with a {@link RigidTransform3D}.
+     * @param input input tree
+     * @return transformed tree
+     */
+    @Benchmark
+    public RegionBSPTree3D transformRigidWorstCase(final WorstCaseSphericalRegionInput input) {
+        final RegionBSPTree3D tree = input.getTree();
+        tree.transform(RIGID_TRANSFORM);
+        return tree;
+    }
 }
@@ -0,0 +1,633 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.examples.jmh.euclidean;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.MeshMassProperties;
+import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMeshAdjacency;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMeshBooleans;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMeshCollisionIndex;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMeshDistanceIndex;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMeshSimplifier;
+import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
+import org.apache.commons.geometry.examples.tutorials.teapot.TeapotBuilder;
+import org.apache.commons.numbers.core.Precision;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the {@link TriangleMesh} implementations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class TriangleMeshPerformance {
+
+    /** Precision context. */
+    private static final Precision.DoubleEquivalence PRECISION =
+            Precision.doubleEquivalenceOfEpsilon(1e-10);
+
+    /** Input class providing the packed vertex and face arrays of a triangulated height field
+     * with {@code 2 * size * size} faces.
+     */
+    @State(Scope.Thread)
+    public static class GridInput {
+
+        /** Number of grid cells along each side of the height field. */
+        @Param({"10", "100", "300"})
+        private int size;
+
+        /** Packed vertex coordinates. */
+        private double[] coords;
+
+        /** Packed face indices. */
+        private int[] faces;
+
+        /** Set up the instance for the benchmark. */
+        @Setup(Level.Trial)
+        public void setup() {
+            final UniformRandomProvider rand = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+            final int n = size + 1;
+
+            coords = new double[n * n * 3];
+            int c = 0;
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j < n; ++j) {
+                    coords[c++] = i;
+                    coords[c++] = j;
+                    coords[c++] = rand.nextDouble();
+                }
+            }
+
+            faces = new int[size * size * 6];
+            int f = 0;
+            for (int i = 0; i < size; ++i) {
+                for (int j = 0; j < size; ++j) {
+                    final int v = (i * n) + j;
+
+                    faces[f++] = v;
+                    faces[f++] = v + n;
+                    faces[f++] = v + n + 1;
+
+                    faces[f++] = v;
+                    faces[f++] = v + n + 1;
+                    faces[f++] = v + 1;
+                }
+            }
+        }
+
+        /** Get the packed vertex coordinates.
+         * @return packed vertex coordinates
+         */
+        public double[] getCoords() {
+            return coords;
+        }
+
+        /** Get the packed face indices.
+         * @return packed face indices
+         */
+        public int[] getFaces() {
+            return faces;
+        }
+    }
+
+    /** Input class providing meshes built from the {@link GridInput} arrays.
+     */
+    @State(Scope.Thread)
+    public static class MeshInput extends GridInput {
+
+        /** Simple mesh instance. */
+        private SimpleTriangleMesh simpleMesh;
+
+        /** Compact mesh instance. */
+        private CompactTriangleMesh compactMesh;
+
+        /** {@inheritDoc} */
+        @Override
+        @Setup(Level.Trial)
+        public void setup() {
+            super.setup();
+
+            simpleMesh = buildSimpleMesh(getCoords(), getFaces());
+            compactMesh = CompactTriangleMesh.from(getCoords(), getFaces(), PRECISION);
+        }
+
+        /** Get the simple mesh instance.
+         * @return simple mesh instance
+         */
+        public SimpleTriangleMesh getSimpleMesh() {
+            return simpleMesh;
+        }
+
+        /** Get the compact mesh instance.
+         * @return compact mesh instance
+         */
+        public CompactTriangleMesh getCompactMesh() {
+            return compactMesh;
+        }
+    }
+
+    /** Input class providing the {@link GridInput} faces as packed facet coordinates, in which each
+     * face stores its own copy of its vertices, as in STL files.
+     */
+    @State(Scope.Thread)
+    public static class FacetInput extends GridInput {
+
+        /** Packed facet coordinates. */
+        private double[] facetCoords;
+
+        /** {@inheritDoc} */
+        @Override
+        @Setup(Level.Trial)
+        public void setup() {
+            super.setup();
+
+            final double[] coords = getCoords();
+            final int[] faces = getFaces();
+
+            facetCoords = new double[faces.length * 3];
+            int c = 0;
+            for (final int v : faces) {
+                facetCoords[c++] = coords[v * 3];
+                facetCoords[c++] = coords[(v * 3) + 1];
+                facetCoords[c++] = coords[(v * 3) + 2];
+            }
+        }
+
+        /** Get the packed facet coordinates.
+         * @return packed facet coordinates
+         */
+        public double[] getFacetCoords() {
+            return facetCoords;
+        }
+    }
+
+    /** Input class providing a closed mesh approximating a sphere.
+     */
+    @State(Scope.Thread)
+    public static class SphereInput {
+
+        /** Number of icosahedron subdivisions; the mesh contains {@code 20 * 4^subdivisions} faces. */
+        @Param({"2", "3", "4"})
+        private int subdivisions;
+
+        /** Sphere mesh. */
+        private TriangleMesh mesh;
+
+        /** Set up the instance for the benchmark. */
+        @Setup(Level.Trial)
+        public void setup() {
+            mesh = Sphere.from(Vector3D.of(1, 2, 3), 10, PRECISION).toTriangleMesh(subdivisions);
+        }
+
+        /** Get the sphere mesh.
+         * @return sphere mesh
+         */
+        public TriangleMesh getMesh() {
+            return mesh;
+        }
+    }
+
+    /** Input class providing random query points around the {@link SphereInput} mesh, together with
+     * a distance index and a region tree built from the mesh.
+     */
+    @State(Scope.Thread)
+    public static class QueryInput extends SphereInput {
+
+        /** Number of query points. */
+        private static final int POINT_COUNT = 1000;
+
+        /** Packed query point coordinates. */
+        private double[] points;
+
+        /** Destination array for the query results. */
+        private double[] distances;
+
+        /** Distance index for the mesh. */
+        private TriangleMeshDistanceIndex index;
+
+        /** Region tree for the mesh. */
+        private RegionBSPTree3D tree;
+
+        /** {@inheritDoc} */
+        @Override
+        @Setup(Level.Trial)
+        public void setup() {
+            super.setup();
+
+            final UniformRandomProvider rand = RandomSource.XO_RO_SHI_RO_128_PP.create(1L);
+            points = new double[POINT_COUNT * 3];
+            for (int i = 0; i < points.length; i += 3) {
+                points[i] = 1 + (30 * (rand.nextDouble() - 0.5));
+                points[i + 1] = 2 + (30 * (rand.nextDouble() - 0.5));
+                points[i + 2] = 3 + (30 * (rand.nextDouble() - 0.5));
+            }
+            distances = new double[POINT_COUNT];
+
+            index = TriangleMeshDistanceIndex.from(getMesh());
+            tree = getMesh().toTree();
+        }
+
+        /** Get the packed query point coordinates.
+         * @return packed query point coordinates
+         */
+        public double[] getPoints() {
+            return points;
+        }
+
+        /** Get the destination array for the query results.
+         * @return destination array for the query results
+         */
+        public double[] getDistances() {
+            return distances;
+        }
+
+        /** Get the distance index for the mesh.
+         * @return distance index for the mesh
+         */
+        public TriangleMeshDistanceIndex getIndex() {
+            return index;
+        }
+
+        /** Get the region tree for the mesh.
+         * @return region tree for the mesh
+         */
+        public RegionBSPTree3D getTree() {
+            return tree;
+        }
+    }
+
+    /** Input class providing two partially overlapping copies of the {@link SphereInput} mesh, both as
+     * collision indices and as region trees.
+     */
+    @State(Scope.Thread)
+    public static class CollisionInput extends SphereInput {
+
+        /** Collision index for the mesh. */
+        private TriangleMeshCollisionIndex index;
+
+        /** Transform positioning the second copy of the mesh. */
+        private AffineTransformMatrix3D transform;
+
+        /** Second copy of the mesh. */
+        private TriangleMesh otherMesh;
+
+        /** Region tree for the first copy of the mesh. */
+        private RegionBSPTree3D tree;
+
+        /** Region tree for the second copy of the mesh. */
+        private RegionBSPTree3D otherTree;
+
+        /** {@inheritDoc} */
+        @Override
+        @Setup(Level.Trial)
+        public void setup() {
+            super.setup();
+
+            index = TriangleMeshCollisionIndex.from(getMesh());
+            transform = AffineTransformMatrix3D.createTranslation(Vector3D.of(15, 5, 0));
+
+            otherMesh = getMesh().transform(transform);
+
+            tree = getMesh().toTree();
+            otherTree = otherMesh.toTree();
+        }
+
+        /** Get the collision index for the mesh.
+         * @return collision index for the mesh
+         */
+        public TriangleMeshCollisionIndex getIndex() {
+            return index;
+        }
+
+        /** Get the transform positioning the second copy of the mesh.
+         * @return transform positioning the second copy of the mesh
+         */
+        public AffineTransformMatrix3D getTransform() {
+            return transform;
+        }
+
+        /** Get the second copy of the mesh.
+         * @return second copy of the mesh
+         */
+        public TriangleMesh getOtherMesh() {
+            return otherMesh;
+        }
+
+        /** Get the region tree for the first copy of the mesh.
+         * @return region tree for the first copy of the mesh
+         */
+        public RegionBSPTree3D getTree() {
+            return tree;
+        }
+
+        /** Get the region tree for the second copy of the mesh.
+         * @return region tree for the second copy of the mesh
+         */
+        public RegionBSPTree3D getOtherTree() {
+            return otherTree;
+        }
+    }
+
+    /** Input class providing a builder for the teapot from the tutorials module.
+     */
+    @State(Scope.Thread)
+    public static class TeapotInput {
+
+        /** Teapot builder. */
+        private TeapotBuilder builder;
+
+        /** Set up the instance for the benchmark. */
+        @Setup(Level.Trial)
+        public void setup() {
+            builder = new TeapotBuilder(PRECISION);
+        }
+
+        /** Get the teapot builder.
+         * @return teapot builder
+         */
+        public TeapotBuilder getBuilder() {
+            return builder;
+        }
+    }
+
+    /** Build a {@link SimpleTriangleMesh} from the given packed arrays.
+     * @param coords packed vertex coordinates
+     * @param faces packed face indices
+     * @return simple mesh
+     */
+    private static SimpleTriangleMesh buildSimpleMesh(final double[] coords, final int[] faces) {
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(PRECISION);
+        for (int i = 0; i < coords.length; i += 3) {
+            builder.addVertex(Vector3D.of(coords[i], coords[i + 1], coords[i + 2]));
+        }
+        for (int i = 0; i < faces.length; i += 3) {
+            builder.addFace(faces[i], faces[i + 1], faces[i + 2]);
+        }
+        return builder.build();
+    }
+
+    /** Compute the total area of the faces in the given mesh.
+     * @param mesh mesh
+     * @return total face area
+     */
+    private static double faceArea(final TriangleMesh mesh) {
+        double area = 0;
+        for (final TriangleMesh.Face face : mesh.faces()) {
+            final Vector3D p1 = face.getPoint1();
+            area += p1.vectorTo(face.getPoint2()).cross(p1.vectorTo(face.getPoint3())).norm();
+        }
+        return 0.5 * area;
+    }
+
+    /** Benchmark testing the construction of a {@link SimpleTriangleMesh} from packed arrays.
+     * @param input benchmark input
+     * @return mesh
+     */
+    @Benchmark
+    public SimpleTriangleMesh buildSimple(final GridInput input) {
+        return buildSimpleMesh(input.getCoords(), input.getFaces());
+    }
+
+    /** Benchmark testing the construction of a {@link SimpleTriangleMesh} from facet coordinates by
+     * welding the vertices of each face individually.
+     * @param input benchmark input
+     * @return mesh
+     */
+    @Benchmark
+    public SimpleTriangleMesh weldSequential(final FacetInput input) {
+        final double[] c = input.getFacetCoords();
+        final SimpleTriangleMesh.Builder builder = SimpleTriangleMesh.builder(PRECISION);
+        for (int i = 0; i < c.length; i += 9) {
+            builder.addFaceUsingVertices(
+                    Vector3D.of(c[i], c[i + 1], c[i + 2]),
+                    Vector3D.of(c[i + 3], c[i + 4], c[i + 5]),
+                    Vector3D.of(c[i + 6], c[i + 7], c[i + 8]));
+        }
+        return builder.build();
+    }
+
+    /** Benchmark testing the construction of a {@link SimpleTriangleMesh} from facet coordinates using
+     * the bulk welding method.
+     * @param input benchmark input
+     * @return mesh
+     */
+    @Benchmark
+    public SimpleTriangleMesh weldBulk(final FacetInput input) {
+        return SimpleTriangleMesh.builder(PRECISION)
+                .addFacesUsingVertices(input.getFacetCoords())
+                .build();
+    }
+
+    /** Benchmark testing the construction of a {@link CompactTriangleMesh} from packed arrays.
+     * @param input benchmark input
+     * @return mesh
+     */
+    @Benchmark
+    public CompactTriangleMesh buildCompact(final GridInput input) {
+        return CompactTriangleMesh.from(input.getCoords(), input.getFaces(), PRECISION);
+    }
+
+    /** Benchmark testing iteration over the faces of a {@link SimpleTriangleMesh}.
+     * @param input benchmark input
+     * @return total face area
+     */
+    @Benchmark
+    public double faceAreaSimple(final MeshInput input) {
+        return faceArea(input.getSimpleMesh());
+    }
+
+    /** Benchmark testing iteration over the faces of a {@link CompactTriangleMesh}.
+     * @param input benchmark input
+     * @return total face area
+     */
+    @Benchmark
+    public double faceAreaCompact(final MeshInput input) {
+        return faceArea(input.getCompactMesh());
+    }
+
+    /** Benchmark testing the construction of a {@link TriangleMeshAdjacency} instance.
+     * @param input benchmark input
+     * @return adjacency instance
+     */
+    @Benchmark
+    public TriangleMeshAdjacency buildAdjacency(final MeshInput input) {
+        return TriangleMeshAdjacency.from(input.getCompactMesh());
+    }
+
+    /** Benchmark testing the simplification of a {@link CompactTriangleMesh} to 2% of its faces.
+     * @param input benchmark input
+     * @return simplified mesh
+     */
+    @Benchmark
+    public CompactTriangleMesh simplify(final MeshInput input) {
+        final CompactTriangleMesh mesh = input.getCompactMesh();
+        return TriangleMeshSimplifier.builder(PRECISION)
+                .setTargetFaceCount(mesh.getFaceCount() / 50)
+                .build()
+                .simplify(mesh);
+    }
+
+    /** Benchmark testing the computation of the mass properties of a closed mesh.
+     * @param input benchmark input
+     * @return mass properties
+     */
+    @Benchmark
+    public MeshMassProperties massProperties(final SphereInput input) {
+        return MeshMassProperties.from(input.getMesh());
+    }
+
+    /** Baseline benchmark computing the volume of a closed mesh by converting it to a
+     * {@link org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D RegionBSPTree3D}.
+     * @param input benchmark input
+     * @return volume
+     */
+    @Benchmark
+    public double treeVolume(final SphereInput input) {
+        return input.getMesh().toTree().getSize();
+    }
+
+    /** Benchmark testing the construction of a {@link TriangleMeshDistanceIndex}.
+     * @param input benchmark input
+     * @return distance index
+     */
+    @Benchmark
+    public TriangleMeshDistanceIndex buildDistanceIndex(final SphereInput input) {
+        return TriangleMeshDistanceIndex.from(input.getMesh());
+    }
+
+    /** Benchmark testing batch signed distance queries against a {@link TriangleMeshDistanceIndex}.
+     * @param input benchmark input
+     * @return signed distances
+     */
+    @Benchmark
+    public double[] signedDistances(final QueryInput input) {
+        final double[] dst = input.getDistances();
+        input.getIndex().signedDistances(input.getPoints(), dst);
+        return dst;
+    }
+
+    /** Baseline benchmark computing the distances from the query points to the mesh by projecting
+     * them onto the boundary of the region tree of the mesh.
+     * @param input benchmark input
+     * @return distances
+     */
+    @Benchmark
+    public double[] treeDistances(final QueryInput input) {
+        final double[] pts = input.getPoints();
+        final double[] dst = input.getDistances();
+        final RegionBSPTree3D tree = input.getTree();
+        for (int i = 0; i < dst.length; ++i) {
+            final Vector3D pt = Vector3D.of(pts[i * 3], pts[(i * 3) + 1], pts[(i * 3) + 2]);
+            dst[i] = pt.distance(tree.project(pt));
+        }
+        return dst;
+    }
+
+    /** Benchmark testing whether two meshes intersect using a {@link TriangleMeshCollisionIndex}.
+     * @param input benchmark input
+     * @return true if the meshes intersect
+     */
+    @Benchmark
+    public boolean collisionIntersects(final CollisionInput input) {
+        final TriangleMeshCollisionIndex index = input.getIndex();
+        return index.intersects(AffineTransformMatrix3D.identity(), index, input.getTransform());
+    }
+
+    /** Benchmark finding all pairs of intersecting faces of two meshes using a
+     * {@link TriangleMeshCollisionIndex}.
+     * @param input benchmark input
+     * @return packed intersecting face pairs
+     */
+    @Benchmark
+    public int[] collisionFaces(final CollisionInput input) {
+        final TriangleMeshCollisionIndex index = input.getIndex();
+        return index.findIntersectingFaces(AffineTransformMatrix3D.identity(), index, input.getTransform());
+    }
+
+    /** Baseline benchmark testing whether two meshes overlap by computing the intersection of their
+     * region trees.
+     * @param input benchmark input
+     * @return true if the regions overlap
+     */
+    @Benchmark
+    public boolean treeOverlap(final CollisionInput input) {
+        final RegionBSPTree3D result = RegionBSPTree3D.empty();
+        result.intersection(input.getTree(), input.getOtherTree());
+        return !result.isEmpty();
+    }
+
+    /** Benchmark testing the union of two overlapping meshes using {@link TriangleMeshBooleans}.
+     * @param input benchmark input
+     * @return union mesh
+     */
+    @Benchmark
+    public TriangleMesh booleanUnion(final CollisionInput input) {
+        return TriangleMeshBooleans.union(input.getMesh(), input.getOtherMesh(), PRECISION);
+    }
+
+    /** Baseline benchmark testing the union of two overlapping meshes by converting them to region
+     * trees, merging the trees, and extracting the boundary of the result as a mesh.
+     * @param input benchmark input
+     * @return union mesh
+     */
+    @Benchmark
+    public TriangleMesh treeUnion(final CollisionInput input) {
+        final RegionBSPTree3D result = RegionBSPTree3D.empty();
+        result.union(input.getMesh().toTree(), input.getOtherMesh().toTree());
+        return result.toTriangleMesh(PRECISION);
+    }
+
+    /** Benchmark testing the construction of the tutorial teapot using {@link TriangleMeshBooleans}.
+     * @param input benchmark input
+     * @return teapot mesh
+     */
+    @Benchmark
+    public TriangleMesh teapotBooleans(final TeapotInput input) {
+        return input.getBuilder().buildTeapotMesh();
+    }
+
+    /** Baseline benchmark testing the construction of the tutorial teapot using region trees, including
+     * the extraction of the boundary of the result as a mesh.
+     * @param input benchmark input
+     * @return teapot mesh
+     */
+    @Benchmark
+    public TriangleMesh teapotTree(final TeapotInput input) {
+        return input.getBuilder().buildTeapot().toTriangleMesh(PRECISION);
+    }
+}
@@ -26,7 +26,13 @@ import java.util.function.UnaryOperator;
 
 import org.apache.commons.geometry.core.Vector;
 import org.apache.commons.geometry.euclidean.oned.Vector1D;
+import org.apache.commons.geometry.euclidean.threed.AffineTransformMatrix3D;
+import org.apache.commons.geometry.euclidean.threed.MutableVector3D;
+import org.apache.commons.geometry.euclidean.threed.SphericalCoordinates;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.Vector3DArrays;
+import org.apache.commons.geometry.euclidean.threed.rotation.PreparedQuaternionRotation;
+import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
 import org.apache.commons.geometry.euclidean.twod.Vector2D;
 import org.apache.commons.geometry.examples.jmh.BenchmarkUtils;
 import org.apache.commons.rng.UniformRandomProvider;
@@ -78,6 +84,19 @@ public class VectorPerformance {
      */
     private static final String EDGE = "edge";
 
+    /** Rotation transform used in the array transform benchmarks; the rotation keeps the values
+     * from growing when the same input arrays are transformed repeatedly.
+     */
+    private static final AffineTransformMatrix3D TRANSFORM =
+            QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 0.1).toMatrix();
+
+    /** Quaternion rotation used in the rotation benchmarks. */
+    private static final QuaternionRotation ROTATION =
+            QuaternionRotation.fromAxisAngle(Vector3D.of(1, 2, 3), 0.1);
+
+    /** Prepared form of {@link #ROTATION}. */
+    private static final PreparedQuaternionRotation PREPARED_ROTATION = ROTATION.prepare();
+
     /** Base class for vector inputs.
      * @param <V> Vector implementation type
      */
@@ -277,6 +296,124 @@ public class VectorPerformance {
         }
     }
 
+    /** Input class providing normalizable 3D vectors stored in separate coordinate arrays.
+     */
+    @State(Scope.Thread)
+    public static class VectorArrayInput3D {
+
+        /** The number of vectors in the input arrays. */
+        @Param({"100", "10000"})
+        private int size;
+
+        /** Vector x coordinates. */
+        private double[] xs;
+
+        /** Vector y coordinates. */
+        private double[] ys;
+
+        /** Vector z coordinates. */
+        private double[] zs;
+
+        /** Array used to store per-vector results. */
+        private double[] result;
+
+        /** Set up the instance for the benchmark.
+         */
+        @Setup(Level.Iteration)
+        public void setup() {
+            final ZigguratNormalizedGaussianSampler sampler =
+                    ZigguratNormalizedGaussianSampler.of(RandomSource.XO_RO_SHI_RO_128_PP.create());
+
+            xs = new double[size];
+            ys = new double[size];
+            zs = new double[size];
+            result = new double[size];
+
+            for (int i = 0; i < size; ++i) {
+                xs[i] = sampler.sample();
+                ys[i] = sampler.sample();
+                zs[i] = sampler.sample() + 0.1; // do not return exactly zero
+            }
+        }
+
+        /** Get the x coordinates.
+         * @return x coordinates
+         */
+        public double[] getXs() {
+            return xs;
+        }
+
+        /** Get the y coordinates.
+         * @return y coordinates
+         */
+        public double[] getYs() {
+            return ys;
+        }
+
+        /** Get the z coordinates.
+         * @return z coordinates
+         */
+        public double[] getZs() {
+            return zs;
+        }
+
+        /** Get the array used to store per-vector results.
+         * @return result array
+         */
+        public double[] getResult() {
+            return result;
+        }
+    }
+
+    /** Input class providing 3D points stored both in a packed coordinate array and in a list.
+     */
+    @State(Scope.Thread)
+    public static class PackedVectorInput3D {
+
+        /** The number of points in the input. */
+        @Param({"1000", "1000000"})
+        private int size;
+
+        /** Packed point coordinates. */
+        private double[] coords;
+
+        /** Points. */
+        private List<Vector3D> points;
+
+        /** Set up the instance for the benchmark.
+         */
+        @Setup(Level.Iteration)
+        public void setup() {
+            final ZigguratNormalizedGaussianSampler sampler =
+                    ZigguratNormalizedGaussianSampler.of(RandomSource.XO_RO_SHI_RO_128_PP.create());
+
+            coords = new double[size * 3];
+            points = new ArrayList<>(size);
+
+            for (int i = 0; i < coords.length; i += 3) {
+                coords[i] = sampler.sample();
+                coords[i + 1] = sampler.sample();
+                coords[i + 2] = sampler.sample();
+
+                points.add(Vector3D.of(coords[i], coords[i + 1], coords[i + 2]));
+            }
+        }
+
+        /** Get the packed point coordinates.
+         * @return packed point coordinates
+         */
+        public double[] getCoords() {
+            return coords;
+        }
+
+        /** Get the points.
+         * @return points
+         */
+        public List<Vector3D> getPoints() {
+            return points;
+        }
+    }
+
     /** Run a benchmark test on a function that produces a double.
      * @param <V> Vector implementation type
      * @param input vector input
@@ -396,4 +533,194 @@ public class VectorPerformance {
     public void normalizeOrNull3D(final VectorInput3D input, final Blackhole bh) {
         testFunction(input, bh, v -> v.normalizeOrNull());
     }
+
+    /** Benchmark testing the performance of the {@link Vector3D#dot(Vector3D)} method.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void dot3D(final VectorInput3D input, final Blackhole bh) {
+        testToDouble(input, bh, v -> v.dot(v));
+    }
+
+    /** Benchmark testing the performance of the {@link Vector3DArrays#dot} method.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void dotArrays3D(final VectorArrayInput3D input, final Blackhole bh) {
+        final double[] xs = input.getXs();
+        final double[] ys = input.getYs();
+        final double[] zs = input.getZs();
+
+        Vector3DArrays.dot(xs, ys, zs, xs, ys, zs, input.getResult());
+        bh.consume(input.getResult());
+    }
+
+    /** Benchmark testing the performance of the {@link Vector3DArrays#norm} method.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void normArrays3D(final VectorArrayInput3D input, final Blackhole bh) {
+        Vector3DArrays.norm(input.getXs(), input.getYs(), input.getZs(), input.getResult());
+        bh.consume(input.getResult());
+    }
+
+    /** Benchmark testing the performance of the {@link Vector3DArrays#normalize} method.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void normalizeArrays3D(final VectorArrayInput3D input, final Blackhole bh) {
+        Vector3DArrays.normalize(input.getXs(), input.getYs(), input.getZs());
+        bh.consume(input.getXs());
+    }
+
+    /** Benchmark testing the performance of transforming vectors in separate coordinate arrays
+     * with {@link AffineTransformMatrix3D#apply(double[], double[], double[], int, int)}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void transformMatrixArrays3D(final VectorArrayInput3D input, final Blackhole bh) {
+        final double[] xs = input.getXs();
+        TRANSFORM.apply(xs, input.getYs(), input.getZs(), 0, xs.length);
+        bh.consume(xs);
+    }
+
+    /** Benchmark testing the performance of the {@link Vector3DArrays#transform} method.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void transformArrays3D(final VectorArrayInput3D input, final Blackhole bh) {
+        Vector3DArrays.transform(TRANSFORM, input.getXs(), input.getYs(), input.getZs());
+        bh.consume(input.getXs());
+    }
+
+    /** Benchmark testing the performance of rotating vectors with {@link QuaternionRotation#apply(Vector3D)}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void rotateQuaternion3D(final VectorInput3D input, final Blackhole bh) {
+        testFunction(input, bh, ROTATION::apply);
+    }
+
+    /** Benchmark testing the performance of rotating vectors with
+     * {@link PreparedQuaternionRotation#apply(Vector3D)}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void rotatePrepared3D(final VectorInput3D input, final Blackhole bh) {
+        testFunction(input, bh, PREPARED_ROTATION::apply);
+    }
+
+    /** Baseline benchmark summing points sequentially with a single {@link Vector3D.Sum} instance.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void sumLoop3D(final PackedVectorInput3D input, final Blackhole bh) {
+        final Vector3D.Sum sum = Vector3D.Sum.create();
+        for (final Vector3D pt : input.getPoints()) {
+            sum.add(pt);
+        }
+        bh.consume(sum.get());
+    }
+
+    /** Benchmark testing the performance of summing points with a parallel stream and
+     * {@link Vector3D.Sum#collector()}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void sumCollectorParallel3D(final PackedVectorInput3D input, final Blackhole bh) {
+        bh.consume(input.getPoints().parallelStream().collect(Vector3D.Sum.collector()));
+    }
+
+    /** Benchmark testing the performance of {@link Vector3D#sumOf(double[])}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void sumOfPacked3D(final PackedVectorInput3D input, final Blackhole bh) {
+        bh.consume(Vector3D.sumOf(input.getCoords()));
+    }
+
+    /** Benchmark testing the performance of converting points to spherical coordinates one at a time
+     * with {@link SphericalCoordinates#fromCartesian(Vector3D)}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void sphericalFromCartesianLoop3D(final PackedVectorInput3D input, final Blackhole bh) {
+        for (final Vector3D pt : input.getPoints()) {
+            bh.consume(SphericalCoordinates.fromCartesian(pt));
+        }
+    }
+
+    /** Benchmark testing the performance of {@link SphericalCoordinates#fromCartesian(double[], double[])}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void sphericalFromCartesianPacked3D(final PackedVectorInput3D input, final Blackhole bh) {
+        final double[] coords = input.getCoords();
+        final double[] dst = new double[coords.length];
+        SphericalCoordinates.fromCartesian(coords, dst);
+        bh.consume(dst);
+    }
+
+    /** Benchmark testing the performance of
+     * {@link SphericalCoordinates#fromCartesianApproximate(double[], double[])}.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void sphericalFromCartesianApproximatePacked3D(final PackedVectorInput3D input, final Blackhole bh) {
+        final double[] coords = input.getCoords();
+        final double[] dst = new double[coords.length];
+        SphericalCoordinates.fromCartesianApproximate(coords, dst);
+        bh.consume(dst);
+    }
+
+    /** Baseline benchmark for an inner loop that computes the sum of the normalized cross products of
+     * consecutive points using immutable vectors.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void crossNormalizeLoopImmutable3D(final PackedVectorInput3D input, final Blackhole bh) {
+        final List<Vector3D> pts = input.getPoints();
+
+        Vector3D acc = Vector3D.ZERO;
+        Vector3D prev = pts.get(pts.size() - 1);
+        for (final Vector3D pt : pts) {
+            acc = acc.add(prev.cross(pt).normalize());
+            prev = pt;
+        }
+        bh.consume(acc);
+    }
+
+    /** Benchmark for an inner loop that computes the sum of the normalized cross products of
+     * consecutive points using {@link MutableVector3D} instances.
+     * @param input benchmark state input
+     * @param bh jmh blackhole for consuming output
+     */
+    @Benchmark
+    public void crossNormalizeLoopMutable3D(final PackedVectorInput3D input, final Blackhole bh) {
+        final List<Vector3D> pts = input.getPoints();
+
+        final MutableVector3D acc = new MutableVector3D();
+        final MutableVector3D tmp = new MutableVector3D();
+        Vector3D prev = pts.get(pts.size() - 1);
+        for (final Vector3D pt : pts) {
+            acc.add(tmp.set(prev).cross(pt).normalize());
+            prev = pt;
+        }
+        bh.consume(acc.toVector());
+    }
 }
@@ -24,6 +24,8 @@ import java.util.Random;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.geometry.euclidean.EuclideanCollections;
+import org.apache.commons.geometry.euclidean.EuclideanCollections.PointMapStrategy;
 import org.apache.commons.geometry.euclidean.threed.Bounds3D;
 import org.apache.commons.geometry.euclidean.threed.SphericalCoordinates;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
@@ -57,6 +59,9 @@ public class PointMapDataStructurePerformance {
     private static final Precision.DoubleEquivalence PRECISION =
             Precision.doubleEquivalenceOfEpsilon(1e-6);
 
+    /** Cell size used for grid maps; this matches the spacing of the block point shape. */
+    private static final double GRID_CELL_SIZE = 1;
+
     /** Value inserted into maps during runs. */
     private static final Integer VAL = Integer.valueOf(1);
 
@@ -65,7 +70,8 @@ public class PointMapDataStructurePerformance {
     public static class PointMapInput {
 
         /** Data structure implementation. */
-        @Param({"treemap", "varoctree", "kdtree", "rebuilding-kdtree", "bucket-kdtree"})
+        @Param({"treemap", "varoctree", "kdtree", "rebuilding-kdtree", "bucket-kdtree",
+            "pointmap-bucket-tree", "pointmap-kd-tree", "pointmap-grid"})
         private String impl;
 
         /** Point list shape. */
@@ -156,6 +162,12 @@ public class PointMapDataStructurePerformance {
                 return new RebuildingKDTree<>(PRECISION);
             case "bucket-kdtree":
                 return new BucketKDTree<>(PRECISION);
+            case "pointmap-bucket-tree":
+                return EuclideanCollections.pointMap3D(PRECISION, PointMapStrategy.BUCKET_TREE);
+            case "pointmap-kd-tree":
+                return EuclideanCollections.pointMap3D(PRECISION, PointMapStrategy.KD_TREE);
+            case "pointmap-grid":
+                return EuclideanCollections.gridPointMap3D(PRECISION, GRID_CELL_SIZE);
             default:
                 throw new IllegalArgumentException("Unknown map implementation: " + impl);
             }
@@ -36,7 +36,9 @@ import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
 import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMeshBooleans;
 import org.apache.commons.geometry.euclidean.threed.rotation.QuaternionRotation;
+import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
 import org.apache.commons.geometry.euclidean.threed.shape.Sphere;
 import org.apache.commons.geometry.euclidean.twod.Vector2D;
 import org.apache.commons.geometry.io.euclidean.threed.IO3D;
@@ -112,6 +114,29 @@ public class TeapotBuilder {
         return teapot;
     }
 
+    /** Build a teapot as a {@link TriangleMesh}. The same parts are used as in {@link #buildTeapot()} but
+     * they are approximated by triangle meshes and combined with {@link TriangleMeshBooleans} instead of
+     * being merged as BSP trees.
+     * @return teapot as a triangle mesh
+     */
+    public TriangleMesh buildTeapotMesh() {
+        // build the parts
+        final TriangleMesh body = buildBodyMesh(1);
+        final TriangleMesh lid = buildLidMesh(body);
+        final TriangleMesh handle = buildHandleMesh();
+        final TriangleMesh spout = buildSpoutMesh(1);
+
+        // combine into the final mesh
+        TriangleMesh teapot = TriangleMeshBooleans.union(body, lid, precision);
+        teapot = TriangleMeshBooleans.union(teapot, handle, precision);
+        teapot = TriangleMeshBooleans.union(teapot, spout, precision);
+
+        // subtract scaled-down versions of the body and spout to
+        // create the hollow interior
+        teapot = TriangleMeshBooleans.difference(teapot, buildBodyMesh(0.9), precision);
+        return TriangleMeshBooleans.difference(teapot, buildSpoutMesh(0.8), precision);
+    }
+
     /** Build a teapot separated into its component parts. The keys of the returned map are
      * the component names and the values are the regions.
      * @return map of teapot component names to regions
@@ -174,6 +199,51 @@ public class TeapotBuilder {
         return body;
     }
 
+    /** Build the teapot body as a triangle mesh.
+     * @param initialRadius radius of the sphere used as the first step in body construction
+     * @return teapot body mesh
+     * @see #buildBody(double)
+     */
+    private TriangleMesh buildBodyMesh(final double initialRadius) {
+        // construct a squashed sphere approximation
+        final Sphere sphere = Sphere.from(Vector3D.ZERO, initialRadius, precision);
+        final TriangleMesh body = sphere.toTriangleMesh(4)
+                .transform(AffineTransformMatrix3D.createScale(1, 1, 0.75));
+
+        // cut off part of the bottom to make it flat; meshes must be closed so a box
+        // enclosing the bottom is used in place of a half-space
+        final Parallelepiped bottom = Parallelepiped.axisAligned(
+                Vector3D.of(-2 * initialRadius, -2 * initialRadius, -2 * initialRadius),
+                Vector3D.of(2 * initialRadius, 2 * initialRadius, -0.6 * initialRadius),
+                precision);
+
+        return TriangleMeshBooleans.difference(body, bottom.toTriangleMesh(precision), precision);
+    }
+
+    /** Build the lid of the teapot as a triangle mesh.
+     * @param body mesh representing the teapot body
+     * @return teapot lid mesh
+     * @see #buildLid(RegionBSPTree3D)
+     */
+    private TriangleMesh buildLidMesh(final TriangleMesh body) {
+        // translate a copy of the body to be above the body and intersect it with a cylinder
+        final TriangleMesh cylinder =
+                buildUnitCylinderMesh(1, 20, AffineTransformMatrix3D.createScale(0.5, 0.5, 10));
+        final TriangleMesh lid = TriangleMeshBooleans.intersection(
+                body.transform(AffineTransformMatrix3D.createTranslation(0, 0, 0.03)),
+                cylinder,
+                precision);
+
+        // add a small squashed sphere on top
+        final Sphere sphere = Sphere.from(Vector3D.of(0, 0, 0), 0.15, precision);
+        final double sphereZ = lid.getBounds().getMax().getZ() + 0.075;
+        final TriangleMesh sphereMesh = sphere.toTriangleMesh(2)
+                .transform(AffineTransformMatrix3D.createScale(1, 1, 0.75)
+                        .translate(0, 0, sphereZ));
+
+        return TriangleMeshBooleans.union(lid, sphereMesh, precision);
+    }
+
     /** Build the lid of the teapot.
      * @param body region representing the teapot lid
      * @return teapot lid
@@ -211,6 +281,13 @@ public class TeapotBuilder {
      * @return teapot handle
      */
     private RegionBSPTree3D buildHandle() {
+        return buildHandleMesh().toTree();
+    }
+
+    /** Build the handle of the teapot as a triangle mesh.
+     * @return teapot handle mesh
+     */
+    private TriangleMesh buildHandleMesh() {
         final double handleRadius = 0.1;
         final double height = 1 - (2 * handleRadius);
 
@@ -245,7 +322,7 @@ public class TeapotBuilder {
             return translation.apply(result);
         };
 
-        return buildUnitCylinderMesh(10, 14, vertexTransform).toTree();
+        return buildUnitCylinderMesh(10, 14, vertexTransform);
     }
 
     /** Build the teapot spout.
@@ -254,6 +331,15 @@ public class TeapotBuilder {
      * @return teapot spout
      */
     private RegionBSPTree3D buildSpout(final double initialRadius) {
+        return buildSpoutMesh(initialRadius).toTree();
+    }
+
+    /** Build the teapot spout as a triangle mesh.
+     * @param initialRadius radius of the cylinder used as the first step in spout
+     *      construction
+     * @return teapot spout mesh
+     */
+    private TriangleMesh buildSpoutMesh(final double initialRadius) {
         final Vector2D baseScale = Vector2D.of(0.4, 0.2).multiply(initialRadius);
         final Vector2D topScale = baseScale.multiply(0.6);
         final double shearZ = 0.9;
@@ -273,7 +359,7 @@ public class TeapotBuilder {
             return translation.apply(tv);
         };
 
-        return buildUnitCylinderMesh(1, 14, vertexTransform).toTree();
+        return buildUnitCylinderMesh(1, 14, vertexTransform);
     }
 
     /** Construct a triangle mesh approximating a cylinder of radius one and length one oriented with its
@@ -18,6 +18,11 @@ package org.apache.commons.geometry.examples.tutorials.teapot;
 
 import java.io.IOException;
 
+import org.apache.commons.geometry.euclidean.threed.RegionBSPTree3D;
+import org.apache.commons.geometry.euclidean.threed.mesh.MeshMassProperties;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
+import org.apache.commons.numbers.core.Precision;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 class TeapotTutorialTest {
@@ -27,4 +32,19 @@ class TeapotTutorialTest {
         // act/assert
         TeapotBuilder.main(new String[] {"target/teapot.stl", "target/teapot-debug"});
     }
+
+    @Test
+    void testTeapotBuilder_meshMatchesTree() {
+        // arrange
+        final TeapotBuilder builder = new TeapotBuilder(Precision.doubleEquivalenceOfEpsilon(1e-10));
+
+        // act
+        final RegionBSPTree3D tree = builder.buildTeapot();
+        final TriangleMesh mesh = builder.buildTeapotMesh();
+
+        // assert
+        final MeshMassProperties props = MeshMassProperties.from(mesh);
+        Assertions.assertEquals(tree.getSize(), props.getVolume(), 1e-8);
+        Assertions.assertEquals(tree.getBoundarySize(), props.getSurfaceArea(), 1e-8);
+    }
 }
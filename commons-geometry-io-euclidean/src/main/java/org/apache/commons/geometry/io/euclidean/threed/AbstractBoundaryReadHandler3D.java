@@ -29,7 +29,7 @@ import org.apache.commons.geometry.euclidean.threed.BoundaryList3D;
 import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
 import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
 import org.apache.commons.geometry.euclidean.threed.Triangle3D;
-import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.geometry.io.core.input.GeometryInput;
 import org.apache.commons.geometry.io.core.internal.GeometryIOUtils;
@@ -63,7 +63,7 @@ public abstract class AbstractBoundaryReadHandler3D implements BoundaryReadHandl
     /** {@inheritDoc} */
     @Override
     public TriangleMesh readTriangleMesh(final GeometryInput in, final Precision.DoubleEquivalence precision) {
-        final SimpleTriangleMesh.Builder meshBuilder = SimpleTriangleMesh.builder(precision);
+        final CompactTriangleMesh.Builder meshBuilder = CompactTriangleMesh.builder(precision);
 
         try (FacetDefinitionReader reader = facetDefinitionReader(in)) {
             FacetDefinition facet;
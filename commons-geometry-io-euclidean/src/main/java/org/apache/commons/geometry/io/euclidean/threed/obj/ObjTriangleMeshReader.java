@@ -22,7 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
-import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.numbers.core.Precision;
 
@@ -31,7 +31,7 @@ import org.apache.commons.numbers.core.Precision;
 public class ObjTriangleMeshReader extends AbstractObjPolygonReader {
 
     /** Object used to construct the mesh. */
-    private final SimpleTriangleMesh.Builder meshBuilder;
+    private final CompactTriangleMesh.Builder meshBuilder;
 
     /** List of normals discovered in the input. */
     private final List<Vector3D> normals = new ArrayList<>();
@@ -43,7 +43,7 @@ public class ObjTriangleMeshReader extends AbstractObjPolygonReader {
     public ObjTriangleMeshReader(final Reader reader, final Precision.DoubleEquivalence precision) {
         super(reader);
 
-        this.meshBuilder = SimpleTriangleMesh.builder(precision);
+        this.meshBuilder = CompactTriangleMesh.builder(precision);
     }
 
     /** Return a {@link TriangleMesh triangle mesh} constructed from all of the OBJ content
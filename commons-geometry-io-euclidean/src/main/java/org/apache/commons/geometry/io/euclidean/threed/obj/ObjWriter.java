@@ -32,6 +32,7 @@ import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
 import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
 import org.apache.commons.geometry.euclidean.threed.mesh.Mesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.geometry.io.core.utils.AbstractTextFormatWriter;
 import org.apache.commons.geometry.io.euclidean.threed.FacetDefinition;
 
@@ -199,10 +200,17 @@ public final class ObjWriter extends AbstractTextFormatWriter {
 
     /** Write a mesh to the output. All vertices and faces are written exactly as found. For example,
      * if a vertex is duplicated in the argument, it will also be duplicated in the output.
+     * {@link TriangleMesh} instances are written directly from their packed vertex coordinates
+     * and face indices.
      * @param mesh the mesh to write
      * @throws java.io.UncheckedIOException if an I/O error occurs
      */
     public void writeMesh(final Mesh<?> mesh) {
+        if (mesh instanceof TriangleMesh) {
+            writeTriangleMesh((TriangleMesh) mesh);
+            return;
+        }
+
         final int vertexOffset = vertexCount;
 
         for (final Vector3D vertex : mesh.vertices()) {
@@ -237,6 +245,26 @@ public final class ObjWriter extends AbstractTextFormatWriter {
         return new MeshBuffer(batchSize);
     }
 
+    /** Write a triangle mesh to the output using its packed vertex coordinates and face indices.
+     * @param mesh the mesh to write
+     * @throws java.io.UncheckedIOException if an I/O error occurs
+     */
+    private void writeTriangleMesh(final TriangleMesh mesh) {
+        final int vertexOffset = vertexCount;
+
+        final double[] vertexCoords = mesh.getVertexCoordinates();
+        for (int i = 0; i < vertexCoords.length; i += 3) {
+            writeVertexLine(createVectorString(vertexCoords[i], vertexCoords[i + 1], vertexCoords[i + 2]));
+        }
+
+        final int[] faceIndices = mesh.getFaceIndices();
+        final int[] vertexIndices = new int[EuclideanUtils.TRIANGLE_VERTEX_COUNT];
+        for (int i = 0; i < faceIndices.length; i += EuclideanUtils.TRIANGLE_VERTEX_COUNT) {
+            System.arraycopy(faceIndices, i, vertexIndices, 0, EuclideanUtils.TRIANGLE_VERTEX_COUNT);
+            writeFaceWithOffsets(vertexOffset, vertexIndices, 0, null);
+        }
+    }
+
     /** Write a face with the given offsets and indices. The offsets are added to each
      * index before being written.
      * @param vertexOffset vertex offset value
@@ -295,14 +323,24 @@ public final class ObjWriter extends AbstractTextFormatWriter {
      * @return string representation of the given vector
      */
     private String createVectorString(final Vector3D vec) {
+        return createVectorString(vec.getX(), vec.getY(), vec.getZ());
+    }
+
+    /** Create the OBJ string representation of the vector with the given coordinates.
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param z z coordinate
+     * @return string representation of the given vector
+     */
+    private String createVectorString(final double x, final double y, final double z) {
         final DoubleFunction<String> fmt = getDoubleFormat();
 
         final StringBuilder sb = new StringBuilder();
-        sb.append(fmt.apply(vec.getX()))
+        sb.append(fmt.apply(x))
             .append(SPACE)
-            .append(fmt.apply(vec.getY()))
+            .append(fmt.apply(y))
             .append(SPACE)
-            .append(fmt.apply(vec.getZ()));
+            .append(fmt.apply(z));
 
         return sb.toString();
     }
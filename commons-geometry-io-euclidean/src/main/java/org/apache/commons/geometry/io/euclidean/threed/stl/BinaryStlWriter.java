@@ -20,6 +20,7 @@ import java.io.Closeable;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
+import org.apache.commons.geometry.euclidean.internal.Vectors;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
 import org.apache.commons.geometry.io.core.internal.GeometryIOUtils;
 
@@ -106,6 +107,76 @@ public class BinaryStlWriter implements Closeable {
         GeometryIOUtils.acceptUnchecked(out::write, triangleBuffer.array());
     }
 
+    /** Write a triangle defined by three vertices in a packed coordinate array to the output using
+     * a default attribute value of 0. The vertex at index {@code i} is located at array offset {@code 3 * i}.
+     * The vertices are written in the given order and the normal is computed from them using the
+     * right-hand rule. If the normal cannot be computed (for example, if the vertices do not define
+     * a plane), then the zero vector is used. Callers are responsible for ensuring that the number of
+     * triangles written matches the number given in the header.
+     *
+     * <p>This method allows mesh data to be written directly from primitive arrays, without
+     * creating intermediate {@link Vector3D} instances.</p>
+     * @param vertexCoords packed vertex coordinates in the form {@code x0, y0, z0, x1, y1, z1, ...}
+     * @param index1 index of the first vertex
+     * @param index2 index of the second vertex
+     * @param index3 index of the third vertex
+     * @throws IndexOutOfBoundsException if any vertex index lies outside of {@code vertexCoords}
+     * @throws java.io.UncheckedIOException if an I/O error occurs
+     */
+    public void writeTriangle(final double[] vertexCoords, final int index1, final int index2,
+            final int index3) {
+        final int o1 = index1 * 3;
+        final int o2 = index2 * 3;
+        final int o3 = index3 * 3;
+
+        final double x1 = vertexCoords[o1];
+        final double y1 = vertexCoords[o1 + 1];
+        final double z1 = vertexCoords[o1 + 2];
+
+        final double x2 = vertexCoords[o2];
+        final double y2 = vertexCoords[o2 + 1];
+        final double z2 = vertexCoords[o2 + 2];
+
+        final double x3 = vertexCoords[o3];
+        final double y3 = vertexCoords[o3 + 1];
+        final double z3 = vertexCoords[o3 + 2];
+
+        // compute the normal using the right-hand rule
+        final double ux = x2 - x1;
+        final double uy = y2 - y1;
+        final double uz = z2 - z1;
+
+        final double vx = x3 - x1;
+        final double vy = y3 - y1;
+        final double vz = z3 - z1;
+
+        double nx = (uy * vz) - (uz * vy);
+        double ny = (uz * vx) - (ux * vz);
+        double nz = (ux * vy) - (uy * vx);
+
+        final double norm = Vectors.norm(nx, ny, nz);
+        if (Vectors.isRealNonZero(norm)) {
+            nx /= norm;
+            ny /= norm;
+            nz /= norm;
+        } else {
+            nx = 0;
+            ny = 0;
+            nz = 0;
+        }
+
+        triangleBuffer.rewind();
+
+        putCoordinates(nx, ny, nz);
+        putCoordinates(x1, y1, z1);
+        putCoordinates(x2, y2, z2);
+        putCoordinates(x3, y3, z3);
+
+        triangleBuffer.putShort((short) 0);
+
+        GeometryIOUtils.acceptUnchecked(out::write, triangleBuffer.array());
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
@@ -116,9 +187,18 @@ public class BinaryStlWriter implements Closeable {
      * @param vec vector to place into the buffer
      */
     private void putVector(final Vector3D vec) {
-        triangleBuffer.putFloat((float) vec.getX());
-        triangleBuffer.putFloat((float) vec.getY());
-        triangleBuffer.putFloat((float) vec.getZ());
+        putCoordinates(vec.getX(), vec.getY(), vec.getZ());
+    }
+
+    /** Put the given coordinate values into the internal buffer.
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param z z coordinate
+     */
+    private void putCoordinates(final double x, final double y, final double z) {
+        triangleBuffer.putFloat((float) x);
+        triangleBuffer.putFloat((float) y);
+        triangleBuffer.putFloat((float) z);
     }
 
     /** Write binary STL header content to the given output stream. If {@code headerContent}
@@ -186,26 +186,28 @@ public class StlBoundaryWriteHandler3D extends AbstractBoundaryWriteHandler3D {
     }
 
     /** Write all triangles in the given mesh to the output using the binary STL
-     * format.
+     * format. The triangles are written directly from the packed vertex coordinates and
+     * face indices of the mesh, without constructing intermediate {@link Triangle3D} instances.
+     * Faces that do not define a plane are written with a zero normal.
      * @param mesh mesh to write
      * @param output output to write to
      * @throws java.io.UncheckedIOException if an I/O error occurs
      */
     private void writeTriangleMesh(final TriangleMesh mesh, final GeometryOutput output) {
+        final double[] vertexCoords = mesh.getVertexCoordinates();
+        final int[] faceIndices = mesh.getFaceIndices();
+
         try (BinaryStlWriter stlWriter = new BinaryStlWriter(output.getOutputStream())) {
             // write the header
             stlWriter.writeHeader(null, mesh.getFaceCount());
 
             // write each triangle
-            Triangle3D tri;
-            for (final TriangleMesh.Face face : mesh.faces()) {
-                tri = face.getPolygon();
-
+            for (int i = 0; i < faceIndices.length; i += EuclideanUtils.TRIANGLE_VERTEX_COUNT) {
                 stlWriter.writeTriangle(
-                        tri.getPoint1(),
-                        tri.getPoint2(),
-                        tri.getPoint3(),
-                        tri.getPlane().getNormal());
+                        vertexCoords,
+                        faceIndices[i],
+                        faceIndices[i + 1],
+                        faceIndices[i + 2]);
             }
         }
     }
@@ -30,7 +30,7 @@ import org.apache.commons.geometry.euclidean.threed.BoundaryList3D;
 import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
 import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
-import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.geometry.io.core.GeometryFormat;
 import org.apache.commons.geometry.io.core.input.GeometryInput;
@@ -85,7 +85,7 @@ class AbstractBoundaryReadHandler3DTest {
         // assert
         Assertions.assertSame(in, handler.inArg);
 
-        Assertions.assertEquals(SimpleTriangleMesh.class, result.getClass());
+        Assertions.assertEquals(CompactTriangleMesh.class, result.getClass());
         Assertions.assertEquals(6, result.getVertexCount());
         Assertions.assertEquals(4, result.getFaceCount());
     }
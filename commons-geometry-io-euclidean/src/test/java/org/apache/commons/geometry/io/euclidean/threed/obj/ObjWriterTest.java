@@ -20,14 +20,21 @@ import java.io.StringWriter;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.geometry.core.GeometryTestUtils;
+import org.apache.commons.geometry.core.Transform;
 import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
+import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
 import org.apache.commons.geometry.euclidean.threed.Planes;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.Mesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
+import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.geometry.io.euclidean.threed.SimpleFacetDefinition;
 import org.apache.commons.numbers.core.Precision;
 import org.junit.jupiter.api.Assertions;
@@ -377,6 +384,61 @@ class ObjWriterTest {
             "f 1 2 4\n", writer.getBuffer().toString());
     }
 
+    @Test
+    void testWriteMesh_genericMesh() {
+        // arrange
+        final SimpleTriangleMesh triangleMesh = SimpleTriangleMesh.builder(TEST_PRECISION)
+                .addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0))
+                .addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 0, 1))
+                .build();
+        final Mesh<?> mesh = new GenericMesh(triangleMesh);
+
+        final StringWriter writer = new StringWriter();
+
+        // act
+        try (ObjWriter objWriter = new ObjWriter(writer)) {
+            objWriter.writeVertex(Vector3D.of(-1, -1, -1));
+            objWriter.writeMesh(mesh);
+        }
+
+        // assert
+        Assertions.assertEquals(
+            "v -1.0 -1.0 -1.0\n" +
+            "v 0.0 0.0 0.0\n" +
+            "v 1.0 0.0 0.0\n" +
+            "v 0.0 1.0 0.0\n" +
+            "v 0.0 0.0 1.0\n" +
+            "f 2 3 4\n" +
+            "f 2 3 5\n", writer.getBuffer().toString());
+    }
+
+    @Test
+    void testWriteMesh_compactMesh() {
+        // arrange
+        final CompactTriangleMesh mesh = CompactTriangleMesh.from(
+                new double[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 1},
+                new int[] {0, 1, 2, 0, 1, 3},
+                TEST_PRECISION);
+
+        final StringWriter writer = new StringWriter();
+
+        // act
+        try (ObjWriter objWriter = new ObjWriter(writer)) {
+            objWriter.writeVertex(Vector3D.of(-1, -1, -1));
+            objWriter.writeMesh(mesh);
+        }
+
+        // assert
+        Assertions.assertEquals(
+            "v -1.0 -1.0 -1.0\n" +
+            "v 0.0 0.0 0.0\n" +
+            "v 1.0 0.0 0.0\n" +
+            "v 0.0 1.0 0.0\n" +
+            "v 0.0 0.0 1.0\n" +
+            "f 2 3 4\n" +
+            "f 2 3 5\n", writer.getBuffer().toString());
+    }
+
     @Test
     void testMeshBuffer() {
         // arrange
@@ -588,4 +650,62 @@ class ObjWriterTest {
             }
         }, IllegalArgumentException.class, Pattern.compile("^OBJ input geometry cannot be infinite: .*"));
     }
+
+    /** Mesh implementation that is not a {@link TriangleMesh}, used to test the generic
+     * mesh writing code path.
+     */
+    private static final class GenericMesh implements Mesh<TriangleMesh.Face> {
+
+        /** Mesh that all methods are delegated to. */
+        private final TriangleMesh delegate;
+
+        GenericMesh(final TriangleMesh delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Stream<PlaneConvexSubset> boundaryStream() {
+            return delegate.boundaryStream();
+        }
+
+        @Override
+        public Iterable<Vector3D> vertices() {
+            return delegate.vertices();
+        }
+
+        @Override
+        public List<Vector3D> getVertices() {
+            return delegate.getVertices();
+        }
+
+        @Override
+        public int getVertexCount() {
+            return delegate.getVertexCount();
+        }
+
+        @Override
+        public Iterable<TriangleMesh.Face> faces() {
+            return delegate.faces();
+        }
+
+        @Override
+        public List<TriangleMesh.Face> getFaces() {
+            return delegate.getFaces();
+        }
+
+        @Override
+        public int getFaceCount() {
+            return delegate.getFaceCount();
+        }
+
+        @Override
+        public TriangleMesh.Face getFace(final int index) {
+            return delegate.getFace(index);
+        }
+
+        @Override
+        public Mesh<TriangleMesh.Face> transform(final Transform<Vector3D> transform) {
+            return new GenericMesh(delegate.transform(transform));
+        }
+    }
 }
@@ -265,6 +265,82 @@ class BinaryStlWriterTest {
         Assertions.assertEquals(0, readAsInt(bytes, offset, 2));
     }
 
+    @Test
+    void testWriteTriangle_packedCoordinates() {
+        // arrange
+        final double[] coords = {
+            0, 0, 0,
+            1, 0, 0,
+            0, 1, 0,
+            1, 1, 1
+        };
+
+        try (BinaryStlWriter writer = new BinaryStlWriter(out)) {
+            writer.writeHeader(null, 3);
+
+            // act
+            writer.writeTriangle(coords, 0, 1, 2);
+            writer.writeTriangle(coords, 0, 2, 1);
+            writer.writeTriangle(coords, 0, 0, 3);
+        }
+
+        // assert
+        final byte[] bytes = out.toByteArray();
+
+        Assertions.assertEquals(StlConstants.BINARY_HEADER_BYTES + 4 + (3 * StlConstants.BINARY_TRIANGLE_BYTES),
+                bytes.length);
+        Assertions.assertEquals(3, readAsInt(bytes, StlConstants.BINARY_HEADER_BYTES, Integer.BYTES));
+
+        int offset = StlConstants.BINARY_HEADER_BYTES + 4;
+
+        final List<Vector3D> tri1 = readVectors(bytes, offset, 4);
+
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, 1), tri1.get(0), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, 0), tri1.get(1), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 0, 0), tri1.get(2), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 1, 0), tri1.get(3), TEST_EPS);
+        offset += 4 * VECTOR_SIZE;
+
+        Assertions.assertEquals(0, readAsInt(bytes, offset, 2));
+        offset += 2;
+
+        final List<Vector3D> tri2 = readVectors(bytes, offset, 4);
+
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, -1), tri2.get(0), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, 0), tri2.get(1), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 1, 0), tri2.get(2), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 0, 0), tri2.get(3), TEST_EPS);
+        offset += 4 * VECTOR_SIZE;
+
+        Assertions.assertEquals(0, readAsInt(bytes, offset, 2));
+        offset += 2;
+
+        final List<Vector3D> tri3 = readVectors(bytes, offset, 4);
+
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, 0), tri3.get(0), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, 0), tri3.get(1), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(0, 0, 0), tri3.get(2), TEST_EPS);
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.of(1, 1, 1), tri3.get(3), TEST_EPS);
+        offset += 4 * VECTOR_SIZE;
+
+        Assertions.assertEquals(0, readAsInt(bytes, offset, 2));
+    }
+
+    @Test
+    void testWriteTriangle_packedCoordinates_invalidIndex() {
+        // arrange
+        final double[] coords = {
+            0, 0, 0,
+            1, 0, 0,
+            0, 1, 0
+        };
+
+        try (BinaryStlWriter writer = new BinaryStlWriter(out)) {
+            // act/assert
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> writer.writeTriangle(coords, 0, 1, 3));
+        }
+    }
+
     private static void assertBytes(final int expected, final byte[] actual, final int offset, final int len) {
         for (int i = 0; i < len; ++i) {
             Assertions.assertEquals(expected, actual[i + offset]);
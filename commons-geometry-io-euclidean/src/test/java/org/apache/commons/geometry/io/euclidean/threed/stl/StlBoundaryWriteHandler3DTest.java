@@ -33,6 +33,7 @@ import org.apache.commons.geometry.euclidean.threed.BoundaryList3D;
 import org.apache.commons.geometry.euclidean.threed.BoundarySource3D;
 import org.apache.commons.geometry.euclidean.threed.PlaneConvexSubset;
 import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.threed.mesh.CompactTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.SimpleTriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.mesh.TriangleMesh;
 import org.apache.commons.geometry.euclidean.threed.shape.Parallelepiped;
@@ -123,6 +124,48 @@ class StlBoundaryWriteHandler3DTest {
         EuclideanIOTestUtils.assertCubeMinusSphere(readOutput(), MODEL_TEST_EPS);
     }
 
+    @Test
+    void testWrite_compactTriangleMesh() {
+        // arrange
+        final TriangleMesh mesh = CompactTriangleMesh.from(EuclideanIOTestUtils.cubeMinusSphere(TEST_PRECISION),
+                TEST_PRECISION);
+
+        // act
+        handler.write(mesh, new StreamGeometryOutput(out));
+
+        // assert
+        EuclideanIOTestUtils.assertCubeMinusSphere(readOutput(), MODEL_TEST_EPS);
+    }
+
+    @Test
+    void testWrite_triangleMesh_degenerateFace() {
+        // arrange
+        final TriangleMesh mesh = SimpleTriangleMesh.builder(TEST_PRECISION)
+                .addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0))
+                .addFaceUsingVertices(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(2, 0, 0))
+                .build();
+
+        // act
+        handler.write(mesh, new StreamGeometryOutput(out));
+
+        // assert
+        final BinaryStlFacetDefinitionReader reader =
+                new BinaryStlFacetDefinitionReader(new ByteArrayInputStream(out.toByteArray()));
+        Assertions.assertEquals(2, reader.getNumTriangles());
+
+        final BinaryStlFacetDefinition first = reader.readFacet();
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.Unit.PLUS_Z, first.getNormal(), MODEL_TEST_EPS);
+        EuclideanIOTestUtils.assertFacetVertices(first,
+                Arrays.asList(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(0, 1, 0)), MODEL_TEST_EPS);
+
+        final BinaryStlFacetDefinition second = reader.readFacet();
+        EuclideanTestUtils.assertCoordinatesEqual(Vector3D.ZERO, second.getNormal(), MODEL_TEST_EPS);
+        EuclideanIOTestUtils.assertFacetVertices(second,
+                Arrays.asList(Vector3D.ZERO, Vector3D.of(1, 0, 0), Vector3D.of(2, 0, 0)), MODEL_TEST_EPS);
+
+        Assertions.assertNull(reader.readFacet());
+    }
+
     @Test
     void testWrite_triangleMesh_empty() {
         // arrange